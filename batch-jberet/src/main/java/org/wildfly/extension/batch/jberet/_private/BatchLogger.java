@@ -215,4 +215,23 @@ public interface BatchLogger extends BasicLogger {
      */
     @Message(id = 20, value = "Permission denied. User %s does not have %s permissions.")
     JobSecurityException unauthorized(String user, Permission permission);
+
+    /**
+     * Logs an informational message indicating the batch thread pool runs the batch tasks on virtual threads.
+     *
+     * @param name the name of the thread pool
+     */
+    @LogMessage(level = Level.INFO)
+    @Message(id = 21, value = "Batch thread pool %s runs batch tasks on virtual threads")
+    void usingVirtualThreads(String name);
+
+    /**
+     * Logs a warning message indicating virtual threads were requested, but are not available in the current Java
+     * runtime.
+     *
+     * @param name the name of the thread pool
+     */
+    @LogMessage(level = Level.WARN)
+    @Message(id = 22, value = "Virtual threads are not available in this Java runtime, batch thread pool %s runs batch tasks on platform threads")
+    void virtualThreadsNotAvailable(String name);
 }
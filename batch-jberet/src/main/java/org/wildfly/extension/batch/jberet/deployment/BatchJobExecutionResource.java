@@ -24,7 +24,6 @@ package org.wildfly.extension.batch.jberet.deployment;
 
 import java.util.Collections;
 import java.util.LinkedHashSet;
-import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -46,21 +45,6 @@ public class BatchJobExecutionResource implements Resource {
     private final Resource delegate;
     private final WildFlyJobOperator jobOperator;
     private final String jobName;
-    // Should be guarded by it's instance
-    private final Set<String> children = new LinkedHashSet<>();
-
-    /**
-     * Last time when job names were refreshed
-     */
-    private volatile long lastRefreshedTime;
-
-    /**
-     * The minimum interval in milliseconds in which the job names are to be refreshed.
-     * If the interval period has elapsed from the last refresh time,
-     * any incoming refresh request will be performed; otherwise, it is ignored
-     * and the current result is returned.
-     */
-    private static final int refreshMinInterval = 3000;
 
     BatchJobExecutionResource(final WildFlyJobOperator jobOperator, final String jobName) {
         this(Factory.create(true), jobOperator, jobName);
@@ -146,10 +130,10 @@ public class BatchJobExecutionResource implements Resource {
     @Override
     public Set<String> getChildrenNames(final String childType) {
         if (BatchJobExecutionResourceDefinition.EXECUTION.equals(childType)) {
-            synchronized (children) {
-                refreshChildren();
-                return new LinkedHashSet<>(children);
-            }
+            // The execution ids are cached by the job operator, which keeps them up to date as executions are created
+            return jobOperator.getCachedJobExecutionsByJob(jobName).stream()
+                    .map(Object::toString)
+                    .collect(Collectors.toCollection(LinkedHashSet::new));
         }
         return delegate.getChildrenNames(childType);
     }
@@ -211,29 +195,12 @@ public class BatchJobExecutionResource implements Resource {
     }
 
     private boolean hasJobExecution(final String executionName) {
-        synchronized (children) {
-            if (children.contains(executionName)) {
-                return true;
-            }
-            // Load a cache of the names
-            refreshChildren();
-            return children.contains(executionName);
-        }
-    }
-
-    /**
-     * Note the access to the {@link #children} is <strong>not</strong> guarded here and needs to be externally
-     * guarded.
-     */
-    private void refreshChildren() {
-        if (System.currentTimeMillis() - lastRefreshedTime < refreshMinInterval) {
-            return;
+        final long executionId;
+        try {
+            executionId = Long.parseLong(executionName);
+        } catch (NumberFormatException ignore) {
+            return false;
         }
-
-        final List<Long> executionIds = jobOperator.getJobExecutionsByJob(jobName);
-        final Set<String> asNames = executionIds.stream().map(Object::toString).collect(Collectors.toSet());
-        children.clear();
-        children.addAll(asNames);
-        lastRefreshedTime = System.currentTimeMillis();
+        return jobOperator.hasJobExecution(jobName, executionId);
     }
 }
@@ -50,6 +50,10 @@ public class BatchJobResourceDefinition extends SimpleResourceDefinition {
             .setStorageRuntime()
             .build();
 
+    private static final SimpleAttributeDefinition EXECUTION_COUNT = SimpleAttributeDefinitionBuilder.create("execution-count", ModelType.INT)
+            .setStorageRuntime()
+            .build();
+
     private static final SimpleAttributeDefinition JOB_XML_NAME = SimpleAttributeDefinitionBuilder.create("job-xml-name", ModelType.STRING)
             .setStorageRuntime()
             .build();
@@ -76,6 +80,12 @@ public class BatchJobResourceDefinition extends SimpleResourceDefinition {
                 model.set(jobOperator.allowMissingJob(() -> jobOperator.getJobInstanceCount(jobName), 0));
             }
         });
+        resourceRegistration.registerReadOnlyAttribute(EXECUTION_COUNT, new JobOperationReadOnlyStepHandler() {
+            @Override
+            protected void updateModel(final OperationContext context, final ModelNode model, final WildFlyJobOperator jobOperator, final String jobName) throws OperationFailedException {
+                model.set(jobOperator.allowMissingJob(() -> jobOperator.getJobExecutionCount(jobName), 0));
+            }
+        });
         resourceRegistration.registerReadOnlyAttribute(JOB_XML_NAMES, new JobOperationReadOnlyStepHandler() {
             @Override
             protected void updateModel(final OperationContext context, final ModelNode model, final WildFlyJobOperator jobOperator, final String jobName) throws OperationFailedException {
@@ -0,0 +1,93 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2023, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.extension.batch.jberet.deployment;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * The cached execution ids of a job. The ids are loaded from the job repository on first use and reloaded once the
+ * reload interval has elapsed or once the job repository reports removals, e.g. after executions were purged. In
+ * between, executions created by the job operator are added as they are started or restarted.
+ */
+class JobExecutionIds {
+    private final Supplier<List<Long>> loader;
+    private final LongSupplier removalCount;
+    private final long reloadInterval;
+    private final Set<Long> ids = new LinkedHashSet<>();
+    private boolean loaded;
+    private long loadTime;
+    private long loadRemovalCount;
+
+    /**
+     * Creates the cached execution ids of a job.
+     *
+     * @param loader         loads the execution ids of the job from the job repository
+     * @param removalCount   the number of removals from the job repository
+     * @param reloadInterval the interval, in nanoseconds, after which the execution ids are reloaded
+     */
+    JobExecutionIds(final Supplier<List<Long>> loader, final LongSupplier removalCount, final long reloadInterval) {
+        this.loader = loader;
+        this.removalCount = removalCount;
+        this.reloadInterval = reloadInterval;
+    }
+
+    synchronized Set<Long> get() {
+        load();
+        return new LinkedHashSet<>(ids);
+    }
+
+    synchronized int size() {
+        load();
+        return ids.size();
+    }
+
+    synchronized boolean contains(final long executionId) {
+        load();
+        return ids.contains(executionId);
+    }
+
+    synchronized void add(final long executionId) {
+        // If not yet loaded the id will be picked up by the first load
+        if (loaded) {
+            ids.add(executionId);
+        }
+    }
+
+    private void load() {
+        final long now = System.nanoTime();
+        // Read before loading, so that a removal concurrent with the load triggers another one
+        final long removals = removalCount.getAsLong();
+        if (!loaded || removals != loadRemovalCount || now - loadTime >= reloadInterval) {
+            final List<Long> executionIds = loader.get();
+            ids.clear();
+            ids.addAll(executionIds);
+            loaded = true;
+            loadTime = now;
+            loadRemovalCount = removals;
+        }
+    }
+}
@@ -30,11 +30,14 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
@@ -54,6 +57,7 @@ import jakarta.batch.runtime.JobInstance;
 import jakarta.batch.runtime.StepExecution;
 
 import org.jberet.operations.AbstractJobOperator;
+import org.jberet.repository.JobRepository;
 import org.jberet.runtime.JobExecutionImpl;
 import org.jberet.spi.BatchEnvironment;
 import org.jboss.as.controller.ControlledProcessState;
@@ -67,6 +71,7 @@ import org.jboss.msc.service.StartException;
 import org.jboss.msc.service.StopContext;
 import org.wildfly.extension.batch.jberet.BatchConfiguration;
 import org.wildfly.extension.batch.jberet._private.BatchLogger;
+import org.wildfly.extension.batch.jberet.job.repository.JobRepositoryService;
 import org.wildfly.security.auth.server.SecurityDomain;
 import org.wildfly.security.auth.server.SecurityIdentity;
 import org.wildfly.security.manager.WildFlySecurityManager;
@@ -89,6 +94,17 @@ import org.wildfly.security.manager.WildFlySecurityManager;
  */
 public class JobOperatorService extends AbstractJobOperator implements WildFlyJobOperator, JobOperator, Service<JobOperator> {
     private static final Properties RESTART_PROPS = new Properties();
+
+    /**
+     * The interval, in milliseconds, after which the cached job execution ids of a job are reloaded from the job
+     * repository. Executions started or restarted through this operator are added to the cache as they are created and
+     * the cache is reloaded once executions are removed through the job repository of this server, e.g. when purged.
+     * The interval bounds how long executions created or removed elsewhere, for example by another server sharing the
+     * job repository, remain unseen.
+     */
+    private static final long EXECUTIONS_RELOAD_INTERVAL = TimeUnit.MILLISECONDS.toNanos(
+            Long.getLong("org.wildfly.batch.jberet.job-executions-reload-interval", 3000L));
+
     private final Consumer<JobOperator> jobOperatorConsumer;
     private final Supplier<BatchConfiguration> batchConfigurationSupplier;
     private final Supplier<SecurityAwareBatchEnvironment> batchEnvironmentSupplier;
@@ -102,6 +118,7 @@ public class JobOperatorService extends AbstractJobOperator implements WildFlyJo
     private final WildFlyJobXmlResolver resolver;
     private final BatchJobServerActivity serverActivity;
     private final String deploymentName;
+    private final Map<String, JobExecutionIds> jobExecutionIds = new ConcurrentHashMap<>();
 
     private final ThreadLocal<Boolean> permissionsCheckEnabled = ThreadLocal.withInitial(() -> Boolean.TRUE);
 
@@ -148,6 +165,7 @@ public class JobOperatorService extends AbstractJobOperator implements WildFlyJo
             serverActivity.stopRunningJobs(false);
             batchEnvironment = null;
             classLoader = null;
+            jobExecutionIds.clear();
             context.complete();
         };
         try {
@@ -228,6 +246,42 @@ public class JobOperatorService extends AbstractJobOperator implements WildFlyJo
         }
     }
 
+    @Override
+    public Set<Long> getCachedJobExecutionsByJob(final String jobName) {
+        checkState(jobName);
+        return getJobExecutionIds(jobName).get();
+    }
+
+    @Override
+    public int getJobExecutionCount(final String jobName) {
+        checkState(jobName);
+        return getJobExecutionIds(jobName).size();
+    }
+
+    @Override
+    public boolean hasJobExecution(final String jobName, final long executionId) {
+        checkState(jobName);
+        final JobExecutionIds ids = getJobExecutionIds(jobName);
+        if (ids.contains(executionId)) {
+            return true;
+        }
+        // The execution may have been created outside of this operator since the last reload, look up the single
+        // execution rather than reloading all the executions of the job
+        final ClassLoader current = WildFlySecurityManager.getCurrentContextClassLoaderPrivileged();
+        try {
+            WildFlySecurityManager.setCurrentContextClassLoaderPrivileged(classLoader);
+            final JobInstance instance = super.getJobInstance(executionId);
+            if (instance != null && jobName.equals(instance.getJobName())) {
+                ids.add(executionId);
+                return true;
+            }
+        } catch (NoSuchJobExecutionException ignore) {
+        } finally {
+            WildFlySecurityManager.setCurrentContextClassLoaderPrivileged(current);
+        }
+        return false;
+    }
+
     @Override
     public Properties getParameters(final long executionId) throws NoSuchJobExecutionException, JobSecurityException {
         checkState();
@@ -255,7 +309,9 @@ public class JobOperatorService extends AbstractJobOperator implements WildFlyJo
                 jobXml = jobXMLName + ".xml";
             }
             if (resolver.isValidJobXmlName(jobXml)) {
-                return super.start(jobXml, jobParameters, getBatchEnvironment().getCurrentUserName());
+                final long executionId = super.start(jobXml, jobParameters, getBatchEnvironment().getCurrentUserName());
+                executionCreated(resolver.resolveJobName(jobXml, classLoader), executionId);
+                return executionId;
             }
             throw BatchLogger.LOGGER.couldNotFindJobXml(jobXMLName);
         } finally {
@@ -271,7 +327,9 @@ public class JobOperatorService extends AbstractJobOperator implements WildFlyJo
             WildFlySecurityManager.setCurrentContextClassLoaderPrivileged(classLoader);
             final JobInstance instance = super.getJobInstance(executionId);
             validateJob(instance.getJobName());
-            return super.restart(executionId, restartParameters, getBatchEnvironment().getCurrentUserName());
+            final long newExecutionId = super.restart(executionId, restartParameters, getBatchEnvironment().getCurrentUserName());
+            executionCreated(instance.getJobName(), newExecutionId);
+            return newExecutionId;
         } finally {
             WildFlySecurityManager.setCurrentContextClassLoaderPrivileged(current);
         }
@@ -406,6 +464,24 @@ public class JobOperatorService extends AbstractJobOperator implements WildFlyJo
         }
     }
 
+    private JobExecutionIds getJobExecutionIds(final String jobName) {
+        return jobExecutionIds.computeIfAbsent(jobName, name -> new JobExecutionIds(() -> getJobExecutionsByJob(name), this::getRemovalCount, EXECUTIONS_RELOAD_INTERVAL));
+    }
+
+    private long getRemovalCount() {
+        final JobRepository jobRepository = getJobRepository();
+        return jobRepository instanceof JobRepositoryService ? ((JobRepositoryService) jobRepository).getRemovalCount() : 0L;
+    }
+
+    private void executionCreated(final String jobName, final long executionId) {
+        if (jobName != null) {
+            final JobExecutionIds ids = jobExecutionIds.get(jobName);
+            if (ids != null) {
+                ids.add(executionId);
+            }
+        }
+    }
+
     private synchronized void validateJob(final String name) {
         // In JBeret 1.2.x null means all jobs, in JBeret 1.3.x+ * means all jobs if the name is null or * then ignore
         // the check
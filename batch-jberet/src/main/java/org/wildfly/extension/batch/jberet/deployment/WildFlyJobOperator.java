@@ -62,6 +62,39 @@ interface WildFlyJobOperator extends JobOperator {
      */
     List<Long> getJobExecutionsByJob(final String jobName);
 
+    /**
+     * Gets the job execution ids belonging to the job identified by the {@code jobName} from a cache. The cache is
+     * updated as executions are started or restarted by this operator and periodically reloaded from the job
+     * repository.
+     *
+     * @param jobName the job name identifying the job
+     *
+     * @return job execution ids belonging to the job
+     */
+    Set<Long> getCachedJobExecutionsByJob(String jobName);
+
+    /**
+     * Returns the number of job executions belonging to the job identified by the {@code jobName}.
+     *
+     * @param jobName the job name identifying the job
+     *
+     * @return the number of job executions
+     *
+     * @see #getCachedJobExecutionsByJob(String)
+     */
+    int getJobExecutionCount(String jobName);
+
+    /**
+     * Checks whether the execution belongs to the job identified by the {@code jobName}. An execution not yet cached is
+     * looked up individually in the job repository.
+     *
+     * @param jobName     the job name identifying the job
+     * @param executionId the id of the execution
+     *
+     * @return {@code true} if the execution belongs to the job, otherwise {@code false}
+     */
+    boolean hasJobExecution(String jobName, long executionId);
+
     /**
      * Allows safe execution of a method catching any {@link NoSuchJobException} thrown. If the exception is thrown the
      * default value is returned, otherwise the value from the supplier is returned.
@@ -22,14 +22,26 @@
 
 package org.wildfly.extension.batch.jberet.job.repository;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import javax.sql.DataSource;
 
+import jakarta.batch.runtime.JobExecution;
+import jakarta.batch.runtime.JobInstance;
+import org.jberet.job.model.Job;
 import org.jberet.repository.JdbcRepository;
+import org.jberet.repository.JobExecutionSelector;
 import org.jberet.repository.JobRepository;
+import org.jberet.runtime.JobExecutionImpl;
+import org.jberet.runtime.JobInstanceImpl;
 import org.jboss.msc.service.Service;
 import org.jboss.msc.service.StartContext;
 import org.jboss.msc.service.StartException;
@@ -44,8 +56,22 @@ import org.wildfly.extension.batch.jberet._private.BatchLogger;
  */
 public class JdbcJobRepositoryService extends JobRepositoryService implements Service<JobRepository> {
 
+    /**
+     * The time in milliseconds the results of job and execution queries, e.g. the job instance count or the running
+     * executions of a job, are cached. The cache is invalidated whenever a job instance or job execution is written
+     * through this repository. Writes from other servers sharing the database are seen once the cached results expire.
+     * The default of {@code 0} disables the cache.
+     */
+    private static final long READ_CACHE_TTL = Long.getLong("org.wildfly.batch.jberet.jdbc-job-repository.read-cache-ttl", 0L);
+
+    /**
+     * The maximum number of cached query results.
+     */
+    private static final int READ_CACHE_SIZE = Integer.getInteger("org.wildfly.batch.jberet.jdbc-job-repository.read-cache-size", 1000);
+
     private final Supplier<DataSource> dataSourceSupplier;
     private final Supplier<ExecutorService> executorSupplier;
+    private final JobRepositoryReadCache readCache = new JobRepositoryReadCache(READ_CACHE_TTL, READ_CACHE_SIZE);
     private volatile JdbcRepository jobRepository;
 
     public JdbcJobRepositoryService(final Consumer<JobRepository> jobRepositoryConsumer,
@@ -81,10 +107,117 @@ public class JdbcJobRepositoryService extends JobRepositoryService implements Se
     @Override
     public void stopJobRepository(final StopContext context) {
         jobRepository = null;
+        readCache.invalidate();
+    }
+
+    @Override
+    public Set<String> getJobNames() {
+        final Set<String> jobNames = readCache.get(() -> {
+            final Set<String> result = super.getJobNames();
+            return result == null ? null : Collections.unmodifiableSet(new LinkedHashSet<>(result));
+        }, "job-names");
+        return jobNames == null ? null : new LinkedHashSet<>(jobNames);
+    }
+
+    @Override
+    public List<JobInstance> getJobInstances(final String jobName) {
+        return copy(readCache.get(() -> unmodifiableCopy(super.getJobInstances(jobName)), "job-instances", jobName));
+    }
+
+    @Override
+    public int getJobInstanceCount(final String jobName) {
+        return readCache.get(() -> super.getJobInstanceCount(jobName), "job-instance-count", jobName);
+    }
+
+    @Override
+    public List<JobExecution> getJobExecutions(final JobInstance jobInstance) {
+        if (jobInstance == null) {
+            return copy(readCache.get(() -> unmodifiableCopy(super.getJobExecutions(null)), "job-executions"));
+        }
+        return copy(readCache.get(() -> unmodifiableCopy(super.getJobExecutions(jobInstance)), "job-executions", jobInstance.getInstanceId()));
+    }
+
+    @Override
+    public List<Long> getRunningExecutions(final String jobName) {
+        return copy(readCache.get(() -> unmodifiableCopy(super.getRunningExecutions(jobName)), "running-executions", jobName));
+    }
+
+    @Override
+    public List<Long> getJobExecutionsByJob(final String jobName) {
+        return copy(readCache.get(() -> unmodifiableCopy(super.getJobExecutionsByJob(jobName)), "job-executions-by-job", jobName));
+    }
+
+    @Override
+    public List<Long> getJobExecutionsByJob(final String jobName, final Integer executionRecordsLimit) {
+        return copy(readCache.get(() -> unmodifiableCopy(super.getJobExecutionsByJob(jobName, executionRecordsLimit)),
+                "job-executions-by-job", jobName, executionRecordsLimit));
+    }
+
+    @Override
+    public JobInstanceImpl createJobInstance(final Job job, final String applicationName, final ClassLoader classLoader) {
+        try {
+            return super.createJobInstance(job, applicationName, classLoader);
+        } finally {
+            readCache.invalidate();
+        }
+    }
+
+    @Override
+    public void removeJobInstance(final long jobInstanceId) {
+        try {
+            super.removeJobInstance(jobInstanceId);
+        } finally {
+            readCache.invalidate();
+        }
+    }
+
+    @Override
+    public JobExecutionImpl createJobExecution(final JobInstanceImpl jobInstance, final Properties jobParameters) {
+        try {
+            return super.createJobExecution(jobInstance, jobParameters);
+        } finally {
+            readCache.invalidate();
+        }
+    }
+
+    @Override
+    public void updateJobExecution(final JobExecutionImpl jobExecution, final boolean fullUpdate, final boolean saveJobParameters) {
+        try {
+            super.updateJobExecution(jobExecution, fullUpdate, saveJobParameters);
+        } finally {
+            readCache.invalidate();
+        }
+    }
+
+    @Override
+    public void stopJobExecution(final JobExecutionImpl jobExecution) {
+        try {
+            super.stopJobExecution(jobExecution);
+        } finally {
+            readCache.invalidate();
+        }
+    }
+
+    @Override
+    public void removeJobExecutions(final JobExecutionSelector jobExecutionSelector) {
+        try {
+            super.removeJobExecutions(jobExecutionSelector);
+        } finally {
+            readCache.invalidate();
+        }
     }
 
     @Override
     protected JobRepository getDelegate() {
         return jobRepository;
     }
+
+    private static <T> List<T> unmodifiableCopy(final List<T> list) {
+        return list == null ? null : Collections.unmodifiableList(new ArrayList<>(list));
+    }
+
+    private static <T> List<T> copy(final List<T> list) {
+        // The callers, including applications through the JobOperator, may modify the returned list
+        return list == null ? null : new ArrayList<>(list);
+    }
 }
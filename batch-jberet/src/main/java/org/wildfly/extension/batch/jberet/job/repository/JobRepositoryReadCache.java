@@ -0,0 +1,114 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2023, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.extension.batch.jberet.job.repository;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * A bounded cache for the results of job repository queries. Entries expire after a fixed time and all entries are
+ * invalidated when the job repository is written to locally. Writes from other servers sharing the job repository are
+ * only seen once the entries expire.
+ */
+class JobRepositoryReadCache {
+
+    private final long timeToLive;
+    private final Map<List<Object>, CachedValue> entries;
+    // Guarded by this, incremented on each invalidation so a value loaded concurrently with a write is not cached
+    private long generation;
+
+    /**
+     * Creates a new cache.
+     *
+     * @param timeToLive the time in milliseconds a cached value is used, {@code 0} or less disables the cache
+     * @param maxEntries the maximum number of cached values, {@code 0} or less disables the cache
+     */
+    JobRepositoryReadCache(final long timeToLive, final int maxEntries) {
+        this.timeToLive = maxEntries > 0 ? TimeUnit.MILLISECONDS.toNanos(timeToLive) : 0L;
+        this.entries = new LinkedHashMap<List<Object>, CachedValue>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<List<Object>, CachedValue> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached value for the query or loads it.
+     *
+     * @param loader the loader for the value if it is not cached or has expired
+     * @param key    the values identifying the query, e.g. the name of the query and its parameters
+     * @param <T>    the type of the value
+     *
+     * @return the value
+     */
+    @SuppressWarnings("unchecked")
+    <T> T get(final Supplier<T> loader, final Object... key) {
+        if (timeToLive <= 0L) {
+            return loader.get();
+        }
+        final List<Object> cacheKey = Arrays.asList(key);
+        final long currentGeneration;
+        synchronized (this) {
+            final CachedValue entry = entries.get(cacheKey);
+            if (entry != null && System.nanoTime() - entry.loadTime < timeToLive) {
+                return (T) entry.value;
+            }
+            currentGeneration = generation;
+        }
+        final long loadTime = System.nanoTime();
+        final T value = loader.get();
+        synchronized (this) {
+            if (currentGeneration == generation) {
+                entries.put(cacheKey, new CachedValue(value, loadTime));
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Invalidates all the cached values.
+     */
+    void invalidate() {
+        if (timeToLive > 0L) {
+            synchronized (this) {
+                entries.clear();
+                generation++;
+            }
+        }
+    }
+
+    private static class CachedValue {
+        private final Object value;
+        private final long loadTime;
+
+        private CachedValue(final Object value, final long loadTime) {
+            this.value = value;
+            this.loadTime = loadTime;
+        }
+    }
+}
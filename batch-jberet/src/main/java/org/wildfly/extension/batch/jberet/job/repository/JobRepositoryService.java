@@ -19,6 +19,7 @@ package org.wildfly.extension.batch.jberet.job.repository;
 import java.util.List;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import jakarta.batch.runtime.JobExecution;
 import jakarta.batch.runtime.JobInstance;
@@ -42,11 +43,15 @@ import org.wildfly.extension.batch.jberet._private.BatchLogger;
 /**
  * An abstract service which delegates to a {@link JobRepository} throwing an {@link IllegalStateException} if the
  * service has been stopped.
+ * <p>
+ * The number of removals through this repository, e.g. when job executions are purged, is counted so that callers
+ * caching the content of the repository know when to reload it.
  *
  * @author <a href="mailto:jperkins@redhat.com">James R. Perkins</a>
  * @author <a href="mailto:ropalka@redhat.com">Richard Opalka</a>
  */
-abstract class JobRepositoryService implements JobRepository, Service<JobRepository> {
+public abstract class JobRepositoryService implements JobRepository, Service<JobRepository> {
+    private final AtomicLong removalCount = new AtomicLong();
     private volatile boolean started;
     private final Integer executionRecordsLimit;
     private final Consumer<JobRepository> jobRepositoryConsumer;
@@ -82,7 +87,11 @@ abstract class JobRepositoryService implements JobRepository, Service<JobReposit
 
     @Override
     public void removeJob(final String jobId) {
-        getAndCheckDelegate().removeJob(jobId);
+        try {
+            getAndCheckDelegate().removeJob(jobId);
+        } finally {
+            removalCount.incrementAndGet();
+        }
     }
 
     @Override
@@ -114,7 +123,11 @@ abstract class JobRepositoryService implements JobRepository, Service<JobReposit
 
     @Override
     public void removeJobInstance(final long jobInstanceId) {
-        getAndCheckDelegate().removeJobInstance(jobInstanceId);
+        try {
+            getAndCheckDelegate().removeJobInstance(jobInstanceId);
+        } finally {
+            removalCount.incrementAndGet();
+        }
     }
 
     @Override
@@ -164,7 +177,11 @@ abstract class JobRepositoryService implements JobRepository, Service<JobReposit
 
     @Override
     public void removeJobExecutions(final JobExecutionSelector jobExecutionSelector) {
-        getAndCheckDelegate().removeJobExecutions(jobExecutionSelector);
+        try {
+            getAndCheckDelegate().removeJobExecutions(jobExecutionSelector);
+        } finally {
+            removalCount.incrementAndGet();
+        }
     }
 
     @Override
@@ -227,6 +244,15 @@ abstract class JobRepositoryService implements JobRepository, Service<JobReposit
         return getAndCheckDelegate().getJobExecutionsByJob(jobName, executionRecordsLimit);
     }
 
+    /**
+     * Returns the number of times jobs, job instances or job executions were removed through this repository.
+     *
+     * @return the number of removals
+     */
+    public long getRemovalCount() {
+        return removalCount.get();
+    }
+
     protected abstract void startJobRepository(StartContext context) throws StartException;
 
     protected abstract void stopJobRepository(StopContext context);
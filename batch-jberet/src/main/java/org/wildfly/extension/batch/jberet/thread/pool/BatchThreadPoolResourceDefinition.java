@@ -107,7 +107,7 @@ public class BatchThreadPoolResourceDefinition extends SimpleResourceDefinition
             final ServiceBuilder<?> serviceBuilder = target.addService(serviceName);
             final Consumer<JobExecutor> jobExecutorConsumer = serviceBuilder.provides(serviceName);
             final Supplier<ManagedJBossThreadPoolExecutorService> threadPoolSupplier = serviceBuilder.requires(serviceNameBase.append(name));
-            final JobExecutorService service = new JobExecutorService(jobExecutorConsumer, threadPoolSupplier);
+            final JobExecutorService service = new JobExecutorService(jobExecutorConsumer, threadPoolSupplier, name);
             serviceBuilder.setInstance(service);
             serviceBuilder.install();
         }
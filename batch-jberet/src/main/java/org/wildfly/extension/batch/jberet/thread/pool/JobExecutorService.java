@@ -28,6 +28,7 @@ import org.jboss.msc.Service;
 import org.jboss.msc.service.StartContext;
 import org.jboss.msc.service.StartException;
 import org.jboss.msc.service.StopContext;
+import org.wildfly.extension.batch.jberet._private.BatchLogger;
 
 import java.util.function.Consumer;
 import java.util.function.Supplier;
@@ -38,23 +39,56 @@ import java.util.function.Supplier;
  */
 public class JobExecutorService implements Service {
 
+    /**
+     * Whether batch tasks, including the partitions of a partitioned step, should run on virtual threads when the Java
+     * runtime supports them. The {@code max-threads} of the thread pool still limits the number of tasks running at
+     * the same time, but as virtual threads are cheap the limit can be raised well above the number of platform threads
+     * a pool would reasonably create.
+     */
+    private static final boolean VIRTUAL_THREADS = Boolean.getBoolean("org.wildfly.batch.jberet.virtual-threads");
+
     private final Consumer<JobExecutor> jobExecutorConsumer;
     private final Supplier<ManagedJBossThreadPoolExecutorService> threadPoolSupplier;
+    private final String name;
+    private volatile VirtualThreadExecutor virtualThreadExecutor;
 
     public JobExecutorService(final Consumer<JobExecutor> jobExecutorConsumer,
-                              final Supplier<ManagedJBossThreadPoolExecutorService> threadPoolSupplier) {
+                              final Supplier<ManagedJBossThreadPoolExecutorService> threadPoolSupplier,
+                              final String name) {
         this.jobExecutorConsumer = jobExecutorConsumer;
         this.threadPoolSupplier = threadPoolSupplier;
+        this.name = name;
     }
 
     @Override
     public void start(final StartContext context) throws StartException {
-        jobExecutorConsumer.accept(new WildFlyJobExecutor(threadPoolSupplier.get()));
+        final ManagedJBossThreadPoolExecutorService threadPool = threadPoolSupplier.get();
+        if (VIRTUAL_THREADS) {
+            final VirtualThreadExecutor executor = VirtualThreadExecutor.create(name, threadPool::getMaxThreads);
+            if (executor != null) {
+                BatchLogger.LOGGER.usingVirtualThreads(name);
+                virtualThreadExecutor = executor;
+                jobExecutorConsumer.accept(new WildFlyJobExecutor(executor, threadPool));
+                return;
+            }
+            BatchLogger.LOGGER.virtualThreadsNotAvailable(name);
+        }
+        jobExecutorConsumer.accept(new WildFlyJobExecutor(threadPool));
     }
 
     @Override
     public void stop(final StopContext context) {
         jobExecutorConsumer.accept(null);
+        final VirtualThreadExecutor executor = virtualThreadExecutor;
+        if (executor != null) {
+            virtualThreadExecutor = null;
+            executor.shutdown();
+            if (!executor.isTerminated()) {
+                // As the thread pool does when stopped, let the running tasks complete
+                context.asynchronous();
+                executor.getTermination().thenRun(context::complete);
+            }
+        }
     }
 
 }
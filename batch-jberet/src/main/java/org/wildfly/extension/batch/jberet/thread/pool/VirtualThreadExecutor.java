@@ -0,0 +1,225 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2023, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.extension.batch.jberet.thread.pool;
+
+import java.lang.reflect.Method;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntSupplier;
+
+import org.wildfly.extension.batch.jberet._private.BatchLogger;
+
+/**
+ * An executor which runs each task on a new virtual thread. The number of tasks running at the same time is limited to
+ * the {@code max-threads} of the batch thread pool, tasks submitted while the limit is reached are queued.
+ * <p>
+ * Virtual threads require Java 21 or later. As the server may run on an older version they are created reflectively,
+ * {@link #create(String, IntSupplier)} returns {@code null} if they are not available.
+ * </p>
+ * <p>
+ * Once {@linkplain #shutdown() shut down}, the executor rejects new tasks but still runs the tasks already submitted.
+ * It terminates once these have completed.
+ * </p>
+ */
+class VirtualThreadExecutor implements Executor {
+
+    private static final Method OF_VIRTUAL;
+    private static final Method NAME;
+    private static final Method FACTORY;
+
+    static {
+        Method ofVirtual = null;
+        Method name = null;
+        Method factory = null;
+        try {
+            ofVirtual = Thread.class.getMethod("ofVirtual");
+            final Class<?> builder = Class.forName("java.lang.Thread$Builder");
+            name = builder.getMethod("name", String.class, long.class);
+            factory = builder.getMethod("factory");
+        } catch (ReflectiveOperationException ignore) {
+        }
+        OF_VIRTUAL = ofVirtual;
+        NAME = name;
+        FACTORY = factory;
+    }
+
+    private final ThreadFactory threadFactory;
+    private final IntSupplier maxThreads;
+    private final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger running = new AtomicInteger();
+    private final CompletableFuture<Void> termination = new CompletableFuture<>();
+    // Guarded by this, so that no task is queued once the executor is found terminated
+    private volatile boolean shutdown;
+
+    VirtualThreadExecutor(final ThreadFactory threadFactory, final IntSupplier maxThreads) {
+        this.threadFactory = threadFactory;
+        this.maxThreads = maxThreads;
+    }
+
+    /**
+     * Creates a new executor running the tasks on virtual threads.
+     *
+     * @param name       the name of the batch thread pool, used to name the threads
+     * @param maxThreads the maximum number of tasks to run at the same time, read each time a task is submitted so
+     *                   changes to the thread pool take effect without a restart
+     *
+     * @return the executor or {@code null} if virtual threads are not available
+     */
+    static VirtualThreadExecutor create(final String name, final IntSupplier maxThreads) {
+        return create(OF_VIRTUAL, name, maxThreads);
+    }
+
+    /**
+     * Creates a new executor running the tasks on the virtual threads built by {@code ofVirtual}.
+     *
+     * @param ofVirtual  the method creating a virtual thread builder, {@code null} if virtual threads are not available
+     * @param name       the name of the batch thread pool, used to name the threads
+     * @param maxThreads the maximum number of tasks to run at the same time
+     *
+     * @return the executor or {@code null} if virtual threads are not available
+     */
+    static VirtualThreadExecutor create(final Method ofVirtual, final String name, final IntSupplier maxThreads) {
+        if (ofVirtual == null) {
+            return null;
+        }
+        try {
+            final Object builder = NAME.invoke(ofVirtual.invoke(null), "Batch Thread - " + name + "-", 1L);
+            return new VirtualThreadExecutor((ThreadFactory) FACTORY.invoke(builder), maxThreads);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // Preview releases throw an UnsupportedOperationException if preview features are not enabled
+            BatchLogger.LOGGER.debugf(e, "Virtual threads are not available for batch thread pool %s", name);
+            return null;
+        }
+    }
+
+    @Override
+    public void execute(final Runnable task) {
+        synchronized (this) {
+            if (shutdown) {
+                throw new RejectedExecutionException();
+            }
+            queue.add(task);
+        }
+        startThreads();
+    }
+
+    /**
+     * Rejects any new tasks. Tasks already submitted are still run.
+     */
+    void shutdown() {
+        synchronized (this) {
+            shutdown = true;
+        }
+        checkTerminated();
+    }
+
+    /**
+     * Indicates whether the executor was shut down and all the submitted tasks have completed.
+     *
+     * @return {@code true} if the executor terminated, otherwise {@code false}
+     */
+    boolean isTerminated() {
+        return termination.isDone();
+    }
+
+    /**
+     * Returns a stage completed once the executor was shut down and all the submitted tasks have completed.
+     *
+     * @return the termination of the executor
+     */
+    CompletionStage<Void> getTermination() {
+        return termination;
+    }
+
+    /**
+     * Waits until the executor was shut down and all the submitted tasks have completed, or the timeout elapsed.
+     *
+     * @param timeout the maximum time to wait
+     * @param unit    the unit of the timeout
+     *
+     * @return {@code true} if the executor terminated, {@code false} if the timeout elapsed before
+     *
+     * @throws InterruptedException if the current thread was interrupted while waiting
+     */
+    boolean awaitTermination(final long timeout, final TimeUnit unit) throws InterruptedException {
+        try {
+            termination.get(timeout, unit);
+            return true;
+        } catch (TimeoutException e) {
+            return false;
+        } catch (ExecutionException e) {
+            // Never completed exceptionally
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void checkTerminated() {
+        // Once shut down no task is queued anymore, so the last thread to change the queue or the running count sees both empty
+        if (shutdown && queue.isEmpty() && running.get() == 0) {
+            termination.complete(null);
+        }
+    }
+
+    private void startThreads() {
+        // Every change to either the queue or the running count is followed by a call to this method, so a queued
+        // task is always picked up by either the submitting thread or the last task to complete, and the termination
+        // is always seen by the last thread to change either of them
+        while (!queue.isEmpty()) {
+            final int current = running.get();
+            if (current >= maxThreads.getAsInt()) {
+                return;
+            }
+            if (running.compareAndSet(current, current + 1)) {
+                final Runnable task = queue.poll();
+                if (task == null) {
+                    running.decrementAndGet();
+                    continue;
+                }
+                try {
+                    threadFactory.newThread(() -> {
+                        try {
+                            task.run();
+                        } finally {
+                            running.decrementAndGet();
+                            startThreads();
+                        }
+                    }).start();
+                } catch (Throwable t) {
+                    running.decrementAndGet();
+                    checkTerminated();
+                    throw t;
+                }
+            }
+        }
+        checkTerminated();
+    }
+}
@@ -22,6 +22,8 @@
 
 package org.wildfly.extension.batch.jberet.thread.pool;
 
+import java.util.concurrent.Executor;
+
 import org.jberet.spi.JobExecutor;
 import org.jberet.spi.JobTask;
 import org.jboss.as.threads.ManagedJBossThreadPoolExecutorService;
@@ -31,16 +33,27 @@ import org.wildfly.extension.requestcontroller.ControlPointTask;
  * @author <a href="mailto:jperkins@redhat.com">James R. Perkins</a>
  */
 class WildFlyJobExecutor extends JobExecutor {
-    private final ManagedJBossThreadPoolExecutorService delegate;
+    private final ManagedJBossThreadPoolExecutorService threadPool;
+
+    public WildFlyJobExecutor(final ManagedJBossThreadPoolExecutorService threadPool) {
+        this(threadPool, threadPool);
+    }
 
-    public WildFlyJobExecutor(final ManagedJBossThreadPoolExecutorService delegate) {
+    /**
+     * Creates a job executor which runs the tasks on the {@code delegate}, limited to the maximum number of threads of
+     * the thread pool.
+     *
+     * @param delegate   the executor used to run the tasks
+     * @param threadPool the thread pool defining the maximum number of tasks run at the same time
+     */
+    WildFlyJobExecutor(final Executor delegate, final ManagedJBossThreadPoolExecutorService threadPool) {
         super(delegate);
-        this.delegate = delegate;
+        this.threadPool = threadPool;
     }
 
     @Override
     protected int getMaximumPoolSize() {
-        return delegate.getMaxThreads();
+        return threadPool.getMaxThreads();
     }
 
     @Override
@@ -0,0 +1,106 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2023, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.extension.batch.jberet.deployment;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link JobExecutionIds}.
+ */
+public class JobExecutionIdsTestCase {
+
+    private final List<Long> repository = new ArrayList<>(List.of(1L, 2L));
+    private final AtomicInteger loads = new AtomicInteger();
+    private final AtomicLong removals = new AtomicLong();
+
+    @Test
+    public void testCached() {
+        final JobExecutionIds ids = create(TimeUnit.MINUTES.toNanos(1));
+
+        assertEquals(Set.of(1L, 2L), ids.get());
+        assertEquals(2, ids.size());
+        assertTrue(ids.contains(1L));
+        assertFalse(ids.contains(3L));
+        assertEquals(1, loads.get());
+
+        // executions created by the operator are added without reloading
+        ids.add(3L);
+        assertTrue(ids.contains(3L));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void testAddBeforeLoad() {
+        final JobExecutionIds ids = create(TimeUnit.MINUTES.toNanos(1));
+        repository.add(3L);
+        ids.add(3L);
+
+        assertEquals(Set.of(1L, 2L, 3L), ids.get());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void testReloadInterval() throws InterruptedException {
+        final JobExecutionIds ids = create(TimeUnit.MILLISECONDS.toNanos(50));
+        assertEquals(2, ids.size());
+
+        // created by another server sharing the job repository
+        repository.add(3L);
+        assertEquals(2, ids.size());
+
+        TimeUnit.MILLISECONDS.sleep(100);
+        assertEquals(3, ids.size());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void testEvictOnRemoval() {
+        final JobExecutionIds ids = create(TimeUnit.MINUTES.toNanos(1));
+        assertTrue(ids.contains(1L));
+
+        // purged through the job repository
+        repository.remove(1L);
+        removals.incrementAndGet();
+        assertFalse(ids.contains(1L));
+        assertEquals(Set.of(2L), ids.get());
+        assertEquals(2, loads.get());
+    }
+
+    private JobExecutionIds create(final long reloadInterval) {
+        return new JobExecutionIds(() -> {
+            loads.incrementAndGet();
+            return new ArrayList<>(repository);
+        }, removals::get, reloadInterval);
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2023, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.extension.batch.jberet.job.repository;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link JobRepositoryReadCache}.
+ */
+public class JobRepositoryReadCacheTestCase {
+
+    private final AtomicInteger value = new AtomicInteger();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    public void testCacheHit() {
+        final JobRepositoryReadCache cache = new JobRepositoryReadCache(TimeUnit.MINUTES.toMillis(1), 10);
+        value.set(1);
+        assertEquals(1, (int) cache.get(this::load, "count", "job"));
+
+        value.set(2);
+        assertEquals(1, (int) cache.get(this::load, "count", "job"));
+        assertEquals(1, loads.get());
+
+        // the parameters are part of the key
+        assertEquals(2, (int) cache.get(this::load, "count", "other-job"));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void testExpiry() throws InterruptedException {
+        final JobRepositoryReadCache cache = new JobRepositoryReadCache(50, 10);
+        value.set(1);
+        cache.get(this::load, "count");
+
+        value.set(2);
+        TimeUnit.MILLISECONDS.sleep(100);
+        assertEquals(2, (int) cache.get(this::load, "count"));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void testMaxEntries() {
+        final JobRepositoryReadCache cache = new JobRepositoryReadCache(TimeUnit.MINUTES.toMillis(1), 2);
+        cache.get(this::load, "count", 1);
+        cache.get(this::load, "count", 2);
+        cache.get(this::load, "count", 1);
+        // evicts the least recently used entry
+        cache.get(this::load, "count", 3);
+        assertEquals(3, loads.get());
+
+        cache.get(this::load, "count", 1);
+        assertEquals(3, loads.get());
+        cache.get(this::load, "count", 2);
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    public void testDisabled() {
+        final JobRepositoryReadCache cache = new JobRepositoryReadCache(0, 10);
+        cache.get(this::load, "count");
+        cache.get(this::load, "count");
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void testInvalidateOnWrite() {
+        final JobRepositoryReadCache cache = new JobRepositoryReadCache(TimeUnit.MINUTES.toMillis(1), 10);
+        value.set(1);
+        cache.get(this::load, "count");
+
+        value.set(2);
+        cache.invalidate();
+        assertEquals(2, (int) cache.get(this::load, "count"));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void testWriteDuringLoad() {
+        final JobRepositoryReadCache cache = new JobRepositoryReadCache(TimeUnit.MINUTES.toMillis(1), 10);
+        value.set(1);
+        // a write completes while the value is loaded, so the loaded value may be stale and must not be cached
+        assertEquals(1, (int) cache.get(() -> {
+            final int result = load();
+            value.set(2);
+            cache.invalidate();
+            return result;
+        }, "count"));
+
+        assertEquals(2, (int) cache.get(this::load, "count"));
+        assertEquals(2, loads.get());
+        // the value loaded after the write is cached
+        assertEquals(2, (int) cache.get(this::load, "count"));
+        assertEquals(2, loads.get());
+    }
+
+    private int load() {
+        loads.incrementAndGet();
+        return value.get();
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2023, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.extension.batch.jberet.thread.pool;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link VirtualThreadExecutor}. The tasks run on platform threads, so that the test does not depend on
+ * the Java runtime supporting virtual threads.
+ */
+public class VirtualThreadExecutorTestCase {
+
+    @Test
+    public void testVirtualThreadsNotAvailable() throws NoSuchMethodException {
+        // Java runtimes before 21
+        assertNull(VirtualThreadExecutor.create(null, "test", () -> 1));
+        // Preview releases without preview features enabled
+        assertNull(VirtualThreadExecutor.create(VirtualThreadExecutorTestCase.class.getMethod("unsupported"), "test", () -> 1));
+        if (Runtime.version().feature() < 21) {
+            assertNull(VirtualThreadExecutor.create("test", () -> 1));
+        } else {
+            assertNotNull(VirtualThreadExecutor.create("test", () -> 1));
+        }
+    }
+
+    @Test
+    public void testMaxThreads() throws InterruptedException {
+        final VirtualThreadExecutor executor = new VirtualThreadExecutor(Thread::new, () -> 2);
+        final CountDownLatch started = new CountDownLatch(2);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+        final CountDownLatch completed = new CountDownLatch(5);
+        for (int i = 0; i < 5; i++) {
+            executor.execute(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    running.decrementAndGet();
+                    completed.countDown();
+                }
+            });
+        }
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+        // the other tasks are queued until a running task completes
+        TimeUnit.MILLISECONDS.sleep(100);
+        assertEquals(2, running.get());
+
+        release.countDown();
+        assertTrue(completed.await(10, TimeUnit.SECONDS));
+        assertEquals(2, maxRunning.get());
+    }
+
+    @Test
+    public void testAwaitTermination() throws InterruptedException {
+        final VirtualThreadExecutor executor = new VirtualThreadExecutor(Thread::new, () -> 1);
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger completed = new AtomicInteger();
+        executor.execute(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            completed.incrementAndGet();
+        });
+        // queued behind the running task
+        executor.execute(completed::incrementAndGet);
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+
+        executor.shutdown();
+        try {
+            executor.execute(completed::incrementAndGet);
+            fail("Tasks must be rejected once shut down");
+        } catch (RejectedExecutionException expected) {
+        }
+        // the running and queued tasks keep the executor from terminating
+        assertFalse(executor.awaitTermination(100, TimeUnit.MILLISECONDS));
+        assertFalse(executor.isTerminated());
+
+        release.countDown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        assertTrue(executor.isTerminated());
+        assertEquals(2, completed.get());
+    }
+
+    @Test
+    public void testShutdownIdle() throws InterruptedException {
+        final VirtualThreadExecutor executor = new VirtualThreadExecutor(Thread::new, () -> 1);
+        assertFalse(executor.isTerminated());
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(0, TimeUnit.SECONDS));
+    }
+
+    public static Object unsupported() {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -22,6 +22,7 @@
 
 package org.jboss.as.connector.dynamicresource;
 
+import org.jboss.as.connector.services.workmanager.StatisticsExecutorImpl;
 import org.jboss.as.connector.subsystems.resourceadapters.Constants;
 import org.jboss.as.connector.subsystems.resourceadapters.ResourceAdaptersExtension;
 import org.jboss.as.controller.OperationContext;
@@ -30,6 +31,7 @@ import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.OperationStepHandler;
 import org.jboss.as.controller.SimpleOperationDefinitionBuilder;
 import org.jboss.dmr.ModelNode;
+import org.jboss.jca.core.api.workmanager.StatisticsExecutor;
 import org.jboss.jca.core.api.workmanager.WorkManager;
 
 import static org.jboss.as.connector.subsystems.resourceadapters.Constants.STATISTICS_NAME;
@@ -56,10 +58,17 @@ public class ClearWorkManagerStatisticsHandler implements OperationStepHandler {
             context.addStep(new OperationStepHandler() {
                 public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
                     wm.getStatistics().clear();
+                    clearQueueWaitStatistics(wm.getShortRunningThreadPool());
+                    clearQueueWaitStatistics(wm.getLongRunningThreadPool());
                     context.completeStep(OperationContext.RollbackHandler.NOOP_ROLLBACK_HANDLER);
                 }
             }, OperationContext.Stage.RUNTIME);
         }
     }
-}
 
+    private static void clearQueueWaitStatistics(StatisticsExecutor executor) {
+        if (executor instanceof StatisticsExecutorImpl) {
+            ((StatisticsExecutorImpl) executor).clearQueueWaitStatistics();
+        }
+    }
+}
@@ -983,4 +983,8 @@ public interface ConnectorLogger extends BasicLogger {
 
     @Message(id = 132, value = "Legacy security is no longer supported. Please use Elytron configuration instead")
     String legacySecurityNotSupported();
+
+    @LogMessage(level = WARN)
+    @Message(id = 133, value = "Invalid value %s for %s, using %d")
+    void invalidFreeThreadsUpdateInterval(String value, String property, long defaultInterval);
 }
@@ -24,7 +24,11 @@ package org.jboss.as.connector.services.workmanager;
 
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
 
+import org.jboss.as.ee.utils.LatencyHistogram;
 import org.jboss.as.threads.ManagedJBossThreadPoolExecutorService;
 import org.jboss.as.threads.ManagedQueueExecutorService;
 import org.jboss.as.threads.ManagedQueuelessExecutorService;
@@ -38,6 +42,10 @@ import org.jboss.threads.management.ThreadPoolExecutorMBean;
 
 /**
  * A StatisticsExecutor implementation keeping track of numberOfFreeThreads
+ * <p>
+ * The number of running tasks and the time each task spent queued are tracked in striped counters as tasks are executed,
+ * so that computing the number of free threads does not require polling the state of the delegate thread pool. Queue wait
+ * times are only recorded while statistics are enabled.
  *
  * @author Stefano Maestri
  */
@@ -50,6 +58,12 @@ public class StatisticsExecutorImpl implements StatisticsExecutor {
             org.jboss.jca.core.workmanager.StatisticsExecutorImpl.class.getName());
 
     private final BlockingExecutor realExecutor;
+    private final BooleanSupplier statisticsEnabled;
+    private final LongAdder running = new LongAdder();
+    private final LongAdder queueWaitCount = new LongAdder();
+    private final LongAdder queueWaitTotal = new LongAdder();
+    private final LongAccumulator queueWaitMax = new LongAccumulator(Math::max, 0L);
+    private final LatencyHistogram queueWaits = new LatencyHistogram();
 
     /**
      * StatisticsExecutorImpl constructor
@@ -57,56 +71,136 @@ public class StatisticsExecutorImpl implements StatisticsExecutor {
      * @param realExecutor the real executor we are delegating
      */
     public StatisticsExecutorImpl(BlockingExecutor realExecutor) {
+        this(realExecutor, () -> true);
+    }
+
+    /**
+     * StatisticsExecutorImpl constructor
+     *
+     * @param realExecutor the real executor we are delegating
+     * @param statisticsEnabled indicates whether queue wait times should currently be recorded
+     */
+    public StatisticsExecutorImpl(BlockingExecutor realExecutor, BooleanSupplier statisticsEnabled) {
         this.realExecutor = realExecutor;
+        this.statisticsEnabled = statisticsEnabled;
     }
 
 
     @Override
     public void execute(Runnable runnable) {
-        realExecutor.execute(runnable);
+        realExecutor.execute(track(runnable));
     }
 
     @Override
     public void executeBlocking(Runnable runnable) throws RejectedExecutionException, InterruptedException {
-        realExecutor.executeBlocking(runnable);
+        realExecutor.executeBlocking(track(runnable));
     }
 
     @Override
     public void executeBlocking(Runnable runnable, long l, TimeUnit timeUnit) throws RejectedExecutionException,
             InterruptedException {
-        realExecutor.executeBlocking(runnable, l, timeUnit);
+        realExecutor.executeBlocking(track(runnable), l, timeUnit);
     }
 
     @Override
     public void executeNonBlocking(Runnable runnable) throws RejectedExecutionException {
-        realExecutor.executeNonBlocking(runnable);
+        realExecutor.executeNonBlocking(track(runnable));
     }
 
     @Override
     public long getNumberOfFreeThreads() {
+        return Math.max(0L, getMaxThreads() - running.sum());
+    }
+
+    /**
+     * Returns the number of tasks submitted through this executor that are currently running.
+     *
+     * @return the number of running tasks
+     */
+    public long getNumberOfRunningTasks() {
+        return running.sum();
+    }
+
+    /**
+     * Returns the average time tasks spent queued before they started running.
+     *
+     * @return the average queue wait time, in microseconds
+     */
+    public long getQueueWaitAverage() {
+        long count = queueWaitCount.sum();
+        return (count > 0) ? queueWaitTotal.sum() / count : 0L;
+    }
+
+    /**
+     * Returns the longest time a task spent queued before it started running.
+     *
+     * @return the maximum queue wait time, in microseconds
+     */
+    public long getQueueWaitMax() {
+        return queueWaitMax.get();
+    }
+
+    /**
+     * Returns an upper bound of the time within which the specified fraction of tasks started running.
+     *
+     * @param fraction a fraction between 0 and 1
+     * @return the queue wait time percentile, in microseconds, accurate to within 12.5%, or 0 if no wait time was recorded
+     */
+    public long getQueueWaitPercentile(double fraction) {
+        return Math.max(0L, queueWaits.getPercentile(fraction));
+    }
+
+    /**
+     * Clears the queue wait statistics.
+     */
+    public void clearQueueWaitStatistics() {
+        queueWaitCount.reset();
+        queueWaitTotal.reset();
+        queueWaitMax.reset();
+        queueWaits.reset();
+    }
+
+    private Runnable track(Runnable runnable) {
+        boolean recordQueueWait = statisticsEnabled.getAsBoolean();
+        long submitted = recordQueueWait ? System.nanoTime() : 0L;
+        return () -> {
+            if (recordQueueWait) {
+                recordQueueWait(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - submitted));
+            }
+            running.increment();
+            try {
+                runnable.run();
+            } finally {
+                running.decrement();
+            }
+        };
+    }
+
+    private void recordQueueWait(long micros) {
+        queueWaitCount.increment();
+        queueWaitTotal.add(micros);
+        queueWaitMax.accumulate(micros);
+        queueWaits.record(micros, TimeUnit.MICROSECONDS);
+    }
+
+    private long getMaxThreads() {
         if (realExecutor instanceof JBossThreadPoolExecutor) {
-            return (long) ((JBossThreadPoolExecutor) realExecutor).getMaximumPoolSize()
-                    - ((JBossThreadPoolExecutor) realExecutor).getActiveCount();
+            return ((JBossThreadPoolExecutor) realExecutor).getMaximumPoolSize();
         }
         if (realExecutor instanceof ThreadPoolExecutorMBean) {
-            return (long) ((ThreadPoolExecutorMBean) realExecutor).getMaxThreads()
-                    - ((ThreadPoolExecutorMBean) realExecutor).getCurrentThreadCount();
+            return ((ThreadPoolExecutorMBean) realExecutor).getMaxThreads();
         }
         if (realExecutor instanceof ManagedQueueExecutorService) {
-            return (long) ((ManagedQueueExecutorService) realExecutor).getMaxThreads()
-                    - ((ManagedQueueExecutorService) realExecutor).getCurrentThreadCount();
+            return ((ManagedQueueExecutorService) realExecutor).getMaxThreads();
         }
         if (realExecutor instanceof ManagedJBossThreadPoolExecutorService) {
-            return (long) ((ManagedJBossThreadPoolExecutorService) realExecutor).getMaxThreads()
-                    - ((ManagedJBossThreadPoolExecutorService) realExecutor).getCurrentThreadCount();
+            return ((ManagedJBossThreadPoolExecutorService) realExecutor).getMaxThreads();
         }
         if (realExecutor instanceof ManagedQueuelessExecutorService) {
-            return (long) ((ManagedQueuelessExecutorService) realExecutor).getMaxThreads()
-                    - ((ManagedQueuelessExecutorService) realExecutor).getCurrentThreadCount();
+            return ((ManagedQueuelessExecutorService) realExecutor).getMaxThreads();
         }
         if (realExecutor instanceof ManagedScheduledExecutorService) {
-            return (long) ((ManagedScheduledExecutorService) realExecutor).getLargestPoolSize()
-                    - ((ManagedScheduledExecutorService) realExecutor).getActiveCount();
+            return ((ManagedScheduledExecutorService) realExecutor).getLargestPoolSize();
         }
         return 0L;
     }
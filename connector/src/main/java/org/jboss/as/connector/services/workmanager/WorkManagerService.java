@@ -77,14 +77,10 @@ public final class WorkManagerService implements Service<NamedWorkManager> {
         ROOT_LOGGER.debugf("Starting Jakarta Connectors WorkManager: ", value.getName());
 
         BlockingExecutor longRunning = (BlockingExecutor) executorLong.getOptionalValue();
-        if (longRunning != null) {
-            this.value.setLongRunningThreadPool(longRunning);
-            this.value.setShortRunningThreadPool(new StatisticsExecutorImpl((BlockingExecutor) executorShort.getValue()));
-        } else {
-            this.value.setLongRunningThreadPool(new StatisticsExecutorImpl((BlockingExecutor) executorShort.getValue()));
-            this.value.setShortRunningThreadPool(new StatisticsExecutorImpl((BlockingExecutor) executorShort.getValue()));
-
-        }
+        StatisticsExecutorImpl shortRunning = new StatisticsExecutorImpl((BlockingExecutor) executorShort.getValue(), this.value::isStatisticsEnabled);
+        this.value.setShortRunningThreadPool(shortRunning);
+        // Share the statistics executor if both kinds of work run on the same thread pool, so that its free thread count accounts for both
+        this.value.setLongRunningThreadPool((longRunning != null) ? new StatisticsExecutorImpl(longRunning, this.value::isStatisticsEnabled) : shortRunning);
 
         this.value.setXATerminator(new XATerminatorImpl(xaTerminator.getValue()));
 
@@ -23,6 +23,7 @@
 package org.jboss.as.connector.services.workmanager.transport;
 
 import java.io.Serializable;
+import java.security.PrivilegedAction;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
@@ -31,6 +32,11 @@ import java.util.Set;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 
 import jakarta.resource.spi.work.DistributableWork;
 import jakarta.resource.spi.work.WorkException;
@@ -40,6 +46,7 @@ import org.jboss.jca.core.api.workmanager.DistributedWorkManager;
 import org.jboss.jca.core.spi.workmanager.Address;
 import org.jboss.jca.core.workmanager.transport.remote.AbstractRemoteTransport;
 import org.jboss.jca.core.workmanager.transport.remote.ProtocolMessages.Request;
+import org.jboss.threads.JBossThreadFactory;
 import org.wildfly.clustering.Registration;
 import org.wildfly.clustering.dispatcher.Command;
 import org.wildfly.clustering.dispatcher.CommandDispatcher;
@@ -56,19 +63,44 @@ import org.wildfly.security.manager.WildFlySecurityManager;
 
 /**
  * {@link DistributedWorkManager}-specific transport based on a {@link CommandDispatcher}.
- * The current implementation is a direct translation of {@link org.jboss.jca.core.workmanager.transport.remote.jgroups.JGroupsTransport}.
+ * The current implementation is a direct translation of {@link org.jboss.jca.core.workmanager.transport.remote.jgroups.JGroupsTransport},
+ * except that updates of the number of free threads of local work managers are coalesced and sent to the other members periodically,
+ * rather than broadcast on every work submission.
  * @author Paul Ferraro
  */
 public class CommandDispatcherTransport extends AbstractRemoteTransport<Node> implements GroupListener {
 
+    private static final String FREE_THREADS_UPDATE_INTERVAL_PROPERTY = "org.jboss.as.connector.dwm.free-threads-update-interval";
+    private static final long DEFAULT_FREE_THREADS_UPDATE_INTERVAL = 500;
+    private static final long FREE_THREADS_UPDATE_INTERVAL = parseFreeThreadsUpdateInterval(WildFlySecurityManager.getPropertyPrivileged(FREE_THREADS_UPDATE_INTERVAL_PROPERTY, null));
+
     private final ServiceExecutor executor = new StampedLockServiceExecutor();
     private final CommandDispatcherFactory dispatcherFactory;
     private final String name;
+    // Latest number of free threads of local work managers, not yet sent to the other members
+    private final Map<Address, Long> pendingShortRunningFree = new ConcurrentHashMap<>();
+    private final Map<Address, Long> pendingLongRunningFree = new ConcurrentHashMap<>();
 
     private volatile CommandDispatcher<CommandDispatcherTransport> dispatcher;
     private volatile Registration groupListenerRegistration;
+    private volatile ScheduledExecutorService freeThreadsUpdateExecutor;
     private volatile boolean initialized = false;
 
+    static long parseFreeThreadsUpdateInterval(String value) {
+        if (value != null) {
+            try {
+                long interval = Long.parseLong(value.trim());
+                if (interval > 0) {
+                    return interval;
+                }
+            } catch (NumberFormatException e) {
+                // Fall through
+            }
+            ConnectorLogger.ROOT_LOGGER.invalidFreeThreadsUpdateInterval(value, FREE_THREADS_UPDATE_INTERVAL_PROPERTY, DEFAULT_FREE_THREADS_UPDATE_INTERVAL);
+        }
+        return DEFAULT_FREE_THREADS_UPDATE_INTERVAL;
+    }
+
     public CommandDispatcherTransport(CommandDispatcherFactory dispatcherFactory, String name) {
         this.dispatcherFactory = dispatcherFactory;
         this.name = name;
@@ -83,11 +115,24 @@ public class CommandDispatcherTransport extends AbstractRemoteTransport<Node> im
     public void startup() throws Exception {
         this.dispatcher = this.dispatcherFactory.createCommandDispatcher(this.name, this, WildFlySecurityManager.getClassLoaderPrivileged(this.getClass()));
         this.groupListenerRegistration = this.dispatcherFactory.getGroup().register(this);
+        ThreadFactory factory = WildFlySecurityManager.doUnchecked(new PrivilegedAction<ThreadFactory>() {
+            @Override
+            public ThreadFactory run() {
+                return new JBossThreadFactory(new ThreadGroup(CommandDispatcherTransport.class.getSimpleName()), Boolean.TRUE, null, "%G - %t", null, null);
+            }
+        });
+        this.freeThreadsUpdateExecutor = Executors.newSingleThreadScheduledExecutor(factory);
+        this.freeThreadsUpdateExecutor.scheduleWithFixedDelay(this::sendFreeThreadsUpdates, FREE_THREADS_UPDATE_INTERVAL, FREE_THREADS_UPDATE_INTERVAL, TimeUnit.MILLISECONDS);
         this.broadcast(new JoinCommand());
     }
 
     @Override
     public void shutdown() {
+        // Not yet created if startup() failed early
+        ScheduledExecutorService freeThreadsUpdateExecutor = this.freeThreadsUpdateExecutor;
+        if (freeThreadsUpdateExecutor != null) {
+            freeThreadsUpdateExecutor.shutdownNow();
+        }
         this.executor.close(() -> {
             try {
                 this.broadcast(new LeaveCommand(this.getOwnAddress()));
@@ -115,6 +160,49 @@ public class CommandDispatcherTransport extends AbstractRemoteTransport<Node> im
         return this.dispatcherFactory.getGroup().getLocalMember();
     }
 
+    @Override
+    public void updateShortRunningFree(Address address, long freeCount) {
+        this.localUpdateShortRunningFree(address, freeCount);
+        if (this.isLocal(address)) {
+            this.pendingShortRunningFree.put(address, freeCount);
+        }
+    }
+
+    @Override
+    public void updateLongRunningFree(Address address, long freeCount) {
+        this.localUpdateLongRunningFree(address, freeCount);
+        if (this.isLocal(address)) {
+            this.pendingLongRunningFree.put(address, freeCount);
+        }
+    }
+
+    private boolean isLocal(Address address) {
+        return (address.getTransportId() != null) && address.getTransportId().equals(this.getId());
+    }
+
+    private void sendFreeThreadsUpdates() {
+        this.sendFreeThreadsUpdates(this.pendingShortRunningFree, Request.UPDATE_SHORTRUNNING_FREE);
+        this.sendFreeThreadsUpdates(this.pendingLongRunningFree, Request.UPDATE_LONGRUNNING_FREE);
+    }
+
+    private void sendFreeThreadsUpdates(Map<Address, Long> pending, Request request) {
+        for (Map.Entry<Address, Long> entry : pending.entrySet()) {
+            Address address = entry.getKey();
+            Long freeCount = entry.getValue();
+            // Only the latest value matters, a more recent update will be sent in the next round
+            pending.remove(address, freeCount);
+            for (Map.Entry<Address, Node> node : this.nodes.entrySet()) {
+                if (!this.getId().equals(node.getKey().getTransportId())) {
+                    try {
+                        this.sendMessage(node.getValue(), request, address, freeCount);
+                    } catch (WorkException e) {
+                        ConnectorLogger.ROOT_LOGGER.debug(e.getLocalizedMessage(), e);
+                    }
+                }
+            }
+        }
+    }
+
     @Override
     protected Serializable sendMessage(Node physicalAddress, Request request, Serializable... parameters) throws WorkException {
         Command<?, CommandDispatcherTransport> command = createCommand(request, parameters);
@@ -675,6 +675,18 @@ public class Constants {
 
     static final String START_WORK_REJECTED_NAME = "startwork-rejected";
 
+    static final String SHORT_RUNNING_QUEUE_WAIT_AVERAGE_NAME = "short-running-queue-wait-average";
+
+    static final String SHORT_RUNNING_QUEUE_WAIT_MAX_NAME = "short-running-queue-wait-max";
+
+    static final String SHORT_RUNNING_QUEUE_WAIT_P99_NAME = "short-running-queue-wait-p99";
+
+    static final String LONG_RUNNING_QUEUE_WAIT_AVERAGE_NAME = "long-running-queue-wait-average";
+
+    static final String LONG_RUNNING_QUEUE_WAIT_MAX_NAME = "long-running-queue-wait-max";
+
+    static final String LONG_RUNNING_QUEUE_WAIT_P99_NAME = "long-running-queue-wait-p99";
+
 
     static SimpleAttributeDefinition WORK_ACTIVE = new SimpleAttributeDefinitionBuilder(WORK_ACTIVE_NAME, ModelType.INT)
             .setStorageRuntime()
@@ -721,10 +733,49 @@ public class Constants {
             .setUndefinedMetricValue(ModelNode.ZERO)
             .build();
 
+    static SimpleAttributeDefinition SHORT_RUNNING_QUEUE_WAIT_AVERAGE = new SimpleAttributeDefinitionBuilder(SHORT_RUNNING_QUEUE_WAIT_AVERAGE_NAME, ModelType.LONG)
+            .setMeasurementUnit(MeasurementUnit.MICROSECONDS)
+            .setStorageRuntime()
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .build();
+
+    static SimpleAttributeDefinition SHORT_RUNNING_QUEUE_WAIT_MAX = new SimpleAttributeDefinitionBuilder(SHORT_RUNNING_QUEUE_WAIT_MAX_NAME, ModelType.LONG)
+            .setMeasurementUnit(MeasurementUnit.MICROSECONDS)
+            .setStorageRuntime()
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .build();
+
+    static SimpleAttributeDefinition SHORT_RUNNING_QUEUE_WAIT_P99 = new SimpleAttributeDefinitionBuilder(SHORT_RUNNING_QUEUE_WAIT_P99_NAME, ModelType.LONG)
+            .setMeasurementUnit(MeasurementUnit.MICROSECONDS)
+            .setStorageRuntime()
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .build();
+
+    static SimpleAttributeDefinition LONG_RUNNING_QUEUE_WAIT_AVERAGE = new SimpleAttributeDefinitionBuilder(LONG_RUNNING_QUEUE_WAIT_AVERAGE_NAME, ModelType.LONG)
+            .setMeasurementUnit(MeasurementUnit.MICROSECONDS)
+            .setStorageRuntime()
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .build();
+
+    static SimpleAttributeDefinition LONG_RUNNING_QUEUE_WAIT_MAX = new SimpleAttributeDefinitionBuilder(LONG_RUNNING_QUEUE_WAIT_MAX_NAME, ModelType.LONG)
+            .setMeasurementUnit(MeasurementUnit.MICROSECONDS)
+            .setStorageRuntime()
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .build();
+
+    static SimpleAttributeDefinition LONG_RUNNING_QUEUE_WAIT_P99 = new SimpleAttributeDefinitionBuilder(LONG_RUNNING_QUEUE_WAIT_P99_NAME, ModelType.LONG)
+            .setMeasurementUnit(MeasurementUnit.MICROSECONDS)
+            .setStorageRuntime()
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .build();
+
 
     public static final SimpleAttributeDefinition[] WORKMANAGER_METRICS = new SimpleAttributeDefinition[]{WORK_ACTIVE, WORK_SUCCESSFUL, WORK_FAILED, DO_WORK_ACCEPTED,
             DO_WORK_REJECTED, SCHEDULED_WORK_ACCEPTED, SCHEDULED_WORK_REJECTED, START_WORK_ACCEPTED, START_WORK_REJECTED};
 
+    public static final SimpleAttributeDefinition[] LOCAL_WORKMANAGER_METRICS = new SimpleAttributeDefinition[]{SHORT_RUNNING_QUEUE_WAIT_AVERAGE, SHORT_RUNNING_QUEUE_WAIT_MAX,
+            SHORT_RUNNING_QUEUE_WAIT_P99, LONG_RUNNING_QUEUE_WAIT_AVERAGE, LONG_RUNNING_QUEUE_WAIT_MAX, LONG_RUNNING_QUEUE_WAIT_P99};
+
     public static final String WORKMANAGER_STATISTICS_ENABLED_NAME = "workmanager-statistics-enabled";
     public static final SimpleAttributeDefinition WORKMANAGER_STATISTICS_ENABLED = new SimpleAttributeDefinitionBuilder(ModelDescriptionConstants.STATISTICS_ENABLED, ModelType.BOOLEAN)
             .setStorageRuntime()
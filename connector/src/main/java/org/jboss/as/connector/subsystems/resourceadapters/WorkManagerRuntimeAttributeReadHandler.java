@@ -22,13 +22,17 @@
 
 package org.jboss.as.connector.subsystems.resourceadapters;
 
+import java.util.function.ToLongFunction;
+
 import org.jboss.as.connector.logging.ConnectorLogger;
+import org.jboss.as.connector.services.workmanager.StatisticsExecutorImpl;
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.OperationStepHandler;
 import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
 import org.jboss.dmr.ModelNode;
 import org.jboss.jca.core.api.workmanager.DistributedWorkManager;
+import org.jboss.jca.core.api.workmanager.StatisticsExecutor;
 import org.jboss.jca.core.api.workmanager.WorkManager;
 import org.jboss.jca.core.api.workmanager.WorkManagerStatistics;
 
@@ -92,6 +96,30 @@ public class WorkManagerRuntimeAttributeReadHandler implements OperationStepHand
                                 result.set(wmStat.getStartWorkRejected());
                                 break;
                             }
+                            case Constants.SHORT_RUNNING_QUEUE_WAIT_AVERAGE_NAME: {
+                                result.set(getQueueWaitStatistic(wm.getShortRunningThreadPool(), StatisticsExecutorImpl::getQueueWaitAverage));
+                                break;
+                            }
+                            case Constants.SHORT_RUNNING_QUEUE_WAIT_MAX_NAME: {
+                                result.set(getQueueWaitStatistic(wm.getShortRunningThreadPool(), StatisticsExecutorImpl::getQueueWaitMax));
+                                break;
+                            }
+                            case Constants.SHORT_RUNNING_QUEUE_WAIT_P99_NAME: {
+                                result.set(getQueueWaitStatistic(wm.getShortRunningThreadPool(), executor -> executor.getQueueWaitPercentile(0.99)));
+                                break;
+                            }
+                            case Constants.LONG_RUNNING_QUEUE_WAIT_AVERAGE_NAME: {
+                                result.set(getQueueWaitStatistic(wm.getLongRunningThreadPool(), StatisticsExecutorImpl::getQueueWaitAverage));
+                                break;
+                            }
+                            case Constants.LONG_RUNNING_QUEUE_WAIT_MAX_NAME: {
+                                result.set(getQueueWaitStatistic(wm.getLongRunningThreadPool(), StatisticsExecutorImpl::getQueueWaitMax));
+                                break;
+                            }
+                            case Constants.LONG_RUNNING_QUEUE_WAIT_P99_NAME: {
+                                result.set(getQueueWaitStatistic(wm.getLongRunningThreadPool(), executor -> executor.getQueueWaitPercentile(0.99)));
+                                break;
+                            }
                             case ModelDescriptionConstants.STATISTICS_ENABLED: {
                                 if (distributed) {
                                     result.set(((DistributedWorkManager) wm).isDistributedStatisticsEnabled());
@@ -131,4 +159,7 @@ public class WorkManagerRuntimeAttributeReadHandler implements OperationStepHand
         }
     }
 
+    private static long getQueueWaitStatistic(StatisticsExecutor executor, ToLongFunction<StatisticsExecutorImpl> statistic) {
+        return (executor instanceof StatisticsExecutorImpl) ? statistic.applyAsLong((StatisticsExecutorImpl) executor) : 0L;
+    }
 }
@@ -0,0 +1,116 @@
+/*
+* JBoss, Home of Professional Open Source.
+* Copyright 2023, Red Hat, Inc., and individual contributors
+* as indicated by the @author tags. See the copyright.txt file in the
+* distribution for a full listing of individual contributors.
+*
+* This is free software; you can redistribute it and/or modify it
+* under the terms of the GNU Lesser General Public License as
+* published by the Free Software Foundation; either version 2.1 of
+* the License, or (at your option) any later version.
+*
+* This software is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+* Lesser General Public License for more details.
+*
+* You should have received a copy of the GNU Lesser General Public
+* License along with this software; if not, write to the Free
+* Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+* 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+*/
+
+package org.jboss.as.connector.services.workmanager;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.jboss.threads.BlockingExecutor;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link StatisticsExecutorImpl}.
+ */
+public class StatisticsExecutorImplTestCase {
+
+    @Test
+    public void testRunningTasks() {
+        List<Runnable> tasks = new ArrayList<>();
+        StatisticsExecutorImpl executor = new StatisticsExecutorImpl(BlockingExecutor.of(tasks::add));
+
+        List<Long> running = new ArrayList<>();
+        executor.execute(() -> running.add(executor.getNumberOfRunningTasks()));
+        executor.executeNonBlocking(() -> running.add(executor.getNumberOfRunningTasks()));
+        assertEquals(0L, executor.getNumberOfRunningTasks());
+
+        tasks.forEach(Runnable::run);
+        assertEquals(List.of(1L, 1L), running);
+        assertEquals(0L, executor.getNumberOfRunningTasks());
+    }
+
+    @Test
+    public void testRunningTasksAfterFailure() {
+        StatisticsExecutorImpl executor = new StatisticsExecutorImpl(BlockingExecutor.of(Runnable::run));
+        try {
+            executor.execute(() -> {
+                throw new IllegalStateException();
+            });
+        } catch (IllegalStateException e) {
+            // Expected
+        }
+        assertEquals(0L, executor.getNumberOfRunningTasks());
+    }
+
+    @Test
+    public void testQueueWait() throws InterruptedException {
+        List<Runnable> tasks = new ArrayList<>();
+        StatisticsExecutorImpl executor = new StatisticsExecutorImpl(BlockingExecutor.of(tasks::add));
+        assertEquals(0L, executor.getQueueWaitAverage());
+        assertEquals(0L, executor.getQueueWaitPercentile(0.99));
+
+        for (int i = 0; i < 10; ++i) {
+            executor.execute(() -> { });
+        }
+        TimeUnit.MILLISECONDS.sleep(20);
+        tasks.forEach(Runnable::run);
+
+        long max = executor.getQueueWaitMax();
+        assertTrue(String.valueOf(max), max >= TimeUnit.MILLISECONDS.toMicros(20));
+        assertTrue(executor.getQueueWaitAverage() >= TimeUnit.MILLISECONDS.toMicros(20));
+        assertTrue(executor.getQueueWaitAverage() <= max);
+        // Percentiles are accurate to within 12.5%
+        long p99 = executor.getQueueWaitPercentile(0.99);
+        assertTrue(String.valueOf(p99), p99 >= max && p99 <= max + max / 8);
+
+        executor.clearQueueWaitStatistics();
+        assertEquals(0L, executor.getQueueWaitAverage());
+        assertEquals(0L, executor.getQueueWaitMax());
+        assertEquals(0L, executor.getQueueWaitPercentile(0.99));
+    }
+
+    @Test
+    public void testQueueWaitStatisticsDisabled() throws InterruptedException {
+        List<Runnable> tasks = new ArrayList<>();
+        AtomicBoolean enabled = new AtomicBoolean(false);
+        StatisticsExecutorImpl executor = new StatisticsExecutorImpl(BlockingExecutor.of(tasks::add), enabled::get);
+
+        executor.execute(() -> { });
+        TimeUnit.MILLISECONDS.sleep(20);
+        tasks.forEach(Runnable::run);
+        tasks.clear();
+        assertEquals(0L, executor.getQueueWaitMax());
+        assertEquals(0L, executor.getQueueWaitPercentile(0.99));
+
+        // Tasks submitted once statistics are enabled are recorded
+        enabled.set(true);
+        executor.execute(() -> { });
+        TimeUnit.MILLISECONDS.sleep(20);
+        tasks.forEach(Runnable::run);
+        assertTrue(executor.getQueueWaitMax() >= TimeUnit.MILLISECONDS.toMicros(20));
+    }
+}
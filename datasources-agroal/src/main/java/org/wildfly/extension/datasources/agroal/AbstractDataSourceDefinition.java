@@ -222,7 +222,15 @@ abstract class AbstractDataSourceDefinition extends PersistentResourceDefinition
             .setRestartAllServices()
             .build();
 
-    static final ObjectTypeAttributeDefinition CONNECTION_POOL_ATTRIBUTE = ObjectTypeAttributeDefinition.create("connection-pool", MAX_SIZE_ATTRIBUTE, MIN_SIZE_ATTRIBUTE, INITIAL_SIZE_ATTRIBUTE, BLOCKING_TIMEOUT_MILLIS_ATTRIBUTE, BACKGROUND_VALIDATION_ATTRIBUTE, LEAK_DETECTION_ATTRIBUTE, IDLE_REMOVAL_ATTRIBUTE)
+    static final SimpleAttributeDefinition IDLE_VALIDATION_ATTRIBUTE = create("idle-validation", ModelType.INT)
+            .setAllowExpression(true)
+            .setDefaultValue(ModelNode.ZERO)
+            .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+            .setRequired(false)
+            .setRestartAllServices()
+            .build();
+
+    static final ObjectTypeAttributeDefinition CONNECTION_POOL_ATTRIBUTE = ObjectTypeAttributeDefinition.create("connection-pool", MAX_SIZE_ATTRIBUTE, MIN_SIZE_ATTRIBUTE, INITIAL_SIZE_ATTRIBUTE, BLOCKING_TIMEOUT_MILLIS_ATTRIBUTE, BACKGROUND_VALIDATION_ATTRIBUTE, LEAK_DETECTION_ATTRIBUTE, IDLE_REMOVAL_ATTRIBUTE, IDLE_VALIDATION_ATTRIBUTE)
             .build();
 
     // --- Operations //
@@ -320,6 +328,23 @@ abstract class AbstractDataSourceDefinition extends PersistentResourceDefinition
             .setStorageRuntime()
             .build();
 
+    // --- Metrics //
+
+    static final SimpleAttributeDefinition ACQUIRE_TIME_P50_METRIC = create("acquire-time-p50", ModelType.DOUBLE)
+            .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+            .setStorageRuntime()
+            .build();
+
+    static final SimpleAttributeDefinition ACQUIRE_TIME_P95_METRIC = create("acquire-time-p95", ModelType.DOUBLE)
+            .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+            .setStorageRuntime()
+            .build();
+
+    static final SimpleAttributeDefinition ACQUIRE_TIME_P99_METRIC = create("acquire-time-p99", ModelType.DOUBLE)
+            .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+            .setStorageRuntime()
+            .build();
+
     // --- //
 
     AbstractDataSourceDefinition(SimpleResourceDefinition.Parameters parameters) {
@@ -354,6 +379,9 @@ abstract class AbstractDataSourceDefinition extends PersistentResourceDefinition
         // Runtime attributes
         if (resourceRegistration.getProcessType().isServer()) {
             resourceRegistration.registerReadOnlyAttribute(STATISTICS, AbstractDataSourceOperations.STATISTICS_GET_OPERATION);
+            resourceRegistration.registerMetric(ACQUIRE_TIME_P50_METRIC, AbstractDataSourceOperations.ACQUIRE_TIME_P50_GET_OPERATION);
+            resourceRegistration.registerMetric(ACQUIRE_TIME_P95_METRIC, AbstractDataSourceOperations.ACQUIRE_TIME_P95_GET_OPERATION);
+            resourceRegistration.registerMetric(ACQUIRE_TIME_P99_METRIC, AbstractDataSourceOperations.ACQUIRE_TIME_P99_GET_OPERATION);
         }
     }
 
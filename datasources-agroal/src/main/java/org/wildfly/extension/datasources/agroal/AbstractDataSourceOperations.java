@@ -87,6 +87,12 @@ class AbstractDataSourceOperations {
 
     static final OperationStepHandler TEST_CONNECTION_OPERATION = new TestConnectionOperation();
 
+    static final OperationStepHandler ACQUIRE_TIME_P50_GET_OPERATION = new AcquisitionTimeGetOperation(0.5);
+
+    static final OperationStepHandler ACQUIRE_TIME_P95_GET_OPERATION = new AcquisitionTimeGetOperation(0.95);
+
+    static final OperationStepHandler ACQUIRE_TIME_P99_GET_OPERATION = new AcquisitionTimeGetOperation(0.99);
+
     // --- //
 
     protected static AgroalConnectionFactoryConfigurationSupplier connectionFactoryConfiguration(OperationContext context, ModelNode model) throws OperationFailedException {
@@ -147,6 +153,7 @@ class AbstractDataSourceOperations {
         configuration.leakTimeout(ofMillis(AbstractDataSourceDefinition.LEAK_DETECTION_ATTRIBUTE.resolveModelAttribute(context, model).asInt()));
         configuration.validationTimeout(ofMillis(AbstractDataSourceDefinition.BACKGROUND_VALIDATION_ATTRIBUTE.resolveModelAttribute(context, model).asInt()));
         configuration.reapTimeout(ofMinutes(AbstractDataSourceDefinition.IDLE_REMOVAL_ATTRIBUTE.resolveModelAttribute(context, model).asInt()));
+        configuration.idleValidationTimeout(ofMillis(AbstractDataSourceDefinition.IDLE_VALIDATION_ATTRIBUTE.resolveModelAttribute(context, model).asInt()));
         configuration.connectionValidator(defaultValidator());
 
         return configuration;
@@ -154,6 +161,14 @@ class AbstractDataSourceOperations {
 
     // --- //
 
+    private static DataSourceService getDataSourceService(OperationContext context) throws OperationFailedException {
+        ServiceController<?> controller = context.getServiceRegistry(false).getService(AbstractDataSourceDefinition.DATA_SOURCE_CAPABILITY.getCapabilityServiceName(context.getCurrentAddressValue()));
+        if (controller == null) {
+            throw AgroalLogger.SERVICE_LOGGER.dataSourceServiceNotAvailable(context.getCurrentAddressValue());
+        }
+        return (DataSourceService) controller.getService();
+    }
+
     private static AgroalDataSource getDataSource(OperationContext context) throws OperationFailedException {
         ServiceRegistry registry = context.getServiceRegistry(false);
         String dataSourceName = context.getCurrentAddressValue();
@@ -314,12 +329,29 @@ class AbstractDataSourceOperations {
         }
     }
 
+    private static class AcquisitionTimeGetOperation implements OperationStepHandler {
+
+        private final double fraction;
+
+        private AcquisitionTimeGetOperation(double fraction) {
+            this.fraction = fraction;
+        }
+
+        @Override
+        public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+            if (context.isNormalServer()) {
+                context.getResult().set(getDataSourceService(context).getAcquisitionTimeRecorder().getPercentile(fraction));
+            }
+        }
+    }
+
     private static class ResetStatisticsOperation implements OperationStepHandler {
 
         @Override
         public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
             if (context.isNormalServer()) {
                 getDataSource(context).getMetrics().reset();
+                getDataSourceService(context).getAcquisitionTimeRecorder().reset();
             }
         }
     }
@@ -0,0 +1,109 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2023, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.extension.datasources.agroal;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import io.agroal.api.AgroalDataSource;
+import org.jboss.as.ee.utils.LatencyHistogram;
+
+/**
+ * Records the time taken by each connection acquisition in a histogram, from which percentiles can be estimated.
+ * <p>
+ * Acquisitions are timed around {@code getConnection()}, since a {@link io.agroal.api.AgroalDataSourceListener} is not
+ * notified of failed acquisitions. Acquisitions failing, e.g. because they timed out waiting for a connection, are
+ * therefore recorded as well, and account for the slowest percentiles.
+ */
+class AcquisitionTimeRecorder {
+
+    private final BooleanSupplier enabled;
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    /**
+     * @param enabled indicates whether acquisitions should currently be recorded, i.e. whether statistics are enabled
+     */
+    AcquisitionTimeRecorder(BooleanSupplier enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Returns a data source delegating to the specified one, which records the time taken by each acquisition.
+     * @param dataSource the data source to which connection acquisitions are delegated
+     * @return a recording data source
+     */
+    AgroalDataSource wrap(AgroalDataSource dataSource) {
+        return (AgroalDataSource) Proxy.newProxyInstance(AgroalDataSource.class.getClassLoader(), new Class<?>[] { AgroalDataSource.class }, new RecordingHandler(dataSource));
+    }
+
+    void record(long duration, TimeUnit unit) {
+        this.histogram.record(duration, unit);
+    }
+
+    /**
+     * Returns an estimate of the acquisition time, in milliseconds, below which the specified fraction of acquisitions completed.
+     * @param fraction a fraction between 0 and 1
+     * @return the estimated acquisition time in milliseconds, or 0 if no acquisitions were recorded
+     */
+    double getPercentile(double fraction) {
+        long micros = this.histogram.getPercentile(fraction);
+        return (micros < 0) ? 0 : micros / 1000d;
+    }
+
+    void reset() {
+        this.histogram.reset();
+    }
+
+    private class RecordingHandler implements InvocationHandler {
+        private final AgroalDataSource dataSource;
+
+        RecordingHandler(AgroalDataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (!method.getName().equals("getConnection") || !AcquisitionTimeRecorder.this.enabled.getAsBoolean()) {
+                return this.delegate(method, args);
+            }
+            long start = System.nanoTime();
+            try {
+                return this.delegate(method, args);
+            } finally {
+                AcquisitionTimeRecorder.this.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        private Object delegate(Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(this.dataSource, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2023, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.wildfly.extension.datasources.agroal;
+
+import java.util.Map;
+
+import org.jboss.as.controller.ModelVersion;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.transform.ExtensionTransformerRegistration;
+import org.jboss.as.controller.transform.SubsystemTransformerRegistration;
+import org.jboss.as.controller.transform.TransformationContext;
+import org.jboss.as.controller.transform.description.AttributeConverter;
+import org.jboss.as.controller.transform.description.ChainedTransformationDescriptionBuilder;
+import org.jboss.as.controller.transform.description.DiscardAttributeChecker;
+import org.jboss.as.controller.transform.description.RejectAttributeChecker;
+import org.jboss.as.controller.transform.description.ResourceTransformationDescriptionBuilder;
+import org.jboss.as.controller.transform.description.TransformationDescriptionBuilder;
+import org.jboss.dmr.ModelNode;
+
+/**
+ * Transformers for hosts running an older version of the subsystem
+ */
+public class AgroalExtensionTransformerRegistration implements ExtensionTransformerRegistration {
+
+    /**
+     * Rejects an idle-validation window in the connection-pool, as older versions always validate on acquisition
+     */
+    static final RejectAttributeChecker IDLE_VALIDATION_REJECT_CHECKER = new RejectAttributeChecker.ObjectFieldsRejectAttributeChecker(Map.of(AbstractDataSourceDefinition.IDLE_VALIDATION_ATTRIBUTE.getName(), new RejectAttributeChecker.DefaultRejectAttributeChecker() {
+        @Override
+        protected boolean rejectAttribute(PathAddress address, String attributeName, ModelNode attributeValue, TransformationContext context) {
+            return attributeValue.isDefined() && !attributeValue.equals(AbstractDataSourceDefinition.IDLE_VALIDATION_ATTRIBUTE.getDefaultValue());
+        }
+
+        @Override
+        public String getRejectionLogMessage(Map<String, ModelNode> attributes) {
+            return RejectAttributeChecker.DEFINED.getRejectionLogMessage(attributes);
+        }
+    }));
+
+    /**
+     * Removes the idle-validation field, which older versions do not know, from the connection-pool
+     */
+    static final AttributeConverter IDLE_VALIDATION_DISCARD_CONVERTER = new AttributeConverter.DefaultAttributeConverter() {
+        @Override
+        protected void convertAttribute(PathAddress address, String attributeName, ModelNode attributeValue, TransformationContext context) {
+            if (attributeValue.has(AbstractDataSourceDefinition.IDLE_VALIDATION_ATTRIBUTE.getName())) {
+                attributeValue.remove(AbstractDataSourceDefinition.IDLE_VALIDATION_ATTRIBUTE.getName());
+            }
+        }
+    };
+
+    @Override
+    public String getSubsystemName() {
+        return AgroalExtension.SUBSYSTEM_NAME;
+    }
+
+    @Override
+    public void registerTransformers(SubsystemTransformerRegistration registration) {
+        ChainedTransformationDescriptionBuilder builder = TransformationDescriptionBuilder.Factory.createChainedSubystemInstance(registration.getCurrentSubsystemVersion());
+
+        registerV3Transformers(builder.createBuilder(AgroalExtension.CURRENT_MODEL_VERSION, AgroalExtension.VERSION_2_0_0));
+
+        builder.buildAndRegister(registration, new ModelVersion[] {AgroalExtension.VERSION_2_0_0});
+    }
+
+    private static void registerV3Transformers(ResourceTransformationDescriptionBuilder subsystem) {
+        registerDataSourceTransformers(subsystem.addChildResource(DataSourceDefinition.PATH));
+        registerDataSourceTransformers(subsystem.addChildResource(XADataSourceDefinition.PATH));
+    }
+
+    private static void registerDataSourceTransformers(ResourceTransformationDescriptionBuilder dataSource) {
+        dataSource.getAttributeBuilder()
+                // runtime only metrics, discarded in case they are ever part of a transformed operation
+                .setDiscard(DiscardAttributeChecker.ALWAYS, AbstractDataSourceDefinition.ACQUIRE_TIME_P50_METRIC, AbstractDataSourceDefinition.ACQUIRE_TIME_P95_METRIC, AbstractDataSourceDefinition.ACQUIRE_TIME_P99_METRIC)
+                .addRejectCheck(IDLE_VALIDATION_REJECT_CHECKER, AbstractDataSourceDefinition.CONNECTION_POOL_ATTRIBUTE)
+                .setValueConverter(IDLE_VALIDATION_DISCARD_CONVERTER, AbstractDataSourceDefinition.CONNECTION_POOL_ATTRIBUTE);
+    }
+}
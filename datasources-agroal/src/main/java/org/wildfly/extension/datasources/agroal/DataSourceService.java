@@ -83,7 +83,8 @@ public class DataSourceService implements Service<AgroalDataSource>, Supplier<Ag
     private final boolean xa;
 
     private final AgroalDataSourceConfigurationSupplier dataSourceConfiguration;
-    private AgroalDataSource agroalDataSource;
+    private final AcquisitionTimeRecorder acquisitionTimeRecorder = new AcquisitionTimeRecorder(this::isStatisticsEnabled);
+    private volatile AgroalDataSource agroalDataSource;
 
     private final Supplier<Class> driverSupplier;
     private final Supplier<AuthenticationContext> authenticationContextSupplier;
@@ -185,7 +186,7 @@ public class DataSourceService implements Service<AgroalDataSource>, Supplier<Ag
         }
 
         try {
-            agroalDataSource = AgroalDataSource.from(dataSourceConfiguration, new LoggingDataSourceListener(dataSourceName));
+            agroalDataSource = acquisitionTimeRecorder.wrap(AgroalDataSource.from(dataSourceConfiguration, new LoggingDataSourceListener(dataSourceName)));
 
             ContextNames.BindInfo bindInfo = ContextNames.bindInfoFor(jndiName);
             BinderService binderService = new BinderService(bindInfo.getBindName());
@@ -231,4 +232,13 @@ public class DataSourceService implements Service<AgroalDataSource>, Supplier<Ag
         return agroalDataSource;
     }
 
+    AcquisitionTimeRecorder getAcquisitionTimeRecorder() {
+        return acquisitionTimeRecorder;
+    }
+
+    private boolean isStatisticsEnabled() {
+        AgroalDataSource dataSource = agroalDataSource;
+        return dataSource != null && dataSource.getConfiguration().metricsEnabled();
+    }
+
 }
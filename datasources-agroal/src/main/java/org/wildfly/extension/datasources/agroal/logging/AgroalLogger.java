@@ -115,6 +115,9 @@ public interface AgroalLogger extends BasicLogger {
     @Message(id = 304, value = "JNDI name shouldn't include '//' or end with '/'")
     OperationFailedException jndiNameShouldValidate();
 
+    @Message(id = 305, value = "Service for datasource '%s' is not available")
+    OperationFailedException dataSourceServiceNotAvailable(String dataSourceName);
+
     // -- Deployment //
 
     @Message(id = 401, value = "Invalid connection provider. Either a java.sql.Driver or javax.sql.DataSource implementation is required. Fix the connection-provider for the driver")
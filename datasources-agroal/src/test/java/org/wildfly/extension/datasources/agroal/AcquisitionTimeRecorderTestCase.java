@@ -0,0 +1,121 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2023, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.extension.datasources.agroal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+import io.agroal.api.AgroalDataSource;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link AcquisitionTimeRecorder}.
+ */
+public class AcquisitionTimeRecorderTestCase {
+
+    private static final SQLException TIMEOUT = new SQLException("Acquisition timeout");
+
+    private volatile boolean enabled = true;
+    private final AcquisitionTimeRecorder recorder = new AcquisitionTimeRecorder(() -> this.enabled);
+
+    @Test
+    public void testPercentiles() {
+        assertEquals(0, this.recorder.getPercentile(0.5), 0);
+
+        for (int i = 0; i < 99; ++i) {
+            this.recorder.record(1, TimeUnit.MILLISECONDS);
+        }
+        this.recorder.record(1, TimeUnit.SECONDS);
+
+        // percentiles are reported in milliseconds, within the 12.5% relative error of the histogram buckets
+        assertEquals(1, this.recorder.getPercentile(0.5), 0.125);
+        assertEquals(1, this.recorder.getPercentile(0.99), 0.125);
+        assertEquals(1000, this.recorder.getPercentile(1), 125);
+
+        this.recorder.reset();
+        assertEquals(0, this.recorder.getPercentile(1), 0);
+    }
+
+    @Test
+    public void testSuccessfulAcquisition() throws SQLException {
+        Connection connection = proxy(Connection.class, null);
+        AgroalDataSource dataSource = this.recorder.wrap(dataSource(10, connection));
+
+        assertSame(connection, dataSource.getConnection());
+        assertTrue(this.recorder.getPercentile(1) >= 10);
+    }
+
+    @Test
+    public void testFailedAcquisition() {
+        AgroalDataSource dataSource = this.recorder.wrap(dataSource(50, null));
+
+        try {
+            dataSource.getConnection();
+            fail("Acquisition should time out");
+        } catch (SQLException e) {
+            assertSame(TIMEOUT, e);
+        }
+        // the time spent waiting for the timeout is recorded
+        assertTrue(this.recorder.getPercentile(1) >= 50);
+    }
+
+    @Test
+    public void testDisabled() throws SQLException {
+        this.enabled = false;
+        AgroalDataSource dataSource = this.recorder.wrap(dataSource(10, proxy(Connection.class, null)));
+
+        dataSource.getConnection();
+        assertEquals(0, this.recorder.getPercentile(1), 0);
+    }
+
+    // Creates a data source acquiring the specified connection after the specified delay, or timing out if there is none
+    private static AgroalDataSource dataSource(long delayMillis, Connection connection) {
+        return proxy(AgroalDataSource.class, () -> {
+            TimeUnit.MILLISECONDS.sleep(delayMillis);
+            if (connection == null) {
+                throw TIMEOUT;
+            }
+            return connection;
+        });
+    }
+
+    private static <T> T proxy(Class<T> type, Acquisition acquisition) {
+        return type.cast(Proxy.newProxyInstance(AcquisitionTimeRecorderTestCase.class.getClassLoader(), new Class<?>[] { type }, (proxy, method, args) -> {
+            if (method.getName().equals("getConnection")) {
+                return acquisition.acquire();
+            }
+            throw new UnsupportedOperationException(method.getName());
+        }));
+    }
+
+    private interface Acquisition {
+        Connection acquire() throws Exception;
+    }
+}
@@ -57,7 +57,7 @@ public class SubsystemFullParsingTestCase extends AbstractSubsystemTest {
      */
     @Test
     public void testParseSubsystem() throws Exception {
-        parseXmlResource("agroal_2_0-full.xml");
+        parseXmlResource("agroal_3_0-full.xml");
     }
 
     @SuppressWarnings("SameParameterValue")
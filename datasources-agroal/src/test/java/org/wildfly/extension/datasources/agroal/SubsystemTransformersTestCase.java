@@ -0,0 +1,108 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2023, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.wildfly.extension.datasources.agroal;
+
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.security.CredentialReference;
+import org.jboss.as.subsystem.test.AbstractSubsystemTest;
+import org.jboss.as.subsystem.test.AdditionalInitialization;
+import org.jboss.as.subsystem.test.KernelServices;
+import org.jboss.as.subsystem.test.KernelServicesBuilder;
+import org.jboss.dmr.ModelNode;
+import org.junit.Assert;
+import org.junit.Test;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SUBSYSTEM;
+
+/**
+ * Tests the idle-validation attribute of the 3.0 model and its transformation for hosts running the 2.0 model
+ */
+public class SubsystemTransformersTestCase extends AbstractSubsystemTest {
+
+    private static final String IDLE_VALIDATION = AbstractDataSourceDefinition.IDLE_VALIDATION_ATTRIBUTE.getName();
+    private static final String CONNECTION_POOL = AbstractDataSourceDefinition.CONNECTION_POOL_ATTRIBUTE.getName();
+    private static final PathAddress ADDRESS = PathAddress.pathAddress(AgroalSubsystemDefinition.PATH).append(DataSourceDefinition.PATH.getKey(), "sample");
+
+    public SubsystemTransformersTestCase() {
+        super(AgroalExtension.SUBSYSTEM_NAME, new AgroalExtension());
+    }
+
+    private static AdditionalInitialization createAdditionalInitialization() {
+        return AdditionalInitialization.withCapabilities(
+                AbstractDataSourceDefinition.AUTHENTICATION_CONTEXT_CAPABILITY + ".secure-context",
+                CredentialReference.CREDENTIAL_STORE_CAPABILITY + ".test-store"
+        );
+    }
+
+    @Test
+    public void testIdleValidation() throws Exception {
+        ModelNode pool = readConnectionPool("agroal_3_0-full.xml");
+        Assert.assertEquals("${test.expr.37:1000}", pool.get(IDLE_VALIDATION).asExpression().getExpressionString());
+    }
+
+    @Test
+    public void testIdleValidationUndefinedIn20() throws Exception {
+        ModelNode pool = readConnectionPool("agroal_2_0-full.xml");
+        Assert.assertFalse(pool.hasDefined(IDLE_VALIDATION));
+    }
+
+    @Test
+    public void testRejectIdleValidation() {
+        Assert.assertTrue(reject(pool(new ModelNode(1000))));
+        Assert.assertTrue(reject(pool(new ModelNode().setExpression("${idle:1000}"))));
+        Assert.assertFalse(reject(pool(ModelNode.ZERO)));
+        Assert.assertFalse(reject(pool(new ModelNode())));
+        Assert.assertFalse(reject(new ModelNode()));
+    }
+
+    @Test
+    public void testDiscardIdleValidation() {
+        ModelNode pool = pool(ModelNode.ZERO);
+        AgroalExtensionTransformerRegistration.IDLE_VALIDATION_DISCARD_CONVERTER.convertResourceAttribute(ADDRESS, CONNECTION_POOL, pool, null);
+        Assert.assertFalse(pool.has(IDLE_VALIDATION));
+        Assert.assertEquals(30, pool.get(AbstractDataSourceDefinition.MAX_SIZE_ATTRIBUTE.getName()).asInt());
+    }
+
+    private static ModelNode pool(ModelNode idleValidation) {
+        ModelNode pool = new ModelNode();
+        pool.get(AbstractDataSourceDefinition.MAX_SIZE_ATTRIBUTE.getName()).set(30);
+        pool.get(IDLE_VALIDATION).set(idleValidation);
+        return pool;
+    }
+
+    private static boolean reject(ModelNode pool) {
+        return AgroalExtensionTransformerRegistration.IDLE_VALIDATION_REJECT_CHECKER.rejectResourceAttribute(ADDRESS, CONNECTION_POOL, pool, null);
+    }
+
+    private ModelNode readConnectionPool(String xmlResource) throws Exception {
+        KernelServicesBuilder kernelBuilder = createKernelServicesBuilder(createAdditionalInitialization());
+        KernelServices services = kernelBuilder.build();
+
+        for (ModelNode op : kernelBuilder.parseXmlResource(xmlResource)) {
+            services.executeOperation(op);
+        }
+
+        ModelNode model = services.readWholeModel();
+        Assert.assertTrue(model.get(SUBSYSTEM).hasDefined(AgroalExtension.SUBSYSTEM_NAME));
+        return model.get(SUBSYSTEM, AgroalExtension.SUBSYSTEM_NAME, DataSourceDefinition.PATH.getKey(), "sample", CONNECTION_POOL);
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2023, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.ee.utils;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fixed memory histogram of durations, used to estimate latency percentiles.
+ * <p>
+ * Durations are recorded in microseconds into log-linear buckets: exact values below {@value #LINEAR_BUCKETS}&micro;s, then
+ * {@value #SUB_BUCKETS} buckets per power of two up to 2<sup>{@value #MAX_EXPONENT}</sup>&micro;s (~12 days), which bounds the
+ * relative error of a reported percentile to 12.5%. Each bucket is a {@link LongAdder}, so threads recording concurrently
+ * neither block nor contend on the same counter.
+ * <p>
+ * Besides the percentiles of all the recorded durations, the counts recorded since the previous {@link #drain()} can be
+ * retrieved, e.g. to compute percentiles over a window using {@link #getPercentile(double[], double)}.
+ */
+public class LatencyHistogram {
+
+    private static final int LINEAR_BUCKETS = 16;
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MIN_EXPONENT = 4; // log2(LINEAR_BUCKETS)
+    private static final int MAX_EXPONENT = 40;
+    public static final int BUCKETS = LINEAR_BUCKETS + (MAX_EXPONENT - MIN_EXPONENT + 1) * SUB_BUCKETS;
+
+    private final LongAdder[] counts = new LongAdder[BUCKETS];
+
+    public LatencyHistogram() {
+        for (int i = 0; i < BUCKETS; ++i) {
+            this.counts[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Records a duration.
+     * @param duration a duration, negative durations are recorded as 0
+     * @param unit the unit of the duration
+     */
+    public void record(long duration, TimeUnit unit) {
+        this.counts[bucket(unit.toMicros(duration))].increment();
+    }
+
+    /**
+     * Returns the number of recorded durations.
+     * @return the number of durations recorded since this histogram was created, reset or drained
+     */
+    public long getCount() {
+        long count = 0;
+        for (LongAdder adder : this.counts) {
+            count += adder.sum();
+        }
+        return count;
+    }
+
+    /**
+     * Returns the duration, in microseconds, below which the given fraction of the recorded durations fall.
+     * @param fraction a percentile expressed as a fraction between 0 and 1, e.g. 0.99
+     * @return the upper bound of the percentile in microseconds, or -1 if nothing was recorded
+     */
+    public long getPercentile(double fraction) {
+        double[] counts = new double[BUCKETS];
+        for (int i = 0; i < BUCKETS; ++i) {
+            counts[i] = this.counts[i].sum();
+        }
+        return getPercentile(counts, fraction);
+    }
+
+    /**
+     * Returns the counts of each bucket and resets them, so that the next call only returns the durations recorded in the meantime.
+     * @return the counts of the {@value #BUCKETS} buckets
+     */
+    public long[] drain() {
+        long[] counts = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; ++i) {
+            counts[i] = this.counts[i].sumThenReset();
+        }
+        return counts;
+    }
+
+    /**
+     * Discards the recorded durations.
+     */
+    public void reset() {
+        for (LongAdder adder : this.counts) {
+            adder.reset();
+        }
+    }
+
+    /**
+     * Returns the duration, in microseconds, below which the given fraction of the specified bucket counts fall.
+     * @param counts the, possibly weighted, counts of the {@value #BUCKETS} buckets, e.g. accumulated from {@link #drain()}
+     * @param fraction a percentile expressed as a fraction between 0 and 1, e.g. 0.99
+     * @return the upper bound of the percentile in microseconds, or -1 if all the counts are 0
+     */
+    public static long getPercentile(double[] counts, double fraction) {
+        double total = 0;
+        for (double count : counts) {
+            total += count;
+        }
+        if (total <= 0) {
+            return -1;
+        }
+        double threshold = fraction * total;
+        double cumulative = 0;
+        for (int i = 0; i < BUCKETS; ++i) {
+            cumulative += counts[i];
+            if (cumulative > 0 && cumulative >= threshold) {
+                return upperBound(i);
+            }
+        }
+        return upperBound(BUCKETS - 1);
+    }
+
+    static int bucket(long micros) {
+        if (micros < LINEAR_BUCKETS) {
+            return (int) Math.max(0, micros);
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(micros);
+        if (exponent > MAX_EXPONENT) {
+            return BUCKETS - 1;
+        }
+        int subBucket = (int) (micros >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return LINEAR_BUCKETS + (exponent - MIN_EXPONENT) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Returns the largest value, in microseconds, that maps to the given bucket.
+     */
+    static long upperBound(int bucket) {
+        if (bucket < LINEAR_BUCKETS) {
+            return bucket;
+        }
+        int exponent = MIN_EXPONENT + (bucket - LINEAR_BUCKETS) / SUB_BUCKETS;
+        int subBucket = (bucket - LINEAR_BUCKETS) % SUB_BUCKETS;
+        return ((long) (SUB_BUCKETS + subBucket + 1) << (exponent - SUB_BUCKET_BITS)) - 1;
+    }
+}
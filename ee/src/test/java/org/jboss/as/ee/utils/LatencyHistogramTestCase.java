@@ -0,0 +1,123 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2023, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.ee.utils;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link LatencyHistogram}.
+ */
+public class LatencyHistogramTestCase {
+
+    @Test
+    public void buckets() {
+        int previous = -1;
+        for (long value = 0; value < (1L << 42); value += 1 + (value >>> 5)) {
+            int bucket = LatencyHistogram.bucket(value);
+            assertTrue(bucket >= previous);
+            assertTrue(bucket < LatencyHistogram.BUCKETS);
+            if (bucket < LatencyHistogram.BUCKETS - 1) {
+                assertTrue(value <= LatencyHistogram.upperBound(bucket));
+                // Relative error is bounded to 12.5%
+                assertTrue(LatencyHistogram.upperBound(bucket) - value <= value / 8);
+            }
+            if (bucket > 0) {
+                assertTrue(value > LatencyHistogram.upperBound(bucket - 1));
+            }
+            previous = bucket;
+        }
+        assertEquals(0, LatencyHistogram.bucket(-1));
+        assertEquals(LatencyHistogram.BUCKETS - 1, LatencyHistogram.bucket(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void percentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(-1, histogram.getPercentile(0.5));
+
+        for (int i = 1; i <= 1000; ++i) {
+            histogram.record(i, TimeUnit.MILLISECONDS);
+        }
+        assertEquals(1000, histogram.getCount());
+        assertApproximately(500_000, histogram.getPercentile(0.5));
+        assertApproximately(950_000, histogram.getPercentile(0.95));
+        assertApproximately(990_000, histogram.getPercentile(0.99));
+        assertApproximately(1_000_000, histogram.getPercentile(1));
+        // The lowest percentile is the smallest recorded value
+        assertApproximately(1_000, histogram.getPercentile(0));
+
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+        assertEquals(-1, histogram.getPercentile(0.5));
+    }
+
+    @Test
+    public void exactValues() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < 10; ++i) {
+            histogram.record(i, TimeUnit.MICROSECONDS);
+        }
+        assertEquals(4, histogram.getPercentile(0.5));
+        assertEquals(8, histogram.getPercentile(0.9));
+        assertEquals(9, histogram.getPercentile(1));
+    }
+
+    @Test
+    public void drain() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(10, TimeUnit.MICROSECONDS);
+        histogram.record(10, TimeUnit.MICROSECONDS);
+        histogram.record(1, TimeUnit.SECONDS);
+
+        long[] counts = histogram.drain();
+        assertEquals(LatencyHistogram.BUCKETS, counts.length);
+        assertEquals(2, counts[LatencyHistogram.bucket(10)]);
+        assertEquals(1, counts[LatencyHistogram.bucket(1_000_000)]);
+        // Drained counts are not returned again
+        assertEquals(0, histogram.getCount());
+        assertArrayEquals(new long[LatencyHistogram.BUCKETS], histogram.drain());
+    }
+
+    @Test
+    public void weightedPercentiles() {
+        double[] counts = new double[LatencyHistogram.BUCKETS];
+        assertEquals(-1, LatencyHistogram.getPercentile(counts, 0.5));
+
+        counts[LatencyHistogram.bucket(10)] = 0.25;
+        counts[LatencyHistogram.bucket(1_000)] = 0.75;
+        assertEquals(10, LatencyHistogram.getPercentile(counts, 0.25));
+        assertApproximately(1_000, LatencyHistogram.getPercentile(counts, 0.26));
+        assertApproximately(1_000, LatencyHistogram.getPercentile(counts, 1));
+    }
+
+    private static void assertApproximately(long expected, long actual) {
+        assertTrue(String.valueOf(actual), actual >= expected);
+        assertTrue(String.valueOf(actual), actual <= expected + expected / 8);
+    }
+}
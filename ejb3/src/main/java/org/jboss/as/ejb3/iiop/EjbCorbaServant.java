@@ -103,11 +103,19 @@ public class EjbCorbaServant extends Servant implements InvokeHandler, LocalIIOP
      */
     private final Current poaCurrent;
 
+    private static final MatchRule IIOP_MATCH_RULE = MatchRule.ALL.matchProtocol("iiop");
+
     /**
      * Mapping from bean methods to <code>SkeletonStrategy</code> instances.
      */
     private final Map<String, SkeletonStrategy> methodInvokerMap;
 
+    /**
+     * Mapping from operation names to the resolved operations, so the kind of
+     * each operation is not determined again on every invocation.
+     */
+    private final Map<String, Operation> operations;
+
     /**
      * CORBA repository ids of the RMI-IDL interfaces implemented by the bean
      * (<code>EJBObject</code> instance).
@@ -193,6 +201,7 @@ public class EjbCorbaServant extends Servant implements InvokeHandler, LocalIIOP
         this.home = home;
         this.legacySecurityDomain = legacySecurityDomain;
         this.securityDomain = securityDomain;
+        this.operations = resolveOperations(methodInvokerMap, home);
 
         SASCurrent sasCurrent;
         try {
@@ -237,11 +246,12 @@ public class EjbCorbaServant extends Servant implements InvokeHandler, LocalIIOP
     public OutputStream _invoke(final String opName, final InputStream in, final ResponseHandler handler) {
         EjbLogger.ROOT_LOGGER.tracef("EJBObject invocation: %s", opName);
 
-        SkeletonStrategy op = methodInvokerMap.get(opName);
-        if (op == null) {
+        final Operation operation = operations.get(opName);
+        if (operation == null) {
             EjbLogger.ROOT_LOGGER.debugf("Unable to find opname '%s' valid operations:%s", opName, methodInvokerMap.keySet());
             throw new BAD_OPERATION(opName);
         }
+        final SkeletonStrategy op = operation.strategy;
         final NamespaceContextSelector selector = componentView.getComponent().getNamespaceContextSelector();
         final ClassLoader oldCl = WildFlySecurityManager.getCurrentContextClassLoaderPrivileged();
         NamespaceContextSelector.pushCurrentSelector(selector);
@@ -251,95 +261,24 @@ public class EjbCorbaServant extends Servant implements InvokeHandler, LocalIIOP
             try {
                 Object retVal;
 
-                if (!home && opName.equals("_get_handle")) {
-                    retVal = new HandleImplIIOP(orb.object_to_string(_this_object()));
-                } else if (home && opName.equals("_get_homeHandle")) {
-                    retVal = homeHandle;
-                } else if (home && opName.equals("_get_EJBMetaData")) {
-                    retVal = ejbMetaData;
-                } else {
-                    Principal identityPrincipal = null;
-                    Principal principal = null;
-                    Object credential = null;
-
-                    if (this.sasCurrent != null) {
-                        final byte[] incomingIdentity = this.sasCurrent.get_incoming_principal_name();
-
-                        //we have an identity token, which is a trust based mechanism
-                        if (incomingIdentity != null && incomingIdentity.length > 0) {
-                            String name = new String(incomingIdentity, StandardCharsets.UTF_8);
-                            int domainIndex = name.indexOf('@');
-                            if (domainIndex > 0)
-                                name = name.substring(0, domainIndex);
-                            identityPrincipal = new NamePrincipal(name);
-                        }
-                        final byte[] incomingUsername = this.sasCurrent.get_incoming_username();
-                        if (incomingUsername != null && incomingUsername.length > 0) {
-                            final byte[] incomingPassword = this.sasCurrent.get_incoming_password();
-                            String name = new String(incomingUsername, StandardCharsets.UTF_8);
-                            int domainIndex = name.indexOf('@');
-                            if (domainIndex > 0) {
-                                name = name.substring(0, domainIndex);
-                            }
-                            principal = new NamePrincipal(name);
-                            credential = new String(incomingPassword, StandardCharsets.UTF_8).toCharArray();
-                        }
-                    }
-                    final Object[] params = op.readParams((org.omg.CORBA_2_3.portable.InputStream) in);
-
-                    if (!this.home && opName.equals("isIdentical") && params.length == 1) {
+                switch (operation.type) {
+                    case GET_HANDLE:
+                        retVal = new HandleImplIIOP(orb.object_to_string(_this_object()));
+                        break;
+                    case GET_HOME_HANDLE:
+                        retVal = homeHandle;
+                        break;
+                    case GET_EJB_METADATA:
+                        retVal = ejbMetaData;
+                        break;
+                    case IS_IDENTICAL: {
                         //handle isIdentical specially
-                        Object val = params[0];
+                        final Object val = op.readParams((org.omg.CORBA_2_3.portable.InputStream) in)[0];
                         retVal = val instanceof org.omg.CORBA.Object && handleIsIdentical((org.omg.CORBA.Object) val);
-                    } else {
-                        if (this.securityDomain != null) {
-                            // an elytron security domain is available: authenticate and authorize the client before invoking the component.
-                            SecurityIdentity identity = this.securityDomain.getAnonymousSecurityIdentity();
-                            AuthenticationConfiguration authenticationConfiguration = AuthenticationConfiguration.empty();
-
-                            if (identityPrincipal != null) {
-                                // we have an identity token principal - check if the TLS identity, if available,
-                                // has permission to run as the identity token principal.
-                                // TODO use the TLS identity when that becomes available to us.
-
-                                // no TLS identity found, check if an initial context token was also sent. If it was,
-                                // authenticate the incoming username/password and check if the resulting identity has
-                                // permission to run as the identity token principal.
-                                if (principal != null) {
-                                    char[] password = (char[]) credential;
-                                    authenticationConfiguration = authenticationConfiguration.useName(principal.getName())
-                                            .usePassword(password);
-                                    SecurityIdentity authenticatedIdentity = this.authenticate(principal, password);
-                                    identity = authenticatedIdentity.createRunAsIdentity(identityPrincipal.getName(), true);
-                                } else {
-                                    // no TLS nor initial context token found - check if the anonymous identity has
-                                    // permission to run as the identity principal.
-                                    identity = this.securityDomain.getAnonymousSecurityIdentity().createRunAsIdentity(identityPrincipal.getName(), true);
-                                }
-                            } else if (principal != null) {
-                                char[] password = (char[]) credential;
-                                // we have an initial context token containing a username/password pair.
-                                authenticationConfiguration = authenticationConfiguration.useName(principal.getName())
-                                        .usePassword(password);
-                                identity = this.authenticate(principal, password);
-                            }
-                            final InterceptorContext interceptorContext = new InterceptorContext();
-                            this.prepareInterceptorContext(op, params, interceptorContext);
-                            try {
-                                final AuthenticationContext context = AuthenticationContext.captureCurrent().with(MatchRule.ALL.matchProtocol("iiop"), authenticationConfiguration);
-                                retVal = identity.runAs((PrivilegedExceptionAction<Object>) () -> context.run((PrivilegedExceptionAction<Object>) () -> this.componentView.invoke(interceptorContext)));
-                            } catch (PrivilegedActionException e) {
-                                throw e.getCause();
-                            }
-                        } else {
-                            // legacy security behavior: setup the security context if a SASCurrent is available and invoke the component.
-                            // One of the EJB security interceptors will authenticate and authorize the client.
-
-                            final InterceptorContext interceptorContext = new InterceptorContext();
-                            prepareInterceptorContext(op, params, interceptorContext);
-                            retVal = this.componentView.invoke(interceptorContext);
-                        }
+                        break;
                     }
+                    default:
+                        retVal = invokeComponent(op, op.readParams((org.omg.CORBA_2_3.portable.InputStream) in));
                 }
                 out = (org.omg.CORBA_2_3.portable.OutputStream)
                         handler.createReply();
@@ -363,6 +302,85 @@ public class EjbCorbaServant extends Servant implements InvokeHandler, LocalIIOP
         }
     }
 
+    /**
+     * Invokes the component for a remote IIOP invocation, authenticating the
+     * client first if an Elytron security domain is available.
+     */
+    Object invokeComponent(final SkeletonStrategy op, final Object[] params) throws Throwable {
+        final InterceptorContext interceptorContext = new InterceptorContext();
+        if (this.securityDomain == null) {
+            // legacy security behavior: setup the security context if a SASCurrent is available and invoke the component.
+            // One of the EJB security interceptors will authenticate and authorize the client.
+            prepareInterceptorContext(op, params, interceptorContext);
+            return this.componentView.invoke(interceptorContext);
+        }
+
+        // The incoming SAS principals are only used to create the Elytron identity
+        Principal identityPrincipal = null;
+        Principal principal = null;
+        char[] password = null;
+
+        if (this.sasCurrent != null) {
+            final byte[] incomingIdentity = this.sasCurrent.get_incoming_principal_name();
+
+            //we have an identity token, which is a trust based mechanism
+            if (incomingIdentity != null && incomingIdentity.length > 0) {
+                String name = new String(incomingIdentity, StandardCharsets.UTF_8);
+                int domainIndex = name.indexOf('@');
+                if (domainIndex > 0)
+                    name = name.substring(0, domainIndex);
+                identityPrincipal = new NamePrincipal(name);
+            }
+            final byte[] incomingUsername = this.sasCurrent.get_incoming_username();
+            if (incomingUsername != null && incomingUsername.length > 0) {
+                final byte[] incomingPassword = this.sasCurrent.get_incoming_password();
+                String name = new String(incomingUsername, StandardCharsets.UTF_8);
+                int domainIndex = name.indexOf('@');
+                if (domainIndex > 0) {
+                    name = name.substring(0, domainIndex);
+                }
+                principal = new NamePrincipal(name);
+                password = new String(incomingPassword, StandardCharsets.UTF_8).toCharArray();
+            }
+        }
+
+        // an elytron security domain is available: authenticate and authorize the client before invoking the component.
+        SecurityIdentity identity = this.securityDomain.getAnonymousSecurityIdentity();
+        AuthenticationConfiguration authenticationConfiguration = AuthenticationConfiguration.empty();
+
+        if (identityPrincipal != null) {
+            // we have an identity token principal - check if the TLS identity, if available,
+            // has permission to run as the identity token principal.
+            // TODO use the TLS identity when that becomes available to us.
+
+            // no TLS identity found, check if an initial context token was also sent. If it was,
+            // authenticate the incoming username/password and check if the resulting identity has
+            // permission to run as the identity token principal.
+            if (principal != null) {
+                authenticationConfiguration = authenticationConfiguration.useName(principal.getName())
+                        .usePassword(password);
+                SecurityIdentity authenticatedIdentity = this.authenticate(principal, password);
+                identity = authenticatedIdentity.createRunAsIdentity(identityPrincipal.getName(), true);
+            } else {
+                // no TLS nor initial context token found - check if the anonymous identity has
+                // permission to run as the identity principal.
+                identity = identity.createRunAsIdentity(identityPrincipal.getName(), true);
+            }
+        } else if (principal != null) {
+            // we have an initial context token containing a username/password pair.
+            authenticationConfiguration = authenticationConfiguration.useName(principal.getName())
+                    .usePassword(password);
+            identity = this.authenticate(principal, password);
+        }
+        prepareInterceptorContext(op, params, interceptorContext);
+        try {
+            final AuthenticationContext context = AuthenticationContext.captureCurrent().with(IIOP_MATCH_RULE, authenticationConfiguration);
+            return identity.runAs((PrivilegedExceptionAction<Object>) () -> context.run((PrivilegedExceptionAction<Object>) () -> this.componentView.invoke(interceptorContext)));
+        } catch (PrivilegedActionException e) {
+            throw e.getCause();
+        }
+    }
+
     private void prepareInterceptorContext(final SkeletonStrategy op, final Object[] params, final InterceptorContext interceptorContext) throws IOException, ClassNotFoundException {
         if (!home && componentView.getComponent() instanceof StatefulSessionComponent) {
             final SessionID sessionID = (SessionID) unmarshalIdentifier();
@@ -410,10 +428,11 @@ public class EjbCorbaServant extends Servant implements InvokeHandler, LocalIIOP
             throws Exception {
         EjbLogger.ROOT_LOGGER.tracef("EJBObject local invocation: %s", opName);
 
-        SkeletonStrategy op = methodInvokerMap.get(opName);
-        if (op == null) {
+        final Operation operation = operations.get(opName);
+        if (operation == null) {
             throw new BAD_OPERATION(opName);
         }
+        final SkeletonStrategy op = operation.strategy;
         if (tx != null) {
             transactionManager.resume(tx);
         }
@@ -470,4 +489,50 @@ public class EjbCorbaServant extends Servant implements InvokeHandler, LocalIIOP
             evidence.destroy();
         }
     }
+
+    private static Map<String, Operation> resolveOperations(final Map<String, SkeletonStrategy> methodInvokerMap, final boolean home) {
+        final Map<String, Operation> operations = new HashMap<>(methodInvokerMap.size() * 4 / 3 + 1);
+        for (Map.Entry<String, SkeletonStrategy> entry : methodInvokerMap.entrySet()) {
+            final String opName = entry.getKey();
+            final SkeletonStrategy op = entry.getValue();
+            final OperationType type;
+            if (!home && opName.equals("_get_handle")) {
+                type = OperationType.GET_HANDLE;
+            } else if (home && opName.equals("_get_homeHandle")) {
+                type = OperationType.GET_HOME_HANDLE;
+            } else if (home && opName.equals("_get_EJBMetaData")) {
+                type = OperationType.GET_EJB_METADATA;
+            } else if (!home && opName.equals("isIdentical") && op.getMethod().getParameterCount() == 1) {
+                type = OperationType.IS_IDENTICAL;
+            } else {
+                type = OperationType.INVOKE;
+            }
+            operations.put(opName, new Operation(op, type));
+        }
+        return operations;
+    }
+
+    /**
+     * The kinds of operations handled by this servant.
+     */
+    private enum OperationType {
+        GET_HANDLE,
+        GET_HOME_HANDLE,
+        GET_EJB_METADATA,
+        IS_IDENTICAL,
+        INVOKE,
+    }
+
+    /**
+     * An IIOP operation resolved when the servant is created.
+     */
+    private static final class Operation {
+        private final SkeletonStrategy strategy;
+        private final OperationType type;
+
+        private Operation(final SkeletonStrategy strategy, final OperationType type) {
+            this.strategy = strategy;
+            this.type = type;
+        }
+    }
 }
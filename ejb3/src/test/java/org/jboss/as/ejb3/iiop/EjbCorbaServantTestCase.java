@@ -0,0 +1,163 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2023, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.ejb3.iiop;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Provider;
+import java.util.Collections;
+import java.util.Map;
+
+import org.jboss.as.ee.component.Component;
+import org.jboss.as.ee.component.ComponentView;
+import org.jboss.iiop.csiv2.SASCurrent;
+import org.jboss.invocation.InterceptorContext;
+import org.junit.Before;
+import org.junit.Test;
+import org.omg.CORBA.ORB;
+import org.wildfly.iiop.openjdk.rmi.marshal.strategy.SkeletonStrategy;
+import org.wildfly.security.auth.permission.LoginPermission;
+import org.wildfly.security.auth.principal.AnonymousPrincipal;
+import org.wildfly.security.auth.realm.SimpleMapBackedSecurityRealm;
+import org.wildfly.security.auth.realm.SimpleRealmEntry;
+import org.wildfly.security.auth.server.SecurityDomain;
+import org.wildfly.security.auth.server.SecurityIdentity;
+import org.wildfly.security.credential.PasswordCredential;
+import org.wildfly.security.password.WildFlyElytronPasswordProvider;
+import org.wildfly.security.password.interfaces.ClearPassword;
+import org.wildfly.security.permission.PermissionVerifier;
+
+/**
+ * Unit test for the authentication of remote invocations by {@link EjbCorbaServant#invokeComponent}.
+ */
+public class EjbCorbaServantTestCase {
+
+    private static final Object[] PARAMS = new Object[0];
+
+    private final ORB orb = mock(ORB.class);
+    private final SASCurrent sasCurrent = mock(SASCurrent.class);
+    private final ComponentView componentView = mock(ComponentView.class);
+    private final SkeletonStrategy strategy = mock(SkeletonStrategy.class);
+    private SecurityDomain securityDomain;
+
+    @Before
+    public void setUp() throws Exception {
+        SimpleMapBackedSecurityRealm realm = new SimpleMapBackedSecurityRealm(() -> new Provider[] { WildFlyElytronPasswordProvider.getInstance() });
+        realm.setIdentityMap(Map.of("alice", entry("secret"), "bob", entry("other")));
+        SecurityDomain.Builder builder = SecurityDomain.builder();
+        builder.addRealm("default", realm).build();
+        builder.setDefaultRealmName("default");
+        // every identity may log in and run as another identity
+        builder.setPermissionMapper((permissionMappable, roles) -> PermissionVerifier.ALL);
+        this.securityDomain = builder.build();
+
+        when(this.orb.resolve_initial_references("SASCurrent")).thenReturn(this.sasCurrent);
+        when(this.strategy.getMethod()).thenReturn(Object.class.getMethod("toString"));
+        when(this.componentView.getComponent()).thenReturn(mock(Component.class));
+        // the component returns the identity it is invoked with
+        when(this.componentView.invoke(any(InterceptorContext.class))).thenAnswer(invocation -> this.securityDomain.getCurrentSecurityIdentity());
+    }
+
+    @Test
+    public void testAnonymous() throws Throwable {
+        SecurityIdentity identity = (SecurityIdentity) this.createServant(this.securityDomain).invokeComponent(this.strategy, PARAMS);
+
+        assertTrue(identity.getPrincipal() instanceof AnonymousPrincipal);
+    }
+
+    @Test
+    public void testAuthenticated() throws Throwable {
+        this.sendCredentials("alice@IIOP", "secret");
+
+        SecurityIdentity identity = (SecurityIdentity) this.createServant(this.securityDomain).invokeComponent(this.strategy, PARAMS);
+
+        assertEquals("alice", identity.getPrincipal().getName());
+        assertTrue(identity.implies(new LoginPermission()));
+    }
+
+    @Test
+    public void testAuthenticationFailure() throws Throwable {
+        this.sendCredentials("alice", "wrong");
+
+        try {
+            this.createServant(this.securityDomain).invokeComponent(this.strategy, PARAMS);
+            fail("Invalid credentials must be rejected");
+        } catch (SecurityException expected) {
+        }
+        verify(this.componentView, never()).invoke(any(InterceptorContext.class));
+    }
+
+    @Test
+    public void testAnonymousRunAsIdentity() throws Throwable {
+        when(this.sasCurrent.get_incoming_principal_name()).thenReturn("bob@IIOP".getBytes(StandardCharsets.UTF_8));
+
+        SecurityIdentity identity = (SecurityIdentity) this.createServant(this.securityDomain).invokeComponent(this.strategy, PARAMS);
+
+        assertEquals("bob", identity.getPrincipal().getName());
+    }
+
+    @Test
+    public void testAuthenticatedRunAsIdentity() throws Throwable {
+        when(this.sasCurrent.get_incoming_principal_name()).thenReturn("bob".getBytes(StandardCharsets.UTF_8));
+        this.sendCredentials("alice", "secret");
+
+        SecurityIdentity identity = (SecurityIdentity) this.createServant(this.securityDomain).invokeComponent(this.strategy, PARAMS);
+
+        assertEquals("bob", identity.getPrincipal().getName());
+    }
+
+    @Test
+    public void testLegacySecurity() throws Throwable {
+        this.sendCredentials("alice", "secret");
+
+        // without an Elytron security domain the security interceptors of the component authenticate the client, so
+        // the component is invoked with the current identity and the SAS context is not read
+        SecurityIdentity identity = (SecurityIdentity) this.createServant(null).invokeComponent(this.strategy, PARAMS);
+
+        assertTrue(identity.getPrincipal() instanceof AnonymousPrincipal);
+        verifyNoInteractions(this.sasCurrent);
+    }
+
+    private static SimpleRealmEntry entry(String password) {
+        return new SimpleRealmEntry(Collections.singletonList(new PasswordCredential(ClearPassword.createRaw(ClearPassword.ALGORITHM_CLEAR, password.toCharArray()))));
+    }
+
+    private void sendCredentials(String userName, String password) {
+        when(this.sasCurrent.get_incoming_username()).thenReturn(userName.getBytes(StandardCharsets.UTF_8));
+        when(this.sasCurrent.get_incoming_password()).thenReturn(password.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private EjbCorbaServant createServant(SecurityDomain securityDomain) {
+        return new EjbCorbaServant(null, Map.of("invoke", this.strategy), new String[0], null, this.orb, this.componentView, null, null,
+                null, EjbCorbaServantTestCase.class.getClassLoader(), false, null, securityDomain);
+    }
+}
@@ -33,6 +33,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 import static org.jboss.as.jaxrs.logging.JaxrsLogger.JAXRS_LOGGER;
@@ -113,6 +114,8 @@ public class JaxrsMethodParameterProcessor implements DeploymentUnitProcessor {
                                        HashMap<String, List<Validator>> paramConverterMap)
             throws DeploymentUnitProcessingException {
 
+        Map<Class<?>, Optional<Method>> baseTypeMethods = new HashMap<>();
+
         for(ParamDetail detail : detailList) {
 
             // check param converter for specific return type
@@ -146,56 +149,60 @@ public class JaxrsMethodParameterProcessor implements DeploymentUnitProcessor {
             }
 
             if (isCheckClazzMethods) {
-                Class baseType = detail.parameter;
-                Method valueOf = null;
-
-                // constructor rule
-                try {
-                    Constructor<?> ctor = baseType.getConstructor(String.class);
-                    if (Modifier.isPublic(ctor.getModifiers())) {
-                        continue; // success move to next detail
-                    }
-                } catch (NoSuchMethodException ignored) { }
+                // the same types are usually used by many parameters, so the lookup is done once per type
+                Method method = baseTypeMethods.computeIfAbsent(detail.parameter,
+                        this::getBaseTypeMethod).orElse(null);
+                if (method != null) {
+                    validateBaseType(method, detail.defaultValue.value(), detail);
+                }
+            }
+        }
 
-                // method fromValue(String.class) rule
-                try {
-                    Method fromValue = baseType.getDeclaredMethod("fromValue", String.class);
-                    if (Modifier.isPublic(fromValue.getModifiers())) {
-                        for (Annotation ann : baseType.getAnnotations()) {
-                            if (ann.annotationType().getName()
-                                    .equals("jakarta.xml.bind.annotation.XmlEnum")) {
-                                valueOf = fromValue;
-                            }
-                        }
-                        validateBaseType(fromValue, detail.defaultValue.value(), detail);
-                        continue; // success move to next detail
-                    }
-                } catch (NoSuchMethodException ignoredA) { }
+    }
 
-                // method fromString(String.class) rule
-                Method fromString = null;
-                try {
-                    fromString = baseType.getDeclaredMethod("fromString", String.class);
-                    if (Modifier.isStatic(fromString.getModifiers())) {
-                        validateBaseType(fromString, detail.defaultValue.value(), detail);
-                        continue; // success move to next detail
-                    }
-                } catch (NoSuchMethodException ignoredB) {
-                }
+    /**
+     * Find the static method that converts a String into the given type, following the
+     * rules of the specification.  An empty result means the type has a public String
+     * constructor, which needs no validation, or that there is no conversion method.
+     *
+     * @param baseType
+     * @return
+     */
+    private Optional<Method> getBaseTypeMethod(Class<?> baseType) {
+        // constructor rule
+        try {
+            Constructor<?> ctor = baseType.getConstructor(String.class);
+            if (Modifier.isPublic(ctor.getModifiers())) {
+                return Optional.empty();
+            }
+        } catch (NoSuchMethodException ignored) { }
 
-                // method valueof(String.class) rule
-                try {
-                    valueOf = baseType.getDeclaredMethod("valueOf", String.class);
-                    if (Modifier.isStatic(valueOf.getModifiers())) {
-                        validateBaseType(valueOf, detail.defaultValue.value(), detail);
-                        continue; // success move to next detail
-                    }
-                } catch (NoSuchMethodException ignored) {
-                }
+        // method fromValue(String.class) rule
+        try {
+            Method fromValue = baseType.getDeclaredMethod("fromValue", String.class);
+            if (Modifier.isPublic(fromValue.getModifiers())) {
+                return Optional.of(fromValue);
+            }
+        } catch (NoSuchMethodException ignoredA) { }
 
+        // method fromString(String.class) rule
+        try {
+            Method fromString = baseType.getDeclaredMethod("fromString", String.class);
+            if (Modifier.isStatic(fromString.getModifiers())) {
+                return Optional.of(fromString);
             }
+        } catch (NoSuchMethodException ignoredB) {
         }
 
+        // method valueof(String.class) rule
+        try {
+            Method valueOf = baseType.getDeclaredMethod("valueOf", String.class);
+            if (Modifier.isStatic(valueOf.getModifiers())) {
+                return Optional.of(valueOf);
+            }
+        } catch (NoSuchMethodException ignored) {
+        }
+        return Optional.empty();
     }
 
     /**
@@ -277,12 +284,7 @@ public class JaxrsMethodParameterProcessor implements DeploymentUnitProcessor {
 
                 if (object instanceof ParamConverterProvider) {
                     ParamConverterProvider pcpObj = (ParamConverterProvider) object;
-                    method = pcpObj.getClass().getMethod(
-                            "getConverter",
-                            Class.class,
-                            Type.class,
-                            Annotation[].class);
-                    converterProviderList.add(new ConverterProvider(pcpObj, method, lazyLoadAnnotations));
+                    converterProviderList.add(new ConverterProvider(pcpObj, lazyLoadAnnotations));
                 }
 
                 if (object instanceof ParamConverter) {
@@ -290,7 +292,7 @@ public class JaxrsMethodParameterProcessor implements DeploymentUnitProcessor {
                     method = getFromStringMethod(pc.getClass());
                     Class<?> returnClazz = method.getReturnType();
                     List<Validator> verifiers = paramConverterMap.get(returnClazz.getName());
-                    PConverter pConverter = new PConverter(pc, method, lazyLoadAnnotations);
+                    PConverter pConverter = new PConverter(pc, lazyLoadAnnotations);
                     if (verifiers == null){
                         List<Validator> vList = new ArrayList<>();
                         vList.add(pConverter);
@@ -501,18 +503,17 @@ public class JaxrsMethodParameterProcessor implements DeploymentUnitProcessor {
     }
 
     /**
-     * ParamConverterProvider's getConverter method used for validation
+     * ParamConverterProvider's getConverter method used for validation, called
+     * directly rather than reflectively
      */
     private class ConverterProvider implements Validator {
         private ParamConverterProvider pcp;
         private ParamConverter pc = null;
-        private Method method;
         private boolean isLazyLoad = false;
 
-        public ConverterProvider(ParamConverterProvider pcp, Method method,
+        public ConverterProvider(ParamConverterProvider pcp,
                                  List<AnnotationInstance> lazyAnnotations) {
            this.pcp = pcp;
-           this.method = method;
            if (lazyAnnotations != null && !lazyAnnotations.isEmpty()) {
                isLazyLoad = true;
            }
@@ -524,17 +525,16 @@ public class JaxrsMethodParameterProcessor implements DeploymentUnitProcessor {
 
         public Object verify(ParamDetail detail) throws Exception {
 
-            Object obj = method.invoke(pcp,
-                    detail.parameter,
+            ParamConverter converter = pcp.getConverter(detail.parameter,
                     detail.parameter.getComponentType(),
                     detail.annotations);
 
-            if (obj instanceof ParamConverter) {
-                this.pc = (ParamConverter) obj;
+            if (converter != null) {
+                this.pc = converter;
                 return pc.fromString(detail.defaultValue.value());
             }
 
-            return obj;
+            return null;
         }
 
         @Override
@@ -547,17 +547,16 @@ public class JaxrsMethodParameterProcessor implements DeploymentUnitProcessor {
     }
 
     /**
-     * ParamConverter's method fromString  used for validation
+     * ParamConverter's method fromString  used for validation, called directly
+     * rather than reflectively
      */
     private class PConverter implements Validator {
         private ParamConverter pc;
-        private Method method;
         private boolean isLazyLoad = false;
 
-        public PConverter(ParamConverter pc, Method method,
+        public PConverter(ParamConverter pc,
                           List<AnnotationInstance> lazyAnnotations) {
             this.pc = pc;
-            this.method = method;
             if (lazyAnnotations != null && !lazyAnnotations.isEmpty()) {
                 isLazyLoad = true;
             }
@@ -568,8 +567,7 @@ public class JaxrsMethodParameterProcessor implements DeploymentUnitProcessor {
         }
 
         public Object verify(ParamDetail detail) throws Exception {
-                Object obj = method.invoke(pc, detail.defaultValue.value());
-                return obj;
+                return pc.fromString(detail.defaultValue.value());
         }
 
         @Override
@@ -32,6 +32,8 @@ import java.util.Map;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.SynchronizationType;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.Transaction;
 import jakarta.transaction.TransactionManager;
 import jakarta.transaction.TransactionSynchronizationRegistry;
 
@@ -43,6 +45,7 @@ import org.jboss.as.jpa.util.JPAServiceNames;
 import org.jboss.as.server.CurrentServiceContainer;
 import org.jboss.msc.service.ServiceContainer;
 import org.jboss.msc.service.ServiceController;
+import org.jboss.tm.TxUtils;
 import org.wildfly.transaction.client.ContextTransactionManager;
 
 /**
@@ -66,6 +69,10 @@ public class TransactionScopedEntityManager extends AbstractEntityManager implem
     private transient TransactionManager transactionManager;
     private transient Boolean deferDetach;
     private transient Boolean skipQueryDetach;
+    // per thread association between the current transaction and the entity manager resolved for it
+    private transient ThreadLocal<TransactionAssociation> transactionAssociation = new ThreadLocal<>();
+    // key of the TransactionAssociation of this entity manager in the TransactionSynchronizationRegistry
+    private transient Object associationKey = new Object();
 
     public TransactionScopedEntityManager(String puScopedName, Map properties, EntityManagerFactory emf, SynchronizationType synchronizationType, TransactionSynchronizationRegistry transactionSynchronizationRegistry, TransactionManager transactionManager) {
         this.puScopedName = puScopedName;
@@ -79,13 +86,31 @@ public class TransactionScopedEntityManager extends AbstractEntityManager implem
     @Override
     protected EntityManager getEntityManager() {
         EntityManager entityManager;
-        boolean isInTx;
+        Transaction transaction = TransactionUtil.getTransaction(transactionManager);
 
-        isInTx = TransactionUtil.isInTx(transactionManager);
-
-        if (isInTx) {
+        if (transaction != null && TxUtils.isActive(transaction)) {
+            // fast path, this thread already resolved the entity manager for the current transaction
+            final TransactionAssociation association = transactionAssociation.get();
+            if (association != null) {
+                entityManager = association.getEntityManager(transaction);
+                if (entityManager != null) {
+                    return entityManager;
+                }
+            }
+            // this thread may have used another transaction in the meantime (e.g. suspended by a REQUIRES_NEW invocation),
+            // reuse the association already registered with this transaction rather than registering another one
+            final TransactionAssociation registered = (TransactionAssociation) transactionSynchronizationRegistry.getResource(associationKey);
+            if (registered != null) {
+                entityManager = registered.getEntityManager(transaction);
+                if (entityManager != null) {
+                    transactionAssociation.set(registered);
+                    return entityManager;
+                }
+            }
             entityManager = getOrCreateTransactionScopedEntityManager(emf, puScopedName, properties, synchronizationType);
+            associate(transaction, entityManager);
         } else {
+            transactionAssociation.remove();
             entityManager = NonTxEmCloser.get(puScopedName);
             if (entityManager == null) {
                 entityManager = createEntityManager(emf, properties, synchronizationType);
@@ -123,6 +148,8 @@ public class TransactionScopedEntityManager extends AbstractEntityManager implem
         transactionSynchronizationRegistry = (TransactionSynchronizationRegistry) currentServiceContainer().getService(JPAServiceNames.TRANSACTION_SYNCHRONIZATION_REGISTRY_SERVICE).getValue();
 
         emf = persistenceUnitService.getEntityManagerFactory();
+        transactionAssociation = new ThreadLocal<>();
+        associationKey = new Object();
     }
 
     private static ServiceContainer currentServiceContainer() {
@@ -172,6 +199,28 @@ public class TransactionScopedEntityManager extends AbstractEntityManager implem
         return entityManager;
     }
 
+    /**
+     * Remember the entity manager resolved for the specified transaction, so that subsequent invocations on the
+     * current thread can skip the TransactionSynchronizationRegistry lookup and the mixed SynchronizationType check.
+     * The association is registered once per transaction and cleared when the transaction completes.
+     *
+     * @param transaction is the active transaction
+     * @param entityManager is the entity manager associated with the transaction
+     */
+    private void associate(final Transaction transaction, final EntityManager entityManager) {
+        final TransactionAssociation association = new TransactionAssociation(transaction, entityManager);
+        try {
+            transactionSynchronizationRegistry.registerInterposedSynchronization(association);
+            transactionSynchronizationRegistry.putResource(associationKey, association);
+        } catch (IllegalStateException ignored) {
+            // transaction is no longer in a state that accepts synchronizations (e.g. marked for rollback),
+            // keep using the regular lookup for the rest of the transaction
+            transactionAssociation.remove();
+            return;
+        }
+        transactionAssociation.set(association);
+    }
+
     private EntityManager createEntityManager(
         EntityManagerFactory emf, Map properties, final SynchronizationType synchronizationType) {
         // only JPA 2.1 applications can specify UNSYNCHRONIZED.
@@ -237,4 +286,36 @@ public class TransactionScopedEntityManager extends AbstractEntityManager implem
             throw JpaLogger.ROOT_LOGGER.badSynchronizationTypeCombination(scopedPuName);
         }
     }
+
+    /**
+     * Caches the entity manager resolved for one transaction on one thread.  The transaction completion may happen on a
+     * different thread (e.g. transaction reaper), so the references are released from afterCompletion.
+     */
+    private static final class TransactionAssociation implements Synchronization {
+        private volatile Transaction transaction;
+        private volatile EntityManager entityManager;
+
+        TransactionAssociation(final Transaction transaction, final EntityManager entityManager) {
+            this.transaction = transaction;
+            this.entityManager = entityManager;
+        }
+
+        /**
+         * @return the cached entity manager if it was resolved for the specified transaction, otherwise null
+         */
+        EntityManager getEntityManager(final Transaction transaction) {
+            final EntityManager entityManager = this.entityManager;
+            return this.transaction == transaction ? entityManager : null;
+        }
+
+        @Override
+        public void beforeCompletion() {
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            entityManager = null;
+            transaction = null;
+        }
+    }
 }
@@ -23,7 +23,6 @@
 package org.jboss.as.jpa.processor;
 
 import static org.jboss.as.jpa.messages.JpaLogger.ROOT_LOGGER;
-import static org.jboss.as.server.Services.addServerExecutorDependency;
 import static org.jboss.as.weld.Capabilities.WELD_CAPABILITY_NAME;
 
 import java.net.MalformedURLException;
@@ -35,6 +34,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
 
 import jakarta.persistence.SynchronizationType;
 import jakarta.persistence.ValidationMode;
@@ -437,8 +437,8 @@ public class PersistenceUnitServiceHandler {
              */
             entityManagerFactoryBind(eeModuleDescription, serviceTarget, pu, puServiceName);
 
-            // get async executor from Services.addServerExecutorDependency
-            addServerExecutorDependency(builder, service.getExecutorInjector());
+            // get async executor from the persistence unit bootstrap executor service
+            builder.addDependency(JPAServiceNames.getBootstrapExecutorServiceName(), ExecutorService.class, service.getExecutorInjector());
 
             builder.install();
 
@@ -559,8 +559,8 @@ public class PersistenceUnitServiceHandler {
                 CacheDeploymentListener.clearInternalDeploymentSupport();
             }
 
-            // get async executor from Services.addServerExecutorDependency
-            addServerExecutorDependency(builder, service.getExecutorInjector());
+            // get async executor from the persistence unit bootstrap executor service
+            builder.addDependency(JPAServiceNames.getBootstrapExecutorServiceName(), ExecutorService.class, service.getExecutorInjector());
 
             builder.install();
 
@@ -701,8 +701,8 @@ public class PersistenceUnitServiceHandler {
              */
             entityManagerFactoryBind(eeModuleDescription, serviceTarget, pu, puServiceName);
 
-            // get async executor from Services.addServerExecutorDependency
-            addServerExecutorDependency(builder, service.getExecutorInjector());
+            // get async executor from the persistence unit bootstrap executor service
+            builder.addDependency(JPAServiceNames.getBootstrapExecutorServiceName(), ExecutorService.class, service.getExecutorInjector());
 
             builder.install();
 
@@ -0,0 +1,112 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2023, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.jpa.service;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.as.jpa.util.JPAServiceNames;
+import org.jboss.as.server.Services;
+import org.jboss.msc.service.Service;
+import org.jboss.msc.service.ServiceBuilder;
+import org.jboss.msc.service.ServiceController;
+import org.jboss.msc.service.ServiceTarget;
+import org.jboss.msc.service.StartContext;
+import org.jboss.msc.service.StartException;
+import org.jboss.msc.service.StopContext;
+import org.jboss.msc.value.InjectedValue;
+import org.jboss.threads.JBossThreadFactory;
+
+/**
+ * Provides the executor that persistence unit services use to (asynchronously) start and stop.
+ * <p/>
+ * By default, the server executor is used.  If a maximum number of bootstrap threads is configured, a dedicated bounded
+ * thread pool is used instead, so that persistence units (across all deployments) are bootstrapped in parallel without
+ * competing with other deployment services for the server executor.
+ */
+public class PersistenceUnitBootstrapExecutorService implements Service<ExecutorService> {
+
+    private static final String THREAD_NAME_PATTERN = "JPA Bootstrap Thread Pool -- %t";
+    private static final long KEEP_ALIVE_SECONDS = 60L;
+
+    private final InjectedValue<ExecutorService> serverExecutorInjector = new InjectedValue<>();
+    private final Integer maxThreads;
+    private volatile ExecutorService executor;
+    private volatile ThreadPoolExecutor bootstrapExecutor;
+
+    private PersistenceUnitBootstrapExecutorService(final Integer maxThreads) {
+        this.maxThreads = maxThreads;
+    }
+
+    @Override
+    public void start(StartContext context) throws StartException {
+        if (maxThreads == null) {
+            executor = serverExecutorInjector.getValue();
+        } else {
+            final ThreadFactory threadFactory = new JBossThreadFactory(null, Boolean.FALSE, null, THREAD_NAME_PATTERN, null, null);
+            bootstrapExecutor = new ThreadPoolExecutor(maxThreads, maxThreads, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<>(), threadFactory);
+            // idle threads are released once deployments are done bootstrapping
+            bootstrapExecutor.allowCoreThreadTimeOut(true);
+            executor = bootstrapExecutor;
+        }
+    }
+
+    @Override
+    public void stop(StopContext context) {
+        executor = null;
+        if (bootstrapExecutor != null) {
+            // persistence unit services depend on this service, so all start/stop tasks have already completed
+            bootstrapExecutor.shutdown();
+            bootstrapExecutor = null;
+        }
+    }
+
+    @Override
+    public ExecutorService getValue() throws IllegalStateException, IllegalArgumentException {
+        final ExecutorService executor = this.executor;
+        if (executor == null) {
+            throw new IllegalStateException();
+        }
+        return executor;
+    }
+
+    /**
+     * Add the persistence unit bootstrap executor service.
+     *
+     * @param target the service target
+     * @param maxThreads the maximum number of bootstrap threads or null to use the server executor
+     */
+    public static void addService(final ServiceTarget target, final Integer maxThreads) {
+        final PersistenceUnitBootstrapExecutorService service = new PersistenceUnitBootstrapExecutorService(maxThreads);
+        final ServiceBuilder<ExecutorService> sb = target.addService(JPAServiceNames.getBootstrapExecutorServiceName(), service);
+        sb.setInitialMode(ServiceController.Mode.ON_DEMAND);
+        if (maxThreads == null) {
+            Services.addServerExecutorDependency(sb, service.serverExecutorInjector);
+        }
+        sb.install();
+    }
+}
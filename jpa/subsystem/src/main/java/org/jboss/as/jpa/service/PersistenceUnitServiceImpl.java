@@ -30,6 +30,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 
 import jakarta.enterprise.inject.spi.BeanManager;
 import jakarta.persistence.EntityManagerFactory;
@@ -143,6 +144,7 @@ public class PersistenceUnitServiceImpl implements Service<PersistenceUnitServic
                                 }
 
                                 try {
+                                    final long startTime = System.nanoTime();
                                     PhaseOnePersistenceUnitServiceImpl phaseOnePersistenceUnitService = phaseOnePersistenceUnitServiceInjectedValue.getOptionalValue();
                                     WritableServiceBasedNamingStore.pushOwner(deploymentUnitServiceName);
                                     Object wrapperBeanManagerLifeCycle=null;
@@ -174,6 +176,10 @@ public class PersistenceUnitServiceImpl implements Service<PersistenceUnitServic
 
                                         // get the EntityManagerFactory from the second phase of the persistence unit bootstrap
                                         entityManagerFactory = emfBuilder.build();
+                                        if (ROOT_LOGGER.isDebugEnabled()) {
+                                            ROOT_LOGGER.debugf("phase 2 of 2 of persistence unit %s bootstrap took %d ms",
+                                                    pu.getScopedPersistenceUnitName(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+                                        }
                                     } else {
                                         ROOT_LOGGER.startingService("Persistence Unit", pu.getScopedPersistenceUnitName());
                                         // start the persistence unit in one pass (1 of 1)
@@ -194,6 +200,10 @@ public class PersistenceUnitServiceImpl implements Service<PersistenceUnitServic
                                             }
                                         }
                                         entityManagerFactory = createContainerEntityManagerFactory();
+                                        if (ROOT_LOGGER.isDebugEnabled()) {
+                                            ROOT_LOGGER.debugf("persistence unit %s bootstrap took %d ms",
+                                                    pu.getScopedPersistenceUnitName(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+                                        }
                                     }
                                     persistenceUnitRegistry.add(getScopedPersistenceUnitName(), getValue());
                                     if(wrapperBeanManagerLifeCycle != null) {
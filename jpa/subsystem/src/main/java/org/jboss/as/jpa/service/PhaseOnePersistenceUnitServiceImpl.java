@@ -30,6 +30,7 @@ import java.security.PrivilegedAction;
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 
 import jakarta.enterprise.inject.spi.BeanManager;
 import javax.sql.DataSource;
@@ -108,6 +109,7 @@ public class PhaseOnePersistenceUnitServiceImpl implements Service<PhaseOnePersi
                             @Override
                             public Void run() {
                                 try {
+                                    final long startTime = System.nanoTime();
                                     ROOT_LOGGER.startingPersistenceUnitService(1, pu.getScopedPersistenceUnitName());
                                     pu.setTempClassLoaderFactory(new TempClassLoaderFactoryImpl(classLoader));
                                     pu.setJtaDataSource(jtaDataSource.getOptionalValue());
@@ -125,6 +127,10 @@ public class PhaseOnePersistenceUnitServiceImpl implements Service<PhaseOnePersi
 
                                     WritableServiceBasedNamingStore.pushOwner(deploymentUnitServiceName);
                                     entityManagerFactoryBuilder = createContainerEntityManagerFactoryBuilder();
+                                    if (ROOT_LOGGER.isDebugEnabled()) {
+                                        ROOT_LOGGER.debugf("phase 1 of 2 of persistence unit %s bootstrap took %d ms",
+                                                pu.getScopedPersistenceUnitName(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+                                    }
                                     context.complete();
                                 } catch (Throwable t) {
                                     context.failed(new StartException(t));
@@ -32,7 +32,8 @@ enum Attribute {
 
     UNKNOWN(null),
     DEFAULT_DATASOURCE_NAME(CommonAttributes.DEFAULT_DATASOURCE),
-    DEFAULT_EXTENDEDPERSISTENCEINHERITANCE_NAME(CommonAttributes.DEFAULT_EXTENDEDPERSISTENCE_INHERITANCE),;
+    DEFAULT_EXTENDEDPERSISTENCEINHERITANCE_NAME(CommonAttributes.DEFAULT_EXTENDEDPERSISTENCE_INHERITANCE),
+    BOOTSTRAP_MAX_THREADS(CommonAttributes.BOOTSTRAP_MAX_THREADS),;
     private final String name;
 
     Attribute(final String name) {
@@ -30,4 +30,5 @@ interface CommonAttributes {
     String DEFAULT_DATASOURCE = "default-datasource";
     String JPA = "jpa";
     String DEFAULT_EXTENDEDPERSISTENCE_INHERITANCE = "default-extended-persistence-inheritance";
+    String BOOTSTRAP_MAX_THREADS = "bootstrap-max-threads";
 }
@@ -31,6 +31,7 @@ import org.jboss.as.controller.SimpleResourceDefinition;
 import org.jboss.as.controller.capability.RuntimeCapability;
 import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
 import org.jboss.as.controller.operations.validation.EnumValidator;
+import org.jboss.as.controller.operations.validation.IntRangeValidator;
 import org.jboss.as.controller.operations.validation.StringLengthValidator;
 import org.jboss.as.controller.registry.AttributeAccess;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
@@ -70,6 +71,14 @@ public class JPADefinition extends SimpleResourceDefinition {
                     .setDefaultValue(new ModelNode(ExtendedPersistenceInheritance.DEEP.toString()))
                     .build();
 
+    protected static final SimpleAttributeDefinition BOOTSTRAP_MAX_THREADS =
+            new SimpleAttributeDefinitionBuilder(CommonAttributes.BOOTSTRAP_MAX_THREADS, ModelType.INT, true)
+                    .setAllowExpression(true)
+                    .setXmlName(CommonAttributes.BOOTSTRAP_MAX_THREADS)
+                    .setValidator(new IntRangeValidator(1, true, true))
+                    .setFlags(AttributeAccess.Flag.RESTART_ALL_SERVICES)
+                    .build();
+
     JPADefinition() {
         super(getParameters());
     }
@@ -88,6 +97,7 @@ public class JPADefinition extends SimpleResourceDefinition {
     public void registerAttributes(ManagementResourceRegistration registration) {
         registration.registerReadWriteAttribute(DEFAULT_DATASOURCE, null, new ReloadRequiredWriteAttributeHandler(DEFAULT_DATASOURCE));
         registration.registerReadWriteAttribute(DEFAULT_EXTENDEDPERSISTENCE_INHERITANCE, null, new ReloadRequiredWriteAttributeHandler(DEFAULT_EXTENDEDPERSISTENCE_INHERITANCE));
+        registration.registerReadWriteAttribute(BOOTSTRAP_MAX_THREADS, null, new ReloadRequiredWriteAttributeHandler(BOOTSTRAP_MAX_THREADS));
     }
 
     @Override
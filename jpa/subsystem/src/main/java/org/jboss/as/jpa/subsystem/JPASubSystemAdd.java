@@ -21,6 +21,7 @@
  */
 package org.jboss.as.jpa.subsystem;
 
+import static org.jboss.as.jpa.subsystem.JPADefinition.BOOTSTRAP_MAX_THREADS;
 import static org.jboss.as.jpa.subsystem.JPADefinition.DEFAULT_DATASOURCE;
 import static org.jboss.as.jpa.subsystem.JPADefinition.DEFAULT_EXTENDEDPERSISTENCE_INHERITANCE;
 
@@ -45,6 +46,7 @@ import org.jboss.as.jpa.processor.PersistenceRefProcessor;
 import org.jboss.as.jpa.processor.PersistenceUnitParseProcessor;
 import org.jboss.as.jpa.service.JPAService;
 import org.jboss.as.jpa.service.JPAUserTransactionListenerService;
+import org.jboss.as.jpa.service.PersistenceUnitBootstrapExecutorService;
 import org.jboss.as.server.AbstractDeploymentChainStep;
 import org.jboss.as.server.DeploymentProcessorTarget;
 import org.jboss.as.server.deployment.Phase;
@@ -66,7 +68,7 @@ class JPASubSystemAdd extends AbstractBoottimeAddStepHandler {
     public static final JPASubSystemAdd INSTANCE = new JPASubSystemAdd();
 
     private JPASubSystemAdd() {
-        super(DEFAULT_DATASOURCE, DEFAULT_EXTENDEDPERSISTENCE_INHERITANCE);
+        super(DEFAULT_DATASOURCE, DEFAULT_EXTENDEDPERSISTENCE_INHERITANCE, BOOTSTRAP_MAX_THREADS);
     }
 
     protected void performBoottime(final OperationContext context, final ModelNode operation, final ModelNode model) throws
@@ -122,9 +124,11 @@ class JPASubSystemAdd extends AbstractBoottimeAddStepHandler {
 
         final String dataSourceName = DEFAULT_DATASOURCE.resolveModelAttribute(context, model).asStringOrNull();
         final ExtendedPersistenceInheritance defaultExtendedPersistenceInheritance = ExtendedPersistenceInheritance.valueOf(DEFAULT_EXTENDEDPERSISTENCE_INHERITANCE.resolveModelAttribute(context, model).asString());
+        final ModelNode bootstrapMaxThreads = BOOTSTRAP_MAX_THREADS.resolveModelAttribute(context, model);
 
         final ServiceTarget target = context.getServiceTarget();
         JPAService.addService(target, dataSourceName, defaultExtendedPersistenceInheritance);
+        PersistenceUnitBootstrapExecutorService.addService(target, bootstrapMaxThreads.isDefined() ? bootstrapMaxThreads.asInt() : null);
         JPAUserTransactionListenerService.addService(target);
 
     }
@@ -38,6 +38,9 @@ public class JPAServiceNames {
     // identifies the (singleton) Jakarta Persistence service
     public static final ServiceName JPA_SERVICE_NAME = ServiceName.JBOSS.append("jpa");
 
+    // identifies the (singleton) executor used to bootstrap persistence units
+    private static final ServiceName BOOTSTRAP_EXECUTOR_SERVICE_NAME = JPA_SERVICE_NAME.append("bootstrap-executor");
+
     public static ServiceName getPUServiceName(String scopedPersistenceUnitName) {
         return PERSISTENCE_UNIT_SERVICE_NAME.append(scopedPersistenceUnitName);
     }
@@ -46,6 +49,10 @@ public class JPAServiceNames {
         return JPA_SERVICE_NAME;
     }
 
+    public static ServiceName getBootstrapExecutorServiceName() {
+        return BOOTSTRAP_EXECUTOR_SERVICE_NAME;
+    }
+
     /**
      * Name of the capability that ensures a local provider of transactions is present.
      * Once its service is started, calls to the getInstance() methods of ContextTransactionManager,
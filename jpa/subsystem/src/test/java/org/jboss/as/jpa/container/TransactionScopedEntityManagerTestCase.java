@@ -0,0 +1,222 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2023, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.jpa.container;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.SynchronizationType;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.Transaction;
+import jakarta.transaction.TransactionManager;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import javax.transaction.xa.XAResource;
+
+import org.junit.Test;
+
+/**
+ * Unit test for the per thread association of {@link TransactionScopedEntityManager} with the current transaction.
+ */
+public class TransactionScopedEntityManagerTestCase {
+
+    private static final String PU = "test.ear/test.jar#pu";
+
+    private final Registry registry = new Registry();
+    private final TransactionScopedEntityManager entityManager = new TransactionScopedEntityManager(PU, Collections.emptyMap(),
+            proxy(EntityManagerFactory.class, Collections.emptyMap()), SynchronizationType.SYNCHRONIZED, registry,
+            proxy(TransactionManager.class, null));
+
+    @Test
+    public void testEntityManagerIsResolvedOncePerTransaction() {
+        TestTransaction transaction = begin();
+
+        EntityManager resolved = entityManager.getEntityManager();
+        assertSame(transaction.entityManager, resolved);
+        int lookups = registry.puLookups;
+        for (int i = 0; i < 10; i++) {
+            assertSame(resolved, entityManager.getEntityManager());
+        }
+        // the entity manager is served from the thread association
+        assertEquals(lookups, registry.puLookups);
+        assertEquals(1, transaction.synchronizations.size());
+
+        // the association is released when the transaction completes
+        transaction.complete();
+        TestTransaction next = begin();
+        assertSame(next.entityManager, entityManager.getEntityManager());
+    }
+
+    @Test
+    public void testSuspendedTransaction() {
+        TestTransaction outer = begin();
+        EntityManager outerEntityManager = entityManager.getEntityManager();
+
+        // e.g. a REQUIRES_NEW invocation in a loop, each suspending the outer transaction
+        for (int i = 0; i < 100; i++) {
+            TestTransaction inner = begin();
+            EntityManager innerEntityManager = entityManager.getEntityManager();
+            assertSame(inner.entityManager, innerEntityManager);
+            assertNotSame(outerEntityManager, innerEntityManager);
+            inner.complete();
+
+            registry.current = outer;
+            assertSame(outerEntityManager, entityManager.getEntityManager());
+        }
+        // the outer transaction was associated once, not after every resume
+        assertEquals(1, outer.synchronizations.size());
+        assertEquals(1, registry.puLookups - 100);
+    }
+
+    private TestTransaction begin() {
+        TestTransaction transaction = new TestTransaction(proxy(EntityManager.class, null));
+        // the entity manager of the persistence unit is already joined to the transaction
+        transaction.resources.put(PU, transaction.entityManager);
+        registry.current = transaction;
+        return transaction;
+    }
+
+    private <T> T proxy(Class<T> type, Object result) {
+        return type.cast(Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { type }, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "getTransaction":
+                    return registry.current;
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "equals":
+                    return proxy == args[0];
+                case "toString":
+                    return type.getSimpleName();
+                default:
+                    return result;
+            }
+        }));
+    }
+
+    private static class Registry implements TransactionSynchronizationRegistry {
+        TestTransaction current;
+        int puLookups;
+
+        @Override
+        public Object getTransactionKey() {
+            return current;
+        }
+
+        @Override
+        public void putResource(Object key, Object value) {
+            current.resources.put(key, value);
+        }
+
+        @Override
+        public Object getResource(Object key) {
+            if (PU.equals(key)) {
+                puLookups++;
+            }
+            return current.resources.get(key);
+        }
+
+        @Override
+        public void registerInterposedSynchronization(Synchronization sync) {
+            current.synchronizations.add(sync);
+        }
+
+        @Override
+        public int getTransactionStatus() {
+            return current.getStatus();
+        }
+
+        @Override
+        public void setRollbackOnly() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean getRollbackOnly() {
+            return false;
+        }
+    }
+
+    private static class TestTransaction implements Transaction {
+        final EntityManager entityManager;
+        final Map<Object, Object> resources = new HashMap<>();
+        final List<Synchronization> synchronizations = new ArrayList<>();
+        int status = Status.STATUS_ACTIVE;
+
+        TestTransaction(EntityManager entityManager) {
+            this.entityManager = entityManager;
+        }
+
+        void complete() {
+            status = Status.STATUS_COMMITTED;
+            for (Synchronization synchronization : synchronizations) {
+                synchronization.afterCompletion(status);
+            }
+            resources.clear();
+        }
+
+        @Override
+        public int getStatus() {
+            return status;
+        }
+
+        @Override
+        public void commit() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean delistResource(XAResource xaRes, int flag) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean enlistResource(XAResource xaRes) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void registerSynchronization(Synchronization sync) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void rollback() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void setRollbackOnly() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
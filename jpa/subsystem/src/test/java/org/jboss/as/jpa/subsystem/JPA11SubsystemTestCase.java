@@ -41,6 +41,11 @@ public class JPA11SubsystemTestCase extends AbstractSubsystemBaseTest {
         return readResource("subsystem-1.1.xml");
     }
 
+    @Override
+    protected void compareXml(String configId, String original, String marshalled) throws Exception {
+        //no need to compare
+    }
+
     @Override
     protected String getSubsystemXsdPath() throws Exception {
         return "schema/jboss-as-jpa_1_1.xsd";
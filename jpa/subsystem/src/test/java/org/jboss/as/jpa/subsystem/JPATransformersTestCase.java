@@ -0,0 +1,96 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2023, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.jpa.subsystem;
+
+import java.io.IOException;
+
+import org.jboss.as.controller.ModelVersion;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.PathElement;
+import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
+import org.jboss.as.model.test.FailedOperationTransformationConfig;
+import org.jboss.as.model.test.ModelTestControllerVersion;
+import org.jboss.as.model.test.ModelTestUtils;
+import org.jboss.as.subsystem.test.AbstractSubsystemBaseTest;
+import org.jboss.as.subsystem.test.AdditionalInitialization;
+import org.jboss.as.subsystem.test.KernelServices;
+import org.jboss.as.subsystem.test.KernelServicesBuilder;
+import org.jboss.dmr.ModelNode;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test cases for the transformers of the JPA subsystem.
+ */
+public class JPATransformersTestCase extends AbstractSubsystemBaseTest {
+
+    public JPATransformersTestCase() {
+        super(JPAExtension.SUBSYSTEM_NAME, new JPAExtension());
+    }
+
+    @Override
+    protected String getSubsystemXml() throws IOException {
+        return readResource("subsystem-1.2-transformers.xml");
+    }
+
+    @Override
+    protected String getSubsystemXsdPath() throws Exception {
+        return "schema/jboss-as-jpa_1_2.xsd";
+    }
+
+    @Test
+    public void testTransformerEAP740() throws Exception {
+        KernelServices mainServices = buildKernelServices(ModelTestControllerVersion.EAP_7_4_0, getSubsystemXml());
+        // check that both versions of the legacy model are the same and valid
+        checkSubsystemModelTransformation(mainServices, JPATransformers.VERSION_1_2_0, null, false);
+
+        ModelNode transformed = mainServices.readTransformedModel(JPATransformers.VERSION_1_2_0)
+                .get(ModelDescriptionConstants.SUBSYSTEM, JPAExtension.SUBSYSTEM_NAME);
+        Assert.assertFalse(transformed.has(CommonAttributes.BOOTSTRAP_MAX_THREADS));
+    }
+
+    @Test
+    public void testTransformersRejectionEAP740() throws Exception {
+        KernelServices mainServices = buildKernelServices(ModelTestControllerVersion.EAP_7_4_0, null);
+
+        ModelTestUtils.checkFailedTransformedBootOperations(mainServices, JPATransformers.VERSION_1_2_0, parse(readResource("subsystem-1.2.xml")),
+                new FailedOperationTransformationConfig().addFailedAttribute(
+                        PathAddress.pathAddress(PathElement.pathElement(ModelDescriptionConstants.SUBSYSTEM, JPAExtension.SUBSYSTEM_NAME)),
+                        new FailedOperationTransformationConfig.NewAttributesConfig(JPADefinition.BOOTSTRAP_MAX_THREADS)));
+    }
+
+    private KernelServices buildKernelServices(ModelTestControllerVersion legacyVersion, String subsystemXml) throws Exception {
+        ModelVersion modelVersion = JPATransformers.VERSION_1_2_0;
+        KernelServicesBuilder builder = createKernelServicesBuilder(AdditionalInitialization.MANAGEMENT);
+        if (subsystemXml != null) {
+            builder.setSubsystemXml(subsystemXml);
+        }
+        builder.createLegacyKernelServicesBuilder(AdditionalInitialization.MANAGEMENT, legacyVersion, modelVersion)
+                .addMavenResourceURL("org.jboss.eap:wildfly-jpa:" + legacyVersion.getMavenGavVersion())
+                .dontPersistXml();
+        KernelServices mainServices = builder.build();
+        Assert.assertTrue(mainServices.isSuccessfulBoot());
+        Assert.assertTrue(mainServices.getLegacyServices(modelVersion).isSuccessfulBoot());
+        return mainServices;
+    }
+}
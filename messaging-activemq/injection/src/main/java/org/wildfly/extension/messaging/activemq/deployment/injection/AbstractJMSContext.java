@@ -48,7 +48,7 @@ public abstract class AbstractJMSContext implements Serializable {
         });
     }
 
-    private JMSContext createContext(JMSInfo info, ConnectionFactory connectionFactory) {
+    JMSContext createContext(JMSInfo info, ConnectionFactory connectionFactory) {
         ROOT_LOGGER.debugf("Create JMSContext from %s - %s", info, connectionFactory);
         int sessionMode = info.getSessionMode();
         String userName = info.getUserName();
@@ -26,6 +26,7 @@ import jakarta.enterprise.event.Observes;
 import jakarta.enterprise.inject.spi.AnnotatedType;
 import jakarta.enterprise.inject.spi.BeanManager;
 import jakarta.enterprise.inject.spi.BeforeBeanDiscovery;
+import jakarta.enterprise.inject.spi.BeforeShutdown;
 import jakarta.enterprise.inject.spi.Extension;
 
 import org.jboss.metadata.property.PropertyReplacer;
@@ -39,6 +40,8 @@ class JMSCDIExtension implements Extension {
 
     static PropertyReplacer propertyReplacer;
 
+    private final JMSContextPool pool = new JMSContextPool();
+
     JMSCDIExtension(PropertyReplacer propertyReplacer) {
         // store the propertyReplacer in a static field so that it can be used in JMSInfo by beans instantiated by Jakarta Contexts and Dependency Injection
         JMSCDIExtension.propertyReplacer = propertyReplacer;
@@ -52,4 +55,16 @@ class JMSCDIExtension implements Extension {
         AnnotatedType<InjectedJMSContext> contextBean = bm.createAnnotatedType(InjectedJMSContext.class);
         bbd.addAnnotatedType(contextBean, JMSCDIExtension.class.getName() + "-" + InjectedJMSContext.class.getName());
     }
+
+    private void beforeShutdown(@Observes BeforeShutdown bs) {
+        // the pooled contexts must not outlive the deployment
+        pool.close();
+    }
+
+    /**
+     * Returns the pool of the JMSContexts of this deployment.
+     */
+    JMSContextPool getPool() {
+        return pool;
+    }
 }
@@ -0,0 +1,243 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2023, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.wildfly.extension.messaging.activemq.deployment.injection;
+
+import static org.wildfly.extension.messaging.activemq.logging.MessagingLogger.ROOT_LOGGER;
+
+import java.util.Deque;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import jakarta.jms.ConnectionFactory;
+import jakarta.jms.JMSContext;
+import jakarta.jms.JMSRuntimeException;
+
+/**
+ * Pool of the JMSContexts backing injected JMSContexts outside of a transaction.
+ *
+ * Closing a request scoped JMSContext and creating a new one for the next request costs a session creation
+ * on the connection factory. When enabled by setting the {@value #POOL_SIZE_PROPERTY} system property, contexts
+ * that were only used to produce messages are kept idle at the end of the request scope and reused by later requests
+ * with the same connection factory, credentials and session mode.
+ * As each idle context holds a connection of the pooled connection factory, the pool size should remain well below
+ * the maximum size of the connection pool.
+ *
+ * A pool belongs to the {@link JMSCDIExtension} of a deployment and is closed, along with its idle contexts, when the
+ * Jakarta Contexts and Dependency Injection container of the deployment shuts down. At most {@value #MAX_POOLS} distinct
+ * combinations of connection factory, credentials and session mode are pooled, contexts for any other combination are
+ * created and closed as if the pool was disabled.
+ */
+public final class JMSContextPool {
+
+    static final String POOL_SIZE_PROPERTY = "org.wildfly.messaging.injected-jms-context.pool-size";
+
+    // Bounds the number of idle contexts kept by a deployment regardless of how many credentials and session modes it uses
+    static final int MAX_POOLS = 16;
+
+    // Metrics are aggregated over the pools of all deployments
+    private static final LongAdder CHECKOUTS = new LongAdder();
+    private static final LongAdder REUSES = new LongAdder();
+    private static final LongAdder CHECKOUT_WAIT = new LongAdder();
+    private static final LongAccumulator MAX_CHECKOUT_WAIT = new LongAccumulator(Math::max, 0L);
+
+    private final int maxIdle;
+    private final Map<Key, Pool> pools = new ConcurrentHashMap<>();
+    private final LongAdder reuses = new LongAdder();
+    private volatile boolean closed;
+
+    JMSContextPool() {
+        this(Integer.getInteger(POOL_SIZE_PROPERTY, 0));
+    }
+
+    JMSContextPool(int maxIdle) {
+        this.maxIdle = maxIdle;
+    }
+
+    /**
+     * Whether contexts created with the given metadata can be pooled.
+     * Transacted sessions are never pooled, their lifecycle is bound to the transaction.
+     */
+    boolean isEnabledFor(JMSInfo info) {
+        return maxIdle > 0 && !closed && info.getSessionMode() != JMSContext.SESSION_TRANSACTED;
+    }
+
+    /**
+     * Returns an idle context for the given connection factory and metadata, or creates a new one if none is idle.
+     * Closing the returned context returns it to the pool.
+     */
+    JMSContext checkout(JMSInfo info, ConnectionFactory connectionFactory, ContextFactory factory) {
+        long start = System.nanoTime();
+        Key key = new Key(connectionFactory, info);
+        Pool pool = pools.get(key);
+        if (pool == null && !closed && pools.size() < MAX_POOLS) {
+            pool = pools.computeIfAbsent(key, k -> new Pool());
+        }
+        JMSContext context = (pool != null) ? pool.poll() : null;
+        if (context != null) {
+            reuses.increment();
+            REUSES.increment();
+        } else {
+            context = factory.createContext(info, connectionFactory);
+        }
+        long elapsed = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start);
+        CHECKOUTS.increment();
+        CHECKOUT_WAIT.add(elapsed);
+        MAX_CHECKOUT_WAIT.accumulate(elapsed);
+        return (pool != null) ? new PooledJMSContext(context, pool) : context;
+    }
+
+    /**
+     * Closes the idle contexts and stops pooling. Contexts checked out at this time are closed when they are released.
+     */
+    void close() {
+        closed = true;
+        for (Pool pool : pools.values()) {
+            pool.clear();
+        }
+        pools.clear();
+    }
+
+    /**
+     * Number of contexts checked out from the pool, whether reused or newly created.
+     */
+    public static long getCheckoutCount() {
+        return CHECKOUTS.sum();
+    }
+
+    /**
+     * Fraction of the checked out contexts that were reused from the pool.
+     */
+    public static double getReuseRatio() {
+        long checkouts = CHECKOUTS.sum();
+        return (checkouts > 0) ? (double) REUSES.sum() / checkouts : 0d;
+    }
+
+    /**
+     * Average time it took to check out a context, in microseconds.
+     */
+    public static long getCheckoutWaitAverage() {
+        long checkouts = CHECKOUTS.sum();
+        return (checkouts > 0) ? CHECKOUT_WAIT.sum() / checkouts : 0L;
+    }
+
+    /**
+     * Maximum time it took to check out a context, in microseconds.
+     */
+    public static long getCheckoutWaitMax() {
+        return MAX_CHECKOUT_WAIT.get();
+    }
+
+    long getReuseCount() {
+        return reuses.sum();
+    }
+
+    int getPoolCount() {
+        return pools.size();
+    }
+
+    interface ContextFactory {
+        JMSContext createContext(JMSInfo info, ConnectionFactory connectionFactory);
+    }
+
+    final class Pool {
+        private final Deque<JMSContext> idle = new ConcurrentLinkedDeque<>();
+        private final AtomicInteger size = new AtomicInteger();
+
+        JMSContext poll() {
+            JMSContext context = idle.pollFirst();
+            while (context != null) {
+                size.decrementAndGet();
+                try {
+                    // Throws if the underlying connection was closed while the context was idle
+                    context.getMetaData();
+                    return context;
+                } catch (JMSRuntimeException e) {
+                    ROOT_LOGGER.debugf(e, "Discarding invalid pooled JMSContext %s", context);
+                    close(context);
+                }
+                context = idle.pollFirst();
+            }
+            return null;
+        }
+
+        void release(JMSContext context) {
+            if (closed) {
+                close(context);
+            } else if (size.incrementAndGet() > maxIdle) {
+                size.decrementAndGet();
+                close(context);
+            } else {
+                idle.offerFirst(context);
+                // The pool may have been closed concurrently, after the check above
+                if (closed) {
+                    clear();
+                }
+            }
+        }
+
+        void clear() {
+            JMSContext context = idle.pollFirst();
+            while (context != null) {
+                size.decrementAndGet();
+                close(context);
+                context = idle.pollFirst();
+            }
+        }
+
+        private void close(JMSContext context) {
+            try {
+                context.close();
+            } catch (JMSRuntimeException e) {
+                ROOT_LOGGER.debugf(e, "Failed to close pooled JMSContext %s", context);
+            }
+        }
+    }
+
+    private static final class Key {
+        private final ConnectionFactory connectionFactory;
+        private final JMSInfo info;
+
+        Key(ConnectionFactory connectionFactory, JMSInfo info) {
+            this.connectionFactory = connectionFactory;
+            this.info = info;
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if (!(object instanceof Key)) return false;
+            Key key = (Key) object;
+            // The same lookup name may resolve to different connection factories in different components
+            return connectionFactory == key.connectionFactory && info.equals(key.info);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(connectionFactory) + Objects.hashCode(info);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2023, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.wildfly.extension.messaging.activemq.deployment.injection;
+
+import jakarta.jms.Destination;
+import jakarta.jms.JMSConsumer;
+import jakarta.jms.JMSContext;
+import jakarta.jms.Queue;
+import jakarta.jms.QueueBrowser;
+import jakarta.jms.TemporaryQueue;
+import jakarta.jms.TemporaryTopic;
+import jakarta.jms.Topic;
+
+/**
+ * JMSContext checked out from a {@link JMSContextPool}.
+ *
+ * Closing it returns the underlying context to the pool, unless it was used for anything that leaves state
+ * behind on its session (consumers, browsers, temporary destinations or child contexts), in which case it is closed.
+ */
+class PooledJMSContext extends JMSContextWrapper {
+
+    private final JMSContext context;
+    private final JMSContextPool.Pool pool;
+    private volatile boolean reusable = true;
+
+    PooledJMSContext(JMSContext context, JMSContextPool.Pool pool) {
+        this.context = context;
+        this.pool = pool;
+    }
+
+    @Override
+    JMSContext getDelegate() {
+        return context;
+    }
+
+    @Override
+    public void close() {
+        if (reusable) {
+            pool.release(context);
+        } else {
+            context.close();
+        }
+    }
+
+    @Override
+    public JMSConsumer createConsumer(Destination destination) {
+        reusable = false;
+        return context.createConsumer(destination);
+    }
+
+    @Override
+    public JMSConsumer createConsumer(Destination destination, String messageSelector) {
+        reusable = false;
+        return context.createConsumer(destination, messageSelector);
+    }
+
+    @Override
+    public JMSConsumer createConsumer(Destination destination, String messageSelector, boolean noLocal) {
+        reusable = false;
+        return context.createConsumer(destination, messageSelector, noLocal);
+    }
+
+    @Override
+    public JMSConsumer createDurableConsumer(Topic topic, String name) {
+        reusable = false;
+        return context.createDurableConsumer(topic, name);
+    }
+
+    @Override
+    public JMSConsumer createDurableConsumer(Topic topic, String name, String messageSelector, boolean noLocal) {
+        reusable = false;
+        return context.createDurableConsumer(topic, name, messageSelector, noLocal);
+    }
+
+    @Override
+    public JMSConsumer createSharedDurableConsumer(Topic topic, String name) {
+        reusable = false;
+        return context.createSharedDurableConsumer(topic, name);
+    }
+
+    @Override
+    public JMSConsumer createSharedDurableConsumer(Topic topic, String name, String messageSelector) {
+        reusable = false;
+        return context.createSharedDurableConsumer(topic, name, messageSelector);
+    }
+
+    @Override
+    public JMSConsumer createSharedConsumer(Topic topic, String sharedSubscriptionName) {
+        reusable = false;
+        return context.createSharedConsumer(topic, sharedSubscriptionName);
+    }
+
+    @Override
+    public JMSConsumer createSharedConsumer(Topic topic, String sharedSubscriptionName, String messageSelector) {
+        reusable = false;
+        return context.createSharedConsumer(topic, sharedSubscriptionName, messageSelector);
+    }
+
+    @Override
+    public QueueBrowser createBrowser(Queue queue) {
+        reusable = false;
+        return context.createBrowser(queue);
+    }
+
+    @Override
+    public QueueBrowser createBrowser(Queue queue, String messageSelector) {
+        reusable = false;
+        return context.createBrowser(queue, messageSelector);
+    }
+
+    @Override
+    public TemporaryQueue createTemporaryQueue() {
+        reusable = false;
+        return context.createTemporaryQueue();
+    }
+
+    @Override
+    public TemporaryTopic createTemporaryTopic() {
+        reusable = false;
+        return context.createTemporaryTopic();
+    }
+
+    @Override
+    public JMSContext createContext(int sessionMode) {
+        reusable = false;
+        return context.createContext(sessionMode);
+    }
+}
@@ -24,6 +24,9 @@ package org.wildfly.extension.messaging.activemq.deployment.injection;
 
 import jakarta.annotation.PreDestroy;
 import jakarta.enterprise.context.RequestScoped;
+import jakarta.inject.Inject;
+import jakarta.jms.ConnectionFactory;
+import jakarta.jms.JMSContext;
 
 /**
  * Injection of JMSContext in the @RequestScoped scope.
@@ -33,6 +36,15 @@ import jakarta.enterprise.context.RequestScoped;
 @RequestScoped
 class RequestedJMSContext extends AbstractJMSContext {
 
+    @Inject
+    private transient JMSCDIExtension extension;
+
+    @Override
+    JMSContext createContext(JMSInfo info, ConnectionFactory connectionFactory) {
+        JMSContextPool pool = extension.getPool();
+        return pool.isEnabledFor(info) ? pool.checkout(info, connectionFactory, super::createContext) : super.createContext(info, connectionFactory);
+    }
+
     @PreDestroy
     @Override
     void cleanUp() {
@@ -0,0 +1,167 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2023, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.wildfly.extension.messaging.activemq.deployment.injection;
+
+import jakarta.jms.ConnectionFactory;
+import jakarta.jms.IllegalStateRuntimeException;
+import jakarta.jms.JMSContext;
+import jakarta.jms.Queue;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+/**
+ * Test class for JMSContextPool.
+ */
+public class JMSContextPoolTestCase {
+
+    private final ConnectionFactory connectionFactory = Mockito.mock(ConnectionFactory.class);
+    private final JMSInfo info = new JMSInfo(null, null, null);
+
+    private final JMSContextPool.ContextFactory factory = (info, connectionFactory) -> connectionFactory.createContext(info.getSessionMode());
+
+    @Test
+    public void testDisabled() {
+        Assert.assertFalse(new JMSContextPool(0).isEnabledFor(info));
+    }
+
+    @Test
+    public void testTransactedSessionsAreNotPooled() {
+        JMSInfo transacted = Mockito.mock(JMSInfo.class);
+        Mockito.when(transacted.getSessionMode()).thenReturn(JMSContext.SESSION_TRANSACTED);
+        Assert.assertFalse(new JMSContextPool(1).isEnabledFor(transacted));
+        Assert.assertTrue(new JMSContextPool(1).isEnabledFor(info));
+    }
+
+    @Test
+    public void testReuse() {
+        JMSContext context = Mockito.mock(JMSContext.class);
+        Mockito.when(connectionFactory.createContext(JMSContext.AUTO_ACKNOWLEDGE)).thenReturn(context);
+        JMSContextPool pool = new JMSContextPool(1);
+
+        JMSContext first = pool.checkout(info, connectionFactory, factory);
+        first.createProducer();
+        first.close();
+        Mockito.verify(context, Mockito.never()).close();
+
+        JMSContext second = pool.checkout(info, connectionFactory, factory);
+        Assert.assertSame(context, ((PooledJMSContext) second).getDelegate());
+        Assert.assertEquals(1, pool.getReuseCount());
+        Mockito.verify(connectionFactory, Mockito.times(1)).createContext(JMSContext.AUTO_ACKNOWLEDGE);
+    }
+
+    @Test
+    public void testMaxIdle() {
+        JMSContext context1 = Mockito.mock(JMSContext.class);
+        JMSContext context2 = Mockito.mock(JMSContext.class);
+        Mockito.when(connectionFactory.createContext(JMSContext.AUTO_ACKNOWLEDGE)).thenReturn(context1, context2);
+        JMSContextPool pool = new JMSContextPool(1);
+
+        JMSContext first = pool.checkout(info, connectionFactory, factory);
+        JMSContext second = pool.checkout(info, connectionFactory, factory);
+        first.close();
+        second.close();
+
+        Mockito.verify(context1, Mockito.never()).close();
+        Mockito.verify(context2).close();
+    }
+
+    @Test
+    public void testContextWithConsumerIsNotReused() {
+        JMSContext context = Mockito.mock(JMSContext.class);
+        Mockito.when(connectionFactory.createContext(JMSContext.AUTO_ACKNOWLEDGE)).thenReturn(context, Mockito.mock(JMSContext.class));
+        JMSContextPool pool = new JMSContextPool(1);
+
+        JMSContext first = pool.checkout(info, connectionFactory, factory);
+        first.createConsumer(Mockito.mock(Queue.class));
+        first.close();
+        Mockito.verify(context).close();
+
+        pool.checkout(info, connectionFactory, factory);
+        Assert.assertEquals(0, pool.getReuseCount());
+    }
+
+    @Test
+    public void testInvalidContextIsDiscarded() {
+        JMSContext context = Mockito.mock(JMSContext.class);
+        Mockito.when(connectionFactory.createContext(JMSContext.AUTO_ACKNOWLEDGE)).thenReturn(context, Mockito.mock(JMSContext.class));
+        JMSContextPool pool = new JMSContextPool(1);
+
+        pool.checkout(info, connectionFactory, factory).close();
+        Mockito.when(context.getMetaData()).thenThrow(new IllegalStateRuntimeException("closed"));
+
+        JMSContext second = pool.checkout(info, connectionFactory, factory);
+        Assert.assertNotSame(context, ((PooledJMSContext) second).getDelegate());
+        Mockito.verify(context).close();
+        Assert.assertEquals(0, pool.getReuseCount());
+    }
+
+    @Test
+    public void testCloseClosesIdleContexts() {
+        JMSContext context1 = Mockito.mock(JMSContext.class);
+        JMSContext context2 = Mockito.mock(JMSContext.class);
+        Mockito.when(connectionFactory.createContext(JMSContext.AUTO_ACKNOWLEDGE)).thenReturn(context1, context2);
+        JMSContextPool pool = new JMSContextPool(1);
+
+        pool.checkout(info, connectionFactory, factory).close();
+        JMSContext inUse = pool.checkout(info, connectionFactory, factory);
+        Assert.assertSame(context1, ((PooledJMSContext) inUse).getDelegate());
+        inUse.close();
+        Mockito.verify(context1, Mockito.never()).close();
+
+        JMSContext checkedOut = pool.checkout(info, connectionFactory, factory);
+        pool.close();
+        Assert.assertEquals(0, pool.getPoolCount());
+        Assert.assertFalse(pool.isEnabledFor(info));
+
+        // A context checked out before the pool was closed is closed when released
+        checkedOut.close();
+        Mockito.verify(context1).close();
+
+        // Idle contexts are closed with the pool
+        JMSContextPool other = new JMSContextPool(1);
+        other.checkout(info, connectionFactory, factory).close();
+        Mockito.verify(context2, Mockito.never()).close();
+        other.close();
+        Mockito.verify(context2).close();
+    }
+
+    @Test
+    public void testMaxPools() {
+        Mockito.when(connectionFactory.createContext(JMSContext.AUTO_ACKNOWLEDGE)).thenAnswer(invocation -> Mockito.mock(JMSContext.class));
+        JMSContextPool pool = new JMSContextPool(1);
+
+        for (int i = 0; i < JMSContextPool.MAX_POOLS; ++i) {
+            JMSContext context = pool.checkout(info, Mockito.mock(ConnectionFactory.class), factory);
+            Assert.assertTrue(context instanceof PooledJMSContext);
+        }
+        Assert.assertEquals(JMSContextPool.MAX_POOLS, pool.getPoolCount());
+
+        // Contexts for any other connection factory, credentials or session mode are not pooled
+        JMSContext context = pool.checkout(info, connectionFactory, factory);
+        Assert.assertFalse(context instanceof PooledJMSContext);
+        context.close();
+        Mockito.verify(context).close();
+        Assert.assertEquals(JMSContextPool.MAX_POOLS, pool.getPoolCount());
+    }
+}
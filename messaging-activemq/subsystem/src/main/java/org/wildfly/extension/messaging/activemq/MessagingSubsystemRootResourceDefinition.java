@@ -24,6 +24,7 @@ package org.wildfly.extension.messaging.activemq;
 import static org.jboss.as.controller.SimpleAttributeDefinitionBuilder.create;
 import static org.jboss.as.controller.registry.AttributeAccess.Flag.COUNTER_METRIC;
 import static org.jboss.as.controller.registry.AttributeAccess.Flag.GAUGE_METRIC;
+import static org.jboss.dmr.ModelType.DOUBLE;
 import static org.jboss.dmr.ModelType.INT;
 import static org.jboss.dmr.ModelType.LONG;
 
@@ -48,6 +49,7 @@ import org.jboss.as.controller.client.helpers.MeasurementUnit;
 import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.dmr.ModelNode;
+import org.wildfly.extension.messaging.activemq.deployment.injection.JMSContextPool;
 
 /**
  * {@link org.jboss.as.controller.ResourceDefinition} for the messaging subsystem root resource.
@@ -56,6 +58,7 @@ import org.jboss.dmr.ModelNode;
  */
 public class MessagingSubsystemRootResourceDefinition extends PersistentResourceDefinition {
     private static final String GLOBAL_CLIENT_PREFIX = "global-client-thread-pool-";
+    private static final String INJECTED_JMS_CONTEXT_POOL_PREFIX = "injected-jms-context-pool-";
     private static final String GLOBAL_CLIENT_SCHEDULED_PREFIX = "global-client-scheduled-thread-pool-";
 
     public static final RuntimeCapability<Void> CONFIGURATION_CAPABILITY = RuntimeCapability.Builder.of("org.wildfly.messaging.activemq.external.configuration", false)
@@ -150,6 +153,32 @@ public class MessagingSubsystemRootResourceDefinition extends PersistentResource
             .setMeasurementUnit(MeasurementUnit.NANOSECONDS)
             .build();
 
+    public static final SimpleAttributeDefinition INJECTED_JMS_CONTEXT_POOL_CHECKOUT_COUNT = create(INJECTED_JMS_CONTEXT_POOL_PREFIX + "checkout-count", LONG)
+            .setAttributeGroup("injected-jms-context-pool")
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .addFlag(COUNTER_METRIC)
+            .build();
+
+    public static final SimpleAttributeDefinition INJECTED_JMS_CONTEXT_POOL_REUSE_RATIO = create(INJECTED_JMS_CONTEXT_POOL_PREFIX + "reuse-ratio", DOUBLE)
+            .setAttributeGroup("injected-jms-context-pool")
+            .setUndefinedMetricValue(new ModelNode(0d))
+            .addFlag(GAUGE_METRIC)
+            .build();
+
+    public static final SimpleAttributeDefinition INJECTED_JMS_CONTEXT_POOL_CHECKOUT_WAIT_AVERAGE = create(INJECTED_JMS_CONTEXT_POOL_PREFIX + "checkout-wait-average", LONG)
+            .setAttributeGroup("injected-jms-context-pool")
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setMeasurementUnit(MeasurementUnit.MICROSECONDS)
+            .addFlag(GAUGE_METRIC)
+            .build();
+
+    public static final SimpleAttributeDefinition INJECTED_JMS_CONTEXT_POOL_CHECKOUT_WAIT_MAX = create(INJECTED_JMS_CONTEXT_POOL_PREFIX + "checkout-wait-max", LONG)
+            .setAttributeGroup("injected-jms-context-pool")
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setMeasurementUnit(MeasurementUnit.MICROSECONDS)
+            .addFlag(GAUGE_METRIC)
+            .build();
+
     public static final AttributeDefinition[] ATTRIBUTES = {
         GLOBAL_CLIENT_THREAD_POOL_MAX_SIZE,
         GLOBAL_CLIENT_SCHEDULED_THREAD_POOL_MAX_SIZE
@@ -161,6 +190,10 @@ public class MessagingSubsystemRootResourceDefinition extends PersistentResource
         GLOBAL_CLIENT_SCHEDULED_THREAD_POOL_CURRENT_THREAD_COUNT, GLOBAL_CLIENT_SCHEDULED_THREAD_POOL_LARGEST_THREAD_COUNT,
         GLOBAL_CLIENT_SCHEDULED_THREAD_POOL_TASK_COUNT, GLOBAL_CLIENT_SCHEDULED_THREAD_POOL_KEEPALIVE_TIME
     };
+    private static final AttributeDefinition[] INJECTED_JMS_CONTEXT_POOL_METRICS = {
+        INJECTED_JMS_CONTEXT_POOL_CHECKOUT_COUNT, INJECTED_JMS_CONTEXT_POOL_REUSE_RATIO,
+        INJECTED_JMS_CONTEXT_POOL_CHECKOUT_WAIT_AVERAGE, INJECTED_JMS_CONTEXT_POOL_CHECKOUT_WAIT_MAX
+    };
 
     MessagingSubsystemRootResourceDefinition(BiConsumer<OperationContext, String> broadcastCommandDispatcherFactoryInstaller) {
         super(new SimpleResourceDefinition.Parameters(MessagingExtension.SUBSYSTEM_PATH,
@@ -176,6 +209,9 @@ public class MessagingSubsystemRootResourceDefinition extends PersistentResource
         for (AttributeDefinition metric : METRICS) {
             resourceRegistration.registerMetric(metric, ClientThreadPoolMetricReader.INSTANCE);
         }
+        for (AttributeDefinition metric : INJECTED_JMS_CONTEXT_POOL_METRICS) {
+            resourceRegistration.registerMetric(metric, JMSContextPoolMetricReader.INSTANCE);
+        }
     }
 
     @Override
@@ -226,4 +262,31 @@ public class MessagingSubsystemRootResourceDefinition extends PersistentResource
         }
     }
 
+    private static final class JMSContextPoolMetricReader implements OperationStepHandler {
+
+        private static final JMSContextPoolMetricReader INSTANCE = new JMSContextPoolMetricReader();
+
+        @Override
+        public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+            final String attributeName = operation.require(ModelDescriptionConstants.NAME).asString();
+            String metric = attributeName.substring(INJECTED_JMS_CONTEXT_POOL_PREFIX.length());
+            switch (metric) {
+                case "checkout-count":
+                    context.getResult().set(JMSContextPool.getCheckoutCount());
+                    break;
+                case "reuse-ratio":
+                    context.getResult().set(JMSContextPool.getReuseRatio());
+                    break;
+                case "checkout-wait-average":
+                    context.getResult().set(JMSContextPool.getCheckoutWaitAverage());
+                    break;
+                case "checkout-wait-max":
+                    context.getResult().set(JMSContextPool.getCheckoutWaitMax());
+                    break;
+                default:
+                    // Programming bug. Throw a RuntimeException, not OFE, as this is not a client error
+                    throw new IllegalArgumentException(metric);
+            }
+        }
+    }
 }
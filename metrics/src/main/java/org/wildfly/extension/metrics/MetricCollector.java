@@ -111,6 +111,7 @@ public class MetricCollector {
         }
 
         ModelNode resourceDescription = null;
+        ResourceMetricsReader resourceReader = null;
         for (Map.Entry<String, AttributeAccess> entry : attributes.entrySet()) {
             String attributeName = entry.getKey();
 
@@ -122,13 +123,15 @@ public class MetricCollector {
             if (resourceDescription == null) {
                 DescriptionProvider modelDescription = managementResourceRegistration.getModelDescription(address);
                 resourceDescription = modelDescription.getModelDescription(Locale.getDefault());
+                // all the metrics of the resource are read together
+                resourceReader = new ResourceMetricsReader(modelControllerClient, resourceAddressResolver.apply(address));
             }
-            PathAddress resourceAddress = resourceAddressResolver.apply(address);
+            PathAddress resourceAddress = resourceReader.getAddress();
             MeasurementUnit unit = attributeAccess.getAttributeDefinition().getMeasurementUnit();
             boolean isCounter = attributeAccess.getFlags().contains(AttributeAccess.Flag.COUNTER_METRIC);
             String attributeDescription = resourceDescription.get(ATTRIBUTES, attributeName, DESCRIPTION).asStringOrNull();
 
-            WildFlyMetric metric = new WildFlyMetric(modelControllerClient, resourceAddress, attributeName);
+            WildFlyMetric metric = new WildFlyMetric(resourceReader, attributeName);
             WildFlyMetricMetadata metadata = new WildFlyMetricMetadata(attributeName, resourceAddress, prefix, attributeDescription, unit, isCounter ? COUNTER : GAUGE);
 
             registration.addRegistrationTask(() -> registration.registerMetric(metric, metadata));
@@ -22,17 +22,31 @@
 
 package org.wildfly.extension.metrics;
 
+import static org.jboss.as.controller.PathAddress.EMPTY_ADDRESS;
+import static org.wildfly.extension.metrics.MetricMetadata.Type.GAUGE;
 import static org.wildfly.extension.metrics.MetricsSubsystemDefinition.HTTP_EXTENSIBILITY_CAPABILITY;
 import static org.wildfly.extension.metrics.MetricsSubsystemDefinition.METRICS_HTTP_CONTEXT_CAPABILITY;
 import static org.wildfly.extension.metrics.MetricsSubsystemDefinition.METRICS_HTTP_SECURITY_CAPABILITY;
 import static org.wildfly.extension.metrics.MetricsSubsystemDefinition.METRICS_REGISTRY_RUNTIME_CAPABILITY;
 
+import java.io.BufferedWriter;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.util.OptionalDouble;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
 
 import io.undertow.server.HttpHandler;
 import io.undertow.server.HttpServerExchange;
+import io.undertow.util.HeaderValues;
+import io.undertow.util.Headers;
 import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
 import org.jboss.as.server.mgmt.domain.ExtensibleHttpManagement;
 import org.jboss.msc.Service;
 import org.jboss.msc.service.ServiceBuilder;
@@ -46,6 +60,9 @@ import org.jboss.msc.service.StopContext;
 public class MetricsContextService implements Service {
 
     private static final String CONTEXT_NAME = "/metrics";
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+    private static final String GZIP = "gzip";
+    private static final int BUFFER_SIZE = 8192;
 
     private final Consumer<MetricsContextService> consumer;
     private final Supplier<ExtensibleHttpManagement> extensibleHttpManagement;
@@ -54,7 +71,13 @@ public class MetricsContextService implements Service {
     private final PrometheusExporter prometheusExporter = new PrometheusExporter();
     private HttpHandler overrideableMetricHandler;
 
-    static void install(OperationContext context, boolean securityEnabled) {
+    private final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+    private final MetricMetadata scrapeDurationMetadata;
+    private final MetricMetadata scrapeCpuTimeMetadata;
+    private volatile long lastScrapeDuration;
+    private volatile long lastScrapeCpuTime;
+
+    static void install(OperationContext context, boolean securityEnabled, String prefix) {
         ServiceBuilder<?> serviceBuilder = context.getServiceTarget().addService(METRICS_HTTP_CONTEXT_CAPABILITY.getCapabilityServiceName());
 
         Supplier<ExtensibleHttpManagement> extensibleHttpManagement = serviceBuilder.requires(context.getCapabilityServiceName(HTTP_EXTENSIBILITY_CAPABILITY, ExtensibleHttpManagement.class));
@@ -71,20 +94,29 @@ public class MetricsContextService implements Service {
                 }
             };
         }
-        Service metricsContextService = new MetricsContextService(metricsContext, extensibleHttpManagement, wildflyMetricRegistry, securityEnabledSupplier);
+        Service metricsContextService = new MetricsContextService(metricsContext, extensibleHttpManagement, wildflyMetricRegistry, securityEnabledSupplier, prefix);
 
         serviceBuilder.setInstance(metricsContextService)
                 .install();
     }
-    public MetricsContextService(Consumer<MetricsContextService> consumer, Supplier<ExtensibleHttpManagement> extensibleHttpManagement, Supplier<WildFlyMetricRegistry> wildflyMetricRegistry, Supplier<Boolean> securityEnabledSupplier) {
+    public MetricsContextService(Consumer<MetricsContextService> consumer, Supplier<ExtensibleHttpManagement> extensibleHttpManagement, Supplier<WildFlyMetricRegistry> wildflyMetricRegistry, Supplier<Boolean> securityEnabledSupplier, String prefix) {
         this.consumer = consumer;
         this.extensibleHttpManagement = extensibleHttpManagement;
         this.wildflyMetricRegistry = wildflyMetricRegistry;
         this.securityEnabledSupplier = securityEnabledSupplier;
+        this.scrapeDurationMetadata = new WildFlyMetricMetadata("metrics-scrape-duration", EMPTY_ADDRESS, prefix,
+                "Time spent collecting and exporting the metrics during the last scrape.", MeasurementUnit.NANOSECONDS, GAUGE);
+        this.scrapeCpuTimeMetadata = new WildFlyMetricMetadata("metrics-scrape-cpu-time", EMPTY_ADDRESS, prefix,
+                "CPU time spent collecting and exporting the metrics during the last scrape.", MeasurementUnit.NANOSECONDS, GAUGE);
     }
 
     @Override
     public void start(StartContext context) {
+        WildFlyMetricRegistry registry = wildflyMetricRegistry.get();
+        registry.registerMetric(() -> OptionalDouble.of(lastScrapeDuration), scrapeDurationMetadata);
+        if (threadMXBean.isCurrentThreadCpuTimeSupported()) {
+            registry.registerMetric(() -> OptionalDouble.of(lastScrapeCpuTime), scrapeCpuTimeMetadata);
+        }
         extensibleHttpManagement.get().addManagementHandler(CONTEXT_NAME, securityEnabledSupplier.get(), new HttpHandler() {
             @Override
             public void handleRequest(HttpServerExchange exchange) throws Exception {
@@ -93,14 +125,27 @@ public class MetricsContextService implements Service {
                     return;
                 }
 
+                // the metrics are streamed to the response
+                if (exchange.isInIoThread()) {
+                    exchange.dispatch(this);
+                    return;
+                }
+                exchange.startBlocking();
+                exchange.getResponseHeaders().put(Headers.CONTENT_TYPE, CONTENT_TYPE);
+                OutputStream output = exchange.getOutputStream();
+                if (acceptsGzip(exchange)) {
+                    exchange.getResponseHeaders().put(Headers.CONTENT_ENCODING, GZIP);
+                    output = new GZIPOutputStream(output, BUFFER_SIZE);
+                }
+
                 WildFlyMetricRegistry metricRegistry = wildflyMetricRegistry.get();
-                metricRegistry.readLock();
-                try {
-                    String wildFlyMetrics = prometheusExporter.export(metricRegistry);
-                    exchange.getResponseSender().send(wildFlyMetrics);
-                } finally {
-                    metricRegistry.unlock();
+                long start = System.nanoTime();
+                long cpuStart = getCurrentThreadCpuTime();
+                try (Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8), BUFFER_SIZE)) {
+                    prometheusExporter.export(metricRegistry, writer);
                 }
+                lastScrapeCpuTime = getCurrentThreadCpuTime() - cpuStart;
+                lastScrapeDuration = System.nanoTime() - start;
             }
         });
         consumer.accept(this);
@@ -109,9 +154,33 @@ public class MetricsContextService implements Service {
     @Override
     public void stop(StopContext context) {
         extensibleHttpManagement.get().removeContext(CONTEXT_NAME);
+        WildFlyMetricRegistry registry = wildflyMetricRegistry.get();
+        registry.unregister(scrapeDurationMetadata.getMetricID());
+        registry.unregister(scrapeCpuTimeMetadata.getMetricID());
         consumer.accept(null);
     }
 
+    private static boolean acceptsGzip(HttpServerExchange exchange) {
+        HeaderValues acceptEncoding = exchange.getRequestHeaders().get(Headers.ACCEPT_ENCODING);
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String value : acceptEncoding) {
+            for (String coding : value.split(",")) {
+                String[] parameters = coding.split(";");
+                if (GZIP.equalsIgnoreCase(parameters[0].trim())) {
+                    // gzip;q=0 means that gzip is not acceptable
+                    return parameters.length == 1 || !parameters[1].replace(" ", "").matches("q=0(\\.0*)?");
+                }
+            }
+        }
+        return false;
+    }
+
+    private long getCurrentThreadCpuTime() {
+        return threadMXBean.isCurrentThreadCpuTimeSupported() ? threadMXBean.getCurrentThreadCpuTime() : 0;
+    }
+
     public void setOverrideableMetricHandler(HttpHandler handler) {
         this.overrideableMetricHandler = handler;
     }
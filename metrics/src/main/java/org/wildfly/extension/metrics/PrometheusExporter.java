@@ -21,10 +21,15 @@
  */
 package org.wildfly.extension.metrics;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.OptionalDouble;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.jboss.as.controller.client.helpers.MeasurementUnit;
 import org.wildfly.extension.metrics.MetricMetadata.MetricTag;
@@ -33,40 +38,82 @@ public class PrometheusExporter {
 
     private static final String LF = "\n";
 
+    // the HELP and TYPE lines of the exported metrics, keyed by metric name
+    private final Map<String, String> headers = new ConcurrentHashMap<>();
+    // the name and tags that start the sample line of the exported metrics
+    private final Map<MetricID, String> samples = new ConcurrentHashMap<>();
+
     public String export(WildFlyMetricRegistry registry) {
-        Set<String> alreadyExportedMetrics = new HashSet<String>();
+        StringWriter out = new StringWriter();
+        try {
+            export(registry, out);
+        } catch (IOException e) {
+            // not thrown by a StringWriter
+            throw new UncheckedIOException(e);
+        }
+        return out.toString();
+    }
 
-        StringBuilder out = new StringBuilder();
+    /**
+     * Writes the metrics of the registry to the given writer in the Prometheus text format.
+     *
+     * The HELP, TYPE and sample names of the metrics are rendered the first time they are exported and reused by
+     * the subsequent exports so that only the values are formatted for each scrape.
+     */
+    public void export(WildFlyMetricRegistry registry, Writer out) throws IOException {
+        Set<String> alreadyExportedMetrics = new HashSet<String>();
 
-        for (Map.Entry<MetricID, Metric> entry : registry.getMetrics().entrySet()) {
+        Map<MetricID, Metric> metrics = registry.getMetrics();
+        for (Map.Entry<MetricID, Metric> entry : metrics.entrySet()) {
             MetricID metricID = entry.getKey();
             String metricName = metricID.getMetricName();
             MetricMetadata metadata = registry.getMetricMetadata().get(metricName);
-            String prometheusMetricName = toPrometheusMetricName(metricID, metadata);
             OptionalDouble metricValue = entry.getValue().getValue();
             // if the metric does not return a value, we skip printing the HELP and TYPE
-            if (!metricValue.isPresent()) {
+            if (metadata == null || !metricValue.isPresent()) {
                 continue;
             }
-            if (!alreadyExportedMetrics.contains(metricName)) {
-                out.append("# HELP " + prometheusMetricName + " " + metadata.getDescription());
-                out.append(LF);
-                out.append("# TYPE " + prometheusMetricName + " " + metadata.getType());
-                out.append(LF);
-                alreadyExportedMetrics.add(metricName);
+            if (alreadyExportedMetrics.add(metricName)) {
+                String header = headers.get(metricName);
+                if (header == null) {
+                    header = toHeader(metricID, metadata);
+                    headers.put(metricName, header);
+                }
+                out.write(header);
             }
-            double scaledValue = scaleToBaseUnit(metricValue.getAsDouble(), metadata.getMeasurementUnit());
-            // I'm pretty sure this is incorrect but that aligns with smallrye-metrics OpenMetricsExporter behaviour
-            if (metadata.getType() == MetricMetadata.Type.COUNTER && metadata.getMeasurementUnit() != MeasurementUnit.NONE) {
-                prometheusMetricName += "_" + metadata.getBaseMetricUnit();
+            String sample = samples.get(metricID);
+            if (sample == null) {
+                sample = toSample(metricID, metadata);
+                samples.put(metricID, sample);
             }
-            out.append(prometheusMetricName + getTagsAsAString(metricID) + " " + scaledValue);
-            out.append(LF);
+            out.write(sample);
+            out.write(Double.toString(scaleToBaseUnit(metricValue.getAsDouble(), metadata.getMeasurementUnit())));
+            out.write(LF);
         }
 
-        return out.toString();
+        // forget the metrics that have been unregistered since they were rendered
+        if (samples.size() > metrics.size()) {
+            samples.keySet().retainAll(metrics.keySet());
+        }
+        if (headers.size() > alreadyExportedMetrics.size()) {
+            headers.keySet().retainAll(alreadyExportedMetrics);
+        }
+    }
+
+    private static String toHeader(MetricID metricID, MetricMetadata metadata) {
+        String prometheusMetricName = toPrometheusMetricName(metricID, metadata);
+        return "# HELP " + prometheusMetricName + " " + metadata.getDescription() + LF
+                + "# TYPE " + prometheusMetricName + " " + metadata.getType() + LF;
     }
 
+    private static String toSample(MetricID metricID, MetricMetadata metadata) {
+        String prometheusMetricName = toPrometheusMetricName(metricID, metadata);
+        // I'm pretty sure this is incorrect but that aligns with smallrye-metrics OpenMetricsExporter behaviour
+        if (metadata.getType() == MetricMetadata.Type.COUNTER && metadata.getMeasurementUnit() != MeasurementUnit.NONE) {
+            prometheusMetricName += "_" + metadata.getBaseMetricUnit();
+        }
+        return prometheusMetricName + getTagsAsAString(metricID) + " ";
+    }
     private static double scaleToBaseUnit(double value, MeasurementUnit unit) {
         return value * MeasurementUnit.calculateOffset(unit, unit.getBaseUnits());
     }
@@ -0,0 +1,173 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2023, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.wildfly.extension.metrics;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.COMPOSITE;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.FAILURE_DESCRIPTION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.INCLUDE_UNDEFINED_METRIC_VALUES;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.READ_ATTRIBUTE_OPERATION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RESULT;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.STEPS;
+import static org.wildfly.extension.metrics._private.MetricsLogger.LOGGER;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.as.controller.LocalModelControllerClient;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.dmr.ModelNode;
+
+/**
+ * Reads the metrics of a single management resource on behalf of all the {@link WildFlyMetric}s of that resource.
+ *
+ * Instead of running a {@code read-attribute} operation for every metric, the reader runs a single {@code composite}
+ * operation reading the metric attributes of the resource, and only those, and serves the values of all the resource's
+ * metrics from its result. The result is reused until one of the metrics is read a second time (i.e. by the next scrape)
+ * or, if the {@code org.wildfly.metrics.cache-ttl} system property is set, until it is older than that many milliseconds.
+ * If the composite operation fails, the metrics are read one by one until the result would have expired.
+ */
+public class ResourceMetricsReader {
+
+    private static final ModelNode UNDEFINED = new ModelNode();
+
+    // without a TTL, the result of a read-resource is never shared by the metrics for longer than a scrape can take
+    private static final long SCRAPE_WINDOW = TimeUnit.SECONDS.toNanos(1);
+    private static final long CACHE_TTL = TimeUnit.MILLISECONDS.toNanos(Long.getLong("org.wildfly.metrics.cache-ttl", 0));
+
+    static {
+        UNDEFINED.protect();
+    }
+
+    private final LocalModelControllerClient modelControllerClient;
+    private final PathAddress address;
+    // the metric attributes of the resource, in the order of the steps of the composite operation
+    private final List<String> attributes = new ArrayList<>();
+    // attributes served from the current values
+    private final Set<String> served = new HashSet<>();
+    // the values of the last read, or null if it failed
+    private ModelNode values;
+    private boolean read;
+    private long readTime;
+
+    public ResourceMetricsReader(LocalModelControllerClient modelControllerClient, PathAddress address) {
+        this.modelControllerClient = modelControllerClient;
+        this.address = address;
+    }
+
+    public PathAddress getAddress() {
+        return address;
+    }
+
+    synchronized void addAttribute(String attributeName) {
+        if (!attributes.contains(attributeName)) {
+            attributes.add(attributeName);
+            read = false;
+        }
+    }
+
+    public synchronized ModelNode readAttribute(String attributeName) {
+        long now = System.nanoTime();
+        if (!read || !isFresh(now - readTime, attributeName)) {
+            values = readAttributes();
+            read = true;
+            readTime = now;
+            served.clear();
+            served.add(attributeName);
+        }
+        if (values == null) {
+            // the attributes could not be read together, fall back to reading the attribute alone
+            return readAttributeValue(attributeName);
+        }
+        return values.has(attributeName) ? values.get(attributeName) : UNDEFINED;
+    }
+
+    private boolean isFresh(long age, String attributeName) {
+        if (age < CACHE_TTL) {
+            return true;
+        }
+        return age < SCRAPE_WINDOW && served.add(attributeName);
+    }
+
+    private ModelNode readAttributes() {
+        final ModelNode compositeOp = new ModelNode();
+        compositeOp.get(OP).set(COMPOSITE);
+        compositeOp.get(OP_ADDR).setEmptyList();
+        for (String attributeName : attributes) {
+            compositeOp.get(STEPS).add(createReadAttributeOperation(attributeName));
+        }
+        ModelNode response = modelControllerClient.execute(compositeOp);
+        String error = getFailureDescription(response);
+        if (error != null) {
+            LOGGER.debugf("Unable to read the metrics of resource %s: %s.", address, error);
+            // [WFLY-11933] none of the attributes can be read if the resource is not accessible
+            return error.contains("WFLYCTL0216") ? UNDEFINED : null;
+        }
+        ModelNode result = response.get(RESULT);
+        ModelNode attributeValues = new ModelNode();
+        for (int i = 0; i < attributes.size(); i++) {
+            ModelNode value = result.get("step-" + (i + 1), RESULT);
+            if (value.isDefined()) {
+                attributeValues.get(attributes.get(i)).set(value);
+            }
+        }
+        return attributeValues;
+    }
+
+    private ModelNode readAttributeValue(String attributeName) {
+        ModelNode response = modelControllerClient.execute(createReadAttributeOperation(attributeName));
+        String error = getFailureDescription(response);
+        // TODO: Revisit this handling
+        if (error != null) {
+            // [WFLY-11933] if the value can not be read if the management resource is not accessible due to RBAC,
+            // it is logged it at a lower level.
+            if (error.contains("WFLYCTL0216")) {
+                LOGGER.debugf("Unable to read attribute %s: %s.", attributeName, error);
+            } else{
+                LOGGER.unableToReadAttribute(attributeName, address, error);
+            }
+            return UNDEFINED;
+        }
+        return  response.get(RESULT);
+    }
+
+    private ModelNode createReadAttributeOperation(String attributeName) {
+        final ModelNode readAttributeOp = new ModelNode();
+        readAttributeOp.get(OP).set(READ_ATTRIBUTE_OPERATION);
+        readAttributeOp.get(OP_ADDR).set(address.toModelNode());
+        readAttributeOp.get(INCLUDE_UNDEFINED_METRIC_VALUES).set(false);
+        readAttributeOp.get(NAME).set(attributeName);
+        return readAttributeOp;
+    }
+
+    private static String getFailureDescription(ModelNode result) {
+        if (result.hasDefined(FAILURE_DESCRIPTION)) {
+            return result.get(FAILURE_DESCRIPTION).toString();
+        }
+        return null;
+    }
+}
@@ -24,9 +24,9 @@ package org.wildfly.extension.metrics;
 import static java.util.Objects.requireNonNull;
 
 import java.io.Closeable;
-import java.util.HashMap;
 import java.util.Map;
-import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
@@ -34,8 +34,9 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
 public class WildFlyMetricRegistry implements Closeable, MetricRegistry {
 
     /* Key is the metric name */
-    private Map<String, MetricMetadata> metadataMap = new HashMap();
-    private Map<MetricID, Metric> metricMap = new TreeMap<>();
+    private Map<String, MetricMetadata> metadataMap = new ConcurrentHashMap<>();
+    // concurrent maps so that the metrics can be exported without blocking their registration
+    private Map<MetricID, Metric> metricMap = new ConcurrentSkipListMap<>();
     private final ReadWriteLock lock = new ReentrantReadWriteLock();
 
 
@@ -0,0 +1,66 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2023, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.wildfly.extension.metrics;
+
+import static org.jboss.as.controller.PathAddress.EMPTY_ADDRESS;
+import static org.wildfly.extension.metrics.MetricMetadata.Type.COUNTER;
+import static org.wildfly.extension.metrics.MetricMetadata.Type.GAUGE;
+import static org.junit.Assert.assertEquals;
+
+import java.util.OptionalDouble;
+
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.PathElement;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
+import org.junit.Test;
+
+public class PrometheusExporterTestCase {
+
+    @Test
+    public void testExport() {
+        WildFlyMetricRegistry registry = new WildFlyMetricRegistry();
+        PathAddress deployment = PathAddress.pathAddress(PathElement.pathElement("deployment", "test.war"),
+                PathElement.pathElement("subsystem", "undertow"));
+        MetricMetadata requestCount = new WildFlyMetricMetadata("request-count", deployment, "wildfly", "Number of requests", MeasurementUnit.NONE, COUNTER);
+        MetricMetadata processingTime = new WildFlyMetricMetadata("processing-time", EMPTY_ADDRESS, null, "Processing time", MeasurementUnit.MILLISECONDS, GAUGE);
+        MetricMetadata undefined = new WildFlyMetricMetadata("undefined", EMPTY_ADDRESS, null, "Undefined", MeasurementUnit.NONE, GAUGE);
+        registry.registerMetric(() -> OptionalDouble.of(3), requestCount);
+        registry.registerMetric(() -> OptionalDouble.of(1500), processingTime);
+        registry.registerMetric(OptionalDouble::empty, undefined);
+
+        PrometheusExporter exporter = new PrometheusExporter();
+        String expected = "# HELP processing_time_seconds Processing time\n"
+                + "# TYPE processing_time_seconds gauge\n"
+                + "processing_time_seconds 1.5\n"
+                + "# HELP wildfly_undertow_request_count_total Number of requests\n"
+                + "# TYPE wildfly_undertow_request_count_total counter\n"
+                + "wildfly_undertow_request_count_total{deployment=\"test.war\",subdeployment=\"test.war\"} 3.0\n";
+        assertEquals(expected, exporter.export(registry));
+        // the rendered names are reused by the next scrapes
+        assertEquals(expected, exporter.export(registry));
+
+        registry.unregister(requestCount.getMetricID());
+        assertEquals("# HELP processing_time_seconds Processing time\n"
+                + "# TYPE processing_time_seconds gauge\n"
+                + "processing_time_seconds 1.5\n", exporter.export(registry));
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2023, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.wildfly.extension.metrics;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.COMPOSITE;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.FAILURE_DESCRIPTION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OUTCOME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.READ_ATTRIBUTE_OPERATION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RESULT;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.STEPS;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SUCCESS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalDouble;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jboss.as.controller.LocalModelControllerClient;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.PathElement;
+import org.jboss.dmr.ModelNode;
+import org.junit.Test;
+
+public class ResourceMetricsReaderTestCase {
+
+    private static final PathAddress ADDRESS = PathAddress.pathAddress(PathElement.pathElement("subsystem", "test"));
+
+    private final List<String> operations = new ArrayList<>();
+    private final AtomicLong counter = new AtomicLong();
+    private final List<String> compositeAttributes = new ArrayList<>();
+    private boolean failComposite;
+
+    @Test
+    public void testResourceIsReadOncePerScrape() {
+        ResourceMetricsReader reader = new ResourceMetricsReader(createClient(), ADDRESS);
+        WildFlyMetric count = new WildFlyMetric(reader, "count");
+        WildFlyMetric size = new WildFlyMetric(reader, "size");
+        WildFlyMetric missing = new WildFlyMetric(reader, "missing");
+
+        // first scrape
+        assertEquals(1, count.getValue().getAsDouble(), 0);
+        assertEquals(10, size.getValue().getAsDouble(), 0);
+        assertFalse(missing.getValue().isPresent());
+        assertEquals(List.of(COMPOSITE), operations);
+        // only the metric attributes are read
+        assertEquals(List.of("count", "size", "missing"), compositeAttributes);
+
+        // second scrape reads the resource again
+        assertEquals(2, count.getValue().getAsDouble(), 0);
+        assertEquals(20, size.getValue().getAsDouble(), 0);
+        assertEquals(List.of(COMPOSITE, COMPOSITE), operations);
+    }
+
+    @Test
+    public void testFallbackToReadAttribute() {
+        failComposite = true;
+        ResourceMetricsReader reader = new ResourceMetricsReader(createClient(), ADDRESS);
+        WildFlyMetric count = new WildFlyMetric(reader, "count");
+        WildFlyMetric size = new WildFlyMetric(reader, "size");
+
+        // first scrape
+        OptionalDouble value = count.getValue();
+        assertEquals(42, value.getAsDouble(), 0);
+        assertEquals(42, size.getValue().getAsDouble(), 0);
+        // the failure is reused by the other metrics of the scrape
+        assertEquals(List.of(COMPOSITE, READ_ATTRIBUTE_OPERATION, READ_ATTRIBUTE_OPERATION), operations);
+
+        // second scrape tries to read the attributes together again
+        operations.clear();
+        failComposite = false;
+        assertEquals(1, count.getValue().getAsDouble(), 0);
+        assertEquals(10, size.getValue().getAsDouble(), 0);
+        assertEquals(List.of(COMPOSITE), operations);
+    }
+
+    private LocalModelControllerClient createClient() {
+        return (LocalModelControllerClient) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {LocalModelControllerClient.class},
+                (proxy, method, args) -> {
+                    if (!method.getName().equals("execute") || !(args[0] instanceof ModelNode)) {
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                    return execute((ModelNode) args[0]);
+                });
+    }
+
+    private ModelNode execute(ModelNode operation) {
+        String name = operation.get(OP).asString();
+        operations.add(name);
+        ModelNode response = new ModelNode();
+        if (name.equals(COMPOSITE)) {
+            if (failComposite) {
+                response.get(FAILURE_DESCRIPTION).set("failed");
+                return response;
+            }
+            long value = counter.incrementAndGet();
+            List<ModelNode> steps = operation.get(STEPS).asList();
+            for (int i = 0; i < steps.size(); i++) {
+                ModelNode step = steps.get(i);
+                assertEquals(READ_ATTRIBUTE_OPERATION, step.get(OP).asString());
+                String attributeName = step.get(NAME).asString();
+                compositeAttributes.add(attributeName);
+                ModelNode stepResponse = response.get(RESULT, "step-" + (i + 1));
+                stepResponse.get(OUTCOME).set(SUCCESS);
+                if (attributeName.equals("count")) {
+                    stepResponse.get(RESULT).set(value);
+                } else if (attributeName.equals("size")) {
+                    stepResponse.get(RESULT).set(value * 10);
+                }
+            }
+        } else {
+            assertEquals(READ_ATTRIBUTE_OPERATION, name);
+            response.get(RESULT).set(42);
+        }
+        response.get(OUTCOME).set(SUCCESS);
+        return response;
+    }
+}
@@ -22,9 +22,19 @@
 package org.wildfly.extension.microprofile.health;
 
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import jakarta.json.Json;
 import jakarta.json.JsonArray;
@@ -58,6 +68,28 @@ public class MicroProfileHealthReporter {
 
     private boolean userChecksProcessed = false;
 
+    // runs the checks in parallel, or null to run them on the calling thread
+    private final ExecutorService executor;
+    private final long checkTimeout;
+    private final long cacheInterval;
+    // the checks that are still running, so that concurrent probes do not call them again
+    private final Map<HealthCheck, Future<JsonObject>> runningChecks = new ConcurrentHashMap<>();
+    private final Map<Probe, CachedHealth> cachedHealths = new ConcurrentHashMap<>();
+
+    private enum Probe {
+        HEALTH, LIVENESS, READINESS, STARTUP
+    }
+
+    private static class CachedHealth {
+        private final SmallRyeHealth health;
+        private final long expiration;
+
+        CachedHealth(SmallRyeHealth health, long expiration) {
+            this.health = health;
+            this.expiration = expiration;
+        }
+    }
+
     private static class EmptyDeploymentCheckStatus implements HealthCheck {
         private final String name;
         private final String status;
@@ -79,6 +111,22 @@ public class MicroProfileHealthReporter {
     public MicroProfileHealthReporter(String emptyLivenessChecksStatus, String emptyReadinessChecksStatus,
                                       String emptyStartupChecksStatus, boolean defaultServerProceduresDisabled,
                                       String defaultReadinessEmptyResponse, String defaultStartupEmptyResponse) {
+        this(emptyLivenessChecksStatus, emptyReadinessChecksStatus, emptyStartupChecksStatus, defaultServerProceduresDisabled,
+                defaultReadinessEmptyResponse, defaultStartupEmptyResponse, null, 0, 0);
+    }
+
+    /**
+     * @param executor the executor running the health checks in parallel, or {@code null} to run them sequentially on the calling thread
+     * @param checkTimeout the time in milliseconds after which a check that has not completed is reported as DOWN, or 0 to wait for all the checks
+     * @param cacheInterval the time in milliseconds during which the outcome of the checks is reused by subsequent probes, or 0 to disable caching
+     */
+    public MicroProfileHealthReporter(String emptyLivenessChecksStatus, String emptyReadinessChecksStatus,
+                                      String emptyStartupChecksStatus, boolean defaultServerProceduresDisabled,
+                                      String defaultReadinessEmptyResponse, String defaultStartupEmptyResponse,
+                                      ExecutorService executor, long checkTimeout, long cacheInterval) {
+        this.executor = executor;
+        this.checkTimeout = checkTimeout;
+        this.cacheInterval = cacheInterval;
         this.emptyDeploymentLivenessCheck  = new EmptyDeploymentCheckStatus("empty-liveness-checks", emptyLivenessChecksStatus);
         this.emptyDeploymentReadinessCheck  = new EmptyDeploymentCheckStatus("empty-readiness-checks", emptyReadinessChecksStatus);
         this.emptyDeploymentStartupCheck  = new EmptyDeploymentCheckStatus("empty-startup-checks", emptyStartupChecksStatus);
@@ -88,6 +136,10 @@ public class MicroProfileHealthReporter {
     }
 
     public SmallRyeHealth getHealth() {
+        return getCachedHealth(Probe.HEALTH);
+    }
+
+    private SmallRyeHealth computeHealth() {
         HashMap<HealthCheck, ClassLoader> deploymentChecks = new HashMap<>();
         deploymentChecks.putAll(healthChecks);
         deploymentChecks.putAll(livenessChecks);
@@ -106,6 +158,10 @@ public class MicroProfileHealthReporter {
     }
 
     public SmallRyeHealth getLiveness() {
+        return getCachedHealth(Probe.LIVENESS);
+    }
+
+    private SmallRyeHealth computeLiveness() {
         final Map<HealthCheck, ClassLoader> serverChecks;
         if (livenessChecks.size() == 0 && !defaultServerProceduresDisabled) {
             serverChecks = Collections.singletonMap(emptyDeploymentLivenessCheck, Thread.currentThread().getContextClassLoader());
@@ -116,6 +172,10 @@ public class MicroProfileHealthReporter {
     }
 
     public SmallRyeHealth getReadiness() {
+        return getCachedHealth(Probe.READINESS);
+    }
+
+    private SmallRyeHealth computeReadiness() {
         final Map<HealthCheck, ClassLoader> serverChecks = new HashMap<>();
         serverChecks.putAll(serverReadinessChecks);
         if (readinessChecks.size() == 0) {
@@ -132,6 +192,10 @@ public class MicroProfileHealthReporter {
     }
 
     public SmallRyeHealth getStartup() {
+        return getCachedHealth(Probe.STARTUP);
+    }
+
+    private SmallRyeHealth computeStartup() {
         Map<HealthCheck, ClassLoader> serverChecks = Collections.emptyMap();
         if (startupChecks.size() == 0) {
             if (defaultServerProceduresDisabled) {
@@ -146,6 +210,32 @@ public class MicroProfileHealthReporter {
         return getHealth(serverChecks, startupChecks);
     }
 
+    private SmallRyeHealth getCachedHealth(Probe probe) {
+        if (cacheInterval <= 0) {
+            return computeHealth(probe);
+        }
+        long now = System.nanoTime();
+        CachedHealth cached = cachedHealths.get(probe);
+        if (cached == null || now - cached.expiration >= 0) {
+            cached = new CachedHealth(computeHealth(probe), now + TimeUnit.MILLISECONDS.toNanos(cacheInterval));
+            cachedHealths.put(probe, cached);
+        }
+        return cached.health;
+    }
+
+    private SmallRyeHealth computeHealth(Probe probe) {
+        switch (probe) {
+            case LIVENESS:
+                return computeLiveness();
+            case READINESS:
+                return computeReadiness();
+            case STARTUP:
+                return computeStartup();
+            default:
+                return computeHealth();
+        }
+    }
+
     private SmallRyeHealth getHealth(Map<HealthCheck, ClassLoader> serverChecks, Map<HealthCheck, ClassLoader> deploymentChecks) {
         return getHealth(serverChecks, deploymentChecks, HealthCheckResponse.Status.UP);
     }
@@ -155,9 +245,12 @@ public class MicroProfileHealthReporter {
         JsonArrayBuilder results = Json.createArrayBuilder();
         HealthCheckResponse.Status status = defaultStatus;
 
-        status = processChecks(serverChecks, results, status);
-
-        status = processChecks(deploymentChecks, results, status);
+        // the server and deployment checks are processed together so that they can all run in parallel
+        Map<HealthCheck, ClassLoader> checks = new LinkedHashMap<>(serverChecks);
+        if (deploymentChecks != null) {
+            checks.putAll(deploymentChecks);
+        }
+        status = processChecks(checks, results, status);
 
         JsonObjectBuilder builder = Json.createObjectBuilder();
 
@@ -177,25 +270,97 @@ public class MicroProfileHealthReporter {
 
     private HealthCheckResponse.Status processChecks(Map<HealthCheck, ClassLoader> checks, JsonArrayBuilder results, HealthCheckResponse.Status status) {
         if (checks != null) {
-            for (Map.Entry<HealthCheck, ClassLoader> entry : checks.entrySet()) {
-                // use the classloader of the deployment's module instead of the TCCL (which is the server's ModuleClassLoader
-                // to ensure that any resources that checks the TCCL (such as MP Config) will use the correct one
-                // when the health checks are called.
-                final ClassLoader oldTCCL = Thread.currentThread().getContextClassLoader();
+            if (executor == null || (checks.size() <= 1 && checkTimeout <= 0)) {
+                for (Map.Entry<HealthCheck, ClassLoader> entry : checks.entrySet()) {
+                    status = fillCheck(call(entry.getKey(), entry.getValue()), results, status);
+                }
+            } else {
+                List<Map.Entry<HealthCheck, Future<JsonObject>>> calls = new ArrayList<>(checks.size());
+                for (Map.Entry<HealthCheck, ClassLoader> entry : checks.entrySet()) {
+                    calls.add(Map.entry(entry.getKey(), submit(entry.getKey(), entry.getValue())));
+                }
+                // the checks run concurrently so they all share the same deadline
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(checkTimeout);
+                for (Map.Entry<HealthCheck, Future<JsonObject>> call : calls) {
+                    status = fillCheck(await(call.getKey(), call.getValue(), deadline), results, status);
+                }
+            }
+        }
+
+        return status;
+    }
+
+    private Future<JsonObject> submit(HealthCheck check, ClassLoader classLoader) {
+        Future<JsonObject> running = runningChecks.get(check);
+        if (running != null) {
+            return running;
+        }
+        CompletableFuture<JsonObject> future = new CompletableFuture<>();
+        running = runningChecks.putIfAbsent(check, future);
+        if (running != null) {
+            return running;
+        }
+        try {
+            executor.execute(() -> {
                 try {
-                    Thread.currentThread().setContextClassLoader(entry.getValue());
-                    status = fillCheck(entry.getKey(), results, status);
+                    future.complete(call(check, classLoader));
+                } catch (Throwable t) {
+                    future.completeExceptionally(t);
                 } finally {
-                    Thread.currentThread().setContextClassLoader(oldTCCL);
+                    runningChecks.remove(check, future);
                 }
+            });
+        } catch (RuntimeException e) {
+            runningChecks.remove(check, future);
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    private JsonObject await(HealthCheck check, Future<JsonObject> future, long deadline) {
+        try {
+            if (checkTimeout <= 0) {
+                return future.get();
             }
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            MicroProfileHealthLogger.LOGGER.healthCheckTimedOut(name(check), checkTimeout);
+            return jsonObject(HealthCheckResponse.named(name(check)).down().build());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return jsonObject(HealthCheckResponse.named(name(check)).down().build());
+        } catch (ExecutionException e) {
+            MicroProfileHealthLogger.LOGGER.error("Error processing Health Checks", e.getCause());
+            return jsonObject(HealthCheckResponse.named(name(check)).down().build());
         }
+    }
 
-        return status;
+    private JsonObject call(HealthCheck check, ClassLoader classLoader) {
+        // use the classloader of the deployment's module instead of the TCCL (which is the server's ModuleClassLoader
+        // to ensure that any resources that checks the TCCL (such as MP Config) will use the correct one
+        // when the health checks are called.
+        final ClassLoader oldTCCL = Thread.currentThread().getContextClassLoader();
+        try {
+            Thread.currentThread().setContextClassLoader(classLoader);
+            return jsonObject(check);
+        } finally {
+            Thread.currentThread().setContextClassLoader(oldTCCL);
+        }
+    }
+
+    /**
+     * Returns the name reported for a check that did not return a response: the bean class of the check rather than the
+     * class of the Weld proxy, which is a synthetic subclass of the bean class.
+     */
+    static String name(HealthCheck check) {
+        Class<?> beanClass = check.getClass();
+        while (beanClass.isSynthetic() && beanClass.getSuperclass() != Object.class) {
+            beanClass = beanClass.getSuperclass();
+        }
+        return beanClass.getName();
     }
 
-    private HealthCheckResponse.Status fillCheck(HealthCheck check, JsonArrayBuilder results, HealthCheckResponse.Status globalOutcome) {
-        JsonObject each = jsonObject(check);
+    private HealthCheckResponse.Status fillCheck(JsonObject each, JsonArrayBuilder results, HealthCheckResponse.Status globalOutcome) {
         results.add(each);
         if (globalOutcome == HealthCheckResponse.Status.UP) {
             String status = each.getString("status");
@@ -213,7 +378,7 @@ public class MicroProfileHealthReporter {
             // Log Stacktrace to server log so an error is not just in Health Check response
             MicroProfileHealthLogger.LOGGER.error("Error processing Health Checks", e);
 
-            HealthCheckResponseBuilder response = HealthCheckResponse.named(check.getClass().getName()).down();
+            HealthCheckResponseBuilder response = HealthCheckResponse.named(name(check)).down();
 
             return jsonObject(response.build());
         }
@@ -244,50 +409,60 @@ public class MicroProfileHealthReporter {
     public void addHealthCheck(HealthCheck check, ClassLoader moduleClassLoader) {
         if (check != null) {
             healthChecks.put(check, moduleClassLoader);
+            cachedHealths.clear();
         }
     }
 
     public void removeHealthCheck(HealthCheck check) {
         healthChecks.remove(check);
+        cachedHealths.clear();
     }
 
     public void addReadinessCheck(HealthCheck check, ClassLoader moduleClassLoader) {
         if (check != null) {
             readinessChecks.put(check, moduleClassLoader);
+            cachedHealths.clear();
         }
     }
 
     public void addServerReadinessCheck(HealthCheck check, ClassLoader moduleClassLoader) {
         if (check != null) {
             serverReadinessChecks.put(check, moduleClassLoader);
+            cachedHealths.clear();
         }
     }
 
     public void removeReadinessCheck(HealthCheck check) {
         readinessChecks.remove(check);
+        cachedHealths.clear();
     }
 
     public void addLivenessCheck(HealthCheck check, ClassLoader moduleClassLoader) {
         if (check != null) {
             livenessChecks.put(check, moduleClassLoader);
+            cachedHealths.clear();
         }
     }
 
     public void removeLivenessCheck(HealthCheck check) {
         livenessChecks.remove(check);
+        cachedHealths.clear();
     }
 
     public void addStartupCheck(HealthCheck check, ClassLoader moduleClassLoader) {
         if (check != null) {
             startupChecks.put(check, moduleClassLoader);
+            cachedHealths.clear();
         }
     }
 
     public void removeStartupCheck(HealthCheck check) {
         startupChecks.remove(check);
+        cachedHealths.clear();
     }
 
     public void setUserChecksProcessed(boolean userChecksProcessed) {
         this.userChecksProcessed = userChecksProcessed;
+        cachedHealths.clear();
     }
 }
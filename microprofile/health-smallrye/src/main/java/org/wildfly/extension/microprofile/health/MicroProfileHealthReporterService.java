@@ -25,6 +25,11 @@ package org.wildfly.extension.microprofile.health;
 import static org.wildfly.extension.microprofile.health.MicroProfileHealthSubsystemDefinition.HEALTH_SERVER_PROBE_CAPABILITY;
 import static org.wildfly.extension.microprofile.health.MicroProfileHealthSubsystemDefinition.MICROPROFILE_HEALTH_REPORTER_CAPABILITY;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
 import io.smallrye.health.ResponseProvider;
@@ -41,6 +46,7 @@ import org.jboss.msc.service.Service;
 import org.jboss.msc.service.ServiceName;
 import org.jboss.msc.service.StartContext;
 import org.jboss.msc.service.StopContext;
+import org.jboss.threads.JBossThreadFactory;
 import org.wildfly.extension.health.ServerProbe;
 import org.wildfly.extension.health.ServerProbesService;
 
@@ -55,6 +61,7 @@ public class MicroProfileHealthReporterService implements Service<MicroProfileHe
     private String emptyLivenessChecksStatus;
     private String emptyReadinessChecksStatus;
     private String emptyStartupChecksStatus;
+    private ExecutorService executor;
 
     static void install(OperationContext context, String emptyLivenessChecksStatus, String emptyReadinessChecksStatus, String emptyStartupChecksStatus) {
 
@@ -84,9 +91,15 @@ public class MicroProfileHealthReporterService implements Service<MicroProfileHe
         final String defaultReadinessEmptyResponse = ConfigProvider.getConfig().getOptionalValue("mp.health.default.readiness.empty.response", String.class).orElse("DOWN");
         // MicroProfile Health supports the mp.health.default.startup.empty.response to let users specify default empty startup responses
         final String defaultStartupEmptyResponse = ConfigProvider.getConfig().getOptionalValue("mp.health.default.startup.empty.response", String.class).orElse("DOWN");
+        // time in milliseconds after which a health check that has not completed is reported as DOWN (0 to wait for the checks)
+        final long checkTimeout = ConfigProvider.getConfig().getOptionalValue("wildfly.health.check-timeout", Long.class).orElse(0L);
+        // time in milliseconds during which the outcome of the health checks is reused by subsequent probes (0 to disable)
+        final long cacheInterval = ConfigProvider.getConfig().getOptionalValue("wildfly.health.cache-interval", Long.class).orElse(0L);
+        executor = createExecutor();
         healthReporter = new MicroProfileHealthReporter(emptyLivenessChecksStatus, emptyReadinessChecksStatus,
             emptyStartupChecksStatus, defaultServerProceduresDisabled,
-            defaultReadinessEmptyResponse, defaultStartupEmptyResponse);
+            defaultReadinessEmptyResponse, defaultStartupEmptyResponse,
+            executor, checkTimeout, cacheInterval);
 
         if (!defaultServerProceduresDisabled) {
             ClassLoader tccl = Thread.currentThread().getContextClassLoader();
@@ -101,6 +114,8 @@ public class MicroProfileHealthReporterService implements Service<MicroProfileHe
     @Override
     public void stop(StopContext context) {
         healthReporter = null;
+        executor.shutdownNow();
+        executor = null;
         HealthCheckResponse.setResponseProvider(null);
     }
 
@@ -109,6 +124,15 @@ public class MicroProfileHealthReporterService implements Service<MicroProfileHe
         return healthReporter;
     }
 
+    private static ExecutorService createExecutor() {
+        // health checks mostly wait on remote resources (databases, brokers...) so the pool is not bounded by the number of CPUs
+        int threads = Math.max(4, Runtime.getRuntime().availableProcessors());
+        ThreadFactory threadFactory = new JBossThreadFactory(new ThreadGroup("health-check-threads"), Boolean.TRUE, null, "%G - %t", null, null);
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), threadFactory);
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
     static HealthCheck wrap(ServerProbe delegate) {
         return new HealthCheck() {
             @Override
@@ -69,4 +69,8 @@ public interface MicroProfileHealthLogger extends BasicLogger {
     @Message(id = 6, value = "")
     OperationFailedException seeDownstream();
     */
+
+    @LogMessage(level = WARN)
+    @Message(id = 7, value = "Health check %s did not complete within %d ms and is reported as down")
+    void healthCheckTimedOut(String check, long timeout);
 }
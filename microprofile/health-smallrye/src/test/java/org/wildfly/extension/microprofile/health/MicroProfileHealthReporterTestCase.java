@@ -0,0 +1,203 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2023, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.extension.microprofile.health;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+
+import io.smallrye.health.ResponseProvider;
+import io.smallrye.health.SmallRyeHealth;
+import org.eclipse.microprofile.health.HealthCheck;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class MicroProfileHealthReporterTestCase {
+
+    private ExecutorService executor;
+
+    @BeforeClass
+    public static void setResponseProvider() {
+        HealthCheckResponse.setResponseProvider(new ResponseProvider());
+    }
+
+    @AfterClass
+    public static void resetResponseProvider() {
+        HealthCheckResponse.setResponseProvider(null);
+    }
+
+    @Before
+    public void createExecutor() {
+        executor = Executors.newCachedThreadPool();
+    }
+
+    @After
+    public void shutdownExecutor() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testTimedOutCheckIsDown() {
+        MicroProfileHealthReporter reporter = createReporter(100, 0);
+        BlockingCheck slow = new BlockingCheck();
+        reporter.addLivenessCheck(new CountingCheck("fast"), getClass().getClassLoader());
+        reporter.addLivenessCheck(slow, getClass().getClassLoader());
+        try {
+            JsonObject payload = reporter.getLiveness().getPayload();
+
+            assertEquals(MicroProfileHealthReporter.DOWN, payload.getString("status"));
+            JsonArray checks = payload.getJsonArray("checks");
+            assertEquals(2, checks.size());
+            assertEquals(MicroProfileHealthReporter.UP, status(checks, "fast"));
+            // the check is named after its class since it did not return a response
+            assertEquals(MicroProfileHealthReporter.DOWN, status(checks, BlockingCheck.class.getName()));
+        } finally {
+            slow.release();
+        }
+    }
+
+    @Test
+    public void testRunningCheckIsNotCalledAgain() throws InterruptedException {
+        MicroProfileHealthReporter reporter = createReporter(100, 0);
+        BlockingCheck slow = new BlockingCheck();
+        reporter.addLivenessCheck(slow, getClass().getClassLoader());
+        try {
+            assertEquals(MicroProfileHealthReporter.DOWN, reporter.getLiveness().getPayload().getString("status"));
+            // the check started by the first probe is still running, the second probe waits for it instead of calling it again
+            assertEquals(MicroProfileHealthReporter.DOWN, reporter.getLiveness().getPayload().getString("status"));
+            assertEquals(1, slow.calls.get());
+        } finally {
+            slow.release();
+        }
+
+        // once the running check completes, the next probes get its outcome or call it again
+        String status = MicroProfileHealthReporter.DOWN;
+        for (int i = 0; i < 50 && status.equals(MicroProfileHealthReporter.DOWN); i++) {
+            status = reporter.getLiveness().getPayload().getString("status");
+        }
+        assertEquals(MicroProfileHealthReporter.UP, status);
+        assertTrue(slow.calls.get() <= 2);
+    }
+
+    @Test
+    public void testCachedHealth() throws InterruptedException {
+        MicroProfileHealthReporter reporter = createReporter(0, 200);
+        CountingCheck check = new CountingCheck("counting");
+        reporter.addLivenessCheck(check, getClass().getClassLoader());
+
+        SmallRyeHealth health = reporter.getLiveness();
+        assertEquals(MicroProfileHealthReporter.UP, health.getPayload().getString("status"));
+        assertEquals(1, check.calls.get());
+
+        // the outcome is reused within the cache interval
+        assertSame(health, reporter.getLiveness());
+        assertEquals(1, check.calls.get());
+        // the probes are cached separately
+        reporter.getHealth();
+        assertEquals(2, check.calls.get());
+
+        // the checks are called again once the cache interval elapsed
+        TimeUnit.MILLISECONDS.sleep(300);
+        reporter.getLiveness();
+        assertEquals(3, check.calls.get());
+
+        // and when the checks change
+        reporter.addLivenessCheck(new CountingCheck("other"), getClass().getClassLoader());
+        JsonObject payload = reporter.getLiveness().getPayload();
+        assertEquals(2, payload.getJsonArray("checks").size());
+        assertEquals(4, check.calls.get());
+    }
+
+    @Test
+    public void testCacheDisabled() {
+        MicroProfileHealthReporter reporter = createReporter(0, 0);
+        CountingCheck check = new CountingCheck("counting");
+        reporter.addLivenessCheck(check, getClass().getClassLoader());
+
+        reporter.getLiveness();
+        reporter.getLiveness();
+        assertEquals(2, check.calls.get());
+    }
+
+    private MicroProfileHealthReporter createReporter(long checkTimeout, long cacheInterval) {
+        return new MicroProfileHealthReporter(MicroProfileHealthReporter.UP, MicroProfileHealthReporter.UP, MicroProfileHealthReporter.UP,
+                true, MicroProfileHealthReporter.UP, MicroProfileHealthReporter.UP, executor, checkTimeout, cacheInterval);
+    }
+
+    private static String status(JsonArray checks, String name) {
+        for (JsonObject check : checks.getValuesAs(JsonObject.class)) {
+            if (check.getString("name").equals(name)) {
+                return check.getString("status");
+            }
+        }
+        throw new AssertionError(name + " not found in " + checks);
+    }
+
+    private static class CountingCheck implements HealthCheck {
+        private final String name;
+        final AtomicInteger calls = new AtomicInteger();
+
+        CountingCheck(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public HealthCheckResponse call() {
+            calls.incrementAndGet();
+            return HealthCheckResponse.up(name);
+        }
+    }
+
+    private static class BlockingCheck implements HealthCheck {
+        private final CountDownLatch latch = new CountDownLatch(1);
+        final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        public HealthCheckResponse call() {
+            calls.incrementAndGet();
+            try {
+                latch.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return HealthCheckResponse.up("blocking");
+        }
+
+        void release() {
+            latch.countDown();
+        }
+    }
+}
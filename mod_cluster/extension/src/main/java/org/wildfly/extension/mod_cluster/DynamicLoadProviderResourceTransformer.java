@@ -52,7 +52,7 @@ public class DynamicLoadProviderResourceTransformer implements Consumer<ModelVer
                     .end();
         }
 
-        //new LoadMetricResourceTransformer(this.builder).accept(version);
+        new LoadMetricResourceTransformer(this.builder).accept(version);
         //new CustomLoadMetricResourceTransformer(this.builder).accept(version);
     }
 }
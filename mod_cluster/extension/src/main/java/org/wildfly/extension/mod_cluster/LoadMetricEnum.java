@@ -45,6 +45,7 @@ public enum LoadMetricEnum {
     SEND_TRAFFIC("send-traffic", SendTrafficLoadMetric.class),
     REQUEST_COUNT("requests", RequestCountLoadMetric.class),
     BUSY_CONNECTORS("busyness", BusyConnectorsLoadMetric.class),
+    RESPONSE_TIME("response-time", ResponseTimeLoadMetric.class),
     ;
 
     private final String type;
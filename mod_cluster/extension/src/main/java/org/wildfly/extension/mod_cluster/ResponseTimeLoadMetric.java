@@ -0,0 +1,114 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2023, Red Hat Inc., and individual contributors as indicated
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.wildfly.extension.mod_cluster;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.as.ee.utils.LatencyHistogram;
+import org.jboss.modcluster.container.Engine;
+import org.jboss.modcluster.load.metric.impl.AbstractLoadMetric;
+
+/**
+ * {@link org.jboss.modcluster.load.metric.LoadMetric} returning a percentile of the request response times over a
+ * decaying window, relative to a target response time. Response times are recorded by the web container integration into
+ * a {@link LatencyHistogram}; each time the load is computed the counts collected since the previous computation are
+ * merged into the window, whose older counts are first multiplied by the configured decay factor.
+ * <p>
+ * The load is the ratio of the percentile to the target response time, capped at 1, so that the metric works with the
+ * default capacity of 1: a node whose response time percentile reaches the target response time is reported as fully
+ * loaded. The percentile, decay factor and target response time are configured via the {@code percentile},
+ * {@code decayFactor} and {@code targetResponseTime} properties.
+ */
+public class ResponseTimeLoadMetric extends AbstractLoadMetric {
+
+    private final LatencyHistogram histogram = new LatencyHistogram();
+    private final double[] window = new double[LatencyHistogram.BUCKETS];
+
+    private volatile double percentile = 0.95;
+    private volatile double decayFactor = 0.5;
+    // in milliseconds
+    private volatile double targetResponseTime = 1000;
+
+    /**
+     * Records the response time of a completed request.
+     *
+     * @param duration the response time
+     * @param unit the unit of the response time
+     */
+    public void record(long duration, TimeUnit unit) {
+        this.histogram.record(duration, unit);
+    }
+
+    @Override
+    public synchronized double getLoad(Engine engine) {
+        long[] counts = this.histogram.drain();
+        for (int i = 0; i < counts.length; i++) {
+            this.window[i] = this.window[i] * this.decayFactor + counts[i];
+        }
+        long responseTime = LatencyHistogram.getPercentile(this.window, this.percentile);
+        if (responseTime < 0) return 0;
+
+        return Math.min(responseTime / 1000d / this.targetResponseTime, 1);
+    }
+
+    public double getPercentile() {
+        return this.percentile;
+    }
+
+    /**
+     * @param percentile the percentile, between 0 (exclusive) and 1 (inclusive), of the response times to report
+     */
+    public void setPercentile(double percentile) {
+        if (percentile <= 0 || percentile > 1) {
+            throw new IllegalArgumentException(String.valueOf(percentile));
+        }
+        this.percentile = percentile;
+    }
+
+    public double getDecayFactor() {
+        return this.decayFactor;
+    }
+
+    /**
+     * @param decayFactor factor, between 0 (no history) and 1 (exclusive), applied to the window on each load computation
+     */
+    public void setDecayFactor(double decayFactor) {
+        if (decayFactor < 0 || decayFactor >= 1) {
+            throw new IllegalArgumentException(String.valueOf(decayFactor));
+        }
+        this.decayFactor = decayFactor;
+    }
+
+    public double getTargetResponseTime() {
+        return this.targetResponseTime;
+    }
+
+    /**
+     * @param targetResponseTime the response time, in milliseconds, at which a node is considered fully loaded, 1000 by default
+     */
+    public void setTargetResponseTime(double targetResponseTime) {
+        if (targetResponseTime <= 0) {
+            throw new IllegalArgumentException(String.valueOf(targetResponseTime));
+        }
+        this.targetResponseTime = targetResponseTime;
+    }
+}
@@ -27,6 +27,7 @@ import java.util.HashSet;
 import java.util.Set;
 
 import org.jboss.as.controller.ModelVersion;
+import org.jboss.as.controller.PathAddress;
 import org.jboss.as.model.test.FailedOperationTransformationConfig;
 import org.jboss.as.model.test.ModelFixer;
 import org.jboss.as.model.test.ModelTestControllerVersion;
@@ -158,7 +159,14 @@ public class ModClusterTransformersTestCase extends AbstractSubsystemTest {
     }
 
     private static FailedOperationTransformationConfig createFailedOperationConfig(ModelVersion version) {
-        return new FailedOperationTransformationConfig();
+        FailedOperationTransformationConfig config = new FailedOperationTransformationConfig();
+        PathAddress subsystemAddress = PathAddress.pathAddress(ModClusterSubsystemResourceDefinition.PATH);
+
+        if (ModClusterSubsystemModel.VERSION_9_0_0.requiresTransformation(version)) {
+            config.addFailedAttribute(subsystemAddress.append(ProxyConfigurationResourceDefinition.pathElement("default"), DynamicLoadProviderResourceDefinition.PATH, LoadMetricResourceDefinition.pathElement(LoadMetricEnum.RESPONSE_TIME.getType())), FailedOperationTransformationConfig.REJECTED_RESOURCE);
+        }
+
+        return config;
     }
 
 }
@@ -0,0 +1,94 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2023, Red Hat Inc., and individual contributors as indicated
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.wildfly.extension.mod_cluster;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * Test case for {@link ResponseTimeLoadMetric}.
+ */
+public class ResponseTimeLoadMetricTestCase {
+
+    @Test
+    public void percentile() {
+        ResponseTimeLoadMetric metric = new ResponseTimeLoadMetric();
+        metric.setTargetResponseTime(10_000);
+        assertEquals(0, metric.getLoad(null), 0);
+
+        for (int i = 0; i < 90; i++) {
+            metric.record(10, TimeUnit.MILLISECONDS);
+        }
+        for (int i = 0; i < 10; i++) {
+            metric.record(1, TimeUnit.SECONDS);
+        }
+        // 95th percentile falls within the slow requests
+        assertEquals(0.1, metric.getLoad(null), 0.02);
+
+        metric.setPercentile(0.5);
+        assertEquals(0.001, metric.getLoad(null), 0.0002);
+    }
+
+    @Test
+    public void decay() {
+        ResponseTimeLoadMetric metric = new ResponseTimeLoadMetric();
+        metric.setDecayFactor(0.1);
+        metric.setTargetResponseTime(10_000);
+
+        for (int i = 0; i < 100; i++) {
+            metric.record(1, TimeUnit.SECONDS);
+        }
+        assertEquals(0.1, metric.getLoad(null), 0.02);
+
+        // Fast requests quickly outweigh the decayed slow ones
+        for (int i = 0; i < 1000; i++) {
+            metric.record(10, TimeUnit.MILLISECONDS);
+        }
+        assertEquals(0.001, metric.getLoad(null), 0.0002);
+    }
+
+    @Test
+    public void targetResponseTime() {
+        ResponseTimeLoadMetric metric = new ResponseTimeLoadMetric();
+        // Default capacity of a load metric
+        assertEquals(1, metric.getCapacity(), 0);
+
+        for (int i = 0; i < 100; i++) {
+            metric.record(100, TimeUnit.MILLISECONDS);
+        }
+        // Relative to the default target response time of 1s
+        assertEquals(0.1, metric.getLoad(null), 0.02);
+
+        // Response times above the target report a fully loaded node
+        metric.setTargetResponseTime(50);
+        for (int i = 0; i < 100; i++) {
+            metric.record(100, TimeUnit.MILLISECONDS);
+        }
+        assertEquals(1, metric.getLoad(null), 0);
+
+        assertThrows(IllegalArgumentException.class, () -> metric.setTargetResponseTime(0));
+    }
+}
@@ -22,6 +22,8 @@
 
 package org.wildfly.mod_cluster.undertow;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 
 import org.jboss.as.server.deployment.Attachments;
@@ -33,10 +35,12 @@ import org.jboss.modcluster.load.metric.impl.BusyConnectorsLoadMetric;
 import org.jboss.modcluster.load.metric.impl.ReceiveTrafficLoadMetric;
 import org.jboss.modcluster.load.metric.impl.RequestCountLoadMetric;
 import org.jboss.modcluster.load.metric.impl.SendTrafficLoadMetric;
+import org.wildfly.extension.mod_cluster.ResponseTimeLoadMetric;
 import org.wildfly.extension.undertow.deployment.UndertowAttachments;
 import org.wildfly.mod_cluster.undertow.metric.BytesReceivedHttpHandler;
 import org.wildfly.mod_cluster.undertow.metric.BytesSentHttpHandler;
 import org.wildfly.mod_cluster.undertow.metric.RequestCountHttpHandler;
+import org.wildfly.mod_cluster.undertow.metric.ResponseTimeHttpHandler;
 import org.wildfly.mod_cluster.undertow.metric.RunningRequestsHttpHandler;
 
 /**
@@ -48,6 +52,7 @@ import org.wildfly.mod_cluster.undertow.metric.RunningRequestsHttpHandler;
  * <li>{@link org.wildfly.mod_cluster.undertow.metric.RunningRequestsHttpHandler}</li>
  * <li>{@link org.wildfly.mod_cluster.undertow.metric.BytesReceivedHttpHandler}</li>
  * <li>{@link org.wildfly.mod_cluster.undertow.metric.BytesSentHttpHandler}</li>
+ * <li>{@link org.wildfly.mod_cluster.undertow.metric.ResponseTimeHttpHandler}</li>
  * </ul>
  *
  * @author Radoslav Husar
@@ -92,6 +97,16 @@ public class ModClusterUndertowDeploymentProcessor implements DeploymentUnitProc
             deploymentUnit.addToAttachmentList(UndertowAttachments.UNDERTOW_OUTER_HANDLER_CHAIN_WRAPPERS, RunningRequestsHttpHandler::new);
         }
 
+        // Response time measurement
+        List<ResponseTimeLoadMetric> responseTimeMetrics = new ArrayList<>();
+        for (LoadMetric enabledMetric : enabledMetrics) {
+            if (enabledMetric instanceof ResponseTimeLoadMetric) {
+                responseTimeMetrics.add((ResponseTimeLoadMetric) enabledMetric);
+            }
+        }
+        if (!responseTimeMetrics.isEmpty()) {
+            deploymentUnit.addToAttachmentList(UndertowAttachments.UNDERTOW_OUTER_HANDLER_CHAIN_WRAPPERS, handler -> new ResponseTimeHttpHandler(handler, responseTimeMetrics));
+        }
     }
 
     /**
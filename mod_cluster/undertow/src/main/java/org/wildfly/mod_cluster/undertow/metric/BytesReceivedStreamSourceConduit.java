@@ -48,31 +48,38 @@ public class BytesReceivedStreamSourceConduit extends AbstractSourceConduit impl
         this.next = next;
     }
 
+    private void count(long bytes) {
+        // Reads return -1 on end of stream
+        if (bytes > 0) {
+            bytesReceived.add(bytes);
+        }
+    }
+
     @Override
     public long transferTo(long position, long count, FileChannel target) throws IOException {
         long bytes = next.transferTo(position, count, target);
-        bytesReceived.add(bytes);
+        count(bytes);
         return bytes;
     }
 
     @Override
     public long transferTo(long count, ByteBuffer throughBuffer, StreamSinkChannel target) throws IOException {
         long bytes = next.transferTo(count, throughBuffer, target);
-        bytesReceived.add(bytes);
+        count(bytes);
         return bytes;
     }
 
     @Override
     public int read(ByteBuffer dst) throws IOException {
         int bytes = next.read(dst);
-        bytesReceived.add(bytes);
+        count(bytes);
         return bytes;
     }
 
     @Override
     public long read(ByteBuffer[] dsts, int offs, int len) throws IOException {
         long bytes = next.read(dsts, offs, len);
-        bytesReceived.add(bytes);
+        count(bytes);
         return bytes;
     }
 
@@ -48,10 +48,17 @@ public class BytesSentStreamSinkConduit extends AbstractSinkConduit implements S
         this.next = next;
     }
 
+    private void count(long bytes) {
+        // Transfers return -1 on end of the source stream
+        if (bytes > 0) {
+            bytesSent.add(bytes);
+        }
+    }
+
     @Override
     public long transferFrom(FileChannel src, long position, long count) throws IOException {
         long bytes = next.transferFrom(src, position, count);
-        bytesSent.add(bytes);
+        count(bytes);
         return bytes;
     }
 
@@ -59,7 +66,7 @@ public class BytesSentStreamSinkConduit extends AbstractSinkConduit implements S
     @Override
     public long transferFrom(StreamSourceChannel source, long count, ByteBuffer throughBuffer) throws IOException {
         long bytes = next.transferFrom(source, count, throughBuffer);
-        bytesSent.add(bytes);
+        count(bytes);
         return bytes;
     }
 
@@ -67,7 +74,7 @@ public class BytesSentStreamSinkConduit extends AbstractSinkConduit implements S
     @Override
     public int write(ByteBuffer src) throws IOException {
         int bytes = next.write(src);
-        bytesSent.add(bytes);
+        count(bytes);
         return bytes;
     }
 
@@ -75,21 +82,21 @@ public class BytesSentStreamSinkConduit extends AbstractSinkConduit implements S
     @Override
     public long write(ByteBuffer[] srcs, int offs, int len) throws IOException {
         long bytes = next.write(srcs, offs, len);
-        bytesSent.add(bytes);
+        count(bytes);
         return bytes;
     }
 
     @Override
     public int writeFinal(ByteBuffer src) throws IOException {
         int bytes = next.writeFinal(src);
-        bytesSent.add(bytes);
+        count(bytes);
         return bytes;
     }
 
     @Override
     public long writeFinal(ByteBuffer[] srcs, int offset, int length) throws IOException {
         long bytes = next.writeFinal(srcs, offset, length);
-        bytesSent.add(bytes);
+        count(bytes);
         return bytes;
     }
 
@@ -0,0 +1,66 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2023, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.mod_cluster.undertow.metric;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+import io.undertow.server.ExchangeCompletionListener;
+import io.undertow.server.HttpHandler;
+import io.undertow.server.HttpServerExchange;
+import org.wildfly.extension.mod_cluster.ResponseTimeLoadMetric;
+
+/**
+ * {@link HttpHandler} that measures the response time of requests and records it into the enabled
+ * {@link ResponseTimeLoadMetric}s.
+ */
+public class ResponseTimeHttpHandler implements HttpHandler {
+
+    private final HttpHandler wrappedHandler;
+    private final Collection<ResponseTimeLoadMetric> metrics;
+
+    public ResponseTimeHttpHandler(final HttpHandler handler, Collection<ResponseTimeLoadMetric> metrics) {
+        this.wrappedHandler = handler;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void handleRequest(HttpServerExchange exchange) throws Exception {
+        final long start = System.nanoTime();
+
+        exchange.addExchangeCompleteListener(new ExchangeCompletionListener() {
+            @Override
+            public void exchangeEvent(HttpServerExchange exchange, NextListener nextListener) {
+                long duration = System.nanoTime() - start;
+                for (ResponseTimeLoadMetric metric : metrics) {
+                    metric.record(duration, TimeUnit.NANOSECONDS);
+                }
+
+                // Proceed to next listener must be called!
+                nextListener.proceed();
+            }
+        });
+
+        wrappedHandler.handleRequest(exchange);
+    }
+}
@@ -111,6 +111,7 @@ public class MicrometerCollector {
         }
 
         ModelNode resourceDescription = null;
+        ResourceMetricsReader resourceReader = null;
 
         for (Map.Entry<String, AttributeAccess> entry : attributes.entrySet()) {
             AttributeAccess attributeAccess = entry.getValue();
@@ -121,14 +122,16 @@ public class MicrometerCollector {
             if (resourceDescription == null) {
                 DescriptionProvider modelDescription = managementResourceRegistration.getModelDescription(address);
                 resourceDescription = modelDescription.getModelDescription(Locale.getDefault());
+                // all the meters of the resource are read together
+                resourceReader = new ResourceMetricsReader(modelControllerClient, resourceAddressResolver.apply(address));
             }
-            PathAddress resourceAddress = resourceAddressResolver.apply(address);
+            PathAddress resourceAddress = resourceReader.getAddress();
             String attributeName = entry.getKey();
             MeasurementUnit unit = attributeAccess.getAttributeDefinition().getMeasurementUnit();
             boolean isCounter = attributeAccess.getFlags().contains(AttributeAccess.Flag.COUNTER_METRIC);
             String attributeDescription = resourceDescription.get(ATTRIBUTES, attributeName, DESCRIPTION).asStringOrNull();
 
-            WildFlyMetric metric = new WildFlyMetric(modelControllerClient, resourceAddress, attributeName);
+            WildFlyMetric metric = new WildFlyMetric(resourceReader, attributeName);
             WildFlyMetricMetadata metadata = new WildFlyMetricMetadata(attributeName, resourceAddress,
                     attributeDescription, unit, isCounter ? COUNTER : GAUGE);
 
@@ -46,6 +46,7 @@ public class ArjunaObjectStoreEnvironmentService implements Service<Void> {
     private final InjectedValue<PathManager> pathManagerInjector = new InjectedValue<PathManager>();
     private final boolean useJournalStore;
     private final boolean enableAsyncIO;
+    private final JournalStoreConfig journalStoreConfig;
     private final String path;
     private final String pathRef;
 
@@ -55,9 +56,10 @@ public class ArjunaObjectStoreEnvironmentService implements Service<Void> {
 
     private volatile PathManager.Callback.Handle callbackHandle;
 
-    public ArjunaObjectStoreEnvironmentService(final boolean useJournalStore, final boolean enableAsyncIO, final String path, final String pathRef, final boolean useJdbcStore, final String dataSourceJndiName, final JdbcStoreConfig jdbcSoreConfig) {
+    public ArjunaObjectStoreEnvironmentService(final boolean useJournalStore, final boolean enableAsyncIO, final JournalStoreConfig journalStoreConfig, final String path, final String pathRef, final boolean useJdbcStore, final String dataSourceJndiName, final JdbcStoreConfig jdbcSoreConfig) {
         this.useJournalStore = useJournalStore;
         this.enableAsyncIO = enableAsyncIO;
+        this.journalStoreConfig = journalStoreConfig;
         this.path = path;
         this.pathRef = pathRef;
         this.useJdbcStore = useJdbcStore;
@@ -84,6 +86,19 @@ public class ArjunaObjectStoreEnvironmentService implements Service<Void> {
                     HornetqJournalEnvironmentBean.class
             );
             hornetqJournalEnvironmentBean.setAsyncIO(enableAsyncIO);
+            // Only override the Narayana defaults for the values that were explicitly configured
+            if (journalStoreConfig.getBufferSize() != null)
+                hornetqJournalEnvironmentBean.setBufferSize(journalStoreConfig.getBufferSize());
+            if (journalStoreConfig.getBufferFlushesPerSecond() != null)
+                hornetqJournalEnvironmentBean.setBufferFlushesPerSecond(journalStoreConfig.getBufferFlushesPerSecond());
+            if (journalStoreConfig.getFileSize() != null)
+                hornetqJournalEnvironmentBean.setFileSize(journalStoreConfig.getFileSize());
+            if (journalStoreConfig.getMinFiles() != null)
+                hornetqJournalEnvironmentBean.setMinFiles(journalStoreConfig.getMinFiles());
+            if (journalStoreConfig.getCompactMinFiles() != null)
+                hornetqJournalEnvironmentBean.setCompactMinFiles(journalStoreConfig.getCompactMinFiles());
+            if (journalStoreConfig.getCompactPercentage() != null)
+                hornetqJournalEnvironmentBean.setCompactPercentage(journalStoreConfig.getCompactPercentage());
             hornetqJournalEnvironmentBean.setStoreDir(objectStoreDir+"/HornetqObjectStore");
             defaultActionStoreObjectStoreEnvironmentBean.setObjectStoreType(
                     "com.arjuna.ats.internal.arjuna.objectstore.hornetq.HornetqObjectStoreAdaptor"
@@ -216,4 +231,89 @@ public class ArjunaObjectStoreEnvironmentService implements Service<Void> {
             return new JdbcStoreConfig(actionTablePrefix, actionDropTable, stateTablePrefix, stateDropTable, communicationTablePrefix, communicationDropTable);
         }
     }
+
+    public static final class JournalStoreConfig {
+        private final Integer bufferSize;
+        private final Integer bufferFlushesPerSecond;
+        private final Integer fileSize;
+        private final Integer minFiles;
+        private final Integer compactMinFiles;
+        private final Integer compactPercentage;
+
+        private JournalStoreConfig(final Integer bufferSize, final Integer bufferFlushesPerSecond, final Integer fileSize, final Integer minFiles, final Integer compactMinFiles, final Integer compactPercentage) {
+            this.bufferSize = bufferSize;
+            this.bufferFlushesPerSecond = bufferFlushesPerSecond;
+            this.fileSize = fileSize;
+            this.minFiles = minFiles;
+            this.compactMinFiles = compactMinFiles;
+            this.compactPercentage = compactPercentage;
+        }
+
+        public Integer getBufferSize() {
+            return bufferSize;
+        }
+
+        public Integer getBufferFlushesPerSecond() {
+            return bufferFlushesPerSecond;
+        }
+
+        public Integer getFileSize() {
+            return fileSize;
+        }
+
+        public Integer getMinFiles() {
+            return minFiles;
+        }
+
+        public Integer getCompactMinFiles() {
+            return compactMinFiles;
+        }
+
+        public Integer getCompactPercentage() {
+            return compactPercentage;
+        }
+    }
+
+    public static final class JournalStoreConfigBuilder {
+        private Integer bufferSize;
+        private Integer bufferFlushesPerSecond;
+        private Integer fileSize;
+        private Integer minFiles;
+        private Integer compactMinFiles;
+        private Integer compactPercentage;
+
+        public JournalStoreConfigBuilder setBufferSize(Integer bufferSize) {
+            this.bufferSize = bufferSize;
+            return this;
+        }
+
+        public JournalStoreConfigBuilder setBufferFlushesPerSecond(Integer bufferFlushesPerSecond) {
+            this.bufferFlushesPerSecond = bufferFlushesPerSecond;
+            return this;
+        }
+
+        public JournalStoreConfigBuilder setFileSize(Integer fileSize) {
+            this.fileSize = fileSize;
+            return this;
+        }
+
+        public JournalStoreConfigBuilder setMinFiles(Integer minFiles) {
+            this.minFiles = minFiles;
+            return this;
+        }
+
+        public JournalStoreConfigBuilder setCompactMinFiles(Integer compactMinFiles) {
+            this.compactMinFiles = compactMinFiles;
+            return this;
+        }
+
+        public JournalStoreConfigBuilder setCompactPercentage(Integer compactPercentage) {
+            this.compactPercentage = compactPercentage;
+            return this;
+        }
+
+        public JournalStoreConfig build() {
+            return new JournalStoreConfig(bufferSize, bufferFlushesPerSecond, fileSize, minFiles, compactMinFiles, compactPercentage);
+        }
+    }
 }
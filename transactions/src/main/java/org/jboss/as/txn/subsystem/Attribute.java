@@ -49,6 +49,12 @@ enum Attribute {
     TABLE_PREFIX("table-prefix"),
     DROP_TABLE("drop-table"),
     ENABLE_ASYNC_IO("enable-async-io"),
+    BUFFER_SIZE("buffer-size"),
+    BUFFER_FLUSHES_PER_SECOND("buffer-flushes-per-second"),
+    FILE_SIZE("file-size"),
+    MIN_FILES("min-files"),
+    COMPACT_MIN_FILES("compact-min-files"),
+    COMPACT_PERCENTAGE("compact-percentage"),
     JNDI_NAME(CommonAttributes.CM_JNDI_NAME),
     CM_TABLE_IMMEDIATE_CLEANUP(CommonAttributes.CM_IMMEDIATE_CLEANUP),
     CM_TABLE_BATCH_SIZE(CommonAttributes.CM_BATCH_SIZE),
@@ -49,6 +49,12 @@ interface CommonAttributes {
     String USE_JOURNAL_STORE = "use-journal-store";
     String HORNETQ_STORE_ENABLE_ASYNC_IO = "hornetq-store-enable-async-io";
     String JOURNAL_STORE_ENABLE_ASYNC_IO = "journal-store-enable-async-io";
+    String JOURNAL_STORE_BUFFER_SIZE = "journal-store-buffer-size";
+    String JOURNAL_STORE_BUFFER_FLUSHES_PER_SECOND = "journal-store-buffer-flushes-per-second";
+    String JOURNAL_STORE_FILE_SIZE = "journal-store-file-size";
+    String JOURNAL_STORE_MIN_FILES = "journal-store-min-files";
+    String JOURNAL_STORE_COMPACT_MIN_FILES = "journal-store-compact-min-files";
+    String JOURNAL_STORE_COMPACT_PERCENTAGE = "journal-store-compact-percentage";
     String JDBC_STORE = "jdbc-store";
     String USE_JDBC_STORE = "use-jdbc-store";
     String JDBC_STORE_DATASOURCE = "jdbc-store-datasource";
@@ -26,6 +26,8 @@ import org.jboss.as.controller.SimpleAttributeDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.client.helpers.MeasurementUnit;
 import org.jboss.as.controller.operations.validation.EnumValidator;
+import org.jboss.as.controller.operations.validation.IntRangeValidator;
+import org.jboss.as.controller.operations.validation.LongRangeValidator;
 import org.jboss.as.controller.operations.validation.StringLengthValidator;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
@@ -165,6 +167,33 @@ class LogStoreConstants {
             .setMeasurementUnit(MeasurementUnit.NONE)
             .build();
 
+    static final SimpleAttributeDefinition PROBE_OFFSET = new SimpleAttributeDefinitionBuilder("offset", ModelType.INT)
+            .setRequired(false)
+            .setDefaultValue(ModelNode.ZERO)
+            .setValidator(new IntRangeValidator(0, true))
+            .build();
+
+    static final SimpleAttributeDefinition PROBE_LIMIT = new SimpleAttributeDefinitionBuilder("limit", ModelType.INT)
+            .setRequired(false)
+            .setValidator(new IntRangeValidator(1, true))
+            .build();
+
+    static final SimpleAttributeDefinition PROBE_TYPE = new SimpleAttributeDefinitionBuilder("type", ModelType.STRING)
+            .setRequired(false)
+            .setValidator(new StringLengthValidator(1, true))
+            .build();
+
+    static final SimpleAttributeDefinition PROBE_MIN_AGE = new SimpleAttributeDefinitionBuilder("min-age-in-seconds", ModelType.LONG)
+            .setRequired(false)
+            .setMeasurementUnit(MeasurementUnit.SECONDS)
+            .setValidator(new LongRangeValidator(0, true))
+            .build();
+
+    static final SimpleAttributeDefinition PROBE_COUNT_ONLY = new SimpleAttributeDefinitionBuilder("count-only", ModelType.BOOLEAN)
+            .setRequired(false)
+            .setDefaultValue(ModelNode.FALSE)
+            .build();
+
     static String jmxNameToModelName(Map<String, String> map, String jmxName) {
         for(Map.Entry<String, String> e : map.entrySet()) {
             if (jmxName.equals(e.getValue()))
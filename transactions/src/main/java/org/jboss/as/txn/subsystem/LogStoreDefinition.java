@@ -34,6 +34,7 @@ import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.as.controller.registry.OperationEntry;
 import org.jboss.as.controller.registry.Resource;
 import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
 
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.VALUE;
@@ -58,6 +59,9 @@ public class LogStoreDefinition extends SimpleResourceDefinition {
         super.registerOperations(resourceRegistration);
         final OperationDefinition probe = new SimpleOperationDefinitionBuilder(LogStoreConstants.PROBE, getResourceDescriptionResolver())
                                 .withFlag(OperationEntry.Flag.HOST_CONTROLLER_ONLY) // TODO WFLY-8852 decide how we want to handle this in a domain
+                                .setParameters(LogStoreConstants.PROBE_OFFSET, LogStoreConstants.PROBE_LIMIT, LogStoreConstants.PROBE_TYPE,
+                                        LogStoreConstants.PROBE_MIN_AGE, LogStoreConstants.PROBE_COUNT_ONLY)
+                                .setReplyType(ModelType.INT)
                                 .setRuntimeOnly()
                                 .setReadOnly()
                                 .build();
@@ -44,7 +44,10 @@ import javax.management.ObjectName;
 import javax.management.ReflectionException;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -119,36 +122,71 @@ public class LogStoreProbeHandler implements OperationStepHandler {
         }
     }
 
-    private void addTransactions(final Resource parent, Set<ObjectInstance> transactions, MBeanServer mbs)
+    private void addTransactions(final Resource parent, List<ObjectName> transactions, MBeanServer mbs)
             throws IntrospectionException, InstanceNotFoundException, IOException,
             ReflectionException, MalformedObjectNameException {
 
-        for (ObjectInstance oi : transactions) {
-            String transactionId = oi.getObjectName().getCanonicalName();
+        for (ObjectName on : transactions) {
+            String transactionId = on.getCanonicalName();
+            final Resource transaction = new LogStoreResource.LogStoreRuntimeResource(on);
+            final ModelNode model = transaction.getModel();
 
-            if (!transactionId.contains("puid") && transactionId.contains("itype")) {
-                final Resource transaction = new LogStoreResource.LogStoreRuntimeResource(oi.getObjectName());
-                final ModelNode model = transaction.getModel();
+            Map<String, String> tAttributes = getMBeanValues(
+                    mbs,  on, LogStoreConstants.TXN_JMX_NAMES);
+            String txnId = tAttributes.get("Id");
 
-                Map<String, String> tAttributes = getMBeanValues(
-                        mbs,  oi.getObjectName(), LogStoreConstants.TXN_JMX_NAMES);
-                String txnId = tAttributes.get("Id");
+            addAttributes(model, LogStoreConstants.MODEL_TO_JMX_TXN_NAMES, tAttributes);
+            // model.get(LogStoreConstants.JMX_ON_ATTRIBUTE).set(transactionId);
 
-                addAttributes(model, LogStoreConstants.MODEL_TO_JMX_TXN_NAMES, tAttributes);
-                // model.get(LogStoreConstants.JMX_ON_ATTRIBUTE).set(transactionId);
+            String participantQuery =  transactionId + ",puid=*";
+            Set<ObjectInstance> participants = mbs.queryMBeans(new ObjectName(participantQuery), null);
 
-                String participantQuery =  transactionId + ",puid=*";
-                Set<ObjectInstance> participants = mbs.queryMBeans(new ObjectName(participantQuery), null);
+            addParticipants(transaction, participants, mbs);
 
-                addParticipants(transaction, participants, mbs);
+            final PathElement element = PathElement.pathElement(LogStoreConstants.TRANSACTIONS, txnId);
+            parent.registerChild(element, transaction);
+        }
+    }
+
+    /**
+     * Selects the transaction records matching the probe filters. Only the names of the MBeans are queried, the
+     * record attributes are read just when a type or age filter needs them, and the participants are not touched at
+     * all, so that the cost is bounded by the size of the requested page rather than by the size of the log.
+     *
+     * @return the number of matching transactions, regardless of {@code offset} and {@code limit}
+     */
+    private int selectTransactions(MBeanServer mbs, ProbeFilter filter, List<ObjectName> page)
+            throws JMException, IOException {
+        Set<ObjectName> names = mbs.queryNames(new ObjectName(osMBeanName +  ",*"), null);
+        List<ObjectName> transactions = new ArrayList<>(names.size());
+
+        for (ObjectName on : names) {
+            String transactionId = on.getCanonicalName();
+
+            if (!transactionId.contains("puid") && transactionId.contains("itype"))
+                transactions.add(on);
+        }
+        // a stable order is needed for consecutive pages not to overlap
+        transactions.sort(Comparator.comparing(ObjectName::getCanonicalName));
+
+        int matched = 0;
 
-                final PathElement element = PathElement.pathElement(LogStoreConstants.TRANSACTIONS, txnId);
-                parent.registerChild(element, transaction);
+        for (ObjectName on : transactions) {
+            if (filter.requiresAttributes()) {
+                Map<String, String> tAttributes = getMBeanValues(mbs, on, "Type", "AgeInSeconds");
+
+                if (!filter.accept(tAttributes.get("Type"), tAttributes.get("AgeInSeconds")))
+                    continue;
             }
+            if (page != null && matched >= filter.offset && (filter.limit < 0 || page.size() < filter.limit))
+                page.add(on);
+            matched++;
         }
+
+        return matched;
     }
 
-    private Resource probeTransactions(MBeanServer mbs, boolean exposeAllLogs)
+    int probeTransactions(MBeanServer mbs, boolean exposeAllLogs, ProbeFilter filter, Resource resource)
             throws OperationFailedException {
         try {
             ObjectName on = new ObjectName(osMBeanName);
@@ -156,11 +194,12 @@ public class LogStoreProbeHandler implements OperationStepHandler {
             mbs.setAttribute(on, new javax.management.Attribute("ExposeAllRecordsAsMBeans", Boolean.valueOf(exposeAllLogs)));
             mbs.invoke(on, "probe", null, null);
 
-            Set<ObjectInstance> transactions = mbs.queryMBeans(new ObjectName(osMBeanName +  ",*"), null);
+            List<ObjectName> page = resource == null ? null : new ArrayList<>();
+            int matched = selectTransactions(mbs, filter, page);
 
-            final Resource resource = Resource.Factory.create();
-            addTransactions(resource, transactions, mbs);
-            return resource;
+            if (resource != null)
+                addTransactions(resource, page, mbs);
+            return matched;
 
         } catch (JMException e) {
             throw new OperationFailedException("Transaction discovery error: ", e);
@@ -176,6 +215,8 @@ public class LogStoreProbeHandler implements OperationStepHandler {
         }
         final MBeanServer mbs = TransactionExtension.getMBeanServer(context);
         if (mbs != null) {
+            final ProbeFilter filter = new ProbeFilter(context, operation);
+            final boolean countOnly = LogStoreConstants.PROBE_COUNT_ONLY.resolveModelAttribute(context, operation).asBoolean();
             // Get the log-store resource
             final Resource resource = context.readResource(PathAddress.EMPTY_ADDRESS);
             assert resource instanceof LogStoreResource;
@@ -183,14 +224,61 @@ public class LogStoreProbeHandler implements OperationStepHandler {
             // Get the expose-all-logs parameter value
             final ModelNode subModel = context.readResource(PathAddress.EMPTY_ADDRESS).getModel();
             final boolean exposeAllLogs = LogStoreConstants.EXPOSE_ALL_LOGS.resolveModelAttribute(context, subModel).asBoolean();
-            final Resource storeModel = probeTransactions(mbs, exposeAllLogs);
-            // Replace the current model with an updated one
-            context.acquireControllerLock();
-            // WFLY-3020 -- don't drop the root model
-            storeModel.writeModel(logStore.getModel());
-            logStore.update(storeModel);
+            final Resource storeModel = countOnly ? null : Resource.Factory.create();
+            final int matched = probeTransactions(mbs, exposeAllLogs, filter, storeModel);
+            if (storeModel != null) {
+                // Replace the current model with an updated one
+                context.acquireControllerLock();
+                // WFLY-3020 -- don't drop the root model
+                storeModel.writeModel(logStore.getModel());
+                logStore.update(storeModel);
+            }
+            context.getResult().set(matched);
         }
         context.completeStep(OperationContext.RollbackHandler.NOOP_ROLLBACK_HANDLER);
     }
 
+    static final class ProbeFilter {
+        private final int offset;
+        private final int limit;
+        private final String type;
+        private final long minAge;
+
+        ProbeFilter(OperationContext context, ModelNode operation) throws OperationFailedException {
+            this(LogStoreConstants.PROBE_OFFSET.resolveModelAttribute(context, operation).asInt(),
+                    LogStoreConstants.PROBE_LIMIT.resolveModelAttribute(context, operation).asInt(-1),
+                    LogStoreConstants.PROBE_TYPE.resolveModelAttribute(context, operation).asStringOrNull(),
+                    LogStoreConstants.PROBE_MIN_AGE.resolveModelAttribute(context, operation).asLong(-1));
+        }
+
+        /**
+         * @param limit the maximum number of transactions to expose, or -1 for no limit
+         * @param type the type of the transactions to select, or {@code null} for all types
+         * @param minAge the minimum age in seconds of the transactions to select, or -1 for any age
+         */
+        ProbeFilter(int offset, int limit, String type, long minAge) {
+            this.offset = offset;
+            this.limit = limit;
+            this.type = type;
+            this.minAge = minAge;
+        }
+
+        boolean requiresAttributes() {
+            return type != null || minAge >= 0;
+        }
+
+        boolean accept(String recordType, String age) {
+            if (type != null && (recordType == null || !(recordType.equals(type) || recordType.endsWith("/" + type))))
+                return false;
+            if (minAge >= 0) {
+                try {
+                    return age != null && Long.parseLong(age) >= minAge;
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
 }
@@ -0,0 +1,86 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2023, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ *
+ */
+package org.jboss.as.txn.subsystem;
+
+import static org.jboss.as.controller.parsing.ParseUtils.requireNoContent;
+import static org.jboss.as.controller.parsing.ParseUtils.requireNoNamespaceAttribute;
+import static org.jboss.as.controller.parsing.ParseUtils.unexpectedAttribute;
+
+import javax.xml.stream.XMLStreamException;
+
+import org.jboss.dmr.ModelNode;
+import org.jboss.staxmapper.XMLExtendedStreamReader;
+
+/**
+ * The {@link org.jboss.staxmapper.XMLElementReader} that handles the version 7.0 of Transaction subsystem xml.
+ * Adds the tuning attributes of the journal object store to the {@code use-journal-store} element.
+ */
+class TransactionSubsystem70Parser extends TransactionSubsystem60Parser {
+
+    TransactionSubsystem70Parser() {
+        super(Namespace.TRANSACTIONS_7_0);
+    }
+
+    TransactionSubsystem70Parser(Namespace namespace) {
+        super(namespace);
+    }
+
+    @Override
+    protected void parseUseJournalstore(final XMLExtendedStreamReader reader, final ModelNode logStoreOperation, final ModelNode operation) throws XMLStreamException {
+        logStoreOperation.get(LogStoreConstants.LOG_STORE_TYPE.getName()).set("journal");
+
+        final int count = reader.getAttributeCount();
+        for (int i = 0; i < count; i++) {
+            requireNoNamespaceAttribute(reader, i);
+            final String value = reader.getAttributeValue(i);
+            final Attribute attribute = Attribute.forName(reader.getAttributeLocalName(i));
+            switch (attribute) {
+                case ENABLE_ASYNC_IO:
+                    TransactionSubsystemRootResourceDefinition.JOURNAL_STORE_ENABLE_ASYNC_IO.parseAndSetParameter(value, operation, reader);
+                    break;
+                case BUFFER_SIZE:
+                    TransactionSubsystemRootResourceDefinition.JOURNAL_STORE_BUFFER_SIZE.parseAndSetParameter(value, operation, reader);
+                    break;
+                case BUFFER_FLUSHES_PER_SECOND:
+                    TransactionSubsystemRootResourceDefinition.JOURNAL_STORE_BUFFER_FLUSHES_PER_SECOND.parseAndSetParameter(value, operation, reader);
+                    break;
+                case FILE_SIZE:
+                    TransactionSubsystemRootResourceDefinition.JOURNAL_STORE_FILE_SIZE.parseAndSetParameter(value, operation, reader);
+                    break;
+                case MIN_FILES:
+                    TransactionSubsystemRootResourceDefinition.JOURNAL_STORE_MIN_FILES.parseAndSetParameter(value, operation, reader);
+                    break;
+                case COMPACT_MIN_FILES:
+                    TransactionSubsystemRootResourceDefinition.JOURNAL_STORE_COMPACT_MIN_FILES.parseAndSetParameter(value, operation, reader);
+                    break;
+                case COMPACT_PERCENTAGE:
+                    TransactionSubsystemRootResourceDefinition.JOURNAL_STORE_COMPACT_PERCENTAGE.parseAndSetParameter(value, operation, reader);
+                    break;
+                default:
+                    throw unexpectedAttribute(reader, i);
+            }
+        }
+        // Handle elements
+        requireNoContent(reader);
+    }
+}
@@ -150,6 +150,10 @@ class TransactionSubsystemAdd extends AbstractBoottimeAddStepHandler {
 
         TransactionSubsystemRootResourceDefinition.JOURNAL_STORE_ENABLE_ASYNC_IO.validateAndSet(operation, model);
 
+        for (AttributeDefinition ad : TransactionSubsystemRootResourceDefinition.journal_store_attributes) {
+            ad.validateAndSet(operation, model);
+        }
+
         TransactionSubsystemRootResourceDefinition.STALE_TRANSACTION_TIME.validateAndSet(operation, model);
     }
 
@@ -359,11 +363,19 @@ class TransactionSubsystemAdd extends AbstractBoottimeAddStepHandler {
         if (model.hasDefined(TransactionSubsystemRootResourceDefinition.JDBC_COMMUNICATION_STORE_TABLE_PREFIX.getName()))
             confiBuilder.setCommunicationTablePrefix(TransactionSubsystemRootResourceDefinition.JDBC_COMMUNICATION_STORE_TABLE_PREFIX.resolveModelAttribute(context, model).asString());
 
+        ArjunaObjectStoreEnvironmentService.JournalStoreConfigBuilder journalConfigBuilder = new ArjunaObjectStoreEnvironmentService.JournalStoreConfigBuilder();
+        journalConfigBuilder.setBufferSize(resolveOptionalInt(context, model, TransactionSubsystemRootResourceDefinition.JOURNAL_STORE_BUFFER_SIZE))
+                .setBufferFlushesPerSecond(resolveOptionalInt(context, model, TransactionSubsystemRootResourceDefinition.JOURNAL_STORE_BUFFER_FLUSHES_PER_SECOND))
+                .setFileSize(resolveOptionalInt(context, model, TransactionSubsystemRootResourceDefinition.JOURNAL_STORE_FILE_SIZE))
+                .setMinFiles(resolveOptionalInt(context, model, TransactionSubsystemRootResourceDefinition.JOURNAL_STORE_MIN_FILES))
+                .setCompactMinFiles(resolveOptionalInt(context, model, TransactionSubsystemRootResourceDefinition.JOURNAL_STORE_COMPACT_MIN_FILES))
+                .setCompactPercentage(resolveOptionalInt(context, model, TransactionSubsystemRootResourceDefinition.JOURNAL_STORE_COMPACT_PERCENTAGE));
+
         TransactionLogger.ROOT_LOGGER.debugf("objectStorePathRef=%s, objectStorePath=%s%n", objectStorePathRef, objectStorePath);
 
         CapabilityServiceTarget target = context.getCapabilityServiceTarget();
         // Configure the ObjectStoreEnvironmentBeans
-        final ArjunaObjectStoreEnvironmentService objStoreEnvironmentService = new ArjunaObjectStoreEnvironmentService(useJournalStore, enableAsyncIO, objectStorePath, objectStorePathRef, useJdbcStore, dataSourceJndiName, confiBuilder.build());
+        final ArjunaObjectStoreEnvironmentService objStoreEnvironmentService = new ArjunaObjectStoreEnvironmentService(useJournalStore, enableAsyncIO, journalConfigBuilder.build(), objectStorePath, objectStorePathRef, useJdbcStore, dataSourceJndiName, confiBuilder.build());
         ServiceBuilder<Void> builder = target.addService(TxnServices.JBOSS_TXN_ARJUNA_OBJECTSTORE_ENVIRONMENT, objStoreEnvironmentService);
         builder.addDependency(PathManagerService.SERVICE_NAME, PathManager.class, objStoreEnvironmentService.getPathManagerInjector());
         builder.requires(TxnServices.JBOSS_TXN_CORE_ENVIRONMENT);
@@ -381,6 +393,11 @@ class TransactionSubsystemAdd extends AbstractBoottimeAddStepHandler {
 
     }
 
+    private static Integer resolveOptionalInt(OperationContext context, ModelNode model, AttributeDefinition attribute) throws OperationFailedException {
+        final ModelNode value = attribute.resolveModelAttribute(context, model);
+        return value.isDefined() ? value.asInt() : null;
+    }
+
     private void performCoreEnvironmentBootTime(OperationContext context, ModelNode coreEnvModel) throws OperationFailedException {
 
         // Configure the core configuration.
@@ -234,6 +234,45 @@ public class TransactionSubsystemRootResourceDefinition extends SimpleResourceDe
             .setXmlName(Attribute.ENABLE_ASYNC_IO.getLocalName())
             .setAllowExpression(true)
             .setRequires(CommonAttributes.USE_JOURNAL_STORE).build();
+    public static final SimpleAttributeDefinition JOURNAL_STORE_BUFFER_SIZE = new SimpleAttributeDefinitionBuilder(CommonAttributes.JOURNAL_STORE_BUFFER_SIZE, ModelType.INT, true)
+            .setFlags(AttributeAccess.Flag.RESTART_JVM)
+            .setXmlName(Attribute.BUFFER_SIZE.getLocalName())
+            .setMeasurementUnit(MeasurementUnit.BYTES)
+            .setValidator(new IntRangeValidator(1, true, true))
+            .setAllowExpression(true)
+            .setRequires(CommonAttributes.USE_JOURNAL_STORE).build();
+    public static final SimpleAttributeDefinition JOURNAL_STORE_BUFFER_FLUSHES_PER_SECOND = new SimpleAttributeDefinitionBuilder(CommonAttributes.JOURNAL_STORE_BUFFER_FLUSHES_PER_SECOND, ModelType.INT, true)
+            .setFlags(AttributeAccess.Flag.RESTART_JVM)
+            .setXmlName(Attribute.BUFFER_FLUSHES_PER_SECOND.getLocalName())
+            .setValidator(new IntRangeValidator(1, true, true))
+            .setAllowExpression(true)
+            .setRequires(CommonAttributes.USE_JOURNAL_STORE).build();
+    public static final SimpleAttributeDefinition JOURNAL_STORE_FILE_SIZE = new SimpleAttributeDefinitionBuilder(CommonAttributes.JOURNAL_STORE_FILE_SIZE, ModelType.INT, true)
+            .setFlags(AttributeAccess.Flag.RESTART_JVM)
+            .setXmlName(Attribute.FILE_SIZE.getLocalName())
+            .setMeasurementUnit(MeasurementUnit.BYTES)
+            .setValidator(new IntRangeValidator(1, true, true))
+            .setAllowExpression(true)
+            .setRequires(CommonAttributes.USE_JOURNAL_STORE).build();
+    public static final SimpleAttributeDefinition JOURNAL_STORE_MIN_FILES = new SimpleAttributeDefinitionBuilder(CommonAttributes.JOURNAL_STORE_MIN_FILES, ModelType.INT, true)
+            .setFlags(AttributeAccess.Flag.RESTART_JVM)
+            .setXmlName(Attribute.MIN_FILES.getLocalName())
+            .setValidator(new IntRangeValidator(2, true, true))
+            .setAllowExpression(true)
+            .setRequires(CommonAttributes.USE_JOURNAL_STORE).build();
+    public static final SimpleAttributeDefinition JOURNAL_STORE_COMPACT_MIN_FILES = new SimpleAttributeDefinitionBuilder(CommonAttributes.JOURNAL_STORE_COMPACT_MIN_FILES, ModelType.INT, true)
+            .setFlags(AttributeAccess.Flag.RESTART_JVM)
+            .setXmlName(Attribute.COMPACT_MIN_FILES.getLocalName())
+            .setValidator(new IntRangeValidator(0, true, true))
+            .setAllowExpression(true)
+            .setRequires(CommonAttributes.USE_JOURNAL_STORE).build();
+    public static final SimpleAttributeDefinition JOURNAL_STORE_COMPACT_PERCENTAGE = new SimpleAttributeDefinitionBuilder(CommonAttributes.JOURNAL_STORE_COMPACT_PERCENTAGE, ModelType.INT, true)
+            .setFlags(AttributeAccess.Flag.RESTART_JVM)
+            .setXmlName(Attribute.COMPACT_PERCENTAGE.getLocalName())
+            .setMeasurementUnit(MeasurementUnit.PERCENTAGE)
+            .setValidator(new IntRangeValidator(0, 100, true, true))
+            .setAllowExpression(true)
+            .setRequires(CommonAttributes.USE_JOURNAL_STORE).build();
 
     public static final SimpleAttributeDefinition USE_JDBC_STORE = new SimpleAttributeDefinitionBuilder(CommonAttributes.USE_JDBC_STORE, ModelType.BOOLEAN, true)
             .setDefaultValue(ModelNode.FALSE)
@@ -312,7 +351,14 @@ public class TransactionSubsystemRootResourceDefinition extends SimpleResourceDe
             OBJECT_STORE_RELATIVE_TO, OBJECT_STORE_PATH, JTS, USE_HORNETQ_STORE_PARAM, USE_JOURNAL_STORE_PARAM, USE_JDBC_STORE, JDBC_STORE_DATASOURCE,
             JDBC_ACTION_STORE_DROP_TABLE, JDBC_ACTION_STORE_TABLE_PREFIX, JDBC_COMMUNICATION_STORE_DROP_TABLE,
             JDBC_COMMUNICATION_STORE_TABLE_PREFIX, JDBC_STATE_STORE_DROP_TABLE, JDBC_STATE_STORE_TABLE_PREFIX,
-            JOURNAL_STORE_ENABLE_ASYNC_IO, ENABLE_STATISTICS, HORNETQ_STORE_ENABLE_ASYNC_IO, STALE_TRANSACTION_TIME
+            JOURNAL_STORE_ENABLE_ASYNC_IO, ENABLE_STATISTICS, HORNETQ_STORE_ENABLE_ASYNC_IO, STALE_TRANSACTION_TIME,
+            JOURNAL_STORE_BUFFER_SIZE, JOURNAL_STORE_BUFFER_FLUSHES_PER_SECOND, JOURNAL_STORE_FILE_SIZE, JOURNAL_STORE_MIN_FILES,
+            JOURNAL_STORE_COMPACT_MIN_FILES, JOURNAL_STORE_COMPACT_PERCENTAGE
+    };
+
+    static final SimpleAttributeDefinition[] journal_store_attributes = new SimpleAttributeDefinition[] {
+            JOURNAL_STORE_BUFFER_SIZE, JOURNAL_STORE_BUFFER_FLUSHES_PER_SECOND, JOURNAL_STORE_FILE_SIZE, JOURNAL_STORE_MIN_FILES,
+            JOURNAL_STORE_COMPACT_MIN_FILES, JOURNAL_STORE_COMPACT_PERCENTAGE
     };
 
     static final AttributeDefinition[] attributes_1_2 = new AttributeDefinition[] {USE_JDBC_STORE, JDBC_STORE_DATASOURCE,
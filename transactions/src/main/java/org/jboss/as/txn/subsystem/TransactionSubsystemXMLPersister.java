@@ -23,6 +23,7 @@ package org.jboss.as.txn.subsystem;
 
 import javax.xml.stream.XMLStreamException;
 
+import org.jboss.as.controller.SimpleAttributeDefinition;
 import org.jboss.as.controller.persistence.SubsystemMarshallingContext;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.Property;
@@ -105,6 +106,9 @@ class TransactionSubsystemXMLPersister implements XMLElementWriter<SubsystemMars
         if(node.hasDefined(CommonAttributes.USE_JOURNAL_STORE) && node.get(CommonAttributes.USE_JOURNAL_STORE).asBoolean()) {
             writer.writeStartElement(Element.USE_JOURNAL_STORE.getLocalName());
             TransactionSubsystemRootResourceDefinition.JOURNAL_STORE_ENABLE_ASYNC_IO.marshallAsAttribute(node, writer);
+            for (SimpleAttributeDefinition ad : TransactionSubsystemRootResourceDefinition.journal_store_attributes) {
+                ad.marshallAsAttribute(node, writer);
+            }
             writer.writeEndElement();
         }
 
@@ -0,0 +1,254 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2023, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.txn.subsystem;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.PathElement;
+import org.jboss.as.controller.registry.Resource;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit test for the paging, filters and count-only mode of {@link LogStoreProbeHandler}.
+ */
+public class LogStoreProbeHandlerTestCase {
+
+    private static final String ATOMIC_ACTION = "StateManager/BasicAction/TwoPhaseCoordinator/AtomicAction";
+    private static final String SUBORDINATE_ACTION = ATOMIC_ACTION + "/SubordinateAtomicAction/JCA";
+
+    private final AtomicInteger attributeReads = new AtomicInteger();
+    private final List<String> probes = new ArrayList<>();
+    private MBeanServer mbs;
+
+    @Before
+    public void createMBeanServer() throws JMException {
+        mbs = MBeanServerFactory.newMBeanServer();
+        mbs.registerMBean(new ObjectStore(), new ObjectName(LogStoreProbeHandler.osMBeanName));
+        addRecord("tx3", ATOMIC_ACTION, 30);
+        addRecord("tx1", ATOMIC_ACTION, 10);
+        addRecord("tx5", SUBORDINATE_ACTION, 50);
+        addRecord("tx2", SUBORDINATE_ACTION, 20);
+        addRecord("tx4", ATOMIC_ACTION, 40);
+        mbs.registerMBean(new Participant(), new ObjectName(recordName("tx1", ATOMIC_ACTION) + ",puid=p1"));
+    }
+
+    @Test
+    public void testAllTransactions() throws OperationFailedException {
+        Resource resource = Resource.Factory.create();
+
+        assertEquals(5, probe(new LogStoreProbeHandler.ProbeFilter(0, -1, null, -1), resource));
+        assertEquals(List.of("tx1", "tx2", "tx3", "tx4", "tx5"), transactionIds(resource));
+        // the participants of the exposed transactions are exposed too
+        Resource transaction = resource.getChild(PathElement.pathElement(LogStoreConstants.TRANSACTIONS, "tx1"));
+        assertEquals(1, transaction.getChildren(LogStoreConstants.PARTICIPANTS).size());
+        assertEquals(List.of("false"), probes);
+    }
+
+    @Test
+    public void testPaging() throws OperationFailedException {
+        Resource resource = Resource.Factory.create();
+        // the records are ordered by canonical name, i.e. by type then by id: tx1, tx3, tx4, tx2, tx5
+        assertEquals(5, probe(new LogStoreProbeHandler.ProbeFilter(1, 2, null, -1), resource));
+        assertEquals(List.of("tx3", "tx4"), transactionIds(resource));
+
+        // the next page does not overlap the previous one
+        resource = Resource.Factory.create();
+        assertEquals(5, probe(new LogStoreProbeHandler.ProbeFilter(3, 2, null, -1), resource));
+        assertEquals(List.of("tx2", "tx5"), transactionIds(resource));
+
+        // beyond the last transaction
+        resource = Resource.Factory.create();
+        assertEquals(5, probe(new LogStoreProbeHandler.ProbeFilter(5, 2, null, -1), resource));
+        assertTrue(transactionIds(resource).isEmpty());
+    }
+
+    @Test
+    public void testFilters() throws OperationFailedException {
+        Resource resource = Resource.Factory.create();
+        // the type matches the last segment of the record type
+        assertEquals(3, probe(new LogStoreProbeHandler.ProbeFilter(0, -1, "AtomicAction", -1), resource));
+        assertEquals(List.of("tx1", "tx3", "tx4"), transactionIds(resource));
+
+        resource = Resource.Factory.create();
+        assertEquals(2, probe(new LogStoreProbeHandler.ProbeFilter(0, -1, SUBORDINATE_ACTION, -1), resource));
+        assertEquals(List.of("tx2", "tx5"), transactionIds(resource));
+
+        resource = Resource.Factory.create();
+        assertEquals(3, probe(new LogStoreProbeHandler.ProbeFilter(0, -1, null, 30), resource));
+        assertEquals(List.of("tx3", "tx4", "tx5"), transactionIds(resource));
+
+        // the paging applies to the matching transactions
+        resource = Resource.Factory.create();
+        assertEquals(2, probe(new LogStoreProbeHandler.ProbeFilter(1, 1, "AtomicAction", 20), resource));
+        assertEquals(List.of("tx4"), transactionIds(resource));
+
+        resource = Resource.Factory.create();
+        assertEquals(0, probe(new LogStoreProbeHandler.ProbeFilter(0, -1, "Unknown", -1), resource));
+        assertTrue(transactionIds(resource).isEmpty());
+    }
+
+    @Test
+    public void testCountOnly() throws OperationFailedException {
+        assertEquals(5, probe(new LogStoreProbeHandler.ProbeFilter(0, -1, null, -1), null));
+        // only the names of the records are needed to count them
+        assertEquals(0, attributeReads.get());
+
+        assertEquals(2, probe(new LogStoreProbeHandler.ProbeFilter(0, -1, null, 40), null));
+        // the limit does not apply to the count
+        assertEquals(3, probe(new LogStoreProbeHandler.ProbeFilter(0, 1, "AtomicAction", -1), null));
+    }
+
+    private int probe(LogStoreProbeHandler.ProbeFilter filter, Resource resource) throws OperationFailedException {
+        return LogStoreProbeHandler.INSTANCE.probeTransactions(mbs, false, filter, resource);
+    }
+
+    private static List<String> transactionIds(Resource resource) {
+        List<String> ids = new ArrayList<>(resource.getChildrenNames(LogStoreConstants.TRANSACTIONS));
+        ids.sort(null);
+        return ids;
+    }
+
+    private void addRecord(String id, String type, long age) throws JMException {
+        mbs.registerMBean(new Record(id, type, age), new ObjectName(recordName(id, type)));
+    }
+
+    private static String recordName(String id, String type) {
+        return LogStoreProbeHandler.osMBeanName + ",itype=" + type + ",uid=" + id;
+    }
+
+    public interface ObjectStoreMBean {
+        boolean isExposeAllRecordsAsMBeans();
+
+        void setExposeAllRecordsAsMBeans(boolean exposeAllRecords);
+
+        void probe();
+    }
+
+    public class ObjectStore implements ObjectStoreMBean {
+        private boolean exposeAllRecords;
+
+        @Override
+        public boolean isExposeAllRecordsAsMBeans() {
+            return exposeAllRecords;
+        }
+
+        @Override
+        public void setExposeAllRecordsAsMBeans(boolean exposeAllRecords) {
+            this.exposeAllRecords = exposeAllRecords;
+        }
+
+        @Override
+        public void probe() {
+            probes.add(String.valueOf(exposeAllRecords));
+        }
+    }
+
+    public interface RecordMBean {
+        String getId();
+
+        String getType();
+
+        long getAgeInSeconds();
+    }
+
+    public class Record implements RecordMBean {
+        private final String id;
+        private final String type;
+        private final long age;
+
+        Record(String id, String type, long age) {
+            this.id = id;
+            this.type = type;
+            this.age = age;
+        }
+
+        @Override
+        public String getId() {
+            attributeReads.incrementAndGet();
+            return id;
+        }
+
+        @Override
+        public String getType() {
+            attributeReads.incrementAndGet();
+            return type;
+        }
+
+        @Override
+        public long getAgeInSeconds() {
+            attributeReads.incrementAndGet();
+            return age;
+        }
+    }
+
+    public interface ParticipantMBean {
+        String getType();
+
+        String getStatus();
+
+        String getJndiName();
+
+        String getEisProductName();
+
+        String getEisProductVersion();
+    }
+
+    public static class Participant implements ParticipantMBean {
+        @Override
+        public String getType() {
+            return "/StateManager/AbstractRecord/XAResourceRecord";
+        }
+
+        @Override
+        public String getStatus() {
+            return "PREPARED";
+        }
+
+        @Override
+        public String getJndiName() {
+            return "java:/XADS";
+        }
+
+        @Override
+        public String getEisProductName() {
+            return "Test";
+        }
+
+        @Override
+        public String getEisProductVersion() {
+            return "1.0";
+        }
+    }
+}
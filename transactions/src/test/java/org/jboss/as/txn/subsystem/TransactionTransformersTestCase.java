@@ -0,0 +1,85 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2023, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.txn.subsystem;
+
+import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.ModelVersion;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.model.test.FailedOperationTransformationConfig;
+import org.jboss.as.model.test.ModelTestControllerVersion;
+import org.jboss.as.model.test.ModelTestUtils;
+import org.jboss.as.subsystem.test.AbstractSubsystemTest;
+import org.jboss.as.subsystem.test.AdditionalInitialization;
+import org.jboss.as.subsystem.test.KernelServices;
+import org.jboss.as.subsystem.test.KernelServicesBuilder;
+import org.jboss.dmr.ModelNode;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test cases for the transformers of the transactions subsystem.
+ */
+public class TransactionTransformersTestCase extends AbstractSubsystemTest {
+
+    public TransactionTransformersTestCase() {
+        super(TransactionExtension.SUBSYSTEM_NAME, new TransactionExtension());
+    }
+
+    @Test
+    public void testTransformerEAP740() throws Exception {
+        KernelServices mainServices = buildKernelServices(ModelTestControllerVersion.EAP_7_4_0, readResource("full-6.0.0.xml"));
+        // check that both versions of the legacy model are the same and valid
+        checkSubsystemModelTransformation(mainServices, TransactionTransformers.VERSION_6_0_0, null, false);
+
+        ModelNode transformed = mainServices.readTransformedModel(TransactionTransformers.VERSION_6_0_0)
+                .get(TransactionExtension.SUBSYSTEM_PATH.getKey(), TransactionExtension.SUBSYSTEM_PATH.getValue());
+        for (AttributeDefinition attribute : TransactionSubsystemRootResourceDefinition.journal_store_attributes) {
+            Assert.assertFalse(attribute.getName(), transformed.has(attribute.getName()));
+        }
+    }
+
+    @Test
+    public void testTransformersRejectionEAP740() throws Exception {
+        KernelServices mainServices = buildKernelServices(ModelTestControllerVersion.EAP_7_4_0, null);
+
+        ModelTestUtils.checkFailedTransformedBootOperations(mainServices, TransactionTransformers.VERSION_6_0_0, parse(readResource("full.xml")),
+                new FailedOperationTransformationConfig().addFailedAttribute(PathAddress.pathAddress(TransactionExtension.SUBSYSTEM_PATH),
+                        new FailedOperationTransformationConfig.NewAttributesConfig(TransactionSubsystemRootResourceDefinition.journal_store_attributes)));
+    }
+
+    private KernelServices buildKernelServices(ModelTestControllerVersion legacyVersion, String subsystemXml) throws Exception {
+        ModelVersion modelVersion = TransactionTransformers.VERSION_6_0_0;
+        KernelServicesBuilder builder = createKernelServicesBuilder(AdditionalInitialization.MANAGEMENT);
+        if (subsystemXml != null) {
+            builder.setSubsystemXml(subsystemXml);
+        }
+        builder.createLegacyKernelServicesBuilder(AdditionalInitialization.MANAGEMENT, legacyVersion, modelVersion)
+                .addMavenResourceURL("org.jboss.eap:wildfly-transactions:" + legacyVersion.getMavenGavVersion())
+                .configureReverseControllerCheck(AdditionalInitialization.MANAGEMENT, null, RemoveProcessUUIDOperationFixer.INSTANCE)
+                .dontPersistXml();
+        KernelServices mainServices = builder.build();
+        Assert.assertTrue(mainServices.isSuccessfulBoot());
+        Assert.assertTrue(mainServices.getLegacyServices(modelVersion).isSuccessfulBoot());
+        return mainServices;
+    }
+}
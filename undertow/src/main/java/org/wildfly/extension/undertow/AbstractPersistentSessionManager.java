@@ -69,39 +69,38 @@ public abstract class AbstractPersistentSessionManager implements SessionPersist
         this.moduleLoader = moduleLoader;
     }
 
-    @Override
-    public void persistSessions(String deploymentName, Map<String, PersistentSession> sessionData) {
+    /**
+     * Serializes the attributes of each session, skipping those that cannot be serialized.
+     *
+     * @param sessionData the sessions to serialize
+     * @return the serialized sessions, by session id
+     */
+    protected Map<String, SessionEntry> serializeSessions(Map<String, PersistentSession> sessionData) throws IOException {
+        final Marshaller marshaller = createMarshaller();
         try {
-            final Marshaller marshaller = createMarshaller();
-            try {
-                final Map<String, SessionEntry> serializedData = new HashMap<String, SessionEntry>();
-                for (Map.Entry<String, PersistentSession> sessionEntry : sessionData.entrySet()) {
-                    Map<String, byte[]> data = new HashMap<String, byte[]>();
-                    for (Map.Entry<String, Object> sessionAttribute : sessionEntry.getValue().getSessionData().entrySet()) {
-                        try {
-                            final ByteArrayOutputStream out = new ByteArrayOutputStream();
-                            marshaller.start(new OutputStreamByteOutput(out));
-                            marshaller.writeObject(sessionAttribute.getValue());
-                            marshaller.finish();
-                            data.put(sessionAttribute.getKey(), out.toByteArray());
-                        } catch (Exception e) {
-                            UndertowLogger.ROOT_LOGGER.failedToPersistSessionAttribute(sessionAttribute.getKey(), sessionAttribute.getValue(), sessionEntry.getKey(), e);
-                        }
+            final Map<String, SessionEntry> serializedData = new HashMap<String, SessionEntry>();
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            for (Map.Entry<String, PersistentSession> sessionEntry : sessionData.entrySet()) {
+                Map<String, byte[]> data = new HashMap<String, byte[]>();
+                for (Map.Entry<String, Object> sessionAttribute : sessionEntry.getValue().getSessionData().entrySet()) {
+                    try {
+                        out.reset();
+                        marshaller.start(new OutputStreamByteOutput(out));
+                        marshaller.writeObject(sessionAttribute.getValue());
+                        marshaller.finish();
+                        data.put(sessionAttribute.getKey(), out.toByteArray());
+                    } catch (Exception e) {
+                        UndertowLogger.ROOT_LOGGER.failedToPersistSessionAttribute(sessionAttribute.getKey(), sessionAttribute.getValue(), sessionEntry.getKey(), e);
                     }
-                    serializedData.put(sessionEntry.getKey(), new SessionEntry(sessionEntry.getValue().getExpiration(), data));
                 }
-                persistSerializedSessions(deploymentName, serializedData);
-            } finally {
-                marshaller.close();
+                serializedData.put(sessionEntry.getKey(), new SessionEntry(sessionEntry.getValue().getExpiration(), data));
             }
-        } catch (Exception e) {
-            UndertowServletLogger.ROOT_LOGGER.failedToPersistSessions(e);
+            return serializedData;
+        } finally {
+            marshaller.close();
         }
-
     }
 
-    protected abstract void persistSerializedSessions(String deploymentName, Map<String, SessionEntry> serializedData) throws IOException;
-
     protected abstract Map<String, SessionEntry> loadSerializedSessions(final String deploymentName) throws IOException;
 
     @Override
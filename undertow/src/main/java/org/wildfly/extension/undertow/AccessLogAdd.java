@@ -64,6 +64,9 @@ final class AccessLogAdd extends AbstractAddStepHandler {
         final boolean extended = AccessLogDefinition.EXTENDED.resolveModelAttribute(context, model).asBoolean();
         final ModelNode relativeToNode = AccessLogDefinition.RELATIVE_TO.resolveModelAttribute(context, model);
         final String relativeTo = relativeToNode.isDefined() ? relativeToNode.asString() : null;
+        final ModelNode ringBufferSizeNode = AccessLogDefinition.RING_BUFFER_SIZE.resolveModelAttribute(context, model);
+        final int ringBufferSize = ringBufferSizeNode.isDefined() ? ringBufferSizeNode.asInt() : 0;
+        final int fsyncInterval = AccessLogDefinition.FSYNC_INTERVAL.resolveModelAttribute(context, model).asInt();
 
         Predicate predicate = null;
         ModelNode predicateNode = AccessLogDefinition.PREDICATE.resolveModelAttribute(context, model);
@@ -83,7 +86,7 @@ final class AccessLogAdd extends AbstractAddStepHandler {
         if (useServerLog) {
             service = new AccessLogService(sConsumer, hSupplier, wSupplier, pmSupplier, pattern, extended, predicate);
         } else {
-            service = new AccessLogService(sConsumer, hSupplier, wSupplier, pmSupplier, pattern, directory, relativeTo, filePrefix, fileSuffix, rotate, extended, false, predicate);
+            service = new AccessLogService(sConsumer, hSupplier, wSupplier, pmSupplier, pattern, directory, relativeTo, filePrefix, fileSuffix, rotate, extended, false, predicate, ringBufferSize, fsyncInterval);
         }
         sb.setInstance(service);
         sb.install();
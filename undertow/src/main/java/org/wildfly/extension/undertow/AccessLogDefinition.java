@@ -35,6 +35,8 @@ import org.jboss.as.controller.access.management.AccessConstraintDefinition;
 import org.jboss.as.controller.access.management.SensitiveTargetAccessConstraintDefinition;
 import org.jboss.as.controller.capability.DynamicNameMappers;
 import org.jboss.as.controller.capability.RuntimeCapability;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
+import org.jboss.as.controller.operations.validation.IntRangeValidator;
 import org.jboss.as.controller.operations.validation.StringLengthValidator;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
@@ -112,6 +114,22 @@ class AccessLogDefinition extends PersistentResourceDefinition {
             .setRestartAllServices()
             .build();
 
+    protected static final SimpleAttributeDefinition RING_BUFFER_SIZE = new SimpleAttributeDefinitionBuilder("ring-buffer-size", ModelType.INT)
+            .setRequired(false)
+            .setValidator(new IntRangeValidator(2, RingBufferAccessLogReceiver.MAX_CAPACITY, true, true))
+            .setAllowExpression(true)
+            .setRestartAllServices()
+            .build();
+
+    protected static final SimpleAttributeDefinition FSYNC_INTERVAL = new SimpleAttributeDefinitionBuilder("fsync-interval", ModelType.INT)
+            .setRequired(false)
+            .setDefaultValue(ModelNode.ZERO)
+            .setValidator(new IntRangeValidator(0, true, true))
+            .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+            .setAllowExpression(true)
+            .setRestartAllServices()
+            .build();
+
     static final Collection<AttributeDefinition> ATTRIBUTES = List.of(
             // IMPORTANT -- keep these in xsd order as this order controls marshalling
             WORKER,
@@ -123,7 +141,9 @@ class AccessLogDefinition extends PersistentResourceDefinition {
             USE_SERVER_LOG,
             RELATIVE_TO,
             EXTENDED,
-            PREDICATE
+            PREDICATE,
+            RING_BUFFER_SIZE,
+            FSYNC_INTERVAL
     );
     private final List<AccessConstraintDefinition> accessConstraints;
 
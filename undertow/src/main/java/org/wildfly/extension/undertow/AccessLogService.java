@@ -31,6 +31,7 @@ import io.undertow.server.handlers.accesslog.AccessLogReceiver;
 import io.undertow.server.handlers.accesslog.DefaultAccessLogReceiver;
 import io.undertow.server.handlers.accesslog.ExtendedAccessLogParser;
 import io.undertow.server.handlers.accesslog.JBossLoggingAccessLogReceiver;
+import io.undertow.server.handlers.accesslog.LogFileHeaderGenerator;
 import org.jboss.as.controller.services.path.PathManager;
 import org.jboss.msc.service.Service;
 import org.jboss.msc.service.StartContext;
@@ -40,6 +41,7 @@ import org.wildfly.extension.undertow.logging.UndertowLogger;
 import org.xnio.IoUtils;
 import org.xnio.XnioWorker;
 
+import java.io.Closeable;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -65,6 +67,8 @@ final class AccessLogService implements Service<AccessLogService> {
     private final boolean useServerLog;
     private final boolean extended;
     private final Predicate predicate;
+    private final int ringBufferSize;
+    private final int fsyncInterval;
     private volatile AccessLogReceiver logReceiver;
 
     private PathManager.Callback.Handle callbackHandle;
@@ -74,14 +78,15 @@ final class AccessLogService implements Service<AccessLogService> {
     AccessLogService(final Consumer<AccessLogService> serviceConsumer, final Supplier<Host> host,
                      final Supplier<XnioWorker> worker, final Supplier<PathManager> pathManager,
                      final String pattern, final boolean extended, final Predicate predicate) {
-        this(serviceConsumer, host, worker, pathManager, pattern, null, null, null, null, false, extended, true, predicate);
+        this(serviceConsumer, host, worker, pathManager, pattern, null, null, null, null, false, extended, true, predicate, 0, 0);
     }
 
     AccessLogService(final Consumer<AccessLogService> serviceConsumer, final Supplier<Host> host,
                      final Supplier<XnioWorker> worker, final Supplier<PathManager> pathManager,
                      final String pattern, final String path, final String pathRelativeTo,
                      final String filePrefix, final String fileSuffix, final boolean rotate,
-                     final boolean extended, final boolean useServerLog, final Predicate predicate) {
+                     final boolean extended, final boolean useServerLog, final Predicate predicate,
+                     final int ringBufferSize, final int fsyncInterval) {
         this.serviceConsumer = serviceConsumer;
         this.host = host;
         this.worker = worker;
@@ -95,6 +100,8 @@ final class AccessLogService implements Service<AccessLogService> {
         this.extended = extended;
         this.useServerLog = useServerLog;
         this.predicate = predicate == null ? Predicates.truePredicate() : predicate;
+        this.ringBufferSize = ringBufferSize;
+        this.fsyncInterval = fsyncInterval;
     }
 
     @Override
@@ -114,18 +121,24 @@ final class AccessLogService implements Service<AccessLogService> {
                 }
             }
             try {
-                DefaultAccessLogReceiver.Builder builder = DefaultAccessLogReceiver.builder().setLogWriteExecutor(worker.get())
-                        .setOutputDirectory(directory)
-                        .setLogBaseName(filePrefix)
-                        .setLogNameSuffix(fileSuffix)
-                        .setRotate(rotate);
-                if(extended) {
-                    builder.setLogFileHeaderGenerator(new ExtendedAccessLogParser.ExtendedAccessLogHeaderGenerator(pattern));
+                LogFileHeaderGenerator headerGenerator = null;
+                if (extended) {
+                    headerGenerator = new ExtendedAccessLogParser.ExtendedAccessLogHeaderGenerator(pattern);
                     extendedPattern = new ExtendedAccessLogParser(getClass().getClassLoader()).parse(pattern);
                 } else {
                     extendedPattern = null;
                 }
-                logReceiver = builder.build();
+                if (ringBufferSize > 0) {
+                    logReceiver = new RingBufferAccessLogReceiver(directory, filePrefix, fileSuffix, rotate, headerGenerator, ringBufferSize, fsyncInterval, "access-log-writer-" + host.get().getName());
+                } else {
+                    logReceiver = DefaultAccessLogReceiver.builder().setLogWriteExecutor(worker.get())
+                            .setOutputDirectory(directory)
+                            .setLogBaseName(filePrefix)
+                            .setLogNameSuffix(fileSuffix)
+                            .setRotate(rotate)
+                            .setLogFileHeaderGenerator(headerGenerator)
+                            .build();
+                }
             } catch (IllegalStateException e) {
                 throw new StartException(e);
             }
@@ -142,8 +155,8 @@ final class AccessLogService implements Service<AccessLogService> {
             callbackHandle.remove();
             callbackHandle = null;
         }
-        if( logReceiver instanceof DefaultAccessLogReceiver ) {
-            IoUtils.safeClose((DefaultAccessLogReceiver) logReceiver);
+        if (logReceiver instanceof Closeable) {
+            IoUtils.safeClose((Closeable) logReceiver);
         }
         logReceiver = null;
     }
@@ -22,6 +22,7 @@
 
 package org.wildfly.extension.undertow;
 
+import static org.jboss.as.controller.client.helpers.MeasurementUnit.BYTES;
 import static org.jboss.as.controller.client.helpers.MeasurementUnit.SECONDS;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SUBSYSTEM;
@@ -39,6 +40,7 @@ import io.undertow.server.session.Session;
 import io.undertow.server.session.SessionManager;
 import io.undertow.server.session.SessionManagerStatistics;
 import io.undertow.servlet.api.Deployment;
+import io.undertow.servlet.api.MetricsCollector;
 import org.jboss.as.controller.AbstractRuntimeOnlyHandler;
 import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.OperationContext;
@@ -58,6 +60,7 @@ import org.jboss.dmr.ModelType;
 import org.jboss.dmr.Property;
 import org.jboss.msc.service.ServiceController;
 import org.wildfly.extension.undertow.deployment.UndertowDeploymentService;
+import org.wildfly.extension.undertow.deployment.UndertowMetricsCollector;
 import org.wildfly.extension.undertow.logging.UndertowLogger;
 
 /**
@@ -70,6 +73,12 @@ public class DeploymentDefinition extends SimpleResourceDefinition {
     public static final AttributeDefinition SERVER = new SimpleAttributeDefinitionBuilder("server", ModelType.STRING).setStorageRuntime().build();
     public static final AttributeDefinition CONTEXT_ROOT = new SimpleAttributeDefinitionBuilder("context-root", ModelType.STRING).setStorageRuntime().build();
     public static final AttributeDefinition VIRTUAL_HOST = new SimpleAttributeDefinitionBuilder("virtual-host", ModelType.STRING).setStorageRuntime().build();
+    static final AttributeDefinition OVERLAY_BYTES_TRANSFERRED = new SimpleAttributeDefinitionBuilder("overlay-bytes-transferred", ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setMeasurementUnit(BYTES)
+            .setFlags(COUNTER_METRIC)
+            .setStorageRuntime()
+            .build();
     static final AttributeDefinition SESSIOND_ID = new SimpleAttributeDefinitionBuilder(Constants.SESSION_ID, ModelType.STRING)
             .setRequired(true)
             .setAllowExpression(false)
@@ -155,6 +164,7 @@ public class DeploymentDefinition extends SimpleResourceDefinition {
         for (SessionStat stat : SessionStat.values()) {
             resourceRegistration.registerMetric(stat.definition, SessionManagerStatsHandler.getInstance());
         }
+        resourceRegistration.registerMetric(OVERLAY_BYTES_TRANSFERRED, new OverlayBytesTransferredHandler());
     }
 
     @Override
@@ -371,6 +381,28 @@ public class DeploymentDefinition extends SimpleResourceDefinition {
         }
     }
 
+    static class OverlayBytesTransferredHandler extends AbstractRuntimeOnlyHandler {
+
+        @Override
+        protected void executeRuntimeStep(OperationContext context, ModelNode operation) throws OperationFailedException {
+            final PathAddress address = PathAddress.pathAddress(operation.get(ModelDescriptionConstants.OP_ADDR));
+            final ModelNode subModel = context.readResourceFromRoot(address, false).getModel();
+            final String host = VIRTUAL_HOST.resolveModelAttribute(context, subModel).asString();
+            final String path = CONTEXT_ROOT.resolveModelAttribute(context, subModel).asString();
+            final String server = SERVER.resolveModelAttribute(context, subModel).asString();
+
+            final ServiceController<?> controller = context.getServiceRegistry(false).getService(UndertowService.deploymentServiceName(server, host, path));
+            if (controller == null || controller.getState() != ServiceController.State.UP) {
+                return;
+            }
+            final UndertowDeploymentService deploymentService = (UndertowDeploymentService) controller.getService();
+            final MetricsCollector collector = deploymentService.getDeploymentInfo().getMetricsCollector();
+            if (collector instanceof UndertowMetricsCollector) {
+                context.getResult().set(((UndertowMetricsCollector) collector).getTransferredBytes());
+            }
+        }
+    }
+
     private static SessionManager getSessionManager(OperationContext context, ModelNode operation) throws OperationFailedException {
         final PathAddress address = PathAddress.pathAddress(operation.get(ModelDescriptionConstants.OP_ADDR));
         final Resource web = context.readResourceFromRoot(address.subAddress(0, address.size()), false);
@@ -75,12 +75,23 @@ public class DeploymentServletDefinition extends SimpleResourceDefinition {
             .setFlags(COUNTER_METRIC)
             .setStorageRuntime()
             .build();
+    static final SimpleAttributeDefinition REQUEST_TIME_P50 = createRequestTimePercentile("request-time-p50");
+    static final SimpleAttributeDefinition REQUEST_TIME_P95 = createRequestTimePercentile("request-time-p95");
+    static final SimpleAttributeDefinition REQUEST_TIME_P99 = createRequestTimePercentile("request-time-p99");
     static final SimpleListAttributeDefinition SERVLET_MAPPINGS = new SimpleListAttributeDefinition.Builder("mappings", new SimpleAttributeDefinitionBuilder("mapping", ModelType.STRING).setRequired(false).build())
             .setRequired(false)
             .setStorageRuntime()
             .build();
 
 
+    private static SimpleAttributeDefinition createRequestTimePercentile(String name) {
+        return new SimpleAttributeDefinitionBuilder(name, ModelType.DOUBLE)
+                .setUndefinedMetricValue(new ModelNode(0d))
+                .setMeasurementUnit(MILLISECONDS)
+                .setStorageRuntime()
+                .build();
+    }
+
     DeploymentServletDefinition() {
         super(PathElement.pathElement("servlet"), UndertowExtension.getResolver("deployment.servlet"));
     }
@@ -113,6 +124,9 @@ public class DeploymentServletDefinition extends SimpleResourceDefinition {
                 response.set(metricResult.getTotalRequests());
             }
         });
+        registration.registerMetric(REQUEST_TIME_P50, new RequestTimePercentileHandler(0.5));
+        registration.registerMetric(REQUEST_TIME_P95, new RequestTimePercentileHandler(0.95));
+        registration.registerMetric(REQUEST_TIME_P99, new RequestTimePercentileHandler(0.99));
         registration.registerReadOnlyAttribute(SERVLET_MAPPINGS, new OperationStepHandler() {
             @Override
             public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
@@ -147,10 +161,23 @@ public class DeploymentServletDefinition extends SimpleResourceDefinition {
         });
     }
 
-    abstract static class AbstractMetricsHandler implements OperationStepHandler {
+    abstract static class AbstractMetricsHandler extends AbstractCollectorHandler {
 
         abstract void handle(ModelNode response, MetricsHandler.MetricResult metricResult);
 
+        @Override
+        void handle(ModelNode response, UndertowMetricsCollector collector, String servletName) {
+            MetricsHandler.MetricResult result = collector.getMetrics(servletName);
+            if (result != null) {
+                handle(response, result);
+            }
+        }
+    }
+
+    abstract static class AbstractCollectorHandler implements OperationStepHandler {
+
+        abstract void handle(ModelNode response, UndertowMetricsCollector collector, String servletName);
+
         @Override
         public void execute(final OperationContext context, final ModelNode operation) throws OperationFailedException {
             final PathAddress address = PathAddress.pathAddress(operation.get(ModelDescriptionConstants.OP_ADDR));
@@ -173,15 +200,31 @@ public class DeploymentServletDefinition extends SimpleResourceDefinition {
                     final DeploymentInfo deploymentInfo = deploymentService.getDeploymentInfo();
                     final UndertowMetricsCollector collector = (UndertowMetricsCollector)deploymentInfo.getMetricsCollector();
 
-                    MetricsHandler.MetricResult result = collector != null ? collector.getMetrics(context.getCurrentAddressValue()) : null;
-                    if (result != null) {
+                    if (collector != null) {
                         final ModelNode response = new ModelNode();
-                        handle(response, result);
-                        context.getResult().set(response);
+                        handle(response, collector, context.getCurrentAddressValue());
+                        if (response.isDefined()) {
+                            context.getResult().set(response);
+                        }
                     }
                 }
             }, OperationContext.Stage.RUNTIME);
         }
     }
 
+    static class RequestTimePercentileHandler extends AbstractCollectorHandler {
+        private final double fraction;
+
+        RequestTimePercentileHandler(double fraction) {
+            this.fraction = fraction;
+        }
+
+        @Override
+        void handle(ModelNode response, UndertowMetricsCollector collector, String servletName) {
+            long micros = collector.getRequestTimePercentile(servletName, this.fraction);
+            if (micros >= 0) {
+                response.set(micros / 1000d);
+            }
+        }
+    }
 }
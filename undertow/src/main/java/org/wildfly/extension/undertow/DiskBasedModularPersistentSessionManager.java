@@ -21,8 +21,10 @@
  */
 package org.wildfly.extension.undertow;
 
+import io.undertow.servlet.UndertowServletLogger;
 import io.undertow.servlet.api.SessionPersistenceManager;
 import org.jboss.as.controller.services.path.PathManager;
+import org.jboss.marshalling.ByteBufferInput;
 import org.jboss.marshalling.InputStreamByteInput;
 import org.jboss.marshalling.Marshaller;
 import org.jboss.marshalling.OutputStreamByteOutput;
@@ -34,21 +36,41 @@ import org.jboss.msc.service.StopContext;
 import org.wildfly.extension.undertow.logging.UndertowLogger;
 import org.xnio.IoUtils;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 /**
- * Persistent session manager that stores persistent session information to disk
+ * Persistent session manager that stores persistent session information to disk.
+ * <p>
+ * Sessions are streamed to and from the file one record at a time, so neither the write-out on shutdown nor the load on
+ * startup needs to hold the serialized form of all sessions in memory, and the attributes of expired sessions are
+ * skipped without being unmarshalled. Files written in the legacy format, a single marshalled map of all sessions, are
+ * still read.
  *
  * @author Stuart Douglas
  * @author <a href="mailto:ropalka@redhat.com">Richard Opalka</a>
  */
 public class DiskBasedModularPersistentSessionManager extends AbstractPersistentSessionManager {
+    // "WFPS", a marshalled stream never starts with these bytes
+    private static final int MAGIC = 0x57465053;
+    private static final int VERSION = 1;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
     private final String path;
     private final String pathRelativeTo;
     private final Supplier<PathManager> pathManager;
@@ -90,21 +112,120 @@ public class DiskBasedModularPersistentSessionManager extends AbstractPersistent
 
 
     @Override
-    protected void persistSerializedSessions(String deploymentName, Map<String, SessionEntry> serializedData) throws IOException {
+    public void persistSessions(String deploymentName, Map<String, PersistentSession> sessionData) {
         File file = new File(baseDir, deploymentName);
-        FileOutputStream out = new FileOutputStream(file, false);
-        try {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file, false), BUFFER_SIZE))) {
             Marshaller marshaller = createMarshaller();
             try {
-                marshaller.start(new OutputStreamByteOutput(out));
-                marshaller.writeObject(serializedData);
-                marshaller.finish();
+                // Reused for every attribute, so that a failing attribute can be skipped without corrupting the file
+                ByteArrayOutputStream attribute = new ByteArrayOutputStream();
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                for (Map.Entry<String, PersistentSession> sessionEntry : sessionData.entrySet()) {
+                    out.writeBoolean(true);
+                    writeString(out, sessionEntry.getKey());
+                    out.writeLong(sessionEntry.getValue().getExpiration().getTime());
+                    for (Map.Entry<String, Object> sessionAttribute : sessionEntry.getValue().getSessionData().entrySet()) {
+                        attribute.reset();
+                        try {
+                            marshaller.start(new OutputStreamByteOutput(attribute));
+                            marshaller.writeObject(sessionAttribute.getValue());
+                            marshaller.finish();
+                        } catch (Exception e) {
+                            UndertowLogger.ROOT_LOGGER.failedToPersistSessionAttribute(sessionAttribute.getKey(), sessionAttribute.getValue(), sessionEntry.getKey(), e);
+                            continue;
+                        }
+                        out.writeBoolean(true);
+                        writeString(out, sessionAttribute.getKey());
+                        out.writeInt(attribute.size());
+                        attribute.writeTo(out);
+                    }
+                    out.writeBoolean(false);
+                }
+                out.writeBoolean(false);
             } finally {
                 marshaller.close();
             }
-        } finally {
-            IoUtils.safeClose(out);
+        } catch (Exception e) {
+            UndertowServletLogger.ROOT_LOGGER.failedToPersistSessions(e);
+        }
+    }
+
+    @Override
+    public Map<String, PersistentSession> loadSessionAttributes(String deploymentName, ClassLoader classLoader) {
+        File file = new File(baseDir, deploymentName);
+        if (!file.exists()) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file), BUFFER_SIZE))) {
+            if (file.length() < 2 * Integer.BYTES || in.readInt() != MAGIC) {
+                // Written by a previous release
+                return super.loadSessionAttributes(deploymentName, classLoader);
+            }
+            int version = in.readInt();
+            if (version != VERSION) {
+                throw UndertowLogger.ROOT_LOGGER.unsupportedPersistentSessionFileVersion(version, file);
+            }
+            Unmarshaller unmarshaller = createUnmarshaller();
+            try {
+                long time = System.currentTimeMillis();
+                byte[] buffer = new byte[256];
+                Map<String, PersistentSession> result = new HashMap<>();
+                while (in.readBoolean()) {
+                    String sessionId = readString(in);
+                    long expiry = in.readLong();
+                    boolean expired = expiry <= time;
+                    Map<String, Object> session = expired ? null : new HashMap<>();
+                    while (in.readBoolean()) {
+                        String name = readString(in);
+                        int length = in.readInt();
+                        if (expired) {
+                            skipFully(in, length);
+                            continue;
+                        }
+                        if (length > buffer.length) {
+                            buffer = new byte[Math.max(length, buffer.length * 2)];
+                        }
+                        in.readFully(buffer, 0, length);
+                        unmarshaller.start(new ByteBufferInput(ByteBuffer.wrap(buffer, 0, length)));
+                        session.put(name, unmarshaller.readObject());
+                        unmarshaller.finish();
+                    }
+                    if (!expired) {
+                        result.put(sessionId, new PersistentSession(new Date(expiry), session));
+                    }
+                }
+                return result;
+            } finally {
+                unmarshaller.close();
+            }
+        } catch (Exception e) {
+            UndertowServletLogger.ROOT_LOGGER.failedtoLoadPersistentSessions(e);
         }
+        return null;
+    }
+
+    private static void skipFully(DataInputStream in, int length) throws IOException {
+        int remaining = length;
+        while (remaining > 0) {
+            int skipped = in.skipBytes(remaining);
+            if (skipped <= 0) {
+                throw new EOFException();
+            }
+            remaining -= skipped;
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
     }
 
     @Override
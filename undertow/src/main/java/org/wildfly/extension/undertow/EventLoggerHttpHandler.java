@@ -38,6 +38,7 @@ class EventLoggerHttpHandler implements HttpHandler {
     private final Predicate predicate;
     private final Collection<AccessLogAttribute> attributes;
     private final EventLogger eventLogger;
+    private final int dataCapacity;
 
     /**
      * Creates a new instance of the HTTP handler.
@@ -53,6 +54,8 @@ class EventLoggerHttpHandler implements HttpHandler {
         this.predicate = predicate;
         this.attributes = attributes;
         this.eventLogger = eventLogger;
+        // Sized to avoid rehashing while collecting the attributes of each request
+        this.dataCapacity = (int) (attributes.size() / 0.75f) + 1;
     }
 
     @Override
@@ -66,7 +69,7 @@ class EventLoggerHttpHandler implements HttpHandler {
         public void exchangeEvent(final HttpServerExchange exchange, final NextListener nextListener) {
             try {
                 if (predicate == null || predicate.resolve(exchange)) {
-                    final Map<String, Object> data = new LinkedHashMap<>();
+                    final Map<String, Object> data = new LinkedHashMap<>(dataCapacity);
                     for (AccessLogAttribute attribute : attributes) {
                         data.put(attribute.getKey(), attribute.resolveAttribute(exchange));
                     }
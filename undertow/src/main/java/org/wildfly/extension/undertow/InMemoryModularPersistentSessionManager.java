@@ -21,6 +21,7 @@
  */
 package org.wildfly.extension.undertow;
 
+import io.undertow.servlet.UndertowServletLogger;
 import io.undertow.servlet.api.SessionPersistenceManager;
 import org.jboss.modules.ModuleLoader;
 
@@ -48,8 +49,12 @@ public class InMemoryModularPersistentSessionManager extends AbstractPersistentS
     private final Map<String, Map<String, SessionEntry>> sessionData = Collections.synchronizedMap(new HashMap<String, Map<String, SessionEntry>>());
 
     @Override
-    protected void persistSerializedSessions(String deploymentName, Map<String, SessionEntry> serializedData) {
-        sessionData.put(deploymentName, serializedData);
+    public void persistSessions(String deploymentName, Map<String, PersistentSession> sessionData) {
+        try {
+            this.sessionData.put(deploymentName, serializeSessions(sessionData));
+        } catch (Exception e) {
+            UndertowServletLogger.ROOT_LOGGER.failedToPersistSessions(e);
+        }
     }
 
     @Override
@@ -0,0 +1,313 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2023, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.extension.undertow;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+import io.undertow.server.handlers.accesslog.AccessLogReceiver;
+import io.undertow.server.handlers.accesslog.LogFileHeaderGenerator;
+import org.jboss.threads.JBossThreadFactory;
+import org.wildfly.extension.undertow.logging.UndertowLogger;
+
+/**
+ * An {@link AccessLogReceiver} that publishes log messages into a preallocated ring buffer, from which a single writer
+ * thread encodes and writes them to the log file in batches.
+ * <p>
+ * Unlike {@link io.undertow.server.handlers.accesslog.DefaultAccessLogReceiver}, logging a message neither allocates a
+ * queue node nor submits a task to an executor. The writer encodes messages into a reusable direct buffer and writes
+ * whenever the buffer is full or the ring buffer is drained, optionally forcing written data to disk at a configurable
+ * interval, which is also enforced while the ring buffer does not drain. If the ring buffer is full, logging threads wait for the writer to catch up, rather than losing messages.
+ * <p>
+ * Log files are named and rotated in the same way as {@link io.undertow.server.handlers.accesslog.DefaultAccessLogReceiver}.
+ */
+final class RingBufferAccessLogReceiver implements AccessLogReceiver, Runnable, Closeable {
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+    private static final byte[] LINE_SEPARATOR = System.lineSeparator().getBytes(StandardCharsets.UTF_8);
+    private static final long MAX_IDLE_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    // Largest power of 2 that is a valid array length
+    static final int MAX_CAPACITY = 1 << 30;
+
+    private final AtomicReferenceArray<String> messages;
+    private final int mask;
+    // Sequence of the next message to publish
+    private final AtomicLong head = new AtomicLong();
+    // Sequence of the next message to write, only updated by the writer thread
+    private volatile long tail;
+    private volatile boolean idle;
+    private volatile boolean closed;
+
+    private final Path directory;
+    private final Path logFile;
+    private final String logBaseName;
+    private final String logNameSuffix;
+    private final boolean rotate;
+    private final LogFileHeaderGenerator headerGenerator;
+    private final long fsyncIntervalNanos;
+    private final Thread writer;
+
+    // Only accessed by the writer thread
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(WRITE_BUFFER_SIZE);
+    private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder().onMalformedInput(CodingErrorAction.REPLACE).onUnmappableCharacter(CodingErrorAction.REPLACE);
+    private CharBuffer chars = CharBuffer.allocate(1024);
+    private FileChannel channel;
+    private LocalDate date;
+    private long changeOverPoint;
+    private long lastSync;
+    private boolean unsynced;
+
+    /**
+     * Creates a new receiver.
+     * @param directory the directory of the log files
+     * @param logBaseName the prefix of the log file names
+     * @param logNameSuffix the suffix of the log file names
+     * @param rotate indicates whether the log file is rotated daily
+     * @param headerGenerator an optional generator of the header of new log files
+     * @param capacity the minimum number of messages that can be buffered, rounded up to a power of 2, at most {@value #MAX_CAPACITY}
+     * @param fsyncInterval the minimum interval in milliseconds at which written messages are forced to disk, or 0, if this is left to the operating system
+     * @param threadName the name of the writer thread
+     */
+    RingBufferAccessLogReceiver(Path directory, String logBaseName, String logNameSuffix, boolean rotate, LogFileHeaderGenerator headerGenerator, int capacity, int fsyncInterval, String threadName) {
+        int size = (capacity > MAX_CAPACITY / 2) ? MAX_CAPACITY : Integer.highestOneBit(Math.max(2, capacity) * 2 - 1);
+        this.messages = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+        this.directory = directory;
+        this.logBaseName = logBaseName;
+        this.logNameSuffix = (logNameSuffix != null) ? logNameSuffix : "log";
+        this.logFile = directory.resolve(logBaseName + this.logNameSuffix);
+        this.rotate = rotate;
+        this.headerGenerator = headerGenerator;
+        this.fsyncIntervalNanos = TimeUnit.MILLISECONDS.toNanos(fsyncInterval);
+        this.writer = new JBossThreadFactory(null, Boolean.TRUE, null, threadName.replace("%", "%%"), null, null).newThread(this);
+        this.writer.start();
+    }
+
+    @Override
+    public void logMessage(String message) {
+        if (this.closed) return;
+        long sequence = this.head.getAndIncrement();
+        while (sequence - this.tail >= this.messages.length()) {
+            // Ring buffer is full, wait for the writer to catch up
+            if (this.closed) return;
+            LockSupport.unpark(this.writer);
+            LockSupport.parkNanos(this, 1000);
+        }
+        this.messages.set((int) sequence & this.mask, message);
+        if (this.idle) {
+            LockSupport.unpark(this.writer);
+        }
+    }
+
+    @Override
+    public void run() {
+        long sequence = 0;
+        while (true) {
+            int index = (int) sequence & this.mask;
+            String message = this.messages.get(index);
+            if (message != null) {
+                this.messages.set(index, null);
+                sequence += 1;
+                // Publish progress periodically, so that logging threads waiting for capacity can proceed
+                if ((sequence & 0xFF) == 0) {
+                    this.tail = sequence;
+                }
+                this.write(message);
+                // Under sustained load the ring buffer may never drain, so honour the fsync interval here as well
+                if (this.fsyncIntervalNanos > 0 && System.nanoTime() - this.lastSync >= this.fsyncIntervalNanos) {
+                    this.flush();
+                }
+                continue;
+            }
+            this.tail = sequence;
+            this.flush();
+            if (this.closed) {
+                break;
+            }
+            this.idle = true;
+            if (this.messages.get(index) == null && !this.closed) {
+                // Wake up in time for a pending fsync
+                LockSupport.parkNanos(this, this.unsynced ? Math.min(MAX_IDLE_NANOS, this.lastSync + this.fsyncIntervalNanos - System.nanoTime()) : MAX_IDLE_NANOS);
+            }
+            this.idle = false;
+        }
+        this.closeChannel();
+    }
+
+    @Override
+    public void close() {
+        this.closed = true;
+        LockSupport.unpark(this.writer);
+        try {
+            this.writer.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void write(String message) {
+        try {
+            if (this.rotate && (this.channel != null) && (System.currentTimeMillis() >= this.changeOverPoint)) {
+                this.flush();
+                this.closeChannel();
+                this.rotate(this.date);
+            }
+            if (this.channel == null) {
+                this.open();
+            }
+            int length = message.length();
+            if (this.chars.capacity() < length) {
+                this.chars = CharBuffer.allocate(Integer.highestOneBit(length) << 1);
+            }
+            this.chars.clear();
+            message.getChars(0, length, this.chars.array(), 0);
+            this.chars.limit(length);
+            this.encoder.reset();
+            this.encode(this.chars);
+            if (this.buffer.remaining() < LINE_SEPARATOR.length) {
+                this.drain();
+            }
+            this.buffer.put(LINE_SEPARATOR);
+        } catch (IOException e) {
+            UndertowLogger.ROOT_LOGGER.failedToWriteAccessLog(this.logFile, e);
+            this.buffer.clear();
+            this.closeChannel();
+        }
+    }
+
+    private void encode(CharBuffer source) throws IOException {
+        CoderResult result = this.encoder.encode(source, this.buffer, true);
+        while (result.isOverflow()) {
+            this.drain();
+            result = this.encoder.encode(source, this.buffer, true);
+        }
+        result = this.encoder.flush(this.buffer);
+        while (result.isOverflow()) {
+            this.drain();
+            result = this.encoder.flush(this.buffer);
+        }
+    }
+
+    private void open() throws IOException {
+        if (this.rotate) {
+            ZoneId zone = ZoneId.systemDefault();
+            this.date = LocalDate.now(zone);
+            this.changeOverPoint = this.date.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli();
+            if (Files.exists(this.logFile)) {
+                // Rotate a log file left over from a previous day
+                LocalDate modified = LocalDate.ofInstant(Files.getLastModifiedTime(this.logFile).toInstant(), zone);
+                if (modified.isBefore(this.date)) {
+                    this.rotate(modified);
+                }
+            }
+        }
+        this.channel = FileChannel.open(this.logFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        this.lastSync = System.nanoTime();
+        if (this.headerGenerator != null && this.channel.size() == 0) {
+            String header = this.headerGenerator.generateHeader();
+            if (header != null) {
+                this.encoder.reset();
+                this.encode(CharBuffer.wrap(header));
+                this.buffer.put(LINE_SEPARATOR);
+            }
+        }
+    }
+
+    private void rotate(LocalDate date) {
+        String dateString = DATE_FORMAT.format(date);
+        Path target = this.directory.resolve(this.logBaseName + dateString + "." + this.logNameSuffix);
+        int count = 0;
+        while (Files.exists(target)) {
+            target = this.directory.resolve(this.logBaseName + dateString + "-" + (++count) + "." + this.logNameSuffix);
+        }
+        try {
+            if (Files.exists(this.logFile)) {
+                Files.move(this.logFile, target);
+            }
+        } catch (IOException e) {
+            UndertowLogger.ROOT_LOGGER.failedToWriteAccessLog(this.logFile, e);
+        }
+    }
+
+    private void flush() {
+        if (this.channel == null) return;
+        try {
+            this.drain();
+            if (this.unsynced) {
+                long now = System.nanoTime();
+                if (now - this.lastSync >= this.fsyncIntervalNanos) {
+                    this.channel.force(false);
+                    this.lastSync = now;
+                    this.unsynced = false;
+                }
+            }
+        } catch (IOException e) {
+            UndertowLogger.ROOT_LOGGER.failedToWriteAccessLog(this.logFile, e);
+            this.buffer.clear();
+            this.closeChannel();
+        }
+    }
+
+    private void drain() throws IOException {
+        if (this.buffer.position() == 0) return;
+        this.buffer.flip();
+        while (this.buffer.hasRemaining()) {
+            this.channel.write(this.buffer);
+        }
+        this.buffer.clear();
+        this.unsynced = this.fsyncIntervalNanos > 0;
+    }
+
+    private void closeChannel() {
+        if (this.channel != null) {
+            try {
+                if (this.unsynced) {
+                    this.channel.force(false);
+                }
+                this.channel.close();
+            } catch (IOException e) {
+                UndertowLogger.ROOT_LOGGER.failedToWriteAccessLog(this.logFile, e);
+            }
+            this.channel = null;
+            this.unsynced = false;
+        }
+    }
+}
@@ -92,6 +92,7 @@ final class ServletContainerAdd extends AbstractBoottimeAddStepHandler {
         final int defaultCookieVersion = ServletContainerDefinition.DEFAULT_COOKIE_VERSION.resolveModelAttribute(resolver, model).asInt();
         final boolean preservePathOnForward = ServletContainerDefinition.PRESERVE_PATH_ON_FORWARD.resolveModelAttribute(resolver, model).asBoolean();
         boolean orphanSessionAllowed = ServletContainerDefinition.ORPHAN_SESSION_ALLOWED.resolveModelAttribute(resolver, model).asBoolean();
+        boolean compressStaticResources = ServletContainerDefinition.COMPRESS_STATIC_RESOURCES.resolveModelAttribute(resolver, model).asBoolean();
 
         Boolean directoryListingEnabled = ServletContainerDefinition.DIRECTORY_LISTING.resolveModelAttribute(resolver, model).asBooleanOrNull();
         Integer maxSessions = ServletContainerDefinition.MAX_SESSIONS.resolveModelAttribute(resolver, model).asIntOrNull();
@@ -287,6 +288,11 @@ final class ServletContainerAdd extends AbstractBoottimeAddStepHandler {
             public boolean isOrphanSessionAllowed() {
                 return orphanSessionAllowed;
             }
+
+            @Override
+            public boolean isCompressStaticResources() {
+                return compressStaticResources;
+            }
         };
         builder.setInstance(Service.newInstance(builder.provides(ServletContainerDefinition.SERVLET_CONTAINER_CAPABILITY, UndertowService.SERVLET_CONTAINER.append(address.getLastElement().getValue())), service));
         builder.setInitialMode(ServiceController.Mode.ON_DEMAND);
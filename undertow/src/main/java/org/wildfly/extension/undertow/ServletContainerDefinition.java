@@ -204,6 +204,14 @@ class ServletContainerDefinition extends PersistentResourceDefinition {
                     .setDefaultValue(ModelNode.FALSE)
                     .build();
 
+    static final AttributeDefinition COMPRESS_STATIC_RESOURCES =
+            new SimpleAttributeDefinitionBuilder("compress-static-resources", ModelType.BOOLEAN)
+                    .setRequired(false)
+                    .setFlags(AttributeAccess.Flag.RESTART_ALL_SERVICES)
+                    .setAllowExpression(true)
+                    .setDefaultValue(ModelNode.FALSE)
+                    .build();
+
     static final Collection<AttributeDefinition> ATTRIBUTES = List.of(
             ALLOW_NON_STANDARD_WRAPPERS,
             DEFAULT_BUFFER_CACHE,
@@ -225,7 +233,8 @@ class ServletContainerDefinition extends PersistentResourceDefinition {
             FILE_CACHE_TIME_TO_LIVE,
             DEFAULT_COOKIE_VERSION,
             PRESERVE_PATH_ON_FORWARD,
-            ORPHAN_SESSION_ALLOWED);
+            ORPHAN_SESSION_ALLOWED,
+            COMPRESS_STATIC_RESOURCES);
 
     ServletContainerDefinition() {
         super(new SimpleResourceDefinition.Parameters(PATH_ELEMENT, UndertowExtension.getResolver(PATH_ELEMENT.getKey()))
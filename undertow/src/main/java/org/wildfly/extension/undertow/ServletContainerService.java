@@ -111,4 +111,6 @@ public interface ServletContainerService {
     boolean isPreservePathOnForward();
 
     boolean isOrphanSessionAllowed();
+
+    boolean isCompressStaticResources();
 }
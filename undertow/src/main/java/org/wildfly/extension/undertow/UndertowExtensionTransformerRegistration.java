@@ -36,6 +36,8 @@ import org.jboss.as.controller.transform.description.ResourceTransformationDescr
 import org.jboss.as.controller.transform.description.TransformationDescription;
 import org.jboss.as.controller.transform.description.TransformationDescriptionBuilder;
 import org.kohsuke.MetaInfServices;
+import org.wildfly.extension.undertow.filters.AdaptiveRequestLimitFilterDefinition;
+import org.wildfly.extension.undertow.filters.FilterDefinitions;
 
 /**
  * Registers transformers for the Undertow subsystem.
@@ -56,6 +58,13 @@ public class UndertowExtensionTransformerRegistration implements ExtensionTransf
             ResourceTransformationDescriptionBuilder subsystem = TransformationDescriptionBuilder.Factory.createSubsystemInstance();
 
             ResourceTransformationDescriptionBuilder server = subsystem.addChildResource(ServerDefinition.PATH_ELEMENT);
+            if (UndertowSubsystemModel.VERSION_14_0_0.requiresTransformation(version)) {
+                server.addChildResource(HostDefinition.PATH_ELEMENT).addChildResource(AccessLogDefinition.PATH_ELEMENT).getAttributeBuilder()
+                    .setDiscard(DiscardAttributeChecker.UNDEFINED, AccessLogDefinition.RING_BUFFER_SIZE)
+                    .setDiscard(DiscardAttributeChecker.DEFAULT_VALUE, AccessLogDefinition.FSYNC_INTERVAL)
+                    .addRejectCheck(RejectAttributeChecker.DEFINED, AccessLogDefinition.RING_BUFFER_SIZE, AccessLogDefinition.FSYNC_INTERVAL)
+                    .end();
+            }
             for (PathElement listenerPath : Set.of(HttpListenerResourceDefinition.PATH_ELEMENT, HttpsListenerResourceDefinition.PATH_ELEMENT, AjpListenerResourceDefinition.PATH_ELEMENT)) {
                 if (UndertowSubsystemModel.VERSION_13_0_0.requiresTransformation(version)) {
                     server.addChildResource(listenerPath).getAttributeBuilder()
@@ -73,6 +82,16 @@ public class UndertowExtensionTransformerRegistration implements ExtensionTransf
 
                 servletContainer.rejectChildResource(AffinityCookieDefinition.PATH_ELEMENT);
             }
+            if (UndertowSubsystemModel.VERSION_14_0_0.requiresTransformation(version)) {
+                servletContainer.getAttributeBuilder()
+                    .setDiscard(DiscardAttributeChecker.UNDEFINED, ServletContainerDefinition.COMPRESS_STATIC_RESOURCES)
+                    .addRejectCheck(RejectAttributeChecker.DEFINED, ServletContainerDefinition.COMPRESS_STATIC_RESOURCES)
+                    .end();
+            }
+
+            if (UndertowSubsystemModel.VERSION_14_0_0.requiresTransformation(version)) {
+                subsystem.addChildResource(FilterDefinitions.PATH_ELEMENT).rejectChildResource(AdaptiveRequestLimitFilterDefinition.PATH_ELEMENT);
+            }
 
             TransformationDescription.Tools.register(subsystem.build(), registration, version);
         }
@@ -33,6 +33,7 @@ import org.jboss.as.clustering.controller.Attribute;
 import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.PersistentResourceXMLDescription;
 import org.jboss.as.controller.operations.common.Util;
+import org.wildfly.extension.undertow.filters.AdaptiveRequestLimitFilterDefinition;
 import org.wildfly.extension.undertow.filters.CustomFilterDefinition;
 import org.wildfly.extension.undertow.filters.ErrorPageDefinition;
 import org.wildfly.extension.undertow.filters.ExpressionFilterDefinition;
@@ -74,16 +75,7 @@ public enum UndertowPersistentResourceXMLDescriptionFactory implements Function<
         );
         builder.addChild(servletContainerBuilder(schema));
         builder.addChild(handlersBuilder(schema));
-        builder.addChild(PersistentResourceXMLDescription.builder(FilterDefinitions.PATH_ELEMENT).setXmlElementName(Constants.FILTERS).setNoAddOperation(true)
-            .addChild(builder(RequestLimitHandlerDefinition.PATH_ELEMENT).addAttributes(RequestLimitHandlerDefinition.ATTRIBUTES.stream()))
-            .addChild(builder(ResponseHeaderFilterDefinition.PATH_ELEMENT).addAttributes(ResponseHeaderFilterDefinition.ATTRIBUTES.stream()))
-            .addChild(builder(GzipFilterDefinition.PATH_ELEMENT))
-            .addChild(builder(ErrorPageDefinition.PATH_ELEMENT).addAttributes(ErrorPageDefinition.ATTRIBUTES.stream()))
-            .addChild(modClusterBuilder(schema))
-            .addChild(builder(CustomFilterDefinition.PATH_ELEMENT).addAttributes(CustomFilterDefinition.ATTRIBUTES.stream()).setXmlElementName("filter"))
-            .addChild(builder(ExpressionFilterDefinition.PATH_ELEMENT).addAttributes(ExpressionFilterDefinition.ATTRIBUTES.stream()))
-            .addChild(builder(RewriteFilterDefinition.PATH_ELEMENT).addAttributes(RewriteFilterDefinition.ATTRIBUTES.stream()))
-        );
+        builder.addChild(filtersBuilder(schema));
         if (schema.since(UndertowSubsystemSchema.VERSION_4_0)) {
             builder.addChild(applicationSecurityDomainBuilder(schema));
         }
@@ -101,6 +93,22 @@ public enum UndertowPersistentResourceXMLDescriptionFactory implements Function<
         return builder.build();
     }
 
+    private static PersistentResourceXMLDescription.PersistentResourceXMLBuilder filtersBuilder(UndertowSubsystemSchema schema) {
+        PersistentResourceXMLDescription.PersistentResourceXMLBuilder builder = PersistentResourceXMLDescription.builder(FilterDefinitions.PATH_ELEMENT).setXmlElementName(Constants.FILTERS).setNoAddOperation(true)
+                .addChild(builder(RequestLimitHandlerDefinition.PATH_ELEMENT).addAttributes(RequestLimitHandlerDefinition.ATTRIBUTES.stream()))
+                .addChild(builder(ResponseHeaderFilterDefinition.PATH_ELEMENT).addAttributes(ResponseHeaderFilterDefinition.ATTRIBUTES.stream()))
+                .addChild(builder(GzipFilterDefinition.PATH_ELEMENT))
+                .addChild(builder(ErrorPageDefinition.PATH_ELEMENT).addAttributes(ErrorPageDefinition.ATTRIBUTES.stream()))
+                .addChild(modClusterBuilder(schema))
+                .addChild(builder(CustomFilterDefinition.PATH_ELEMENT).addAttributes(CustomFilterDefinition.ATTRIBUTES.stream()).setXmlElementName("filter"))
+                .addChild(builder(ExpressionFilterDefinition.PATH_ELEMENT).addAttributes(ExpressionFilterDefinition.ATTRIBUTES.stream()))
+                .addChild(builder(RewriteFilterDefinition.PATH_ELEMENT).addAttributes(RewriteFilterDefinition.ATTRIBUTES.stream()));
+        if (schema.since(UndertowSubsystemSchema.VERSION_15_0)) {
+            builder.addChild(builder(AdaptiveRequestLimitFilterDefinition.PATH_ELEMENT).addAttributes(AdaptiveRequestLimitFilterDefinition.ATTRIBUTES.stream()));
+        }
+        return builder;
+    }
+
     private static PersistentResourceXMLDescription.PersistentResourceXMLBuilder ajpListenerBuilder(UndertowSubsystemSchema schema) {
         PersistentResourceXMLDescription.PersistentResourceXMLBuilder builder = builder(AjpListenerResourceDefinition.PATH_ELEMENT);
         Stream<AttributeDefinition> attributes = AjpListenerResourceDefinition.ATTRIBUTES.stream();
@@ -159,7 +167,11 @@ public enum UndertowPersistentResourceXMLDescriptionFactory implements Function<
         builder.addChild(builder(LocationDefinition.PATH_ELEMENT).addAttributes(LocationDefinition.ATTRIBUTES.stream())
             .addChild(filterRefBuilder())
         );
-        builder.addChild(builder(AccessLogDefinition.PATH_ELEMENT).addAttributes(AccessLogDefinition.ATTRIBUTES.stream()));
+        Stream<AttributeDefinition> accessLogAttributes = AccessLogDefinition.ATTRIBUTES.stream();
+        if (!schema.since(UndertowSubsystemSchema.VERSION_15_0)) {
+            accessLogAttributes = accessLogAttributes.filter(Predicate.not(Set.of(AccessLogDefinition.RING_BUFFER_SIZE, AccessLogDefinition.FSYNC_INTERVAL)::contains));
+        }
+        builder.addChild(builder(AccessLogDefinition.PATH_ELEMENT).addAttributes(accessLogAttributes));
         if (schema.since(UndertowSubsystemSchema.VERSION_9_0)) {
             builder.addChild(builder(ConsoleAccessLogDefinition.PATH_ELEMENT).addAttributes(ConsoleAccessLogDefinition.ATTRIBUTES.stream()));
         }
@@ -208,6 +220,9 @@ public enum UndertowPersistentResourceXMLDescriptionFactory implements Function<
         if (!schema.since(UndertowSubsystemSchema.VERSION_10_0)) {
             attributes = attributes.filter(Predicate.isEqual(ServletContainerDefinition.PRESERVE_PATH_ON_FORWARD).negate());
         }
+        if (!schema.since(UndertowSubsystemSchema.VERSION_15_0)) {
+            attributes = attributes.filter(Predicate.isEqual(ServletContainerDefinition.COMPRESS_STATIC_RESOURCES).negate());
+        }
         attributes.forEach(builder::addAttribute);
         return builder;
     }
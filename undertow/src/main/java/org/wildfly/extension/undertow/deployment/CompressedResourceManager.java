@@ -0,0 +1,363 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2023, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.extension.undertow.deployment;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import io.undertow.io.IoCallback;
+import io.undertow.io.Sender;
+import io.undertow.server.HttpServerExchange;
+import io.undertow.server.handlers.resource.PathResourceManager;
+import io.undertow.server.handlers.resource.RangeAwareResource;
+import io.undertow.server.handlers.resource.Resource;
+import io.undertow.server.handlers.resource.ResourceChangeListener;
+import io.undertow.server.handlers.resource.ResourceManager;
+import io.undertow.servlet.api.ServletInfo;
+import io.undertow.servlet.handlers.DefaultServlet;
+import io.undertow.servlet.handlers.ServletRequestContext;
+import io.undertow.util.CanonicalPathUtils;
+import io.undertow.util.ETag;
+import io.undertow.util.MimeMappings;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.RequestDispatcher;
+import jakarta.servlet.http.HttpServletRequest;
+import org.wildfly.extension.undertow.logging.UndertowLogger;
+
+/**
+ * Resource manager that provides gzip and deflate compressed variants of the static resources of a deployment.
+ * <p>
+ * When the default servlet serves {@code <path>} to a client accepting gzip or deflate, it looks up
+ * {@code <path>.gz} or {@code <path>.deflate} as a pre-compressed resource, see
+ * {@link io.undertow.servlet.api.DeploymentInfo#addPreCompressedResourceEncoding(String, String)}. If the underlying
+ * resource manager cannot satisfy that lookup, it is served from a compressed copy of {@code <path>}. The copy is
+ * written to disk the first time it is requested and is reused until the last modified date of the original resource
+ * changes, so that the same content is not compressed on every request and large files can use zero-copy transfers.
+ * <p>
+ * Compressed variants are only provided for the path the default servlet is currently serving. A request for
+ * {@code <path>.gz} itself, or a lookup made on behalf of any other servlet, never sees them, so this manager cannot
+ * expose the content of resources, e.g. Jakarta Faces views, that the default servlet would not serve.
+ * For the same reason, this manager must be layered above any {@link io.undertow.server.handlers.resource.CachingResourceManager}.
+ */
+public class CompressedResourceManager implements ResourceManager {
+
+    // Resources smaller than this are not worth compressing
+    static final int MIN_SIZE = 1024;
+
+    static final Map<String, String> ENCODINGS = Map.of("gzip", ".gz", "deflate", ".deflate");
+
+    private final ResourceManager resourceManager;
+    private final Path root;
+    private final PathResourceManager compressedResourceManager;
+    private final MimeMappings mimeMappings;
+    private final Supplier<String> servedPath;
+
+    public CompressedResourceManager(ResourceManager resourceManager, Path root, MimeMappings mimeMappings) throws IOException {
+        this(resourceManager, root, mimeMappings, CompressedResourceManager::getDefaultServletPath);
+    }
+
+    CompressedResourceManager(ResourceManager resourceManager, Path root, MimeMappings mimeMappings, Supplier<String> servedPath) throws IOException {
+        this.resourceManager = resourceManager;
+        this.root = Files.createDirectories(root).toRealPath();
+        this.compressedResourceManager = new PathResourceManager(this.root, ServletResourceManager.TRANSFER_MIN_SIZE, true, false, false);
+        this.mimeMappings = mimeMappings;
+        this.servedPath = servedPath;
+    }
+
+    @Override
+    public Resource getResource(String path) throws IOException {
+        Resource resource = this.resourceManager.getResource(path);
+        if (resource != null) {
+            return resource;
+        }
+        for (String extension : ENCODINGS.values()) {
+            if (path.endsWith(extension)) {
+                String originalPath = path.substring(0, path.length() - extension.length());
+                String servedPath = this.servedPath.get();
+                // Only answer the pre-compressed lookup of the default servlet for the path it is serving
+                if (servedPath == null || !stripLeadingSlash(servedPath).equals(stripLeadingSlash(originalPath))) {
+                    return null;
+                }
+                return this.getCompressedResource(originalPath, extension);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the path of the resource served by the default servlet for the current request, or null if the current
+     * request is not handled by the default servlet. This mirrors the path resolution of {@link DefaultServlet}.
+     */
+    private static String getDefaultServletPath() {
+        ServletRequestContext context = ServletRequestContext.current();
+        if (context == null || context.getCurrentServlet() == null || !(context.getServletRequest() instanceof HttpServletRequest)) {
+            return null;
+        }
+        ServletInfo servlet = context.getCurrentServlet().getManagedServlet().getServletInfo();
+        if (!DefaultServlet.class.isAssignableFrom(servlet.getServletClass())) {
+            return null;
+        }
+        HttpServletRequest request = (HttpServletRequest) context.getServletRequest();
+        boolean include = request.getDispatcherType() == DispatcherType.INCLUDE && request.getAttribute(RequestDispatcher.INCLUDE_REQUEST_URI) != null;
+        String servletPath = include ? (String) request.getAttribute(RequestDispatcher.INCLUDE_SERVLET_PATH) : request.getServletPath();
+        String pathInfo = include ? (String) request.getAttribute(RequestDispatcher.INCLUDE_PATH_INFO) : request.getPathInfo();
+        String path = (pathInfo == null) ? CanonicalPathUtils.canonicalize(servletPath)
+                : Boolean.parseBoolean(servlet.getInitParams().get(DefaultServlet.RESOLVE_AGAINST_CONTEXT_ROOT)) ? servletPath + CanonicalPathUtils.canonicalize(pathInfo)
+                : CanonicalPathUtils.canonicalize(pathInfo);
+        return (path == null || path.isEmpty()) ? "/" : path;
+    }
+
+    private static String stripLeadingSlash(String path) {
+        return path.startsWith("/") ? path.substring(1) : path;
+    }
+
+    private Resource getCompressedResource(String path, String extension) throws IOException {
+        Resource resource = this.resourceManager.getResource(path);
+        if (resource == null || resource.isDirectory() || !this.isCompressible(resource)) {
+            return null;
+        }
+        Date lastModified = resource.getLastModified();
+        if (lastModified == null) {
+            return null;
+        }
+        String compressedPath = (resource.getPath().startsWith("/") ? resource.getPath().substring(1) : resource.getPath()) + extension;
+        Path file = this.root.resolve(compressedPath).normalize();
+        if (!file.startsWith(this.root)) {
+            return null;
+        }
+        FileTime time = FileTime.fromMillis(lastModified.getTime());
+        if (!Files.isRegularFile(file) || !Files.getLastModifiedTime(file).equals(time)) {
+            try {
+                this.compress(resource, file, extension, time);
+            } catch (IOException e) {
+                UndertowLogger.ROOT_LOGGER.failedToCompressResource(resource.getPath(), e);
+                return null;
+            }
+        }
+        Resource compressed = this.compressedResourceManager.getResource(compressedPath);
+        return (compressed != null) ? new CompressedResource(compressed, resource) : null;
+    }
+
+    private boolean isCompressible(Resource resource) {
+        Long length = resource.getContentLength();
+        if (length == null || length < MIN_SIZE) {
+            return false;
+        }
+        String contentType = resource.getContentType(this.mimeMappings);
+        if (contentType == null) {
+            return false;
+        }
+        return contentType.startsWith("text/") || contentType.endsWith("+xml") || contentType.endsWith("+json")
+                || contentType.equals("application/javascript") || contentType.equals("application/json") || contentType.equals("application/xml");
+    }
+
+    private void compress(Resource resource, Path target, String extension, FileTime lastModified) throws IOException {
+        Files.createDirectories(target.getParent());
+        // Concurrent requests may compress the same resource, the last one to complete wins
+        Path file = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+        try {
+            try (InputStream input = open(resource); OutputStream output = compressor(Files.newOutputStream(file), extension)) {
+                input.transferTo(output);
+            }
+            Files.setLastModifiedTime(file, lastModified);
+            Files.move(file, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static InputStream open(Resource resource) throws IOException {
+        Path path = resource.getFilePath();
+        if (path != null) {
+            return Files.newInputStream(path);
+        }
+        URL url = resource.getUrl();
+        if (url == null) {
+            throw new IOException(resource.getPath());
+        }
+        return url.openStream();
+    }
+
+    private static OutputStream compressor(OutputStream output, String extension) throws IOException {
+        // Compression happens once per resource, so favour size over speed
+        if (extension.equals(ENCODINGS.get("gzip"))) {
+            return new GZIPOutputStream(output, 8192) {
+                {
+                    this.def.setLevel(Deflater.BEST_COMPRESSION);
+                }
+            };
+        }
+        return new DeflaterOutputStream(output, new Deflater(Deflater.BEST_COMPRESSION), 8192) {
+            @Override
+            public void close() throws IOException {
+                try {
+                    super.close();
+                } finally {
+                    this.def.end();
+                }
+            }
+        };
+    }
+
+    @Override
+    public boolean isResourceChangeListenerSupported() {
+        return this.resourceManager.isResourceChangeListenerSupported();
+    }
+
+    @Override
+    public void registerResourceChangeListener(ResourceChangeListener listener) {
+        this.resourceManager.registerResourceChangeListener(listener);
+    }
+
+    @Override
+    public void removeResourceChangeListener(ResourceChangeListener listener) {
+        this.resourceManager.removeResourceChangeListener(listener);
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            this.resourceManager.close();
+        } finally {
+            this.compressedResourceManager.close();
+        }
+    }
+
+    /**
+     * Compressed variant of a resource, which shares the last modified date of the original resource so that caches
+     * holding the variant are invalidated when the original resource changes.
+     */
+    private static class CompressedResource implements RangeAwareResource {
+        private final Resource compressed;
+        private final Resource original;
+
+        CompressedResource(Resource compressed, Resource original) {
+            this.compressed = compressed;
+            this.original = original;
+        }
+
+        @Override
+        public String getPath() {
+            return this.compressed.getPath();
+        }
+
+        @Override
+        public Date getLastModified() {
+            return this.original.getLastModified();
+        }
+
+        @Override
+        public String getLastModifiedString() {
+            return this.original.getLastModifiedString();
+        }
+
+        @Override
+        public ETag getETag() {
+            return this.compressed.getETag();
+        }
+
+        @Override
+        public String getName() {
+            return this.compressed.getName();
+        }
+
+        @Override
+        public boolean isDirectory() {
+            return false;
+        }
+
+        @Override
+        public List<Resource> list() {
+            return List.of();
+        }
+
+        @Override
+        public String getContentType(MimeMappings mimeMappings) {
+            return this.compressed.getContentType(mimeMappings);
+        }
+
+        @Override
+        public void serve(Sender sender, HttpServerExchange exchange, IoCallback completionCallback) {
+            this.compressed.serve(sender, exchange, completionCallback);
+        }
+
+        @Override
+        public void serveRange(Sender sender, HttpServerExchange exchange, long start, long end, IoCallback completionCallback) {
+            ((RangeAwareResource) this.compressed).serveRange(sender, exchange, start, end, completionCallback);
+        }
+
+        @Override
+        public boolean isRangeSupported() {
+            return (this.compressed instanceof RangeAwareResource) && ((RangeAwareResource) this.compressed).isRangeSupported();
+        }
+
+        @Override
+        public Long getContentLength() {
+            return this.compressed.getContentLength();
+        }
+
+        @Override
+        public String getCacheKey() {
+            return this.compressed.getCacheKey();
+        }
+
+        @Override
+        public File getFile() {
+            return this.compressed.getFile();
+        }
+
+        @Override
+        public Path getFilePath() {
+            return this.compressed.getFilePath();
+        }
+
+        @Override
+        public File getResourceManagerRoot() {
+            return this.compressed.getResourceManagerRoot();
+        }
+
+        @Override
+        public Path getResourceManagerRootPath() {
+            return this.compressed.getResourceManagerRootPath();
+        }
+
+        @Override
+        public URL getUrl() {
+            return this.compressed.getUrl();
+        }
+    }
+}
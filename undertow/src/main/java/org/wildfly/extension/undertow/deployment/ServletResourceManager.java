@@ -27,6 +27,7 @@ import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.jboss.vfs.VirtualFile;
 import io.undertow.server.handlers.resource.PathResourceManager;
@@ -47,6 +48,7 @@ public class ServletResourceManager implements ResourceManager {
     private final Collection<VirtualFile> overlays;
     private final ResourceManager[] externalOverlays;
     private final boolean explodedDeployment;
+    private final LongAdder transferredBytes = new LongAdder();
 
     public ServletResourceManager(final VirtualFile resourcesRoot, final Collection<VirtualFile> overlays,
                                   boolean explodedDeployment, boolean followSymlink, boolean disableFileWatchService,
@@ -97,7 +99,7 @@ public class ServletResourceManager implements ResourceManager {
                         //CanonicalPathUtils should make sure this cannot happen
                         //but just to be safe we do it anyway
                         child.getPathNameRelativeTo(overlay);
-                        return new ServletResource(this, new VirtualFileResource(overlay.getPhysicalFile(), child, canonical));
+                        return new ServletResource(this, new VirtualFileResource(overlay.getPhysicalFile(), child, canonical, transferredBytes));
                     } catch (IllegalArgumentException ignore) {
 
                     }
@@ -148,6 +150,15 @@ public class ServletResourceManager implements ResourceManager {
         deploymentResourceManager.close();
     }
 
+    /**
+     * Returns the number of bytes of overlay resources sent with zero-copy file transfers.
+     *
+     * @return the number of bytes
+     */
+    public long getTransferredBytes() {
+        return transferredBytes.sum();
+    }
+
     /**
      * Lists all children of a particular path, taking overlays into account
      *
@@ -172,7 +183,7 @@ public class ServletResourceManager implements ResourceManager {
                 for (VirtualFile overlay : overlays) {
                     VirtualFile child = overlay.getChild(p);
                     if (child.exists()) {
-                        VirtualFileResource vfsResource = new VirtualFileResource(overlay.getPhysicalFile(), child, path);
+                        VirtualFileResource vfsResource = new VirtualFileResource(overlay.getPhysicalFile(), child, path, transferredBytes);
                         for (Resource c : vfsResource.list()) {
                             ret.add(new ServletResource(this, c));
                         }
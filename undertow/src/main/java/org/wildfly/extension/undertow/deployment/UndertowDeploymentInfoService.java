@@ -62,6 +62,7 @@ import io.undertow.servlet.api.WebResourceCollection;
 import io.undertow.servlet.handlers.DefaultServlet;
 import io.undertow.servlet.handlers.ServletPathMatches;
 import io.undertow.servlet.util.ImmediateInstanceFactory;
+import io.undertow.util.MimeMappings;
 import io.undertow.websockets.extensions.PerMessageDeflateHandshake;
 import io.undertow.websockets.jsr.ServerWebSocketContainer;
 import io.undertow.websockets.jsr.UndertowContainerProvider;
@@ -404,8 +405,9 @@ public class UndertowDeploymentInfoService implements Service<DeploymentInfo> {
                 }
             }
             deploymentInfo.setServerName(serverEnvironment.get().getProductConfig().getPrettyVersionString());
-            if (undertowService.get().isStatisticsEnabled()) {
-                deploymentInfo.setMetricsCollector(new UndertowMetricsCollector());
+            UndertowMetricsCollector metricsCollector = (UndertowMetricsCollector) deploymentInfo.getMetricsCollector();
+            if (metricsCollector != null) {
+                deploymentInfo.addInnerHandlerChainWrapper(metricsCollector.getHandlerWrapper());
             }
 
             ControlPoint controlPoint = this.controlPoint != null ? this.controlPoint.get() : null;
@@ -504,7 +506,11 @@ public class UndertowDeploymentInfoService implements Service<DeploymentInfo> {
                 //TODO: make the caching limits configurable
                 List<String> externalOverlays = mergedMetaData.getOverlays();
 
-                ResourceManager resourceManager = new ServletResourceManager(deploymentRoot, overlays, explodedDeployment, mergedMetaData.isSymbolicLinkingEnabled(), servletContainer.isDisableFileWatchService(), externalOverlays);
+                ServletResourceManager servletResourceManager = new ServletResourceManager(deploymentRoot, overlays, explodedDeployment, mergedMetaData.isSymbolicLinkingEnabled(), servletContainer.isDisableFileWatchService(), externalOverlays);
+                if (undertowService.get().isStatisticsEnabled()) {
+                    d.setMetricsCollector(new UndertowMetricsCollector(servletResourceManager::getTransferredBytes));
+                }
+                ResourceManager resourceManager = servletResourceManager;
 
                 resourceManager = new CachingResourceManager(servletContainer.getFileCacheMetadataSize(), servletContainer.getFileCacheMaxFileSize(), servletContainer.getBufferCache(), resourceManager, servletContainer.getFileCacheTimeToLive() == null ? (explodedDeployment ? 2000 : -1) : servletContainer.getFileCacheTimeToLive());
                 if(externalResources != null && !externalResources.isEmpty()) {
@@ -518,6 +524,19 @@ public class UndertowDeploymentInfoService implements Service<DeploymentInfo> {
                     resourceManager = new DelegatingResourceManager(delegates);
                 }
 
+                // Layered above the caching resource manager, so that compressed variants are never cached for lookups other than those of the default servlet
+                if (servletContainer.isCompressStaticResources() && tempDir != null) {
+                    MimeMappings.Builder mimeMappings = MimeMappings.builder(true);
+                    servletContainer.getMimeMappings().forEach(mimeMappings::addMapping);
+                    if (mergedMetaData.getMimeMappings() != null) {
+                        for (MimeMappingMetaData mapping : mergedMetaData.getMimeMappings()) {
+                            mimeMappings.addMapping(mapping.getExtension(), mapping.getMimeType());
+                        }
+                    }
+                    resourceManager = new CompressedResourceManager(resourceManager, new File(tempDir, "compressed").toPath(), mimeMappings.build());
+                    CompressedResourceManager.ENCODINGS.forEach(d::addPreCompressedResourceEncoding);
+                }
+
                 d.setResourceManager(resourceManager);
             } catch (IOException e) {
                 throw new StartException(e);
@@ -22,27 +22,118 @@
 
 package org.wildfly.extension.undertow.deployment;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
 
+import io.undertow.server.ExchangeCompletionListener;
+import io.undertow.server.HandlerWrapper;
+import io.undertow.server.HttpHandler;
+import io.undertow.server.HttpServerExchange;
 import io.undertow.server.handlers.MetricsHandler;
 import io.undertow.servlet.api.MetricsCollector;
+import io.undertow.servlet.handlers.ServletChain;
+import io.undertow.servlet.handlers.ServletRequestContext;
+import io.undertow.util.AttachmentKey;
+import org.jboss.as.ee.utils.LatencyHistogram;
 
 /**
+ * Collects the per servlet metrics of a deployment.
+ * In addition to the totals computed by Undertow's {@link MetricsHandler}, a {@link LatencyHistogram} per servlet
+ * records request times so that tail latencies can be reported.
+ * The histograms are fed by the {@link HandlerWrapper} returned by {@link #getHandlerWrapper()}, which must be
+ * installed as an inner handler chain wrapper.
+ *
  * @author Tomaz Cerar (c) 2014 Red Hat Inc.
  */
 public class UndertowMetricsCollector implements MetricsCollector {
-    private final Map<String, MetricsHandler> metrics = new HashMap<>();
+    // Marks the exchanges whose request time is already being recorded, e.g. when a request is dispatched asynchronously
+    private static final AttachmentKey<Boolean> REQUEST_TIME_RECORDED = AttachmentKey.create(Boolean.class);
+
+    private final Map<String, MetricsHandler> metrics = new ConcurrentHashMap<>();
+    private final Map<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+    private final LongSupplier transferredBytes;
+
+    public UndertowMetricsCollector() {
+        this(() -> 0L);
+    }
+
+    /**
+     * @param transferredBytes supplies the number of bytes of static resources sent with zero-copy file transfers
+     */
+    public UndertowMetricsCollector(LongSupplier transferredBytes) {
+        this.transferredBytes = transferredBytes;
+    }
 
     @Override
     public void registerMetric(String name, MetricsHandler handler) {
         metrics.put(name, handler);
+        histograms.put(name, new LatencyHistogram());
     }
 
     public MetricsHandler.MetricResult getMetrics(String name) {
-        if (metrics.containsKey(name)) {
-            return metrics.get(name).getMetrics();
+        MetricsHandler handler = metrics.get(name);
+        return (handler != null) ? handler.getMetrics() : null;
+    }
+
+    /**
+     * Returns the request time, in microseconds, below which the given fraction of the requests to a servlet completed.
+     * @param name a servlet name
+     * @param fraction a percentile expressed as a fraction between 0 and 1
+     * @return the request time in microseconds, or -1 if the servlet is unknown or has not served any request yet
+     */
+    public long getRequestTimePercentile(String name, double fraction) {
+        LatencyHistogram histogram = histograms.get(name);
+        return (histogram != null) ? histogram.getPercentile(fraction) : -1;
+    }
+
+    public long getTransferredBytes() {
+        return transferredBytes.getAsLong();
+    }
+
+    public HandlerWrapper getHandlerWrapper() {
+        return RequestTimeHandler::new;
+    }
+
+    private class RequestTimeHandler implements HttpHandler {
+        private final HttpHandler next;
+
+        RequestTimeHandler(HttpHandler next) {
+            this.next = next;
+        }
+
+        @Override
+        public void handleRequest(HttpServerExchange exchange) throws Exception {
+            ServletRequestContext context = exchange.getAttachment(ServletRequestContext.ATTACHMENT_KEY);
+            ServletChain servlet = (context != null) ? context.getCurrentServlet() : null;
+            LatencyHistogram histogram = (servlet != null) ? histograms.get(servlet.getManagedServlet().getServletInfo().getName()) : null;
+            // The inner handler chain runs again for each asynchronous dispatch of the same exchange
+            if (histogram != null && !exchange.isComplete() && exchange.putAttachment(REQUEST_TIME_RECORDED, Boolean.TRUE) == null) {
+                // The request start time is only recorded if the listener is configured to do so
+                long start = (exchange.getRequestStartTime() != -1) ? exchange.getRequestStartTime() : System.nanoTime();
+                exchange.addExchangeCompleteListener(new RequestTimeListener(histogram, start));
+            }
+            this.next.handleRequest(exchange);
+        }
+    }
+
+    private static class RequestTimeListener implements ExchangeCompletionListener {
+        private final LatencyHistogram histogram;
+        private final long start;
+
+        RequestTimeListener(LatencyHistogram histogram, long start) {
+            this.histogram = histogram;
+            this.start = start;
+        }
+
+        @Override
+        public void exchangeEvent(HttpServerExchange exchange, NextListener nextListener) {
+            try {
+                this.histogram.record(System.nanoTime() - this.start, TimeUnit.NANOSECONDS);
+            } finally {
+                nextListener.proceed();
+            }
         }
-        return null;
     }
 }
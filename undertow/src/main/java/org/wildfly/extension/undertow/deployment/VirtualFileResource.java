@@ -21,10 +21,10 @@
  */
 package org.wildfly.extension.undertow.deployment;
 
-import io.undertow.UndertowLogger;
 import io.undertow.io.IoCallback;
 import io.undertow.io.Sender;
 import io.undertow.server.HttpServerExchange;
+import io.undertow.server.handlers.resource.RangeAwareResource;
 import io.undertow.server.handlers.resource.Resource;
 import io.undertow.util.DateUtils;
 import io.undertow.util.ETag;
@@ -32,33 +32,44 @@ import io.undertow.util.MimeMappings;
 import org.jboss.vfs.VirtualFile;
 import org.xnio.FileAccess;
 import org.xnio.IoUtils;
-import org.xnio.Pooled;
 
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URL;
-import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
+ * Resource backed by a {@link VirtualFile}, e.g. a deployment overlay.
+ * Content is sent from the physical file with zero-copy file transfers, including for range requests.
+ *
  * @author Stuart Douglas
  */
-public class VirtualFileResource implements Resource {
+public class VirtualFileResource implements RangeAwareResource {
 
     private final File resourceManagerRoot;
     private final VirtualFile file;
     private final String path;
+    private final LongAdder transferredBytes;
 
     public VirtualFileResource(File resourceManagerRoot, final VirtualFile file, String path) {
+        this(resourceManagerRoot, file, path, new LongAdder());
+    }
+
+    /**
+     * @param transferredBytes counts the bytes sent with zero-copy file transfers
+     */
+    public VirtualFileResource(File resourceManagerRoot, final VirtualFile file, String path, LongAdder transferredBytes) {
         this.resourceManagerRoot = resourceManagerRoot;
         this.file = file;
         this.path = path;
+        this.transferredBytes = transferredBytes;
     }
 
     @Override
@@ -99,7 +110,7 @@ public class VirtualFileResource implements Resource {
     public List<Resource> list() {
         final List<Resource> resources = new ArrayList<Resource>();
         for (VirtualFile child : file.getChildren()) {
-            resources.add(new VirtualFileResource(resourceManagerRoot, child, path));
+            resources.add(new VirtualFileResource(resourceManagerRoot, child, path, transferredBytes));
         }
         return resources;
     }
@@ -116,92 +127,51 @@ public class VirtualFileResource implements Resource {
 
     @Override
     public void serve(final Sender sender, final HttpServerExchange exchange, final IoCallback callback) {
-        abstract class BaseFileTask implements Runnable {
-            protected volatile FileChannel fileChannel;
+        serveImpl(sender, exchange, -1, -1, callback);
+    }
+
+    @Override
+    public void serveRange(final Sender sender, final HttpServerExchange exchange, final long start, final long end, final IoCallback callback) {
+        serveImpl(sender, exchange, start, end, callback);
+    }
+
+    @Override
+    public boolean isRangeSupported() {
+        return true;
+    }
 
-            protected boolean openFile() {
+    private void serveImpl(final Sender sender, final HttpServerExchange exchange, final long start, final long end, final IoCallback callback) {
+        Runnable task = new Runnable() {
+            @Override
+            public void run() {
+                final FileChannel fileChannel;
+                final long length;
                 try {
-                    fileChannel = exchange.getConnection().getWorker().getXnio().openFile(file.getPhysicalFile(), FileAccess.READ_ONLY);
+                    FileChannel channel = exchange.getConnection().getWorker().getXnio().openFile(file.getPhysicalFile(), FileAccess.READ_ONLY);
+                    if (start >= 0 || end >= 0) {
+                        long position = Math.max(start, 0);
+                        long limit = (end >= 0) ? Math.min(end + 1, channel.size()) : channel.size();
+                        // The sender transfers from the position to the size of the channel
+                        fileChannel = new FileRegionChannel(channel, position, limit);
+                        length = limit - position;
+                    } else {
+                        fileChannel = channel;
+                        length = channel.size();
+                    }
                 } catch (FileNotFoundException e) {
                     exchange.setResponseCode(404);
                     callback.onException(exchange, sender, e);
-                    return false;
+                    return;
                 } catch (IOException e) {
                     exchange.setResponseCode(500);
                     callback.onException(exchange, sender, e);
-                    return false;
-                }
-                return true;
-            }
-        }
-
-        class ServerTask extends BaseFileTask implements IoCallback {
-
-            private Pooled<ByteBuffer> pooled;
-
-            @Override
-            public void run() {
-                if (fileChannel == null) {
-                    if (!openFile()) {
-                        return;
-                    }
-                    pooled = exchange.getConnection().getBufferPool().allocate();
-                }
-                if (pooled != null) {
-                    ByteBuffer buffer = pooled.getResource();
-                    try {
-                        buffer.clear();
-                        int res = fileChannel.read(buffer);
-                        if (res == -1) {
-                            //we are done
-                            pooled.free();
-                            IoUtils.safeClose(fileChannel);
-                            callback.onComplete(exchange, sender);
-                            return;
-                        }
-                        buffer.flip();
-                        sender.send(buffer, this);
-                    } catch (IOException e) {
-                        onException(exchange, sender, e);
-                    }
-                }
-
-            }
-
-            @Override
-            public void onComplete(final HttpServerExchange exchange, final Sender sender) {
-                if (exchange.isInIoThread()) {
-                    exchange.dispatch(this);
-                } else {
-                    run();
-                }
-            }
-
-            @Override
-            public void onException(final HttpServerExchange exchange, final Sender sender, final IOException exception) {
-                UndertowLogger.REQUEST_IO_LOGGER.ioException(exception);
-                if (pooled != null) {
-                    pooled.free();
-                    pooled = null;
-                }
-                IoUtils.safeClose(fileChannel);
-                if (!exchange.isResponseStarted()) {
-                    exchange.setResponseCode(500);
-                }
-                callback.onException(exchange, sender, exception);
-            }
-        }
-
-        class TransferTask extends BaseFileTask {
-            @Override
-            public void run() {
-                if (!openFile()) {
                     return;
                 }
 
                 sender.transferFrom(fileChannel, new IoCallback() {
                     @Override
                     public void onComplete(HttpServerExchange exchange, Sender sender) {
+                        transferredBytes.add(length);
                         try {
                             IoUtils.safeClose(fileChannel);
                         } finally {
@@ -219,9 +189,7 @@ public class VirtualFileResource implements Resource {
                     }
                 });
             }
-        }
-
-        BaseFileTask task = new TransferTask();
+        };
         if (exchange.isInIoThread()) {
             exchange.dispatch(task);
         } else {
@@ -0,0 +1,174 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2023, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.extension.undertow.filters;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+
+import io.undertow.server.HandlerWrapper;
+
+import org.jboss.as.clustering.controller.validation.DoubleRangeValidatorBuilder;
+import org.jboss.as.controller.AbstractRuntimeOnlyHandler;
+import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.PathElement;
+import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
+import org.jboss.as.controller.operations.validation.IntRangeValidator;
+import org.jboss.as.controller.registry.AttributeAccess;
+import org.jboss.as.controller.registry.ManagementResourceRegistration;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+import org.jboss.msc.service.ServiceController;
+import org.wildfly.extension.undertow.UndertowService;
+import org.wildfly.extension.undertow.logging.UndertowLogger;
+
+/**
+ * Filter that limits concurrent requests to a limit adjusted to the observed request latency.
+ */
+public class AdaptiveRequestLimitFilterDefinition extends SimpleFilterDefinition {
+    public static final PathElement PATH_ELEMENT = PathElement.pathElement("adaptive-request-limit");
+
+    public static final AttributeDefinition INITIAL_LIMIT = new SimpleAttributeDefinitionBuilder("initial-limit", ModelType.INT)
+            .setValidator(new IntRangeValidator(1, true, true))
+            .setAllowExpression(true)
+            .setRequired(false)
+            .setDefaultValue(new ModelNode(20))
+            .setRestartAllServices()
+            .build();
+
+    public static final AttributeDefinition MIN_LIMIT = new SimpleAttributeDefinitionBuilder("min-limit", ModelType.INT)
+            .setValidator(new IntRangeValidator(1, true, true))
+            .setAllowExpression(true)
+            .setRequired(false)
+            .setDefaultValue(new ModelNode(1))
+            .setRestartAllServices()
+            .build();
+
+    public static final AttributeDefinition MAX_LIMIT = new SimpleAttributeDefinitionBuilder("max-limit", ModelType.INT)
+            .setValidator(new IntRangeValidator(1, true, true))
+            .setAllowExpression(true)
+            .setRequired(false)
+            .setDefaultValue(new ModelNode(1000))
+            .setRestartAllServices()
+            .build();
+
+    public static final AttributeDefinition TOLERANCE;
+    static {
+        SimpleAttributeDefinitionBuilder builder = new SimpleAttributeDefinitionBuilder("tolerance", ModelType.DOUBLE)
+                .setAllowExpression(true)
+                .setRequired(false)
+                .setDefaultValue(new ModelNode(1.5d))
+                .setRestartAllServices();
+        TOLERANCE = builder.setValidator(new DoubleRangeValidatorBuilder().lowerBound(1).configure(builder).build()).build();
+    }
+
+    public static final AttributeDefinition RETRY_AFTER = new SimpleAttributeDefinitionBuilder("retry-after", ModelType.INT)
+            .setValidator(new IntRangeValidator(0, true, true))
+            .setAllowExpression(true)
+            .setRequired(false)
+            .setDefaultValue(new ModelNode(1))
+            .setMeasurementUnit(MeasurementUnit.SECONDS)
+            .setRestartAllServices()
+            .build();
+
+    public static final Collection<AttributeDefinition> ATTRIBUTES = List.of(INITIAL_LIMIT, MIN_LIMIT, MAX_LIMIT, TOLERANCE, RETRY_AFTER);
+
+    static final AttributeDefinition CURRENT_LIMIT = new SimpleAttributeDefinitionBuilder("current-limit", ModelType.INT)
+            .setStorageRuntime()
+            .build();
+
+    static final AttributeDefinition IN_FLIGHT_REQUESTS = new SimpleAttributeDefinitionBuilder("in-flight-requests", ModelType.INT)
+            .setStorageRuntime()
+            .build();
+
+    static final AttributeDefinition REJECTED_REQUESTS = new SimpleAttributeDefinitionBuilder("rejected-requests", ModelType.LONG)
+            .setStorageRuntime()
+            .setFlags(AttributeAccess.Flag.COUNTER_METRIC)
+            .build();
+
+    AdaptiveRequestLimitFilterDefinition() {
+        super(PATH_ELEMENT, AdaptiveRequestLimitFilterDefinition::createHandlerWrapper);
+    }
+
+    @Override
+    public Collection<AttributeDefinition> getAttributes() {
+        return ATTRIBUTES;
+    }
+
+    @Override
+    public void registerAttributes(ManagementResourceRegistration resourceRegistration) {
+        super.registerAttributes(resourceRegistration);
+        resourceRegistration.registerMetric(CURRENT_LIMIT, new LimiterMetricHandler() {
+            @Override
+            void handle(ModelNode result, AdaptiveRequestLimiter limiter) {
+                result.set(limiter.getLimit());
+            }
+        });
+        resourceRegistration.registerMetric(IN_FLIGHT_REQUESTS, new LimiterMetricHandler() {
+            @Override
+            void handle(ModelNode result, AdaptiveRequestLimiter limiter) {
+                result.set(limiter.getInFlight());
+            }
+        });
+        resourceRegistration.registerMetric(REJECTED_REQUESTS, new LimiterMetricHandler() {
+            @Override
+            void handle(ModelNode result, AdaptiveRequestLimiter limiter) {
+                result.set(limiter.getRejected());
+            }
+        });
+    }
+
+    static HandlerWrapper createHandlerWrapper(OperationContext context, ModelNode model) throws OperationFailedException {
+        int initialLimit = INITIAL_LIMIT.resolveModelAttribute(context, model).asInt();
+        int minLimit = MIN_LIMIT.resolveModelAttribute(context, model).asInt();
+        int maxLimit = MAX_LIMIT.resolveModelAttribute(context, model).asInt();
+        if (minLimit > maxLimit) {
+            throw UndertowLogger.ROOT_LOGGER.minLimitExceedsMaxLimit(minLimit, maxLimit);
+        }
+        double tolerance = TOLERANCE.resolveModelAttribute(context, model).asDouble();
+        int retryAfter = RETRY_AFTER.resolveModelAttribute(context, model).asInt();
+        return new AdaptiveRequestLimiter(initialLimit, minLimit, maxLimit, tolerance, retryAfter);
+    }
+
+    abstract static class LimiterMetricHandler extends AbstractRuntimeOnlyHandler {
+
+        @Override
+        protected void executeRuntimeStep(OperationContext context, ModelNode operation) throws OperationFailedException {
+            ServiceController<?> controller = context.getServiceRegistry(false).getService(UndertowService.FILTER.append(context.getCurrentAddressValue()));
+            // The filter service is only started while referenced by a host or location
+            if (controller != null && controller.getState() == ServiceController.State.UP) {
+                Object value = ((Supplier<?>) controller.getService()).get();
+                if (value instanceof AdaptiveRequestLimiter) {
+                    ModelNode result = new ModelNode();
+                    this.handle(result, (AdaptiveRequestLimiter) value);
+                    context.getResult().set(result);
+                }
+            }
+        }
+
+        abstract void handle(ModelNode result, AdaptiveRequestLimiter limiter);
+    }
+}
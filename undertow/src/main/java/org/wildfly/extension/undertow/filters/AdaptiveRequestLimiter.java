@@ -0,0 +1,175 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2023, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.extension.undertow.filters;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.undertow.server.HandlerWrapper;
+import io.undertow.server.HttpHandler;
+import io.undertow.server.HttpServerExchange;
+import io.undertow.util.Headers;
+import io.undertow.util.StatusCodes;
+
+/**
+ * Limits the number of concurrent requests to a limit that adapts to the observed request latency.
+ * <p>
+ * Request latencies are averaged over short sampling windows. At the end of each window, the average is compared to a
+ * long-term average: while the short-term average stays within the configured tolerance of the long-term average, the
+ * limit may grow by roughly its square root. Once latency rises beyond the tolerance, the limit shrinks proportionally,
+ * by at most half, before queues build up. The limit never grows while fewer than half of the permitted requests are in
+ * use. Requests beyond the limit are rejected immediately with a 503 response and a {@code Retry-After} header.
+ * <p>
+ * A single limit is shared by all hosts and locations referencing the same filter.
+ */
+class AdaptiveRequestLimiter implements HandlerWrapper {
+
+    private static final long WINDOW_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final int MIN_WINDOW_SAMPLES = 10;
+    // Number of windows over which the long-term latency is averaged
+    private static final double LONG_TERM_WINDOWS = 20;
+    // Weight of a newly computed limit
+    private static final double SMOOTHING = 0.2;
+    private static final double MIN_GRADIENT = 0.5;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final String retryAfter;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder windowLatency = new LongAdder();
+    private final LongAdder windowSamples = new LongAdder();
+    private final AtomicInteger windowMaxInFlight = new AtomicInteger();
+    private final AtomicLong windowEnd;
+
+    private volatile int limit;
+    // Only accessed while holding the monitor of this limiter
+    private double estimatedLimit;
+    private double longTermLatency;
+
+    AdaptiveRequestLimiter(int initialLimit, int minLimit, int maxLimit, double tolerance, int retryAfter) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.retryAfter = Integer.toString(retryAfter);
+        this.estimatedLimit = Math.min(Math.max(initialLimit, this.minLimit), this.maxLimit);
+        this.limit = (int) this.estimatedLimit;
+        this.windowEnd = new AtomicLong(System.nanoTime() + WINDOW_NANOS);
+    }
+
+    @Override
+    public HttpHandler wrap(HttpHandler next) {
+        return new HttpHandler() {
+            @Override
+            public void handleRequest(HttpServerExchange exchange) throws Exception {
+                if (!tryAcquire()) {
+                    exchange.setStatusCode(StatusCodes.SERVICE_UNAVAILABLE);
+                    exchange.getResponseHeaders().put(Headers.RETRY_AFTER, retryAfter);
+                    exchange.endExchange();
+                    return;
+                }
+                long start = System.nanoTime();
+                exchange.addExchangeCompleteListener((completed, nextListener) -> {
+                    try {
+                        complete(System.nanoTime() - start);
+                    } finally {
+                        nextListener.proceed();
+                    }
+                });
+                next.handleRequest(exchange);
+            }
+        };
+    }
+
+    int getLimit() {
+        return this.limit;
+    }
+
+    int getInFlight() {
+        return this.inFlight.get();
+    }
+
+    long getRejected() {
+        return this.rejected.sum();
+    }
+
+    boolean tryAcquire() {
+        int current = this.inFlight.incrementAndGet();
+        if (current > this.limit) {
+            this.inFlight.decrementAndGet();
+            this.rejected.increment();
+            return false;
+        }
+        if (current > this.windowMaxInFlight.get()) {
+            this.windowMaxInFlight.accumulateAndGet(current, Math::max);
+        }
+        return true;
+    }
+
+    void complete(long latency) {
+        this.inFlight.decrementAndGet();
+        this.windowLatency.add(latency);
+        this.windowSamples.increment();
+        long now = System.nanoTime();
+        long end = this.windowEnd.get();
+        if (now - end >= 0 && this.windowEnd.compareAndSet(end, now + WINDOW_NANOS)) {
+            this.update();
+        }
+    }
+
+    private synchronized void update() {
+        long samples = this.windowSamples.sumThenReset();
+        long latency = this.windowLatency.sumThenReset();
+        if (samples < MIN_WINDOW_SAMPLES) {
+            // Not enough samples to be significant, carry them over to the next window
+            this.windowSamples.add(samples);
+            this.windowLatency.add(latency);
+            return;
+        }
+        int maxInFlight = this.windowMaxInFlight.getAndSet(this.inFlight.get());
+        double shortTermLatency = Math.max(1d, (double) latency / samples);
+        if (this.longTermLatency == 0) {
+            this.longTermLatency = shortTermLatency;
+        } else {
+            this.longTermLatency += (shortTermLatency - this.longTermLatency) / LONG_TERM_WINDOWS;
+            // Recover faster once a latency spike, which raised the long-term average, is over
+            if (this.longTermLatency / shortTermLatency > 2) {
+                this.longTermLatency *= 0.95;
+            }
+        }
+        double gradient = Math.max(MIN_GRADIENT, Math.min(1d, this.tolerance * this.longTermLatency / shortTermLatency));
+        double current = this.estimatedLimit;
+        double target = current * gradient + Math.sqrt(current);
+        if (maxInFlight < current / 2) {
+            // Observed concurrency does not justify a higher limit
+            target = Math.min(target, current);
+        }
+        double estimate = current * (1 - SMOOTHING) + target * SMOOTHING;
+        this.estimatedLimit = Math.min(Math.max(estimate, this.minLimit), this.maxLimit);
+        this.limit = (int) this.estimatedLimit;
+    }
+}
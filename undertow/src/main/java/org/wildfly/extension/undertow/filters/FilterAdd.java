@@ -31,10 +31,13 @@ import org.jboss.msc.Service;
 import org.jboss.msc.service.ServiceBuilder;
 import org.jboss.msc.service.ServiceController;
 import org.jboss.msc.service.ServiceTarget;
+import org.jboss.msc.service.StartContext;
+import org.jboss.msc.service.StopContext;
 import org.wildfly.extension.undertow.UndertowService;
 
 import java.util.Collection;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import io.undertow.server.HandlerWrapper;
 
@@ -58,8 +61,36 @@ class FilterAdd extends AbstractAddStepHandler {
         final ServiceBuilder<?> sb = target.addService(UndertowService.FILTER.append(name));
         final Consumer<HandlerWrapper> serviceConsumer = sb.provides(UndertowService.FILTER.append(name));
         HandlerWrapper wrapper = this.factory.createHandlerWrapper(context, model);
-        sb.setInstance(Service.newInstance(serviceConsumer, wrapper));
+        sb.setInstance(new HandlerWrapperService(serviceConsumer, wrapper));
         sb.setInitialMode(ServiceController.Mode.ON_DEMAND);
         sb.install();
     }
+
+    /**
+     * Provides the handler wrapper of a filter, which runtime operations obtain via {@link ServiceController#getService()}.
+     */
+    static class HandlerWrapperService implements Service, Supplier<HandlerWrapper> {
+        private final Consumer<HandlerWrapper> serviceConsumer;
+        private final HandlerWrapper wrapper;
+
+        HandlerWrapperService(Consumer<HandlerWrapper> serviceConsumer, HandlerWrapper wrapper) {
+            this.serviceConsumer = serviceConsumer;
+            this.wrapper = wrapper;
+        }
+
+        @Override
+        public void start(StartContext context) {
+            this.serviceConsumer.accept(this.wrapper);
+        }
+
+        @Override
+        public void stop(StopContext context) {
+            this.serviceConsumer.accept(null);
+        }
+
+        @Override
+        public HandlerWrapper get() {
+            return this.wrapper;
+        }
+    }
 }
@@ -446,4 +446,17 @@ public interface UndertowLogger extends BasicLogger {
     @Message(id = 111, value = "The annotation: '%s' will have no effect on Servlet: '%s'")
     void badAnnotationOnServlet(String annotation, String servlet);
 
+    @Message(id = 112, value = "Unsupported version %d of persistent sessions file %s")
+    IOException unsupportedPersistentSessionFileVersion(int version, File file);
+
+    @LogMessage(level = WARN)
+    @Message(id = 113, value = "Failed to compress static resource %s, it will be served uncompressed")
+    void failedToCompressResource(String path, @Cause Throwable cause);
+
+    @LogMessage(level = ERROR)
+    @Message(id = 114, value = "Failed to write access log %s")
+    void failedToWriteAccessLog(Path file, @Cause Throwable cause);
+
+    @Message(id = 115, value = "The min-limit %d must not exceed the max-limit %d")
+    OperationFailedException minLimitExceedsMaxLimit(int minLimit, int maxLimit);
 }
@@ -0,0 +1,135 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2023, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.wildfly.extension.undertow;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import io.undertow.servlet.api.SessionPersistenceManager.PersistentSession;
+import org.jboss.as.controller.services.path.PathManager;
+import org.jboss.marshalling.Marshaller;
+import org.jboss.marshalling.OutputStreamByteOutput;
+import org.jboss.modules.Module;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Unit test for {@link DiskBasedModularPersistentSessionManager}.
+ */
+public class DiskBasedModularPersistentSessionManagerTestCase {
+
+    private static final String DEPLOYMENT = "test.war";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private DiskBasedModularPersistentSessionManager manager;
+
+    @Before
+    public void start() throws Exception {
+        PathManager pathManager = mock(PathManager.class);
+        when(pathManager.resolveRelativePathEntry("sessions", null)).thenReturn(this.folder.getRoot().getAbsolutePath());
+        this.manager = new DiskBasedModularPersistentSessionManager(value -> { }, Module::getBootModuleLoader, () -> pathManager, "sessions", null);
+        this.manager.start(null);
+    }
+
+    @After
+    public void stop() {
+        this.manager.stop(null);
+    }
+
+    @Test
+    public void persistAndLoad() {
+        Date expiry = new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1));
+        Map<String, PersistentSession> sessions = new HashMap<>();
+        for (int i = 0; i < 100; i++) {
+            Map<String, Object> attributes = new HashMap<>();
+            attributes.put("a", "value-" + i);
+            attributes.put("b", "x".repeat(i * 100));
+            sessions.put("session-" + i, new PersistentSession(expiry, attributes));
+        }
+        sessions.put("expired", new PersistentSession(new Date(System.currentTimeMillis() - 1), Map.of("a", "value")));
+        sessions.put("empty", new PersistentSession(expiry, Map.of()));
+
+        this.manager.persistSessions(DEPLOYMENT, sessions);
+        Map<String, PersistentSession> loaded = this.manager.loadSessionAttributes(DEPLOYMENT, this.getClass().getClassLoader());
+
+        assertNotNull(loaded);
+        assertEquals(101, loaded.size());
+        assertNull(loaded.get("expired"));
+        assertEquals(0, loaded.get("empty").getSessionData().size());
+        for (int i = 0; i < 100; i++) {
+            PersistentSession session = loaded.get("session-" + i);
+            assertEquals(expiry, session.getExpiration());
+            assertEquals("value-" + i, session.getSessionData().get("a"));
+            assertEquals("x".repeat(i * 100), session.getSessionData().get("b"));
+        }
+    }
+
+    @Test
+    public void loadLegacyFormat() throws Exception {
+        Date expiry = new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1));
+        Map<String, PersistentSession> sessions = new HashMap<>();
+        sessions.put("session", new PersistentSession(expiry, Map.of("a", "value", "b", 42)));
+        sessions.put("expired", new PersistentSession(new Date(System.currentTimeMillis() - 1), Map.of("a", "value")));
+
+        // Previous releases wrote a single marshalled map of the serialized sessions
+        Map<String, AbstractPersistentSessionManager.SessionEntry> serializedSessions = this.manager.serializeSessions(sessions);
+        try (OutputStream out = new FileOutputStream(new File(this.folder.getRoot(), DEPLOYMENT))) {
+            Marshaller marshaller = this.manager.createMarshaller();
+            try {
+                marshaller.start(new OutputStreamByteOutput(out));
+                marshaller.writeObject(serializedSessions);
+                marshaller.finish();
+            } finally {
+                marshaller.close();
+            }
+        }
+
+        Map<String, PersistentSession> loaded = this.manager.loadSessionAttributes(DEPLOYMENT, this.getClass().getClassLoader());
+
+        assertNotNull(loaded);
+        assertEquals(1, loaded.size());
+        PersistentSession session = loaded.get("session");
+        assertEquals(expiry, session.getExpiration());
+        assertEquals(Map.of("a", "value", "b", 42), session.getSessionData());
+    }
+
+    @Test
+    public void loadMissing() {
+        assertNull(this.manager.loadSessionAttributes("missing.war", this.getClass().getClassLoader()));
+    }
+}
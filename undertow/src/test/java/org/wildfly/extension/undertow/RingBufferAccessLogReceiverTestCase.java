@@ -0,0 +1,123 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2023, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.extension.undertow;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link RingBufferAccessLogReceiver}.
+ */
+public class RingBufferAccessLogReceiverTestCase {
+
+    private Path directory;
+
+    @Before
+    public void init() throws IOException {
+        this.directory = Files.createTempDirectory("access-log");
+    }
+
+    @After
+    public void destroy() throws IOException {
+        try (Stream<Path> files = Files.list(this.directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(this.directory);
+    }
+
+    @Test
+    public void concurrentMessages() throws Exception {
+        int threads = 4;
+        int messages = 10000;
+        // Use a small ring buffer to exercise waiting for capacity
+        RingBufferAccessLogReceiver receiver = new RingBufferAccessLogReceiver(this.directory, "access.", "log", true, null, 16, 0, "test-writer");
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>(threads);
+            for (int i = 0; i < threads; ++i) {
+                int thread = i;
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < messages; ++j) {
+                        receiver.logMessage(thread + ":" + j + " é");
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+            receiver.close();
+        }
+
+        List<String> lines = Files.readAllLines(this.directory.resolve("access.log"), StandardCharsets.UTF_8);
+        assertEquals(threads * messages, lines.size());
+        assertEquals(threads * messages, new HashSet<>(lines).size());
+        assertTrue(lines.contains("3:9999 é"));
+    }
+
+    @Test
+    public void header() throws Exception {
+        RingBufferAccessLogReceiver receiver = new RingBufferAccessLogReceiver(this.directory, "access.", "log", false, () -> "#Fields: time", 8, 10, "test-writer");
+        receiver.logMessage("first");
+        receiver.close();
+        receiver = new RingBufferAccessLogReceiver(this.directory, "access.", "log", false, () -> "#Fields: time", 8, 10, "test-writer");
+        receiver.logMessage("second");
+        receiver.close();
+
+        assertEquals(List.of("#Fields: time", "first", "second"), Files.readAllLines(this.directory.resolve("access.log"), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void closeWithoutMessages() throws Exception {
+        RingBufferAccessLogReceiver receiver = new RingBufferAccessLogReceiver(this.directory, "access.", "log", true, null, 8, 0, "test-writer");
+        receiver.close();
+        receiver.logMessage("ignored");
+
+        Set<Path> files = new HashSet<>();
+        try (Stream<Path> stream = Files.list(this.directory)) {
+            stream.forEach(files::add);
+        }
+        assertFalse(files.contains(this.directory.resolve("access.log")));
+    }
+}
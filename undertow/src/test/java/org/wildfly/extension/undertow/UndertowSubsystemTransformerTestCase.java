@@ -45,6 +45,7 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
 import org.junit.runners.Parameterized.Parameters;
+import org.wildfly.extension.undertow.filters.AdaptiveRequestLimitFilterDefinition;
 import org.wildfly.extension.undertow.filters.FilterDefinitions;
 import org.wildfly.extension.undertow.handlers.HandlerDefinitions;
 
@@ -144,6 +145,9 @@ public class UndertowSubsystemTransformerTestCase extends AbstractSubsystemTest
         FailedOperationTransformationConfig config = new FailedOperationTransformationConfig();
         PathAddress subsystemAddress = PathAddress.pathAddress(UndertowRootDefinition.PATH_ELEMENT);
         PathAddress servletContainerAddress = subsystemAddress.append(PathElement.pathElement(ServletContainerDefinition.PATH_ELEMENT.getKey(), "rejected-container"));
+        PathAddress compressingContainerAddress = subsystemAddress.append(PathElement.pathElement(ServletContainerDefinition.PATH_ELEMENT.getKey(), "compressing-container"));
+        PathAddress accessLogAddress = subsystemAddress.append(ServerDefinition.PATH_ELEMENT.getKey(), "default-server").append(HostDefinition.PATH_ELEMENT.getKey(), "default-host").append(AccessLogDefinition.PATH_ELEMENT);
+        PathAddress adaptiveRequestLimitAddress = subsystemAddress.append(FilterDefinitions.PATH_ELEMENT).append(PathElement.pathElement(AdaptiveRequestLimitFilterDefinition.PATH_ELEMENT.getKey(), "adaptive-limit"));
         PathAddress affinityCookiePath = subsystemAddress.append(PathElement.pathElement(ServletContainerDefinition.PATH_ELEMENT.getKey(), "affinity-cookie-container")).append(AffinityCookieDefinition.PATH_ELEMENT);
 
         if (UndertowSubsystemModel.VERSION_13_0_0.requiresTransformation(this.modelVersion)) {
@@ -151,6 +155,11 @@ public class UndertowSubsystemTransformerTestCase extends AbstractSubsystemTest
 
             config.addFailedAttribute(affinityCookiePath, FailedOperationTransformationConfig.REJECTED_RESOURCE);
         }
+        if (UndertowSubsystemModel.VERSION_14_0_0.requiresTransformation(this.modelVersion)) {
+            config.addFailedAttribute(compressingContainerAddress, new FailedOperationTransformationConfig.NewAttributesConfig(ServletContainerDefinition.COMPRESS_STATIC_RESOURCES));
+            config.addFailedAttribute(accessLogAddress, new FailedOperationTransformationConfig.NewAttributesConfig(AccessLogDefinition.RING_BUFFER_SIZE, AccessLogDefinition.FSYNC_INTERVAL));
+            config.addFailedAttribute(adaptiveRequestLimitAddress, FailedOperationTransformationConfig.REJECTED_RESOURCE);
+        }
 
         List<ModelNode> operations = builder.parseXmlResource("undertow-transform-reject.xml");
         ModelTestUtils.checkFailedTransformedBootOperations(services, this.modelVersion, operations, config);
@@ -0,0 +1,139 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2023, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.extension.undertow.deployment;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import io.undertow.server.handlers.resource.PathResourceManager;
+import io.undertow.server.handlers.resource.Resource;
+import io.undertow.util.MimeMappings;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Unit test for {@link CompressedResourceManager}.
+ */
+public class CompressedResourceManagerTestCase {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private Path content;
+    private CompressedResourceManager manager;
+    // Path served by the default servlet for the simulated request, if any
+    private volatile String servedPath;
+
+    @Before
+    public void init() throws IOException {
+        this.content = this.folder.newFolder("content").toPath();
+        this.manager = new CompressedResourceManager(new PathResourceManager(this.content), this.folder.getRoot().toPath().resolve("compressed"), MimeMappings.DEFAULT, () -> this.servedPath);
+    }
+
+    @After
+    public void close() throws IOException {
+        this.manager.close();
+    }
+
+    @Test
+    public void compress() throws IOException {
+        byte[] script = "var x = 'compress me';\n".repeat(100).getBytes(StandardCharsets.UTF_8);
+        Path file = Files.write(this.content.resolve("app.js"), script);
+        this.servedPath = "/app.js";
+
+        Resource gzip = this.manager.getResource("app.js.gz");
+        assertNotNull(gzip);
+        assertEquals(Files.getLastModifiedTime(file).toMillis(), gzip.getLastModified().getTime());
+        try (InputStream input = new GZIPInputStream(Files.newInputStream(gzip.getFilePath()))) {
+            assertArrayEquals(script, input.readAllBytes());
+        }
+        Resource deflate = this.manager.getResource("app.js.deflate");
+        assertNotNull(deflate);
+        try (InputStream input = new InflaterInputStream(Files.newInputStream(deflate.getFilePath()))) {
+            assertArrayEquals(script, input.readAllBytes());
+        }
+
+        // Compressed variant is refreshed once the original resource changes
+        byte[] modified = "var y = 'compress me again';\n".repeat(100).getBytes(StandardCharsets.UTF_8);
+        Files.write(file, modified);
+        Files.setLastModifiedTime(file, FileTime.fromMillis(Files.getLastModifiedTime(file).toMillis() + 10_000));
+        gzip = this.manager.getResource("app.js.gz");
+        assertNotNull(gzip);
+        try (InputStream input = new GZIPInputStream(Files.newInputStream(gzip.getFilePath()))) {
+            assertArrayEquals(modified, input.readAllBytes());
+        }
+    }
+
+    @Test
+    public void skipped() throws IOException {
+        Files.write(this.content.resolve("small.css"), "body {}".getBytes(StandardCharsets.UTF_8));
+        Files.write(this.content.resolve("image.png"), new byte[CompressedResourceManager.MIN_SIZE * 2]);
+        Files.createDirectory(this.content.resolve("directory"));
+
+        for (String path : new String[] { "small.css", "image.png", "directory", "missing.js", "../content/small.css" }) {
+            this.servedPath = path;
+            assertNull(path, this.manager.getResource(path + ".gz"));
+        }
+    }
+
+    @Test
+    public void notServedByDefaultServlet() throws IOException {
+        byte[] view = "<html xmlns:h=\"jakarta.faces.html\"><h:outputText value=\"#{secret}\"/></html>\n".repeat(50).getBytes(StandardCharsets.UTF_8);
+        Files.write(this.content.resolve("x.xhtml"), view);
+
+        // Request for the compressed variant itself, e.g. GET /x.xhtml.gz, or a lookup outside of the default servlet
+        this.servedPath = null;
+        assertNull(this.manager.getResource("x.xhtml.gz"));
+        assertNull(this.manager.getResource("/x.xhtml.deflate"));
+
+        // Default servlet serving the compressed variant path must not see a variant of the original
+        this.servedPath = "/x.xhtml.gz";
+        assertNull(this.manager.getResource("/x.xhtml.gz"));
+
+        // Default servlet serving a different resource
+        this.servedPath = "/index.html";
+        assertNull(this.manager.getResource("/x.xhtml.gz"));
+
+        // Pre-compressed lookup of the default servlet for the path it serves
+        this.servedPath = "/x.xhtml";
+        Resource gzip = this.manager.getResource("/x.xhtml.gz");
+        assertNotNull(gzip);
+        try (InputStream input = new GZIPInputStream(Files.newInputStream(gzip.getFilePath()))) {
+            assertArrayEquals(view, input.readAllBytes());
+        }
+    }
+}
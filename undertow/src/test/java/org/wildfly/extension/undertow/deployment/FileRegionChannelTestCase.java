@@ -0,0 +1,82 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2023, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.extension.undertow.deployment;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Unit test for {@link FileRegionChannel}.
+ */
+public class FileRegionChannelTestCase {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void region() throws IOException {
+        byte[] content = new byte[10_000];
+        for (int i = 0; i < content.length; ++i) {
+            content[i] = (byte) i;
+        }
+        Path file = Files.write(this.folder.newFile().toPath(), content);
+        byte[] expected = Arrays.copyOfRange(content, 1000, 6000);
+
+        // Transfer from position to size, the way senders do
+        try (FileChannel channel = new FileRegionChannel(FileChannel.open(file), 1000, 6000)) {
+            assertEquals(6000, channel.size());
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            long position = channel.position();
+            while (position < channel.size()) {
+                position += channel.transferTo(position, Long.MAX_VALUE, Channels.newChannel(output));
+            }
+            assertArrayEquals(expected, output.toByteArray());
+        }
+
+        // Read through a buffer larger than the region
+        try (FileChannel channel = new FileRegionChannel(FileChannel.open(file), 1000, 6000)) {
+            ByteBuffer buffer = ByteBuffer.allocate(content.length);
+            while (channel.read(buffer) >= 0) {
+                // Keep reading until the end of the region
+            }
+            buffer.flip();
+            byte[] read = new byte[buffer.remaining()];
+            buffer.get(read);
+            assertArrayEquals(expected, read);
+            assertEquals(6000, channel.position());
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2023, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.extension.undertow.filters;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link AdaptiveRequestLimiter}.
+ */
+public class AdaptiveRequestLimiterTestCase {
+
+    @Test
+    public void rejectsBeyondLimit() {
+        AdaptiveRequestLimiter limiter = new AdaptiveRequestLimiter(2, 1, 10, 1.5, 1);
+
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+        assertEquals(2, limiter.getInFlight());
+        assertEquals(1, limiter.getRejected());
+
+        limiter.complete(TimeUnit.MILLISECONDS.toNanos(1));
+        assertEquals(1, limiter.getInFlight());
+        assertTrue(limiter.tryAcquire());
+    }
+
+    @Test
+    public void clampsInitialLimit() {
+        assertEquals(10, new AdaptiveRequestLimiter(50, 1, 10, 1.5, 1).getLimit());
+        assertEquals(5, new AdaptiveRequestLimiter(2, 5, 10, 1.5, 1).getLimit());
+    }
+
+    @Test
+    public void adaptsToLatency() throws InterruptedException {
+        AdaptiveRequestLimiter limiter = new AdaptiveRequestLimiter(20, 1, 100, 1.5, 1);
+
+        window(limiter, 1);
+        window(limiter, 1);
+        int grown = limiter.getLimit();
+        assertTrue(grown > 20);
+
+        window(limiter, 100);
+        int shrunk = limiter.getLimit();
+        assertTrue(shrunk < grown);
+
+        window(limiter, 100);
+        assertTrue(limiter.getLimit() < shrunk);
+    }
+
+    // Completes a full window of requests with the specified latency, saturating the current limit
+    private static void window(AdaptiveRequestLimiter limiter, long latencyMillis) throws InterruptedException {
+        int requests = limiter.getLimit();
+        for (int i = 0; i < requests; ++i) {
+            assertTrue(limiter.tryAcquire());
+        }
+        long latency = TimeUnit.MILLISECONDS.toNanos(latencyMillis);
+        for (int i = 1; i < requests; ++i) {
+            limiter.complete(latency);
+        }
+        Thread.sleep(110);
+        limiter.complete(latency);
+    }
+}
@@ -266,4 +266,7 @@ public interface WeldLogger extends BasicLogger {
 
     @Message(id = 58, value = "Persistence unit '%s' removed.")
     IllegalStateException persistenceUnitRemoved(String scopedPuName);
+
+    @Message(id = 59, value = "Failed to scan the bean archive indexes of %s")
+    DeploymentUnitProcessingException failedToScanBeanArchiveIndexes(String deploymentName, @Cause Throwable cause);
 }
@@ -55,6 +55,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
@@ -191,7 +192,10 @@ public class WeldBootstrapService implements Service {
         ClassLoader oldTccl = WildFlySecurityManager.getCurrentContextClassLoaderPrivileged();
         try {
             WildFlySecurityManager.setCurrentContextClassLoaderPrivileged(deployment.getModule().getClassLoader());
+            final long start = System.nanoTime();
             bootstrap.startContainer(deploymentName, environment, deployment);
+            WeldLogger.DEPLOYMENT_LOGGER.debugf("Weld container start of %s: %d ms", deploymentName,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
             WeldProvider.containerInitialized(Container.instance(deploymentName), getBeanManager(), deployment);
         } finally {
             WildFlySecurityManager.setCurrentContextClassLoaderPrivileged(oldTccl);
@@ -22,6 +22,7 @@
 package org.jboss.as.weld;
 
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Supplier;
 
@@ -76,7 +77,10 @@ public class WeldStartCompletionService implements Service {
                 action.setup(null);
             }
             WildFlySecurityManager.setCurrentContextClassLoaderPrivileged(classLoader);
+            final long start = System.nanoTime();
             bootstrapSupplier.get().getBootstrap().endInitialization();
+            WeldLogger.DEPLOYMENT_LOGGER.debugf("Weld end of initialization of %s: %d ms", bootstrapSupplier.get().getDeploymentName(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
         } finally {
             for (SetupAction action : setupActions) {try {
                 action.teardown(null);
@@ -22,6 +22,7 @@
 package org.jboss.as.weld;
 
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Supplier;
 
@@ -93,9 +94,17 @@ public class WeldStartService implements Service {
                 action.setup(null);
             }
             WildFlySecurityManager.setCurrentContextClassLoaderPrivileged(classLoader);
-            bootstrapSupplier.get().getBootstrap().startInitialization();
-            bootstrapSupplier.get().getBootstrap().deployBeans();
-            bootstrapSupplier.get().getBootstrap().validateBeans();
+            final WeldBootstrapService bootstrapService = bootstrapSupplier.get();
+            final long start = System.nanoTime();
+            bootstrapService.getBootstrap().startInitialization();
+            final long deployStart = System.nanoTime();
+            bootstrapService.getBootstrap().deployBeans();
+            final long validateStart = System.nanoTime();
+            bootstrapService.getBootstrap().validateBeans();
+            final long end = System.nanoTime();
+            WeldLogger.DEPLOYMENT_LOGGER.debugf("Weld bootstrap of %s: initialization %d ms, bean deployment %d ms, validation %d ms",
+                    bootstrapService.getDeploymentName(), TimeUnit.NANOSECONDS.toMillis(deployStart - start),
+                    TimeUnit.NANOSECONDS.toMillis(validateStart - deployStart), TimeUnit.NANOSECONDS.toMillis(end - validateStart));
         } finally {
 
             for (SetupAction action : setupActions) {
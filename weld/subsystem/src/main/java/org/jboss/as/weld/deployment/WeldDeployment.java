@@ -36,6 +36,7 @@ import org.jboss.as.server.deployment.DeploymentUnit;
 import org.jboss.as.weld.WeldModuleResourceLoader;
 import org.jboss.as.weld.deployment.BeanDeploymentArchiveImpl.BeanArchiveType;
 import org.jboss.as.weld.logging.WeldLogger;
+import org.jboss.as.weld.services.bootstrap.ProxyClassCache;
 import org.jboss.as.weld.services.bootstrap.ProxyServicesImpl;
 import org.jboss.as.weld.util.Reflections;
 import org.jboss.modules.Module;
@@ -93,6 +94,12 @@ public class WeldDeployment implements CDI11Deployment {
     public WeldDeployment(Set<BeanDeploymentArchiveImpl> beanDeploymentArchives, Collection<Metadata<Extension>> extensions,
             Module module, Set<ClassLoader> subDeploymentClassLoaders, DeploymentUnit deploymentUnit, BeanDeploymentModule rootBeanDeploymentModule,
             Map<ModuleIdentifier, EEModuleDescriptor> eeModuleDescriptors) {
+        this(beanDeploymentArchives, extensions, module, subDeploymentClassLoaders, deploymentUnit, rootBeanDeploymentModule, eeModuleDescriptors, null);
+    }
+
+    public WeldDeployment(Set<BeanDeploymentArchiveImpl> beanDeploymentArchives, Collection<Metadata<Extension>> extensions,
+            Module module, Set<ClassLoader> subDeploymentClassLoaders, DeploymentUnit deploymentUnit, BeanDeploymentModule rootBeanDeploymentModule,
+            Map<ModuleIdentifier, EEModuleDescriptor> eeModuleDescriptors, ProxyClassCache proxyClassCache) {
         this.subDeploymentClassLoaders = new HashSet<ClassLoader>(subDeploymentClassLoaders);
         this.beanDeploymentArchives = Collections.newSetFromMap(new ConcurrentHashMap<>());
         this.beanDeploymentArchives.addAll(beanDeploymentArchives);
@@ -111,7 +118,7 @@ public class WeldDeployment implements CDI11Deployment {
         this.eeModuleDescriptors = eeModuleDescriptors;
 
         // add static services
-        this.serviceRegistry.add(ProxyServices.class, new ProxyServicesImpl(module));
+        this.serviceRegistry.add(ProxyServices.class, new ProxyServicesImpl(module, proxyClassCache));
         this.serviceRegistry.add(ResourceLoader.class, new WeldModuleResourceLoader(module));
 
         calculateAccessibilityGraph(this.beanDeploymentArchives);
@@ -25,16 +25,25 @@ import static org.jboss.as.weld.util.Utils.getDeploymentUnitId;
 import static org.jboss.as.weld.util.Utils.getRootDeploymentUnit;
 import static org.jboss.as.weld.util.Utils.isClassesRoot;
 
+import java.security.AccessController;
+import java.security.PrivilegedAction;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import jakarta.enterprise.inject.build.compatible.spi.BuildCompatibleExtension;
 import jakarta.enterprise.inject.spi.Extension;
@@ -69,6 +78,7 @@ import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.DotName;
 import org.jboss.jandex.Index;
 import org.jboss.modules.Module;
+import org.jboss.threads.JBossThreadFactory;
 import org.jboss.vfs.VirtualFile;
 import org.jboss.weld.bootstrap.spi.BeanDiscoveryMode;
 import org.jboss.weld.bootstrap.spi.BeansXml;
@@ -89,6 +99,9 @@ public class BeanArchiveProcessor implements DeploymentUnitProcessor {
 
     private static final DotName BUILD_COMPAT_EXTENSION_NAME = DotName.createSimple(BuildCompatibleExtension.class);
     private static final DotName EXTENSION_NAME = DotName.createSimple(Extension.class.getName());
+    private static final int MAX_SCAN_THREADS = Runtime.getRuntime().availableProcessors();
+    private static final String SCAN_THREAD_NAME_PATTERN = "Weld Bean Archive Scanner -- %t";
+    private static final long SCAN_THREAD_KEEP_ALIVE_SECONDS = 60;
 
     @Override
     public void deploy(DeploymentPhaseContext phaseContext) throws DeploymentUnitProcessingException {
@@ -99,6 +112,7 @@ public class BeanArchiveProcessor implements DeploymentUnitProcessor {
         }
 
         WeldLogger.DEPLOYMENT_LOGGER.processingWeldDeployment(deploymentUnit.getName());
+        final long start = System.nanoTime();
 
         final Map<ResourceRoot, Index> indexes = AnnotationIndexUtils.getAnnotationIndexes(deploymentUnit);
         final Map<ResourceRoot, BeanDeploymentArchiveImpl> bdaMap = new HashMap<>();
@@ -107,16 +121,22 @@ public class BeanArchiveProcessor implements DeploymentUnitProcessor {
 
         final ResourceRootHandler handler = new ResourceRootHandler(deploymentUnit, components, indexes);
 
+        final List<ResourceRoot> resourceRoots = new ArrayList<>();
         for (ResourceRoot resourceRoot : deploymentUnit.getAttachmentList(Attachments.RESOURCE_ROOTS)) {
             if (ModuleRootMarker.isModuleRoot(resourceRoot) && !SubDeploymentMarker.isSubDeployment(resourceRoot)) {
                 if (isClassesRoot(resourceRoot)) {
                     continue; // this is handled below
                 }
-                handler.handleResourceRoot(bdaMap, resourceRoot);
+                resourceRoots.add(resourceRoot);
             }
         }
         if (!DeploymentTypeMarker.isType(DeploymentType.EAR, deploymentUnit)) {
-            handler.handleResourceRoot(bdaMap, handler.deploymentResourceRoot);
+            resourceRoots.add(handler.deploymentResourceRoot);
+        }
+        // Scan the indexes of the resource roots concurrently, the bean archives are then created in order
+        handler.scanIndexes(resourceRoots);
+        for (ResourceRoot resourceRoot : resourceRoots) {
+            handler.handleResourceRoot(bdaMap, resourceRoot);
         }
         if (!bdaMap.containsKey(handler.deploymentResourceRoot)) {
             // there is not root bda, let's create one
@@ -144,6 +164,8 @@ public class BeanArchiveProcessor implements DeploymentUnitProcessor {
 
         final BeanDeploymentModule bdm = new BeanDeploymentModule(handler.module.getIdentifier().toString(), deploymentUnit, bdaMap.values());
         deploymentUnit.putAttachment(WeldAttachments.BEAN_DEPLOYMENT_MODULE, bdm);
+        WeldLogger.DEPLOYMENT_LOGGER.debugf("Bean archive discovery of %s: %d bean archives in %d ms", deploymentUnit.getName(), bdaMap.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
     }
 
     @Override
@@ -215,6 +237,8 @@ public class BeanArchiveProcessor implements DeploymentUnitProcessor {
         private final ExplicitBeanArchiveMetadataContainer explicitBeanArchives;
         private final Set<AnnotationType> beanDefiningAnnotations;
         private final boolean requireBeanDescriptor;
+        // Populated by scanIndexes() before the resource roots are processed
+        private final Map<Index, IndexScan> indexScans = new IdentityHashMap<>();
 
         private ResourceRootHandler(DeploymentUnit deploymentUnit, Components components, Map<ResourceRoot, Index> indexes) {
             this.deploymentUnit = deploymentUnit;
@@ -234,6 +258,68 @@ public class BeanArchiveProcessor implements DeploymentUnitProcessor {
             this.requireBeanDescriptor = getRootDeploymentUnit(deploymentUnit).getAttachment(WeldConfiguration.ATTACHMENT_KEY).isRequireBeanDescriptor();
         }
 
+        /**
+         * Scans the indexes used by the resource roots concurrently. The scan only reads the indexes, the resource roots
+         * are processed afterwards on the calling thread as they also update the component descriptions.
+         */
+        private void scanIndexes(final List<ResourceRoot> resourceRoots) throws DeploymentUnitProcessingException {
+            final Set<Index> toScan = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (ResourceRoot resourceRoot : resourceRoots) {
+                final Index index = getIndexToScan(resourceRoot);
+                if (index != null) {
+                    toScan.add(index);
+                }
+            }
+            if (toScan.size() < 2) {
+                // Not worth a thread, the index is scanned when the resource root is processed
+                return;
+            }
+            try {
+                indexScans.putAll(scan(toScan, beanDefiningAnnotations));
+            } catch (InterruptedException e) {
+                // The indexes not scanned yet are scanned when the resource roots are processed
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException e) {
+                throw WeldLogger.DEPLOYMENT_LOGGER.failedToScanBeanArchiveIndexes(deploymentUnit.getName(), e.getCause());
+            }
+        }
+
+        /**
+         * Returns the index {@link #processResourceRoot(ResourceRoot)} reads for the resource root or {@code null} if the
+         * resource root is not scanned.
+         */
+        private Index getIndexToScan(ResourceRoot resourceRoot) {
+            final ExplicitBeanArchiveMetadata metadata = explicitBeanArchives == null ? null : explicitBeanArchives.getBeanArchiveMetadata().get(resourceRoot);
+            if (metadata == null) {
+                return requireBeanDescriptor ? null : indexes.get(getIndexResourceRoot(resourceRoot));
+            }
+            final BeanDiscoveryMode discoveryMode = metadata.getBeansXml().getBeanDiscoveryMode();
+            if (discoveryMode.equals(BeanDiscoveryMode.ANNOTATED)) {
+                return indexes.get(getIndexResourceRoot(resourceRoot));
+            }
+            if (discoveryMode.equals(BeanDiscoveryMode.NONE)) {
+                return null;
+            }
+            return indexes.get(metadata.getResourceRoot());
+        }
+
+        private ResourceRoot getIndexResourceRoot(ResourceRoot resourceRoot) {
+            if (resourceRoot == deploymentResourceRoot && classesResourceRoot != null) {
+                // this is WEB-INF/classes BDA
+                return classesResourceRoot;
+            }
+            return resourceRoot;
+        }
+
+        private IndexScan getIndexScan(Index index) {
+            // index may be null if a war has a beans.xml but no WEB-INF/classes
+            if (index == null) {
+                return IndexScan.EMPTY;
+            }
+            final IndexScan scan = indexScans.get(index);
+            return scan == null ? new IndexScan(index, beanDefiningAnnotations) : scan;
+        }
+
         private void handleResourceRoot(Map<ResourceRoot, BeanDeploymentArchiveImpl> bdaMap, ResourceRoot resourceRoot) {
             BeanDeploymentArchiveImpl bda = processResourceRoot(resourceRoot);
             if (bda != null) {
@@ -265,28 +351,22 @@ public class BeanArchiveProcessor implements DeploymentUnitProcessor {
 
                 final boolean isRootBda = resourceRoot.equals(deploymentResourceRoot);
 
-                ResourceRoot indexResourceRoot = resourceRoot;
-                if (resourceRoot == deploymentResourceRoot && classesResourceRoot != null) {
-                    // this is WEB-INF/classes BDA
-                    indexResourceRoot = classesResourceRoot;
-                }
-
-                final Index index = indexes.get(indexResourceRoot);
+                final Index index = indexes.get(getIndexResourceRoot(resourceRoot));
                 if (index == null) {
                     return null; // index may be null for some resource roots
                 }
+                final IndexScan scan = getIndexScan(index);
 
                 /*
                  * An archive which contains an extension and no beans.xml file is not a bean archive.
                  * An archive which contains a build compatible extension and no beans.xml file is not a bean archive.
                  */
-                if (metadata == null &&
-                        (!index.getAllKnownImplementors(EXTENSION_NAME).isEmpty() || !index.getAllKnownImplementors(BUILD_COMPAT_EXTENSION_NAME).isEmpty())) {
+                if (metadata == null && scan.extension) {
                     return null;
                 }
 
-                Set<String> beans = getImplicitBeanClasses(index, resourceRoot);
-                Set<String> allKnownClasses = getAllKnownClasses(index);
+                Set<String> beans = getImplicitBeanClasses(scan, resourceRoot);
+                Set<String> allKnownClasses = scan.allKnownClasses;
 
                 if (beans.isEmpty() && !components.hasBeanComponents(resourceRoot)) {
                     return null;
@@ -316,25 +396,8 @@ public class BeanArchiveProcessor implements DeploymentUnitProcessor {
             return bda;
         }
 
-        private Set<String> getAllKnownClasses(Index index) {
-            Set<String> allKnownClasses = new HashSet<>();
-            // index may be null if a war has a beans.xml but no WEB-INF/classes
-            if (index != null) {
-                for (ClassInfo classInfo : index.getKnownClasses()) {
-                    allKnownClasses.add(Indices.CLASS_INFO_TO_FQCN.apply(classInfo));
-                }
-            }
-            return allKnownClasses;
-        }
-
-        private Set<String> getImplicitBeanClasses(Index index, ResourceRoot resourceRoot) {
-            Set<String> implicitBeanClasses = new HashSet<>();
-            for (AnnotationType beanDefiningAnnotation : beanDefiningAnnotations) {
-                List<AnnotationInstance> annotationInstances = index.getAnnotations(beanDefiningAnnotation.getName());
-                for (ClassInfo classInfo : Indices.getAnnotatedClasses(annotationInstances)) {
-                    implicitBeanClasses.add(Indices.CLASS_INFO_TO_FQCN.apply(classInfo));
-                }
-            }
+        private Set<String> getImplicitBeanClasses(IndexScan scan, ResourceRoot resourceRoot) {
+            Set<String> implicitBeanClasses = new HashSet<>(scan.annotatedClasses);
             // Make all explicit components into implicit beans so they will support injection
             for(ComponentDescription description : components.componentDescriptions.get(resourceRoot)) {
                 if(!components.implicitComponentDescriptions.contains(description)) {
@@ -346,7 +409,7 @@ public class BeanArchiveProcessor implements DeploymentUnitProcessor {
 
         private BeanDeploymentArchiveImpl createExplicitBeanDeploymentArchive(final Index index, ExplicitBeanArchiveMetadata beanArchiveMetadata, boolean root) {
 
-            Set<String> classNames = getAllKnownClasses(index);
+            Set<String> classNames = getIndexScan(index).allKnownClasses;
             return new BeanDeploymentArchiveImpl(classNames, classNames, beanArchiveMetadata.getBeansXml(), module, createBeanArchiveId(beanArchiveMetadata.getResourceRoot()), BeanArchiveType.EXPLICIT, root);
         }
 
@@ -359,4 +422,89 @@ public class BeanArchiveProcessor implements DeploymentUnitProcessor {
             return beanArchiveId;
         }
     }
+
+    /**
+     * The information read from the annotation index of a resource root to create its bean archive.
+     */
+    /**
+     * Scans the given indexes with the threads shared by all deployments. The tasks not completed yet are cancelled if
+     * a scan fails or if the calling thread is interrupted.
+     */
+    static Map<Index, IndexScan> scan(Collection<Index> indexes, Set<AnnotationType> beanDefiningAnnotations) throws InterruptedException, ExecutionException {
+        final Map<Index, Future<IndexScan>> futures = new IdentityHashMap<>();
+        try {
+            for (Index index : indexes) {
+                futures.put(index, ScanExecutor.INSTANCE.submit(() -> new IndexScan(index, beanDefiningAnnotations)));
+            }
+            final Map<Index, IndexScan> scans = new IdentityHashMap<>();
+            for (Entry<Index, Future<IndexScan>> entry : futures.entrySet()) {
+                scans.put(entry.getKey(), entry.getValue().get());
+            }
+            return scans;
+        } finally {
+            for (Future<IndexScan> future : futures.values()) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * The index scanner threads, created when a deployment first needs them and shared by all the deployments. The
+     * number of threads is bounded by the number of processors and idle threads time out.
+     */
+    static final class ScanExecutor {
+        static final ThreadPoolExecutor INSTANCE;
+
+        static {
+            final ThreadFactory factory = new JBossThreadFactory(null, Boolean.TRUE, null, SCAN_THREAD_NAME_PATTERN, null, null);
+            // set TCCL to null for new threads to make sure the classloader of the deployment that created them does not leak
+            INSTANCE = new ThreadPoolExecutor(MAX_SCAN_THREADS, MAX_SCAN_THREADS, SCAN_THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+                Thread thread = factory.newThread(runnable);
+                if (WildFlySecurityManager.isChecking()) {
+                    AccessController.doPrivileged(new PrivilegedAction<Void>() {
+                        public Void run() {
+                            thread.setContextClassLoader(null);
+                            return null;
+                        }
+                    });
+                } else {
+                    thread.setContextClassLoader(null);
+                }
+                return thread;
+            });
+            INSTANCE.allowCoreThreadTimeOut(true);
+        }
+
+        private ScanExecutor() {
+        }
+    }
+
+    static final class IndexScan {
+        static final IndexScan EMPTY = new IndexScan();
+
+        final boolean extension;
+        final Set<String> annotatedClasses;
+        final Set<String> allKnownClasses;
+
+        private IndexScan() {
+            extension = false;
+            annotatedClasses = Collections.emptySet();
+            allKnownClasses = Collections.emptySet();
+        }
+
+        IndexScan(Index index, Set<AnnotationType> beanDefiningAnnotations) {
+            extension = !index.getAllKnownImplementors(EXTENSION_NAME).isEmpty() || !index.getAllKnownImplementors(BUILD_COMPAT_EXTENSION_NAME).isEmpty();
+            annotatedClasses = new HashSet<>();
+            for (AnnotationType beanDefiningAnnotation : beanDefiningAnnotations) {
+                List<AnnotationInstance> annotationInstances = index.getAnnotations(beanDefiningAnnotation.getName());
+                for (ClassInfo classInfo : Indices.getAnnotatedClasses(annotationInstances)) {
+                    annotatedClasses.add(Indices.CLASS_INFO_TO_FQCN.apply(classInfo));
+                }
+            }
+            allKnownClasses = new HashSet<>();
+            for (ClassInfo classInfo : index.getKnownClasses()) {
+                allKnownClasses.add(Indices.CLASS_INFO_TO_FQCN.apply(classInfo));
+            }
+        }
+    }
 }
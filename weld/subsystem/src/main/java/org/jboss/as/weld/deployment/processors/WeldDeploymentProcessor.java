@@ -67,6 +67,7 @@ import org.jboss.as.weld.deployment.WeldDeployment;
 import org.jboss.as.weld.deployment.WeldPortableExtensions;
 import org.jboss.as.weld.logging.WeldLogger;
 import org.jboss.as.weld.services.TCCLSingletonService;
+import org.jboss.as.weld.services.bootstrap.ProxyClassCache;
 import org.jboss.as.weld.services.bootstrap.WeldExecutorServices;
 import org.jboss.as.weld.spi.BootstrapDependencyInstaller;
 import org.jboss.as.weld.spi.DeploymentUnitDependenciesProvider;
@@ -233,7 +234,9 @@ public class WeldDeploymentProcessor implements DeploymentUnitProcessor {
 
         final Collection<Metadata<Extension>> extensions = WeldPortableExtensions.getPortableExtensions(deploymentUnit).getExtensions();
 
-        final WeldDeployment deployment = new WeldDeployment(beanDeploymentArchives, extensions, module, subDeploymentLoaders, deploymentUnit, rootBeanDeploymentModule, eeModuleDescriptors);
+        final ProxyClassCache proxyClassCache = ProxyClassCache.create(deploymentUnit, deploymentUnit.getAttachment(WeldConfiguration.ATTACHMENT_KEY));
+
+        final WeldDeployment deployment = new WeldDeployment(beanDeploymentArchives, extensions, module, subDeploymentLoaders, deploymentUnit, rootBeanDeploymentModule, eeModuleDescriptors, proxyClassCache);
 
         installBootstrapConfigurationService(deployment, parent);
 
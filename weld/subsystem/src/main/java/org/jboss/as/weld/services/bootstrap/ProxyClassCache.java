@@ -0,0 +1,367 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2023, Red Hat Inc., and individual contributors as indicated
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.weld.services.bootstrap;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.PrivilegedAction;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+import org.jboss.as.server.ServerEnvironment;
+import org.jboss.as.server.deployment.Attachments;
+import org.jboss.as.server.deployment.DeploymentUnit;
+import org.jboss.as.server.deployment.module.ModuleDependency;
+import org.jboss.as.server.deployment.module.ModuleSpecification;
+import org.jboss.as.server.deployment.module.ResourceRoot;
+import org.jboss.as.weld.logging.WeldLogger;
+import org.jboss.modules.ModuleLoadException;
+import org.jboss.modules.Resource;
+import org.jboss.vfs.VirtualFile;
+import org.jboss.weld.util.reflection.Formats;
+import org.wildfly.security.manager.WildFlySecurityManager;
+
+import static java.security.AccessController.doPrivileged;
+
+/**
+ * Stores the bytecode of the proxy classes generated by Weld for a deployment in the server data directory, so that an
+ * unchanged deployment can load them instead of generating them again when it is redeployed or the server restarts.
+ * <p>
+ * The cache is enabled by the {@value #ENABLED_PROPERTY} system property. The cached classes are kept in a directory named
+ * after a hash of the deployment content, the resource roots of the modules the deployment depends on, the Weld
+ * configuration and the Weld version. A changed deployment gets a new directory and the directories of its previous
+ * versions are removed.
+ * <p>
+ * Each entry also records a signature of the members of the proxied type and its supertypes. An entry is only returned if
+ * the proxied type, as currently loaded, still has the same signature, so that a proxy is regenerated if any of the
+ * types it was generated for changed without the key noticing, e.g. a class from another deployment.
+ * <p>
+ * Thread safety: This class is thread safe.
+ */
+public final class ProxyClassCache {
+
+    static final String ENABLED_PROPERTY = "org.jboss.as.weld.proxy-cache";
+
+    private static final String CACHE_DIR = "weld" + File.separator + "proxies";
+    private static final String CLASS_SUFFIX = ".class";
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+    private static final int SIGNATURE_LENGTH = 32;
+
+    private final Path directory;
+
+    ProxyClassCache(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Creates the cache for the given top level deployment.
+     *
+     * @param deploymentUnit the top level deployment unit
+     * @param configuration the Weld configuration of the deployment
+     * @return the cache or {@code null} if the cache is disabled or cannot be used
+     */
+    public static ProxyClassCache create(DeploymentUnit deploymentUnit, Object configuration) {
+        if (!Boolean.parseBoolean(WildFlySecurityManager.getPropertyPrivileged(ENABLED_PROPERTY, "false"))) {
+            return null;
+        }
+        final String dataDir = WildFlySecurityManager.getPropertyPrivileged(ServerEnvironment.SERVER_DATA_DIR, null);
+        final ResourceRoot deploymentRoot = deploymentUnit.getAttachment(Attachments.DEPLOYMENT_ROOT);
+        if (dataDir == null || deploymentRoot == null) {
+            return null;
+        }
+        final Path deploymentDir = Paths.get(dataDir, CACHE_DIR, deploymentUnit.getName().replaceAll("[^\\w.-]", "_"));
+        return privileged(() -> {
+            try {
+                final Path directory = deploymentDir.resolve(computeKey(deploymentRoot.getRoot(), configuration, getDependencies(deploymentUnit)));
+                removeStaleDirectories(deploymentDir, directory);
+                Files.createDirectories(directory);
+                return new ProxyClassCache(directory);
+            } catch (IOException | NoSuchAlgorithmException e) {
+                WeldLogger.DEPLOYMENT_LOGGER.debugf(e, "Unable to use the proxy class cache of %s", deploymentUnit.getName());
+                return null;
+            }
+        });
+    }
+
+    /**
+     * Returns the cached bytecode of the given proxy class. An entry that is corrupt, or that was generated for a
+     * different version of the proxied type, is removed.
+     *
+     * @param className the binary name of the proxy class
+     * @param proxiedType the type the proxy class was generated for
+     * @return the bytecode or {@code null} if the class is not cached
+     */
+    byte[] load(String className, Class<?> proxiedType) {
+        final Path file = directory.resolve(className + CLASS_SUFFIX);
+        final byte[] entry = privileged(() -> {
+            try {
+                return Files.readAllBytes(file);
+            } catch (NoSuchFileException e) {
+                return null;
+            } catch (IOException e) {
+                WeldLogger.DEPLOYMENT_LOGGER.debugf(e, "Unable to read cached proxy class %s", className);
+                return null;
+            }
+        });
+        if (entry == null) {
+            return null;
+        }
+        if (entry.length <= SIGNATURE_LENGTH || !Arrays.equals(entry, 0, SIGNATURE_LENGTH, signature(proxiedType), 0, SIGNATURE_LENGTH)) {
+            WeldLogger.DEPLOYMENT_LOGGER.debugf("Discarding cached proxy class %s, which does not match %s", className, proxiedType);
+            remove(className);
+            return null;
+        }
+        return Arrays.copyOfRange(entry, SIGNATURE_LENGTH, entry.length);
+    }
+
+    /**
+     * Adds the bytecode of a generated proxy class to the cache. Failures are ignored as the class can always be generated again.
+     */
+    void store(String className, Class<?> proxiedType, byte[] bytes, int off, int len) {
+        final Path file = directory.resolve(className + CLASS_SUFFIX);
+        final byte[] entry = ByteBuffer.allocate(SIGNATURE_LENGTH + len).put(signature(proxiedType)).put(bytes, off, len).array();
+        privileged(() -> {
+            try {
+                final Path tmp = Files.createTempFile(directory, "proxy", ".tmp");
+                try {
+                    Files.write(tmp, entry);
+                    Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                } finally {
+                    Files.deleteIfExists(tmp);
+                }
+            } catch (IOException e) {
+                WeldLogger.DEPLOYMENT_LOGGER.debugf(e, "Unable to cache proxy class %s", className);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Removes a cached class whose bytecode could not be defined.
+     */
+    void remove(String className) {
+        final Path file = directory.resolve(className + CLASS_SUFFIX);
+        privileged(() -> {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                WeldLogger.DEPLOYMENT_LOGGER.debugf(e, "Unable to remove cached proxy class %s", className);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * The signature covers the members of the given type, its superclasses and its interfaces, i.e. everything a proxy
+     * generated for the type overrides or invokes.
+     */
+    static byte[] signature(Class<?> type) {
+        return privileged(() -> {
+            final Set<String> members = new TreeSet<>();
+            final Set<Class<?>> visited = new HashSet<>();
+            final Deque<Class<?>> types = new ArrayDeque<>();
+            types.add(type);
+            while (!types.isEmpty()) {
+                final Class<?> current = types.remove();
+                if (!visited.add(current)) {
+                    continue;
+                }
+                members.add(current.toGenericString());
+                for (Constructor<?> constructor : current.getDeclaredConstructors()) {
+                    members.add(constructor.toGenericString());
+                }
+                for (Method method : current.getDeclaredMethods()) {
+                    members.add(method.toGenericString());
+                }
+                for (Field field : current.getDeclaredFields()) {
+                    members.add(field.toGenericString());
+                }
+                if (current.getSuperclass() != null) {
+                    types.add(current.getSuperclass());
+                }
+                types.addAll(Arrays.asList(current.getInterfaces()));
+            }
+            try {
+                final MessageDigest digest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+                for (String member : members) {
+                    update(digest, member);
+                }
+                return digest.digest();
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    /**
+     * Returns a fingerprint of each module the deployment and its sub deployments depend on, i.e. static and global
+     * modules, shared libraries and modules added by {@code jboss-deployment-structure.xml}, as well as of any additional
+     * resource root of these deployments, keyed by the module identifier or resource root path.
+     */
+    private static Map<String, String> getDependencies(DeploymentUnit deploymentUnit) throws IOException {
+        final Map<String, String> dependencies = new TreeMap<>();
+        final List<DeploymentUnit> units = new ArrayList<>();
+        units.add(deploymentUnit);
+        units.addAll(deploymentUnit.getAttachmentList(Attachments.SUB_DEPLOYMENTS));
+        final VirtualFile root = deploymentUnit.getAttachment(Attachments.DEPLOYMENT_ROOT).getRoot();
+        for (DeploymentUnit unit : units) {
+            final ModuleSpecification specification = unit.getAttachment(Attachments.MODULE_SPECIFICATION);
+            if (specification != null) {
+                for (ModuleDependency dependency : specification.getAllDependencies()) {
+                    final String name = dependency.getIdentifier().toString();
+                    if (!dependencies.containsKey(name)) {
+                        dependencies.put(name, getModuleRoots(dependency));
+                    }
+                }
+            }
+            for (ResourceRoot resourceRoot : unit.getAttachmentList(Attachments.RESOURCE_ROOTS)) {
+                final VirtualFile file = resourceRoot.getRoot();
+                if (!file.equals(root) && !file.getPathName().startsWith(root.getPathName())) {
+                    dependencies.put(file.getPathName(), getFiles(file).toString());
+                }
+            }
+        }
+        return dependencies;
+    }
+
+    /**
+     * Identifies the resource roots of a module by the location, size and modification time of each jar or directory
+     * holding a {@code META-INF} resource.
+     */
+    private static String getModuleRoots(ModuleDependency dependency) {
+        final Set<String> roots = new TreeSet<>();
+        try {
+            final Iterator<Resource> resources = dependency.getModuleLoader().loadModule(dependency.getIdentifier()).getClassLoader().iterateResources("META-INF", false);
+            while (resources.hasNext()) {
+                final Resource resource = resources.next();
+                final URL url = resource.getURL();
+                if (url == null) {
+                    continue;
+                }
+                final String location = url.toExternalForm();
+                final int separator = location.indexOf("!/");
+                if (location.startsWith("jar:file:") && separator > 0) {
+                    final Path jar = Paths.get(new URL(location.substring("jar:".length(), separator)).toURI());
+                    roots.add(jar + ":" + Files.size(jar) + ":" + Files.getLastModifiedTime(jar).toMillis());
+                } else {
+                    roots.add(location + ":" + resource.getSize());
+                }
+            }
+        } catch (ModuleLoadException | IOException | URISyntaxException | RuntimeException e) {
+            // Optional or unresolvable dependency, identified by its name only
+            WeldLogger.DEPLOYMENT_LOGGER.tracef(e, "Unable to resolve the resource roots of %s", dependency.getIdentifier());
+        }
+        return roots.toString();
+    }
+
+    private static Map<String, String> getFiles(VirtualFile root) throws IOException {
+        final Map<String, String> files = new TreeMap<>();
+        for (VirtualFile file : root.getChildrenRecursively()) {
+            files.put(file.getPathNameRelativeTo(root), file.getSize() + ":" + file.getLastModified());
+        }
+        return files;
+    }
+
+    /**
+     * The key covers every file of the deployment, including nested archives and overlays, by path, size and modification
+     * time, as well as the modules and other resource roots the deployment depends on. The proxies also depend on the Weld
+     * configuration and implementation, as well as on the Weld system properties.
+     */
+    static String computeKey(VirtualFile root, Object configuration, Map<String, String> dependencies) throws IOException, NoSuchAlgorithmException {
+        final MessageDigest digest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+        update(digest, Formats.getSimpleVersion());
+        update(digest, ProxyClassCache.class.getPackage().getImplementationVersion());
+        update(digest, configuration);
+        final Map<String, String> properties = new TreeMap<>();
+        for (String name : System.getProperties().stringPropertyNames()) {
+            if (name.startsWith("org.jboss.weld.")) {
+                properties.put(name, System.getProperty(name));
+            }
+        }
+        update(digest, properties);
+        for (Map.Entry<String, String> entry : getFiles(root).entrySet()) {
+            update(digest, entry.getKey());
+            update(digest, entry.getValue());
+        }
+        for (Map.Entry<String, String> entry : dependencies.entrySet()) {
+            update(digest, entry.getKey());
+            update(digest, entry.getValue());
+        }
+        final StringBuilder key = new StringBuilder();
+        for (byte b : digest.digest()) {
+            key.append(String.format("%02x", b));
+        }
+        return key.toString();
+    }
+
+    private static void update(MessageDigest digest, Object value) {
+        digest.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    private static void removeStaleDirectories(Path deploymentDir, Path current) throws IOException {
+        if (!Files.isDirectory(deploymentDir)) {
+            return;
+        }
+        try (DirectoryStream<Path> directories = Files.newDirectoryStream(deploymentDir)) {
+            for (Path directory : directories) {
+                if (!directory.equals(current)) {
+                    try (Stream<Path> paths = Files.walk(directory)) {
+                        for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                            Files.deleteIfExists(path);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private static <T> T privileged(PrivilegedAction<T> action) {
+        return WildFlySecurityManager.isChecking() ? doPrivileged(action) : action.run();
+    }
+}
@@ -71,10 +71,20 @@ public class ProxyServicesImpl implements ProxyServices {
     private final Module module;
     private final ConcurrentMap<ModuleIdentifier, Boolean> processedStaticModules = new ConcurrentHashMap<>();
     private final ClassDefiner classDefiner;
+    private final ProxyClassCache proxyClassCache;
 
     public ProxyServicesImpl(Module module) {
+        this(module, null);
+    }
+
+    /**
+     * @param module the top level module of the deployment
+     * @param proxyClassCache the cache of generated proxy classes, or {@code null} if proxy classes are not cached
+     */
+    public ProxyServicesImpl(Module module, ProxyClassCache proxyClassCache) {
         this.module = module;
         this.classDefiner = ClassDefiner.getInstance();
+        this.proxyClassCache = proxyClassCache;
     }
 
     public ClassLoader getClassLoader(final Class<?> proxiedBeanType) {
@@ -201,7 +211,11 @@ public class ProxyServicesImpl implements ProxyServices {
 
     @Override
     public Class<?> defineClass(Class<?> originalClass, String s, byte[] bytes, int i, int i1, ProtectionDomain protectionDomain) throws ClassFormatError {
-        return classDefiner.defineClass(getModule(originalClass), s, protectionDomain, bytes, i, i1);
+        Class<?> proxyClass = classDefiner.defineClass(getModule(originalClass), s, protectionDomain, bytes, i, i1);
+        if (proxyClassCache != null) {
+            proxyClassCache.store(s, originalClass, bytes, i, i1);
+        }
+        return proxyClass;
     }
 
     @Override
@@ -210,7 +224,28 @@ public class ProxyServicesImpl implements ProxyServices {
         if (module == null) {
             throw new IllegalArgumentException("Original " + originalClass + " does not have a module");
         }
-        return module.getClassLoader().loadClass(classBinaryName);
+        try {
+            return module.getClassLoader().loadClass(classBinaryName);
+        } catch (ClassNotFoundException e) {
+            // Weld only generates the proxy class if it cannot be loaded, so this is where a cached one is defined
+            byte[] bytes = proxyClassCache != null ? proxyClassCache.load(classBinaryName, originalClass) : null;
+            if (bytes == null) {
+                throw e;
+            }
+            try {
+                return classDefiner.defineClass(module, classBinaryName, getProtectionDomain(originalClass), bytes, 0, bytes.length);
+            } catch (LinkageError le) {
+                try {
+                    // defined concurrently by another thread
+                    return module.getClassLoader().loadClass(classBinaryName);
+                } catch (ClassNotFoundException cnfe) {
+                    // the cached class is corrupt or refers to types that no longer exist, let Weld generate it again
+                    WeldLogger.DEPLOYMENT_LOGGER.debugf(le, "Discarding cached proxy class %s", classBinaryName);
+                    proxyClassCache.remove(classBinaryName);
+                    throw e;
+                }
+            }
+        }
     }
 
     //@Override unused in Weld 3/4 and removed in Weld 5 so don't annotate it
@@ -0,0 +1,120 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2023, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.weld.deployment.processors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.as.weld.discovery.AnnotationType;
+import org.jboss.jandex.Index;
+import org.junit.Test;
+
+/**
+ * Unit test for the concurrent index scans of {@link BeanArchiveProcessor}.
+ */
+public class BeanArchiveProcessorTestCase {
+
+    private static final Set<AnnotationType> BEAN_DEFINING_ANNOTATIONS = Collections.singleton(new AnnotationType(Bean.class));
+    private static final int DEPLOYMENTS = 8;
+
+    @Test
+    public void testConcurrentScans() throws Exception {
+        final List<Index> indexes = Arrays.asList(Index.of(Alpha.class, Plain.class), Index.of(Bravo.class), Index.of(Plain.class), Index.of(Alpha.class, Bravo.class));
+        final CyclicBarrier barrier = new CyclicBarrier(DEPLOYMENTS);
+        final ExecutorService deployments = Executors.newFixedThreadPool(DEPLOYMENTS);
+        try {
+            final List<Future<Map<Index, BeanArchiveProcessor.IndexScan>>> futures = new ArrayList<>();
+            for (int i = 0; i < DEPLOYMENTS; i++) {
+                futures.add(deployments.submit(() -> {
+                    barrier.await();
+                    return BeanArchiveProcessor.scan(indexes, BEAN_DEFINING_ANNOTATIONS);
+                }));
+            }
+            for (Future<Map<Index, BeanArchiveProcessor.IndexScan>> future : futures) {
+                final Map<Index, BeanArchiveProcessor.IndexScan> scans = future.get(10, TimeUnit.SECONDS);
+                assertEquals(indexes.size(), scans.size());
+                assertScan(scans.get(indexes.get(0)), Set.of(Alpha.class.getName()), Set.of(Alpha.class.getName(), Plain.class.getName()));
+                assertScan(scans.get(indexes.get(1)), Set.of(Bravo.class.getName()), Set.of(Bravo.class.getName()));
+                assertScan(scans.get(indexes.get(2)), Set.of(), Set.of(Plain.class.getName()));
+                assertScan(scans.get(indexes.get(3)), Set.of(Alpha.class.getName(), Bravo.class.getName()), Set.of(Alpha.class.getName(), Bravo.class.getName()));
+            }
+        } finally {
+            deployments.shutdownNow();
+        }
+        // the deployments share the scanner threads instead of creating a pool each
+        assertTrue(BeanArchiveProcessor.ScanExecutor.INSTANCE.getLargestPoolSize() <= Runtime.getRuntime().availableProcessors());
+        assertTrue(BeanArchiveProcessor.ScanExecutor.INSTANCE.allowsCoreThreadTimeOut());
+        assertFalse(BeanArchiveProcessor.ScanExecutor.INSTANCE.isShutdown());
+    }
+
+    @Test
+    public void testFailedScan() throws Exception {
+        try {
+            // a null index makes its scan fail
+            BeanArchiveProcessor.scan(Arrays.asList(Index.of(Alpha.class), null), BEAN_DEFINING_ANNOTATIONS);
+            fail();
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof NullPointerException);
+        }
+        // the shared scanner threads remain available to the next deployments
+        assertEquals(1, BeanArchiveProcessor.scan(Collections.singleton(Index.of(Bravo.class)), BEAN_DEFINING_ANNOTATIONS).size());
+    }
+
+    private static void assertScan(BeanArchiveProcessor.IndexScan scan, Set<String> annotatedClasses, Set<String> allKnownClasses) {
+        assertEquals(annotatedClasses, scan.annotatedClasses);
+        assertEquals(allKnownClasses, scan.allKnownClasses);
+        assertFalse(scan.extension);
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface Bean {
+    }
+
+    @Bean
+    static class Alpha {
+    }
+
+    @Bean
+    static class Bravo {
+    }
+
+    static class Plain {
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2023, Red Hat Inc., and individual contributors as indicated
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.weld.services.bootstrap;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+
+import org.jboss.vfs.VFS;
+import org.jboss.vfs.VirtualFile;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ProxyClassCacheTestCase {
+
+    private static final String PROXY = "org.jboss.as.weld.Foo$Proxy$_$$_WeldClientProxy";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private Path directory;
+    private ProxyClassCache cache;
+
+    @Before
+    public void init() throws IOException {
+        directory = folder.newFolder("cache").toPath();
+        cache = new ProxyClassCache(directory);
+    }
+
+    @Test
+    public void testMiss() {
+        Assert.assertNull(cache.load(PROXY, Foo.class));
+    }
+
+    @Test
+    public void testHit() {
+        byte[] bytes = "..proxy bytecode..".getBytes(StandardCharsets.UTF_8);
+        cache.store(PROXY, Foo.class, bytes, 2, bytes.length - 4);
+        Assert.assertArrayEquals("proxy bytecode".getBytes(StandardCharsets.UTF_8), cache.load(PROXY, Foo.class));
+        // Entry is kept
+        Assert.assertNotNull(cache.load(PROXY, Foo.class));
+        Assert.assertNull(cache.load(PROXY + "2", Foo.class));
+    }
+
+    @Test
+    public void testProxiedTypeChanged() {
+        byte[] bytes = "proxy bytecode".getBytes(StandardCharsets.UTF_8);
+        cache.store(PROXY, Foo.class, bytes, 0, bytes.length);
+        // Different members
+        Assert.assertNull(cache.load(PROXY, ChangedFoo.class));
+        // Stale entry was removed
+        Assert.assertNull(cache.load(PROXY, Foo.class));
+
+        // Same members, but a member of a supertype changed
+        cache.store(PROXY, Foo.class, bytes, 0, bytes.length);
+        Assert.assertNull(cache.load(PROXY, FooWithChangedSupertype.class));
+        Assert.assertNull(cache.load(PROXY, Foo.class));
+    }
+
+    @Test
+    public void testCorruptEntry() throws IOException {
+        Path file = directory.resolve(PROXY + ".class");
+        Files.write(file, new byte[] { 1, 2, 3 });
+        Assert.assertNull(cache.load(PROXY, Foo.class));
+        Assert.assertFalse(Files.exists(file));
+
+        Files.write(file, new byte[64]);
+        Assert.assertNull(cache.load(PROXY, Foo.class));
+        Assert.assertFalse(Files.exists(file));
+
+        cache.store(PROXY, Foo.class, new byte[] { 1 }, 0, 1);
+        cache.remove(PROXY);
+        Assert.assertNull(cache.load(PROXY, Foo.class));
+    }
+
+    @Test
+    public void testKey() throws IOException, NoSuchAlgorithmException {
+        Path content = folder.newFolder("deployment").toPath();
+        Path file = Files.write(content.resolve("Foo.class"), new byte[] { 1 });
+        VirtualFile root = VFS.getChild(content.toUri());
+        Map<String, String> dependencies = Map.of("org.foo", "[/modules/foo-1.0.jar:100:1]");
+
+        String key = ProxyClassCache.computeKey(root, "configuration", dependencies);
+        Assert.assertEquals(key, ProxyClassCache.computeKey(root, "configuration", Map.of("org.foo", "[/modules/foo-1.0.jar:100:1]")));
+
+        // Changed dependency module, e.g. a global module or shared library
+        Assert.assertNotEquals(key, ProxyClassCache.computeKey(root, "configuration", Map.of("org.foo", "[/modules/foo-1.1.jar:100:1]")));
+        Assert.assertNotEquals(key, ProxyClassCache.computeKey(root, "configuration", Map.of("org.foo", "[/modules/foo-1.0.jar:100:2]")));
+        // Added dependency, e.g. from jboss-deployment-structure.xml
+        Assert.assertNotEquals(key, ProxyClassCache.computeKey(root, "configuration", Map.of("org.foo", "[/modules/foo-1.0.jar:100:1]", "org.bar", "[]")));
+        // Changed configuration
+        Assert.assertNotEquals(key, ProxyClassCache.computeKey(root, "other", dependencies));
+        // Changed deployment content
+        Files.setLastModifiedTime(file, FileTime.fromMillis(Files.getLastModifiedTime(file).toMillis() + 10_000));
+        Assert.assertNotEquals(key, ProxyClassCache.computeKey(root, "configuration", dependencies));
+    }
+
+    interface Service {
+        void execute();
+    }
+
+    interface ChangedService {
+        void execute(String argument);
+    }
+
+    public static class Foo implements Service {
+        @Override
+        public void execute() {
+        }
+    }
+
+    public static class ChangedFoo implements Service {
+        @Override
+        public void execute() {
+        }
+
+        public void added() {
+        }
+    }
+
+    public static class FooWithChangedSupertype implements ChangedService {
+        public void execute() {
+        }
+
+        @Override
+        public void execute(String argument) {
+        }
+    }
+}